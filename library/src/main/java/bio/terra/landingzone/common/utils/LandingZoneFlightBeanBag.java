@@ -1,7 +1,9 @@
 package bio.terra.landingzone.common.utils;
 
 import bio.terra.landingzone.db.LandingZoneDao;
+import bio.terra.landingzone.library.ArmManagersPool;
 import bio.terra.landingzone.library.AzureCredentialsProvider;
+import bio.terra.landingzone.library.LandingZoneDeletePlanCache;
 import bio.terra.landingzone.library.LandingZoneManagerProvider;
 import bio.terra.landingzone.library.configuration.AzureCustomerUsageConfiguration;
 import bio.terra.landingzone.library.configuration.LandingZoneAzureConfiguration;
@@ -30,6 +32,8 @@ public class LandingZoneFlightBeanBag {
   private final AzureCustomerUsageConfiguration azureCustomerUsageConfiguration;
   private final AzureCredentialsProvider azureCredentialsProvider;
   private final LandingZoneAzureConfiguration azureConfiguration;
+  private final ArmManagersPool armManagersPool;
+  private final LandingZoneDeletePlanCache deletePlanCache;
 
   @Lazy
   @Autowired
@@ -45,6 +49,8 @@ public class LandingZoneFlightBeanBag {
       AzureCustomerUsageConfiguration azureCustomerUsageConfiguration,
       AzureCredentialsProvider azureCredentialsProvider,
       LandingZoneAzureConfiguration azureConfiguration,
+      ArmManagersPool armManagersPool,
+      LandingZoneDeletePlanCache deletePlanCache,
       ObjectMapper objectMapper) {
     this.landingZoneService = landingZoneService;
     this.landingZoneDao = landingZoneDao;
@@ -57,6 +63,8 @@ public class LandingZoneFlightBeanBag {
     this.azureCustomerUsageConfiguration = azureCustomerUsageConfiguration;
     this.azureCredentialsProvider = azureCredentialsProvider;
     this.azureConfiguration = azureConfiguration;
+    this.armManagersPool = armManagersPool;
+    this.deletePlanCache = deletePlanCache;
     this.objectMapper = objectMapper;
   }
 
@@ -111,4 +119,12 @@ public class LandingZoneFlightBeanBag {
   public LandingZoneAzureConfiguration getAzureConfiguration() {
     return azureConfiguration;
   }
+
+  public ArmManagersPool getArmManagersPool() {
+    return armManagersPool;
+  }
+
+  public LandingZoneDeletePlanCache getDeletePlanCache() {
+    return deletePlanCache;
+  }
 }
@@ -1,7 +1,10 @@
 package bio.terra.landingzone.common.utils;
 
+import com.google.common.cache.Cache;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import java.time.Duration;
 
 public class MetricUtils {
@@ -10,6 +13,10 @@ public class MetricUtils {
   private static final String AZURE_PLATFORM_NAME = "AZURE";
   private static final String LANDINGZONE_TYPE_TAG = "type";
   private static final String LANDINGZONE_STEP_TAG = "step";
+  private static final String OPERATION_TAG = "operation";
+  private static final String RESULT_TAG = "result";
+  private static final String DELETE_TIER_TAG = "tier";
+  private static final String DELETE_RULE_TAG = "rule";
 
   // this is to set reasonable upper/lower bound for a step. postgres, aks take 7-8 minutes;
   // histogram metric would have buckets for all results.
@@ -79,4 +86,117 @@ public class MetricUtils {
     // and tags
     return t;
   }
+
+  /**
+   * Records the number of ARM requests a single landing zone API operation made.
+   *
+   * @param operation name of the API operation
+   * @param count number of ARM requests
+   */
+  public static void recordArmRequestCount(String operation, int count) {
+    DistributionSummary.builder(String.format("%s.arm.request.count", NAMESPACE))
+        .description("Number of ARM requests per landing zone API operation")
+        .tags(CLOUD_PLATFORM_TAG, AZURE_PLATFORM_NAME, OPERATION_TAG, operation)
+        .register(Metrics.globalRegistry)
+        .record(count);
+  }
+
+  /**
+   * Records the number of long-running ARM operations a run of the AKS create step started against
+   * the cluster: 1 when the creation was submitted, 0 when the cluster already existed or another
+   * operation on it was in progress.
+   *
+   * @param count number of ARM operations started
+   */
+  public static void recordAksArmOperationCount(int count) {
+    DistributionSummary.builder(String.format("%s.aks.arm.operation.count", NAMESPACE))
+        .description("Number of ARM operations per AKS cluster creation")
+        .tags(CLOUD_PLATFORM_TAG, AZURE_PLATFORM_NAME)
+        .register(Metrics.globalRegistry)
+        .record(count);
+  }
+
+  /**
+   * Records the time spent deleting one tier of landing zone resources. Resources of a tier are
+   * deleted concurrently.
+   *
+   * @param tier delete order of the tier
+   * @param duration time spent deleting all resources of the tier
+   * @param success whether all resources of the tier were deleted
+   */
+  public static void recordDeleteTierDuration(int tier, Duration duration, boolean success) {
+    Timer.builder(String.format("%s.delete.tier.latency", NAMESPACE))
+        .description("Latency of deleting one tier of landing zone resources")
+        .tags(
+            CLOUD_PLATFORM_TAG,
+            AZURE_PLATFORM_NAME,
+            DELETE_TIER_TAG,
+            String.valueOf(tier),
+            RESULT_TAG,
+            success ? "success" : "failure")
+        .register(Metrics.globalRegistry)
+        .record(duration);
+  }
+
+  /**
+   * Records the time spent evaluating one delete rule against one landing zone resource.
+   *
+   * @param rule name of the delete rule
+   * @param duration time spent evaluating the rule
+   * @param success whether the rule was evaluated; a resource which can't be deleted is a success
+   */
+  public static void recordDeleteRuleDuration(String rule, Duration duration, boolean success) {
+    Timer.builder(String.format("%s.delete.rule.latency", NAMESPACE))
+        .description("Latency of evaluating a landing zone delete rule")
+        .tags(
+            CLOUD_PLATFORM_TAG,
+            AZURE_PLATFORM_NAME,
+            DELETE_RULE_TAG,
+            rule,
+            RESULT_TAG,
+            success ? "success" : "failure")
+        .register(Metrics.globalRegistry)
+        .record(duration);
+  }
+
+  /**
+   * Records the latency of acquiring an access token from Azure AD.
+   *
+   * @param duration time spent acquiring the token
+   * @param success whether a token was acquired
+   */
+  public static void recordTokenAcquisition(Duration duration, boolean success) {
+    Timer.builder(String.format("%s.token.acquisition.latency", NAMESPACE))
+        .description("Latency of access token acquisition")
+        .tags(CLOUD_PLATFORM_TAG, AZURE_PLATFORM_NAME, RESULT_TAG, success ? "success" : "failure")
+        .register(Metrics.globalRegistry)
+        .record(duration);
+  }
+
+  /**
+   * Increments counter of access token requests served from or missing the token cache.
+   *
+   * @param hit whether the token was served from the cache
+   */
+  public static void incrementTokenCacheRequest(boolean hit) {
+    Metrics.globalRegistry
+        .counter(
+            String.format("%s.token.cache.requests", NAMESPACE),
+            CLOUD_PLATFORM_TAG,
+            AZURE_PLATFORM_NAME,
+            RESULT_TAG,
+            hit ? "hit" : "miss")
+        .increment();
+  }
+
+  /**
+   * Binds hit, miss, eviction and size meters of an in-memory cache. The cache must record stats.
+   *
+   * @param cache cache to monitor
+   * @param cacheName name of the cache
+   */
+  public static <K, V> void monitorCache(Cache<K, V> cache, String cacheName) {
+    GuavaCacheMetrics.monitor(
+        Metrics.globalRegistry, cache, cacheName, CLOUD_PLATFORM_TAG, AZURE_PLATFORM_NAME);
+  }
 }
@@ -134,6 +134,35 @@ public class LandingZoneDao {
     return deleted;
   }
 
+  /**
+   * Sets the region of a landing zone record which does not have one yet. Records created before
+   * the region was stored are backfilled this way.
+   *
+   * @param landingZoneUuid unique identifier of the landing zone
+   * @param region region of the landing zone resource group
+   * @return true if the record was updated, false if it already had a region or does not exist
+   */
+  @Transactional(
+      isolation = Isolation.SERIALIZABLE,
+      propagation = Propagation.REQUIRED,
+      transactionManager = "tlzTransactionManager")
+  public boolean updateLandingZoneRegionIfMissing(UUID landingZoneUuid, String region) {
+    final String sql =
+        "UPDATE landingzone SET region = :region"
+            + " WHERE landingzone_id = :id AND (region IS NULL OR region = '')";
+
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("id", landingZoneUuid.toString())
+            .addValue(REGION, region);
+    boolean updated = jdbcLandingZoneTemplate.update(sql, params) > 0;
+
+    if (updated) {
+      logger.info("Backfilled region {} for landing zone {}", region, landingZoneUuid);
+    }
+    return updated;
+  }
+
   /**
    * Retrieves a landing zone from database by ID.
    *
@@ -0,0 +1,212 @@
+package bio.terra.landingzone.db;
+
+import bio.terra.landingzone.db.model.LandingZoneJobRecord;
+import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.landingzone.job.model.OperationType;
+import bio.terra.landingzone.library.configuration.LandingZoneDatabaseConfiguration;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * LandingZoneJobDao includes operations on the landing zone job table. The table materializes the
+ * outcome of landing zone flights, so that job results are read without deserializing Stairway
+ * flights and remain available after Stairway purges completed flights.
+ */
+@Component
+public class LandingZoneJobDao {
+  /** SQL query for reading landing zone job records. */
+  private static final String LANDINGZONE_JOB_SELECT_SQL =
+      "SELECT job_id, landingzone_id, billing_profile_id, operation_type, description, result_path, status, status_code, submitted_date, completed_date, result, error_report"
+          + " FROM landingzone_job";
+
+  // Landing zone job table fields
+  private static final String JOB_ID = "job_id";
+  private static final String LANDING_ZONE_ID = "landingzone_id";
+  private static final String BILLING_PROFILE_ID = "billing_profile_id";
+  private static final String OPERATION_TYPE = "operation_type";
+  private static final String DESCRIPTION = "description";
+  private static final String RESULT_PATH = "result_path";
+  private static final String STATUS = "status";
+  private static final String STATUS_CODE = "status_code";
+  private static final String SUBMITTED_DATE = "submitted_date";
+  private static final String COMPLETED_DATE = "completed_date";
+  private static final String RESULT = "result";
+  private static final String ERROR_REPORT = "error_report";
+  private final Logger logger = LoggerFactory.getLogger(LandingZoneJobDao.class);
+  private final NamedParameterJdbcTemplate jdbcLandingZoneTemplate;
+
+  @Autowired
+  public LandingZoneJobDao(LandingZoneDatabaseConfiguration landingZoneDatabaseConfiguration) {
+    this.jdbcLandingZoneTemplate =
+        new NamedParameterJdbcTemplate(landingZoneDatabaseConfiguration.getDataSource());
+  }
+
+  /**
+   * Persists the record of a submitted job. A record which already exists for the job id is kept.
+   *
+   * @param job properties of the submitted job
+   * @return true if the record was inserted
+   */
+  @Transactional(
+      isolation = Isolation.SERIALIZABLE,
+      propagation = Propagation.REQUIRED,
+      transactionManager = "tlzTransactionManager")
+  public boolean createJob(LandingZoneJobRecord job) {
+    final String sql =
+        "INSERT INTO landingzone_job (job_id, landingzone_id, billing_profile_id, operation_type, description, result_path, status, submitted_date) "
+            + "values (:job_id, :landingzone_id, :billing_profile_id, :operation_type, :description, :result_path, :status, :submitted_date)"
+            + " ON CONFLICT (job_id) DO NOTHING";
+
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue(JOB_ID, job.jobId())
+            .addValue(LANDING_ZONE_ID, job.landingZoneId().map(UUID::toString).orElse(null))
+            .addValue(
+                BILLING_PROFILE_ID, job.billingProfileId().map(UUID::toString).orElse(null))
+            .addValue(OPERATION_TYPE, job.operationType().name())
+            .addValue(DESCRIPTION, job.description().orElse(null))
+            .addValue(RESULT_PATH, job.resultPath().orElse(null))
+            .addValue(STATUS, job.status().name())
+            .addValue(SUBMITTED_DATE, toOffsetDateTime(job.submittedDate()));
+    boolean inserted = jdbcLandingZoneTemplate.update(sql, params) > 0;
+    if (inserted) {
+      logger.info("Inserted record for landing zone job {}", job.jobId());
+    }
+    return inserted;
+  }
+
+  /**
+   * Records the outcome of a completed job.
+   *
+   * @param jobId id of the job
+   * @param status final status of the job, SUCCEEDED or FAILED
+   * @param statusCode HTTP status code of the job result
+   * @param completedDate time the job completed
+   * @param result serialized result of a succeeded job
+   * @param errorReport serialized error report of a failed job
+   * @return true if the record was updated, false if there is no record of the job
+   */
+  @Transactional(
+      isolation = Isolation.SERIALIZABLE,
+      propagation = Propagation.REQUIRED,
+      transactionManager = "tlzTransactionManager")
+  public boolean completeJob(
+      String jobId,
+      JobReport.StatusEnum status,
+      int statusCode,
+      Instant completedDate,
+      @Nullable String result,
+      @Nullable String errorReport) {
+    final String sql =
+        "UPDATE landingzone_job SET status = :status, status_code = :status_code,"
+            + " completed_date = :completed_date, result = cast(:result AS jsonb),"
+            + " error_report = cast(:error_report AS jsonb)"
+            + " WHERE job_id = :job_id";
+
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue(JOB_ID, jobId)
+            .addValue(STATUS, status.name())
+            .addValue(STATUS_CODE, statusCode)
+            .addValue(COMPLETED_DATE, toOffsetDateTime(completedDate))
+            .addValue(RESULT, result)
+            .addValue(ERROR_REPORT, errorReport);
+    boolean updated = jdbcLandingZoneTemplate.update(sql, params) > 0;
+
+    if (updated) {
+      logger.info("Recorded {} outcome of landing zone job {}", status, jobId);
+    } else {
+      logger.info("No record found for landing zone job {}", jobId);
+    }
+    return updated;
+  }
+
+  /**
+   * Deletes the record of a job, e.g. of a job whose flight could not be submitted.
+   *
+   * @param jobId id of the job
+   * @return true on successful delete, false if there's nothing to delete
+   */
+  @Transactional(
+      isolation = Isolation.SERIALIZABLE,
+      propagation = Propagation.REQUIRED,
+      transactionManager = "tlzTransactionManager")
+  public boolean deleteJob(String jobId) {
+    final String sql = "DELETE FROM landingzone_job WHERE job_id = :job_id";
+
+    MapSqlParameterSource params = new MapSqlParameterSource().addValue(JOB_ID, jobId);
+    boolean deleted = jdbcLandingZoneTemplate.update(sql, params) > 0;
+
+    if (deleted) {
+      logger.info("Deleted record for landing zone job {}", jobId);
+    } else {
+      logger.info("No record found for delete landing zone job {}", jobId);
+    }
+    return deleted;
+  }
+
+  /**
+   * Retrieves the record of a job.
+   *
+   * @param jobId id of the job
+   * @return job record, or empty if the job has no record
+   */
+  public Optional<LandingZoneJobRecord> getJobIfExists(String jobId) {
+    String sql = LANDINGZONE_JOB_SELECT_SQL + " WHERE job_id = :job_id";
+    MapSqlParameterSource params = new MapSqlParameterSource().addValue(JOB_ID, jobId);
+    return Optional.ofNullable(
+        DataAccessUtils.singleResult(
+            jdbcLandingZoneTemplate.query(sql, params, LANDINGZONE_JOB_ROW_MAPPER)));
+  }
+
+  private static OffsetDateTime toOffsetDateTime(Instant instant) {
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+
+  @Nullable
+  private static Instant getInstant(ResultSet rs, String column) throws SQLException {
+    Timestamp timestamp = rs.getTimestamp(column);
+    return timestamp == null ? null : timestamp.toInstant();
+  }
+
+  @Nullable
+  private static UUID getUuid(ResultSet rs, String column) throws SQLException {
+    String uuid = rs.getString(column);
+    return uuid == null ? null : UUID.fromString(uuid);
+  }
+
+  private static final RowMapper<LandingZoneJobRecord> LANDINGZONE_JOB_ROW_MAPPER =
+      (rs, rowNum) ->
+          LandingZoneJobRecord.builder()
+              .jobId(rs.getString(JOB_ID))
+              .landingZoneId(getUuid(rs, LANDING_ZONE_ID))
+              .billingProfileId(getUuid(rs, BILLING_PROFILE_ID))
+              .operationType(OperationType.valueOf(rs.getString(OPERATION_TYPE)))
+              .description(rs.getString(DESCRIPTION))
+              .resultPath(rs.getString(RESULT_PATH))
+              .status(JobReport.StatusEnum.valueOf(rs.getString(STATUS)))
+              .statusCode(rs.getObject(STATUS_CODE, Integer.class))
+              .submittedDate(getInstant(rs, SUBMITTED_DATE))
+              .completedDate(getInstant(rs, COMPLETED_DATE))
+              .result(rs.getString(RESULT))
+              .errorReport(rs.getString(ERROR_REPORT))
+              .build();
+}
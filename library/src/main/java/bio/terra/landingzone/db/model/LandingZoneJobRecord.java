@@ -0,0 +1,132 @@
+package bio.terra.landingzone.db.model;
+
+import bio.terra.landingzone.common.exception.MissingRequiredFieldsException;
+import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.landingzone.job.model.OperationType;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import javax.annotation.Nullable;
+
+/** Internal representation of a landing zone job, materialized from its Stairway flight. */
+public record LandingZoneJobRecord(
+    String jobId,
+    Optional<UUID> landingZoneId,
+    Optional<UUID> billingProfileId,
+    OperationType operationType,
+    Optional<String> description,
+    Optional<String> resultPath,
+    JobReport.StatusEnum status,
+    Optional<Integer> statusCode,
+    Instant submittedDate,
+    Optional<Instant> completedDate,
+    Optional<String> result,
+    Optional<String> errorReport) {
+
+  public boolean isCompleted() {
+    return status != JobReport.StatusEnum.RUNNING;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private String jobId;
+    private @Nullable UUID landingZoneId;
+    private @Nullable UUID billingProfileId;
+    private @Nullable OperationType operationType;
+    private @Nullable String description;
+    private @Nullable String resultPath;
+    private JobReport.StatusEnum status;
+    private @Nullable Integer statusCode;
+    private Instant submittedDate;
+    private @Nullable Instant completedDate;
+    private @Nullable String result;
+    private @Nullable String errorReport;
+
+    public Builder jobId(String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
+
+    public Builder landingZoneId(@Nullable UUID landingZoneId) {
+      this.landingZoneId = landingZoneId;
+      return this;
+    }
+
+    public Builder billingProfileId(@Nullable UUID billingProfileId) {
+      this.billingProfileId = billingProfileId;
+      return this;
+    }
+
+    public Builder operationType(@Nullable OperationType operationType) {
+      this.operationType = operationType;
+      return this;
+    }
+
+    public Builder description(@Nullable String description) {
+      this.description = description;
+      return this;
+    }
+
+    public Builder resultPath(@Nullable String resultPath) {
+      this.resultPath = resultPath;
+      return this;
+    }
+
+    public Builder status(JobReport.StatusEnum status) {
+      this.status = status;
+      return this;
+    }
+
+    public Builder statusCode(@Nullable Integer statusCode) {
+      this.statusCode = statusCode;
+      return this;
+    }
+
+    public Builder submittedDate(Instant submittedDate) {
+      this.submittedDate = submittedDate;
+      return this;
+    }
+
+    public Builder completedDate(@Nullable Instant completedDate) {
+      this.completedDate = completedDate;
+      return this;
+    }
+
+    public Builder result(@Nullable String result) {
+      this.result = result;
+      return this;
+    }
+
+    public Builder errorReport(@Nullable String errorReport) {
+      this.errorReport = errorReport;
+      return this;
+    }
+
+    public LandingZoneJobRecord build() {
+      if (jobId == null || status == null || submittedDate == null) {
+        throw new MissingRequiredFieldsException(
+            "Landing zone job requires id, status and submitted date");
+      }
+      if (operationType == null) {
+        operationType = OperationType.UNKNOWN;
+      }
+
+      return new LandingZoneJobRecord(
+          jobId,
+          Optional.ofNullable(landingZoneId),
+          Optional.ofNullable(billingProfileId),
+          operationType,
+          Optional.ofNullable(description),
+          Optional.ofNullable(resultPath),
+          status,
+          Optional.ofNullable(statusCode),
+          submittedDate,
+          Optional.ofNullable(completedDate),
+          Optional.ofNullable(result),
+          Optional.ofNullable(errorReport));
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package bio.terra.landingzone.job;
+
+import bio.terra.landingzone.common.utils.MetricUtils;
+import bio.terra.landingzone.job.LandingZoneJobService.AsyncJobResult;
+import bio.terra.landingzone.job.model.ErrorReport;
+import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.landingzone.library.configuration.LandingZoneJobResultCacheConfiguration;
+import bio.terra.stairway.FlightState;
+import bio.terra.stairway.FlightStatus;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the flight states and results of completed jobs. Once a flight has succeeded or
+ * failed its state never changes again, so polls of a completed job are served from memory instead
+ * of reading and deserializing the flight from the Stairway database. Running flights are never
+ * cached.
+ *
+ * <p>Entries are weighed by the size of their serialized result, so that a few large landing zones
+ * can't push out many small ones unnoticed. Hit and miss counts are published as cache metrics.
+ */
+@Component
+public class CompletedJobCache {
+  private static final String CACHE_NAME = "landingzone.job.results";
+  private static final Set<FlightStatus> COMPLETED_STATUSES =
+      EnumSet.of(FlightStatus.SUCCESS, FlightStatus.ERROR, FlightStatus.FATAL);
+  // rough size of a flight state without its result: ids, input parameters, report, error
+  private static final int FLIGHT_STATE_BASE_SIZE = 4096;
+
+  private final LandingZoneJobResultCacheConfiguration configuration;
+  private final Cache<String, CompletedJob> cache;
+
+  @Autowired
+  public CompletedJobCache(LandingZoneJobResultCacheConfiguration configuration) {
+    this.configuration = configuration;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(configuration.getMaximumSize().toBytes())
+            .weigher((String jobId, CompletedJob job) -> estimateSize(job.flightState()))
+            .expireAfterAccess(configuration.getExpireAfterAccess())
+            .recordStats()
+            .build();
+    MetricUtils.monitorCache(cache, CACHE_NAME);
+  }
+
+  public static boolean isCompleted(FlightState flightState) {
+    return COMPLETED_STATUSES.contains(flightState.getFlightStatus());
+  }
+
+  /**
+   * Returns the cached state of a completed job.
+   *
+   * @param jobId id of the job
+   * @return flight state of the job, or empty if the job isn't cached
+   */
+  public Optional<FlightState> getFlightState(String jobId) {
+    if (!configuration.isEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(cache.getIfPresent(jobId)).map(CompletedJob::flightState);
+  }
+
+  /**
+   * Caches the state of a job if it has completed.
+   *
+   * @param flightState flight state read from Stairway
+   */
+  public void put(FlightState flightState) {
+    if (configuration.isEnabled() && isCompleted(flightState)) {
+      cache.asMap().putIfAbsent(flightState.getFlightId(), new CompletedJob(flightState));
+    }
+  }
+
+  /**
+   * Returns the result of a completed job, building it once per result class. Results of jobs
+   * which aren't cached are built on every call. The job and error reports are mutable, so every
+   * call returns a copy of them; the result object itself is shared.
+   *
+   * @param flightState flight state of the job
+   * @param resultClass class of the job result
+   * @param resultBuilder builds the result from the flight state
+   * @return result of the job
+   */
+  @SuppressWarnings("unchecked")
+  public <T> AsyncJobResult<T> getAsyncJobResult(
+      FlightState flightState, Class<T> resultClass, Supplier<AsyncJobResult<T>> resultBuilder) {
+    // asMap() lookups don't count as hits or misses, the flight state lookup already did
+    var job = configuration.isEnabled() ? cache.asMap().get(flightState.getFlightId()) : null;
+    if (job == null || !isCompleted(flightState)) {
+      return resultBuilder.get();
+    }
+    var jobResult =
+        (AsyncJobResult<T>)
+            job.results().computeIfAbsent(resultClass, resultType -> resultBuilder.get());
+    return copyOf(jobResult);
+  }
+
+  private static <T> AsyncJobResult<T> copyOf(AsyncJobResult<T> jobResult) {
+    return new AsyncJobResult<T>()
+        .jobReport(copyOf(jobResult.getJobReport()))
+        .errorReport(copyOf(jobResult.getApiErrorReport()))
+        .result(jobResult.getResult());
+  }
+
+  private static JobReport copyOf(JobReport jobReport) {
+    if (jobReport == null) {
+      return null;
+    }
+    return new JobReport()
+        .id(jobReport.getId())
+        .description(jobReport.getDescription())
+        .status(jobReport.getStatus())
+        .statusCode(jobReport.getStatusCode())
+        .submitted(jobReport.getSubmitted())
+        .completed(jobReport.getCompleted())
+        .resultURL(jobReport.getResultURL());
+  }
+
+  private static ErrorReport copyOf(ErrorReport errorReport) {
+    if (errorReport == null) {
+      return null;
+    }
+    return new ErrorReport()
+        .message(errorReport.getMessage())
+        .statusCode(errorReport.getStatusCode())
+        .causes(errorReport.getCauses() == null ? null : new ArrayList<>(errorReport.getCauses()));
+  }
+
+  private static int estimateSize(FlightState flightState) {
+    long resultSize =
+        flightState
+            .getResultMap()
+            .map(resultMap -> resultMap.getRaw(JobMapKeys.RESPONSE.getKeyName()))
+            .map(String::length)
+            .orElse(0);
+    return (int) Math.min(Integer.MAX_VALUE, FLIGHT_STATE_BASE_SIZE + resultSize);
+  }
+
+  private record CompletedJob(
+      FlightState flightState, Map<Class<?>, AsyncJobResult<?>> results) {
+    CompletedJob(FlightState flightState) {
+      this(flightState, new ConcurrentHashMap<>());
+    }
+  }
+}
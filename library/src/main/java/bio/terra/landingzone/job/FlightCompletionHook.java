@@ -0,0 +1,20 @@
+package bio.terra.landingzone.job;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.HookAction;
+import bio.terra.stairway.StairwayHook;
+
+/** Notifies callers waiting for a job on this instance that its flight has ended. */
+public class FlightCompletionHook implements StairwayHook {
+  private final FlightCompletionRegistry completionRegistry;
+
+  public FlightCompletionHook(FlightCompletionRegistry completionRegistry) {
+    this.completionRegistry = completionRegistry;
+  }
+
+  @Override
+  public HookAction endFlight(FlightContext context) {
+    completionRegistry.complete(context.getFlightId());
+    return HookAction.CONTINUE;
+  }
+}
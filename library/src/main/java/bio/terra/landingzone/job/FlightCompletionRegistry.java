@@ -0,0 +1,73 @@
+package bio.terra.landingzone.job;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a future per waiter of a flight which is completed when the flight ends on this instance.
+ * It is fed by {@link FlightCompletionHook}, so that callers waiting for a job don't need to poll
+ * Stairway. Flights ending on other instances don't complete their futures; callers must fall back
+ * to reading the flight state for those.
+ */
+@Component
+public class FlightCompletionRegistry {
+  private final Map<String, Set<CompletableFuture<Void>>> completions = new ConcurrentHashMap<>();
+
+  /**
+   * Registers interest in the completion of a flight. Registering before the flight is submitted
+   * or its state is read guarantees that its completion on this instance isn't missed. Every call
+   * returns a future of its own, which the caller has to {@link #unregister} once it stops waiting.
+   *
+   * @param flightId id of the flight
+   * @return future completed when the flight ends on this instance
+   */
+  public CompletableFuture<Void> register(String flightId) {
+    var completion = new CompletableFuture<Void>();
+    completions.compute(
+        flightId,
+        (id, waiters) -> {
+          var flightWaiters = waiters != null ? waiters : new HashSet<CompletableFuture<Void>>();
+          flightWaiters.add(completion);
+          return flightWaiters;
+        });
+    return completion;
+  }
+
+  /**
+   * Completes the futures of a flight, if anybody is waiting for it.
+   *
+   * @param flightId id of the ended flight
+   */
+  public void complete(String flightId) {
+    var waiters = completions.remove(flightId);
+    if (waiters != null) {
+      waiters.forEach(completion -> completion.complete(null));
+    }
+  }
+
+  /**
+   * Drops a future which is no longer awaited. Other waiters of the flight keep their futures.
+   *
+   * @param flightId id of the flight
+   * @param completion future returned by {@link #register}
+   */
+  public void unregister(String flightId, CompletableFuture<Void> completion) {
+    completions.computeIfPresent(
+        flightId,
+        (id, waiters) -> {
+          waiters.remove(completion);
+          return waiters.isEmpty() ? null : waiters;
+        });
+  }
+
+  /** @return number of flights somebody is waiting for */
+  @VisibleForTesting
+  int size() {
+    return completions.size();
+  }
+}
@@ -0,0 +1,84 @@
+package bio.terra.landingzone.job;
+
+import bio.terra.landingzone.common.utils.ErrorReportUtils;
+import bio.terra.landingzone.db.DbSerDes;
+import bio.terra.landingzone.db.LandingZoneJobDao;
+import bio.terra.landingzone.job.exception.JobResponseException;
+import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.FlightStatus;
+import bio.terra.stairway.HookAction;
+import bio.terra.stairway.StairwayHook;
+import java.time.Instant;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Records the outcome of a completed flight in the landing zone job table. A failure to record it
+ * is logged and doesn't affect the flight; results of jobs without a completed record are read
+ * from Stairway.
+ */
+public class JobRecordHook implements StairwayHook {
+  private static final Logger logger = LoggerFactory.getLogger(JobRecordHook.class);
+
+  private final LandingZoneJobDao jobDao;
+
+  public JobRecordHook(LandingZoneJobDao jobDao) {
+    this.jobDao = jobDao;
+  }
+
+  @Override
+  public HookAction endFlight(FlightContext context) {
+    try {
+      FlightStatus flightStatus = context.getFlightStatus();
+      if (flightStatus == FlightStatus.SUCCESS) {
+        recordSuccess(context);
+      } else if (flightStatus == FlightStatus.ERROR || flightStatus == FlightStatus.FATAL) {
+        recordFailure(context);
+      }
+      // otherwise the flight didn't complete, e.g. it was paused to be resumed later
+    } catch (RuntimeException e) {
+      logger.warn("Failed to record the outcome of job {}", context.getFlightId(), e);
+    }
+    return HookAction.CONTINUE;
+  }
+
+  private void recordSuccess(FlightContext context) {
+    FlightMap workingMap = context.getWorkingMap();
+    HttpStatus statusCode =
+        Optional.ofNullable(workingMap.get(JobMapKeys.STATUS_CODE.getKeyName(), HttpStatus.class))
+            .orElse(HttpStatus.OK);
+    jobDao.completeJob(
+        context.getFlightId(),
+        JobReport.StatusEnum.SUCCEEDED,
+        statusCode.value(),
+        Instant.now(),
+        workingMap.getRaw(JobMapKeys.RESPONSE.getKeyName()),
+        null);
+  }
+
+  private void recordFailure(FlightContext context) {
+    Optional<Exception> exception = context.getResult().getException();
+    if (exception.isEmpty()) {
+      // reading the job from Stairway reports the invalid state
+      return;
+    }
+    // same status code and error report as a job result read from Stairway
+    int statusCode = ErrorReportUtils.buildApiErrorReport(exception.get()).getStatusCode();
+    var errorReport =
+        ErrorReportUtils.buildApiErrorReport(
+            exception.get() instanceof RuntimeException
+                ? exception.get()
+                : new JobResponseException("wrap non-runtime exception", exception.get()));
+    jobDao.completeJob(
+        context.getFlightId(),
+        JobReport.StatusEnum.FAILED,
+        statusCode,
+        Instant.now(),
+        null,
+        DbSerDes.toJson(errorReport));
+  }
+}
@@ -0,0 +1,47 @@
+package bio.terra.landingzone.job;
+
+import bio.terra.landingzone.db.model.LandingZoneJobRecord;
+import bio.terra.stairway.FlightState;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * State of a job, read once per request. Completed jobs are read from their record in the landing
+ * zone job table; running jobs and jobs without a record from their Stairway flight.
+ */
+public final class JobSnapshot {
+  private final String jobId;
+  private final @Nullable LandingZoneJobRecord jobRecord;
+  private final @Nullable FlightState flightState;
+
+  private JobSnapshot(
+      String jobId, @Nullable LandingZoneJobRecord jobRecord, @Nullable FlightState flightState) {
+    this.jobId = jobId;
+    this.jobRecord = jobRecord;
+    this.flightState = flightState;
+  }
+
+  public static JobSnapshot fromJobRecord(LandingZoneJobRecord jobRecord) {
+    return new JobSnapshot(jobRecord.jobId(), jobRecord, null);
+  }
+
+  public static JobSnapshot fromFlightState(FlightState flightState) {
+    return new JobSnapshot(flightState.getFlightId(), null, flightState);
+  }
+
+  public String getJobId() {
+    return jobId;
+  }
+
+  public boolean isRunning() {
+    return jobRecord != null ? !jobRecord.isCompleted() : flightState.isActive();
+  }
+
+  public Optional<LandingZoneJobRecord> getJobRecord() {
+    return Optional.ofNullable(jobRecord);
+  }
+
+  public Optional<FlightState> getFlightState() {
+    return Optional.ofNullable(flightState);
+  }
+}
@@ -0,0 +1,36 @@
+package bio.terra.landingzone.job;
+
+import bio.terra.landingzone.job.model.JobStateChange;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.HookAction;
+import bio.terra.stairway.StairwayHook;
+import org.apache.commons.lang3.StringUtils;
+
+/** Publishes the progress of flights running on this instance to {@link JobStateNotifier}. */
+public class JobStateChangeHook implements StairwayHook {
+  private final JobStateNotifier stateNotifier;
+
+  public JobStateChangeHook(JobStateNotifier stateNotifier) {
+    this.stateNotifier = stateNotifier;
+  }
+
+  @Override
+  public HookAction endStep(FlightContext context) {
+    stateNotifier.notifyStateChange(toStateChange(context, false));
+    return HookAction.CONTINUE;
+  }
+
+  @Override
+  public HookAction endFlight(FlightContext context) {
+    stateNotifier.notifyStateChange(toStateChange(context, true));
+    return HookAction.CONTINUE;
+  }
+
+  private static JobStateChange toStateChange(FlightContext context, boolean completed) {
+    return new JobStateChange(
+        context.getFlightId(),
+        context.getStepIndex(),
+        StringUtils.substringAfterLast(context.getStepClassName(), "."),
+        completed);
+  }
+}
@@ -0,0 +1,26 @@
+package bio.terra.landingzone.job;
+
+import bio.terra.landingzone.job.LandingZoneJobService.AsyncJobResult;
+import bio.terra.landingzone.job.model.JobStateChange;
+
+/**
+ * Receives the state changes and the result of a job. State changes are only received for a job
+ * running on this instance.
+ */
+public interface JobStateListener<T> {
+  /**
+   * Called from a job subscription thread, in order and never concurrently. The call may block,
+   * e.g. on a slow client, but while it does newer state changes of the job are queued, and the
+   * oldest queued ones are dropped.
+   *
+   * @param stateChange state change of the job
+   */
+  void onStateChange(JobStateChange stateChange);
+
+  /**
+   * Called once, from a job subscription thread, when the job is no longer running.
+   *
+   * @param result result of the job
+   */
+  void onCompleted(AsyncJobResult<T> result);
+}
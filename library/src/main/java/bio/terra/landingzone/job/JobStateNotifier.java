@@ -0,0 +1,85 @@
+package bio.terra.landingzone.job;
+
+import bio.terra.landingzone.job.model.JobStateChange;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process notifier of the state changes of jobs running on this instance, fed by {@link
+ * JobStateChangeHook}. Callers waiting for a job subscribe here instead of reading the flight state
+ * from the database.
+ *
+ * <p>Listeners are called on a single notification thread, so that they see the state changes of a
+ * job in order and don't delay the flight which reported them. A listener which blocks delays the
+ * state changes of every job, so listeners hand slow work over to another thread.
+ */
+@Component
+public class JobStateNotifier {
+  private static final Logger logger = LoggerFactory.getLogger(JobStateNotifier.class);
+
+  private final Map<String, Set<Consumer<JobStateChange>>> listeners = new ConcurrentHashMap<>();
+  private final ExecutorService notificationExecutor =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            var thread = new Thread(runnable, "lz-job-state-notifier");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Subscribes to the state changes of a job.
+   *
+   * @param jobId id of the job
+   * @param listener listener of the state changes
+   * @return action removing the subscription
+   */
+  public Runnable subscribe(String jobId, Consumer<JobStateChange> listener) {
+    listeners.computeIfAbsent(jobId, id -> ConcurrentHashMap.newKeySet()).add(listener);
+    return () ->
+        listeners.computeIfPresent(
+            jobId,
+            (id, jobListeners) -> {
+              jobListeners.remove(listener);
+              return jobListeners.isEmpty() ? null : jobListeners;
+            });
+  }
+
+  /**
+   * Returns a future completed by the next state change of a job. Cancelling the future removes the
+   * subscription.
+   *
+   * @param jobId id of the job
+   * @return future of the next state change
+   */
+  public CompletableFuture<JobStateChange> nextStateChange(String jobId) {
+    var nextStateChange = new CompletableFuture<JobStateChange>();
+    var unsubscribe = subscribe(jobId, nextStateChange::complete);
+    nextStateChange.whenComplete((stateChange, e) -> unsubscribe.run());
+    return nextStateChange;
+  }
+
+  public void notifyStateChange(JobStateChange stateChange) {
+    var jobListeners = listeners.get(stateChange.jobId());
+    if (jobListeners == null) {
+      return;
+    }
+    notificationExecutor.execute(
+        () ->
+            jobListeners.forEach(
+                listener -> {
+                  try {
+                    listener.accept(stateChange);
+                  } catch (RuntimeException e) {
+                    logger.warn("Failed to notify state change of job {}", stateChange.jobId(), e);
+                  }
+                }));
+  }
+}
@@ -13,6 +13,9 @@ import bio.terra.common.stairway.StairwayComponent;
 import bio.terra.common.stairway.StairwayLoggingHook;
 import bio.terra.landingzone.common.utils.ErrorReportUtils;
 import bio.terra.landingzone.common.utils.LandingZoneFlightBeanBag;
+import bio.terra.landingzone.db.DbSerDes;
+import bio.terra.landingzone.db.LandingZoneJobDao;
+import bio.terra.landingzone.db.model.LandingZoneJobRecord;
 import bio.terra.landingzone.job.exception.DuplicateJobIdException;
 import bio.terra.landingzone.job.exception.InternalStairwayException;
 import bio.terra.landingzone.job.exception.InvalidResultStateException;
@@ -21,6 +24,9 @@ import bio.terra.landingzone.job.exception.JobNotFoundException;
 import bio.terra.landingzone.job.exception.JobResponseException;
 import bio.terra.landingzone.job.model.ErrorReport;
 import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.landingzone.job.model.JobStateChange;
+import bio.terra.landingzone.job.model.OperationType;
+import bio.terra.landingzone.library.LandingZoneResourcesCache;
 import bio.terra.landingzone.library.configuration.LandingZoneIngressConfiguration;
 import bio.terra.landingzone.library.configuration.LandingZoneJobConfiguration;
 import bio.terra.landingzone.library.configuration.stairway.LandingZoneStairwayDatabaseConfiguration;
@@ -40,39 +46,67 @@ import bio.terra.stairway.exception.FlightNotFoundException;
 import bio.terra.stairway.exception.StairwayException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import jakarta.annotation.PreDestroy;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 @Component
 public class LandingZoneJobService {
   private static final Logger logger = LoggerFactory.getLogger(LandingZoneJobService.class);
+  // first delay before reading again the state of a flight which ended on this instance
+  private static final Duration COMPLETED_FLIGHT_STATE_INITIAL_BACKOFF = Duration.ofMillis(50);
+  // threads reporting the state changes and reading the results of subscribed jobs
+  private static final int SUBSCRIPTION_THREADS = 4;
+  // state changes kept for a listener which doesn't keep up; the oldest ones are dropped first
+  private static final int MAX_PENDING_STATE_CHANGES = 16;
 
   private final LandingZoneJobConfiguration jobConfig;
   private final LandingZoneIngressConfiguration ingressConfig;
   private final LandingZoneStairwayDatabaseConfiguration stairwayDatabaseConfiguration;
-  private final ScheduledExecutorService executor;
   private final StairwayComponent stairwayComponent;
   private final LandingZoneFlightBeanBag flightBeanBag;
   private final ObjectMapper objectMapper;
   private final LandingZoneSamService samService;
   private FlightDebugInfo flightDebugInfo;
   private final OpenTelemetry openTelemetry;
+  private final LandingZoneResourcesCache resourcesCache;
+  private final FlightCompletionRegistry completionRegistry;
+  private final JobStateNotifier stateNotifier;
+  private final CompletedJobCache completedJobCache;
+  private final LandingZoneJobDao jobDao;
+  private final ScheduledExecutorService subscriptionExecutor =
+      Executors.newScheduledThreadPool(
+          SUBSCRIPTION_THREADS,
+          new ThreadFactoryBuilder()
+              .setNameFormat("landingzone-job-subscription-%d")
+              .setDaemon(true)
+              .build());
 
   @Autowired
   public LandingZoneJobService(
@@ -83,16 +117,25 @@ public class LandingZoneJobService {
       LandingZoneFlightBeanBag flightBeanBag,
       ObjectMapper objectMapper,
       LandingZoneSamService samService,
-      OpenTelemetry openTelemetry) {
+      OpenTelemetry openTelemetry,
+      LandingZoneResourcesCache resourcesCache,
+      FlightCompletionRegistry completionRegistry,
+      JobStateNotifier stateNotifier,
+      CompletedJobCache completedJobCache,
+      LandingZoneJobDao jobDao) {
     this.jobConfig = jobConfig;
     this.ingressConfig = ingressConfig;
     this.stairwayDatabaseConfiguration = stairwayDatabaseConfiguration;
-    this.executor = Executors.newScheduledThreadPool(jobConfig.getMaxThreads());
     this.stairwayComponent = stairwayComponent;
     this.flightBeanBag = flightBeanBag;
     this.objectMapper = objectMapper;
     this.samService = samService;
     this.openTelemetry = openTelemetry;
+    this.resourcesCache = resourcesCache;
+    this.completionRegistry = completionRegistry;
+    this.stateNotifier = stateNotifier;
+    this.completedJobCache = completedJobCache;
+    this.jobDao = jobDao;
   }
 
   // Fully fluent style of JobBuilder
@@ -104,11 +147,16 @@ public class LandingZoneJobService {
   // protected method intended to be called only from JobBuilder
   protected String submit(
       Class<? extends Flight> flightClass, FlightMap parameterMap, String jobId) {
+    // recorded before submitting, so that the outcome of a flight ending right away finds the
+    // record to complete
+    boolean recorded = recordSubmittedJob(jobId, parameterMap);
+    boolean submitted = false;
     try {
       stairwayComponent
           .get()
           .submitWithDebugInfo(
               jobId, flightClass, parameterMap, /* shouldQueue= */ false, flightDebugInfo);
+      submitted = true;
     } catch (DuplicateFlightIdException ex) {
       // DuplicateFlightIdException is a more specific StairwayException, and so needs to
       // be checked separately. Allowing duplicate FlightIds is useful for ensuring idempotent
@@ -117,6 +165,10 @@ public class LandingZoneJobService {
       throw new DuplicateJobIdException(String.format("Received duplicate jobId %s", jobId), ex);
     } catch (StairwayException | InterruptedException stairwayEx) {
       throw new InternalStairwayException(stairwayEx);
+    } finally {
+      if (recorded && !submitted) {
+        removeRejectedJob(jobId);
+      }
     }
     return jobId;
   }
@@ -129,8 +181,15 @@ public class LandingZoneJobService {
       FlightMap parameterMap,
       Class<T> resultClass,
       String jobId) {
-    submit(flightClass, parameterMap, jobId);
-    waitForJob(jobId);
+    // register before submitting so that the completion of a short flight isn't missed
+    var completion = completionRegistry.register(jobId);
+    try {
+      submit(flightClass, parameterMap, jobId);
+    } catch (RuntimeException e) {
+      completionRegistry.unregister(jobId, completion);
+      throw e;
+    }
+    waitForJob(jobId, completion);
 
     JobResultOrException<T> resultOrException = retrieveJobResult(jobId, resultClass);
     if (resultOrException.getException() != null) {
@@ -139,26 +198,219 @@ public class LandingZoneJobService {
     return resultOrException.getResult();
   }
 
+  /**
+   * Waits for a job to complete, though not necessarily successfully.
+   *
+   * <p>The wait ends as soon as {@link FlightCompletionHook} reports the end of the flight on this
+   * instance. Otherwise the flight state is only read again every polling interval, which covers
+   * flights running on other instances. A flight may end before its final state is stored, so
+   * after its end is reported the state is read again with a short, growing backoff.
+   */
   public void waitForJob(String jobId) {
+    waitForJob(jobId, completionRegistry.register(jobId));
+  }
+
+  private void waitForJob(String jobId, CompletableFuture<Void> completion) {
+    var deadline = Instant.now().plusSeconds(jobConfig.getTimeoutSeconds());
+    var fallbackPollingInterval = Duration.ofSeconds(jobConfig.getPollingIntervalSeconds());
     try {
-      int pollSeconds = jobConfig.getPollingIntervalSeconds();
-      int pollCycles = jobConfig.getTimeoutSeconds() / jobConfig.getPollingIntervalSeconds();
-      for (int i = 0; i < pollCycles; i++) {
-        ScheduledFuture<FlightState> futureState =
-            executor.schedule(
-                new PollFlightTask(stairwayComponent.get(), jobId), pollSeconds, TimeUnit.SECONDS);
-        FlightState state = futureState.get();
-        if (state != null) {
-          // Indicates job has completed, though not necessarily successfully.
-          return;
+      var completedStateBackoff = COMPLETED_FLIGHT_STATE_INITIAL_BACKOFF;
+      while (isFlightActive(jobId)) {
+        var remaining = Duration.between(Instant.now(), deadline);
+        if (remaining.isNegative() || remaining.isZero()) {
+          // Indicates we timed out waiting for completion, throw exception
+          throw new InternalStairwayException("Flight did not complete in the allowed wait time");
         }
-        // The job has not completed yet, continue polling
+        long maxWaitMillis = Math.min(remaining.toMillis(), fallbackPollingInterval.toMillis());
+        if (completion.isDone()) {
+          // the flight ended, but its final state wasn't read yet. Nothing completes the future
+          // again, so read the state again shortly rather than after a polling interval.
+          TimeUnit.MILLISECONDS.sleep(Math.min(maxWaitMillis, completedStateBackoff.toMillis()));
+          completedStateBackoff = completedStateBackoff.multipliedBy(2);
+          continue;
+        }
+        try {
+          completion.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+          // the flight may have ended on another instance, check its state
+        }
+      }
+    } catch (StairwayException | InterruptedException | ExecutionException stairwayEx) {
+      throw new InternalStairwayException(stairwayEx);
+    } finally {
+      completionRegistry.unregister(jobId, completion);
+    }
+  }
+
+  private boolean isFlightActive(String jobId) throws StairwayException, InterruptedException {
+    return readFlightState(jobId).isActive();
+  }
+
+  /** Reads the state of a flight. States of completed flights are served from memory. */
+  private FlightState readFlightState(String jobId) throws StairwayException, InterruptedException {
+    var cachedFlightState = completedJobCache.getFlightState(jobId);
+    if (cachedFlightState.isPresent()) {
+      return cachedFlightState.get();
+    }
+    FlightState flightState = stairwayComponent.get().getFlightState(jobId);
+    completedJobCache.put(flightState);
+    return flightState;
+  }
+
+  /**
+   * Waits up to the given time for the next state change of a job running on this instance, such
+   * as the end of one of its steps. Returns at once if the job is no longer running. Jobs running
+   * on other instances are waited for the whole time.
+   *
+   * @param jobId id of the job
+   * @param maxWait maximum time to wait
+   */
+  public void waitForJobStateChange(String jobId, Duration maxWait) {
+    // subscribe before reading the state so that no state change is missed
+    var nextStateChange = stateNotifier.nextStateChange(jobId);
+    try {
+      if (isFlightActive(jobId)) {
+        nextStateChange.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
       }
-    } catch (InterruptedException | ExecutionException stairwayEx) {
+    } catch (TimeoutException e) {
+      // the job didn't change state in time, the caller reports its current state
+    } catch (FlightNotFoundException flightNotFoundException) {
+      throw new JobNotFoundException(
+          "The flight " + jobId + " was not found", flightNotFoundException);
+    } catch (StairwayException | InterruptedException | ExecutionException stairwayEx) {
       throw new InternalStairwayException(stairwayEx);
+    } finally {
+      nextStateChange.cancel(false);
+    }
+  }
+
+  /**
+   * Subscribes to the state changes of a job. State changes are only reported for a job running on
+   * this instance, in order, on a subscription thread. A listener which falls behind misses the
+   * oldest of its pending state changes. The listener is told about the result of the job exactly
+   * once, once it is no longer running: right away if it already completed, as soon as it
+   * completes on this instance, or otherwise when its state is read every polling interval.
+   *
+   * @param jobId id of the job
+   * @param resultClass class of the job result
+   * @param listener listener of the job
+   * @return action removing the subscription
+   */
+  public <T> Runnable subscribeToJob(
+      String jobId, Class<T> resultClass, JobStateListener<T> listener) {
+    var subscription = new JobSubscription<>(jobId, resultClass, listener);
+    subscription.start();
+    return subscription::cancel;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    subscriptionExecutor.shutdownNow();
+  }
+
+  /**
+   * Subscription of a listener to a job. State changes are queued by the notification thread and
+   * reported on {@link #subscriptionExecutor}, as is the result of the job, so that a slow listener
+   * or reading the result doesn't hold up the notification of other jobs.
+   */
+  private final class JobSubscription<T> {
+    private final String jobId;
+    private final Class<T> resultClass;
+    private final JobStateListener<T> listener;
+    private final AtomicBoolean resultReported = new AtomicBoolean();
+    // guards itself and reportingStateChanges
+    private final Deque<JobStateChange> pendingStateChanges = new ArrayDeque<>();
+    private boolean reportingStateChanges;
+    private volatile Runnable unsubscribe;
+    private volatile ScheduledFuture<?> polling;
+
+    private JobSubscription(String jobId, Class<T> resultClass, JobStateListener<T> listener) {
+      this.jobId = jobId;
+      this.resultClass = resultClass;
+      this.listener = listener;
+    }
+
+    private void start() {
+      // subscribe before reading the state so that no state change is missed
+      unsubscribe = stateNotifier.subscribe(jobId, this::onStateChange);
+      // jobs running on other instances don't report their state changes
+      var pollingInterval = Math.max(1, jobConfig.getPollingIntervalSeconds());
+      polling =
+          subscriptionExecutor.scheduleWithFixedDelay(
+              this::reportResultIfCompleted, pollingInterval, pollingInterval, TimeUnit.SECONDS);
+      if (resultReported.get()) {
+        cancel();
+        return;
+      }
+      // the job may have completed before the subscription
+      subscriptionExecutor.execute(this::reportResultIfCompleted);
+    }
+
+    /** Called on the notification thread; the state change is reported by a single task. */
+    private void onStateChange(JobStateChange stateChange) {
+      synchronized (pendingStateChanges) {
+        if (pendingStateChanges.size() == MAX_PENDING_STATE_CHANGES) {
+          logger.debug("Dropping a state change of job {}, its listener is behind", jobId);
+          pendingStateChanges.removeFirst();
+        }
+        pendingStateChanges.addLast(stateChange);
+        if (reportingStateChanges) {
+          return;
+        }
+        reportingStateChanges = true;
+      }
+      subscriptionExecutor.execute(this::reportStateChanges);
+    }
+
+    private void reportStateChanges() {
+      while (true) {
+        JobStateChange stateChange;
+        synchronized (pendingStateChanges) {
+          stateChange = pendingStateChanges.pollFirst();
+          if (stateChange == null) {
+            reportingStateChanges = false;
+            return;
+          }
+        }
+        // nothing is reported after the result
+        if (resultReported.get()) {
+          continue;
+        }
+        try {
+          listener.onStateChange(stateChange);
+        } catch (RuntimeException e) {
+          logger.warn("Failed to report state change of job {}", jobId, e);
+        }
+        if (stateChange.completed()) {
+          reportResultIfCompleted();
+        }
+      }
+    }
+
+    private void reportResultIfCompleted() {
+      if (resultReported.get()) {
+        return;
+      }
+      AsyncJobResult<T> jobResult;
+      try {
+        jobResult = retrieveAsyncJobResult(retrieveJobSnapshot(jobId), resultClass);
+      } catch (RuntimeException e) {
+        // a failed poll is retried at the next polling interval
+        logger.warn("Failed to read the result of job {}", jobId, e);
+        return;
+      }
+      // the end of a flight may be reported before its final state is stored
+      if (jobResult.getJobReport().getStatus() != JobReport.StatusEnum.RUNNING
+          && resultReported.compareAndSet(false, true)) {
+        cancel();
+        listener.onCompleted(jobResult);
+      }
+    }
+
+    private void cancel() {
+      Optional.ofNullable(unsubscribe).ifPresent(Runnable::run);
+      Optional.ofNullable(polling).ifPresent(future -> future.cancel(false));
     }
-    // Indicates we timed out waiting for completion, throw exception
-    throw new InternalStairwayException("Flight did not complete in the allowed wait time");
   }
 
   /**
@@ -174,6 +426,10 @@ public class LandingZoneJobService {
             .context(flightBeanBag)
             .addHook(new StairwayLoggingHook())
             .addHook(new MonitoringHook(openTelemetry))
+            .addHook(new LandingZoneResourcesCacheHook(resourcesCache))
+            .addHook(new FlightCompletionHook(completionRegistry))
+            .addHook(new JobStateChangeHook(stateNotifier))
+            .addHook(new JobRecordHook(jobDao))
             .exceptionSerializer(new StairwayExceptionSerializer(objectMapper)));
   }
 
@@ -233,8 +489,11 @@ public class LandingZoneJobService {
   }
 
   private String resultUrlFromFlightState(FlightState flightState) {
-    String resultPath =
-        flightState.getInputParameters().get(JobMapKeys.RESULT_PATH.getKeyName(), String.class);
+    return resultUrl(
+        flightState.getInputParameters().get(JobMapKeys.RESULT_PATH.getKeyName(), String.class));
+  }
+
+  private String resultUrl(@Nullable String resultPath) {
     if (resultPath == null) {
       resultPath = "";
     }
@@ -261,7 +520,7 @@ public class LandingZoneJobService {
   @WithSpan
   public JobReport retrieveJob(String jobId) {
     try {
-      FlightState flightState = stairwayComponent.get().getFlightState(jobId);
+      FlightState flightState = readFlightState(jobId);
       return mapFlightStateToApiJobReport(flightState);
     } catch (FlightNotFoundException flightNotFoundException) {
       throw new JobNotFoundException(
@@ -273,7 +532,7 @@ public class LandingZoneJobService {
 
   public FlightState retrieveFlightState(String jobId) {
     try {
-      return stairwayComponent.get().getFlightState(jobId);
+      return readFlightState(jobId);
     } catch (FlightNotFoundException flightNotFoundException) {
       throw new JobNotFoundException(
           "The flight " + jobId + " was not found", flightNotFoundException);
@@ -305,7 +564,7 @@ public class LandingZoneJobService {
   @WithSpan
   public <T> JobResultOrException<T> retrieveJobResult(String jobId, Class<T> resultClass) {
     try {
-      return retrieveJobResultWorker(jobId, resultClass);
+      return retrieveJobResultWorker(readFlightState(jobId), resultClass);
     } catch (FlightNotFoundException flightNotFoundException) {
       throw new JobNotFoundException(
           "The flight " + jobId + " was not found", flightNotFoundException);
@@ -326,26 +585,86 @@ public class LandingZoneJobService {
    * return a ApiJobReport without a result or error.
    */
   public <T> AsyncJobResult<T> retrieveAsyncJobResult(String jobId, Class<T> resultClass) {
-    try {
-      JobReport jobReport = retrieveJob(jobId);
-      if (jobReport.getStatus().equals(JobReport.StatusEnum.RUNNING)) {
-        return new AsyncJobResult<T>().jobReport(jobReport);
-      }
+    return retrieveAsyncJobResult(retrieveFlightState(jobId), resultClass);
+  }
 
-      JobResultOrException<T> resultOrException = retrieveJobResultWorker(jobId, resultClass);
-      final ErrorReport errorReport;
-      if (jobReport.getStatus().equals(JobReport.StatusEnum.FAILED)) {
-        errorReport = ErrorReportUtils.buildApiErrorReport(resultOrException.getException());
-      } else {
-        errorReport = null;
-      }
-      return new AsyncJobResult<T>()
-          .jobReport(jobReport)
-          .result(resultOrException.getResult())
-          .errorReport(errorReport);
-    } catch (StairwayException | InterruptedException stairwayEx) {
-      throw new InternalStairwayException(stairwayEx);
+  /**
+   * Builds the result of an asynchronous job from its state read once for the request, e.g. by
+   * {@link #verifyUserAccess}.
+   *
+   * @param job state of the job
+   * @param resultClass class of the job result
+   * @return job report and either a result or error if the job is complete
+   */
+  public <T> AsyncJobResult<T> retrieveAsyncJobResult(JobSnapshot job, Class<T> resultClass) {
+    return job.getJobRecord()
+        .map(jobRecord -> buildAsyncJobResult(jobRecord, resultClass))
+        .orElseGet(() -> retrieveAsyncJobResult(job.getFlightState().orElseThrow(), resultClass));
+  }
+
+  private <T> AsyncJobResult<T> buildAsyncJobResult(
+      LandingZoneJobRecord jobRecord, Class<T> resultClass) {
+    var jobReport =
+        new JobReport()
+            .id(jobRecord.jobId())
+            .description(jobRecord.description().orElse(null))
+            .status(jobRecord.status())
+            .statusCode(jobRecord.statusCode().orElse(HttpStatus.ACCEPTED.value()))
+            .submitted(jobRecord.submittedDate().toString())
+            .completed(jobRecord.completedDate().map(Instant::toString).orElse(null))
+            .resultURL(resultUrl(jobRecord.resultPath().orElse(null)));
+    return new AsyncJobResult<T>()
+        .jobReport(jobReport)
+        .result(jobRecord.result().map(result -> readJobResult(result, resultClass)).orElse(null))
+        .errorReport(
+            jobRecord
+                .errorReport()
+                .map(errorReport -> DbSerDes.fromJson(errorReport, ErrorReport.class))
+                .orElse(null));
+  }
+
+  /**
+   * Reads the result of a job recorded by {@link JobRecordHook}. The result is recorded as
+   * serialized in the flight's working map, so it is read back by Stairway as well.
+   */
+  private static <T> T readJobResult(String result, Class<T> resultClass) {
+    var resultMap = new FlightMap();
+    resultMap.putRaw(JobMapKeys.RESPONSE.getKeyName(), result);
+    return resultMap.get(JobMapKeys.RESPONSE.getKeyName(), resultClass);
+  }
+
+  /**
+   * Builds the result of an asynchronous job from its already loaded flight state, for callers
+   * which read the state once per request, e.g. from {@link #verifyUserAccess}. Results of
+   * completed jobs are built once and served from {@link CompletedJobCache} afterwards.
+   *
+   * @param flightState state of the job's flight
+   * @param resultClass class of the job result
+   * @return job report and either a result or error if the job is complete
+   */
+  public <T> AsyncJobResult<T> retrieveAsyncJobResult(
+      FlightState flightState, Class<T> resultClass) {
+    return completedJobCache.getAsyncJobResult(
+        flightState, resultClass, () -> buildAsyncJobResult(flightState, resultClass));
+  }
+
+  private <T> AsyncJobResult<T> buildAsyncJobResult(FlightState flightState, Class<T> resultClass) {
+    JobReport jobReport = mapFlightStateToApiJobReport(flightState);
+    if (jobReport.getStatus().equals(JobReport.StatusEnum.RUNNING)) {
+      return new AsyncJobResult<T>().jobReport(jobReport);
+    }
+
+    JobResultOrException<T> resultOrException = retrieveJobResultWorker(flightState, resultClass);
+    final ErrorReport errorReport;
+    if (jobReport.getStatus().equals(JobReport.StatusEnum.FAILED)) {
+      errorReport = ErrorReportUtils.buildApiErrorReport(resultOrException.getException());
+    } else {
+      errorReport = null;
     }
+    return new AsyncJobResult<T>()
+        .jobReport(jobReport)
+        .result(resultOrException.getResult())
+        .errorReport(errorReport);
   }
 
   public <T> AsyncJobResult<T> retrieveStartingAsyncJobResult(String jobId, T result) {
@@ -376,39 +695,38 @@ public class LandingZoneJobService {
    *
    * @param bearerToken bearer token of the user request
    * @param jobId ID of running job
+   * @return state of the job, which callers pass on instead of reading it again. The landing zone
+   *     job table is read before Stairway.
    * @throws ForbiddenException if the user does not have READ_JOB_RESULT action on the billing
    *     profile, the job id does not exist, the job does not have a billing profile id, or the
    *     landing zone id of the job does not match the given landing zone id
    */
-  public void verifyUserAccess(
+  public JobSnapshot verifyUserAccess(
       BearerToken bearerToken, String jobId, Optional<UUID> landingZoneId) {
     try {
-      FlightState flightState = stairwayComponent.get().getFlightState(jobId);
-      FlightMap inputParameters = flightState.getInputParameters();
+      var jobRecord = readJobRecord(jobId);
+      if (jobRecord.isPresent()) {
+        checkJobAccess(
+            bearerToken,
+            jobId,
+            landingZoneId,
+            jobRecord.get().billingProfileId(),
+            () -> jobRecord.get().landingZoneId().orElse(null));
+        return jobRecord.get().isCompleted()
+            ? JobSnapshot.fromJobRecord(jobRecord.get())
+            : JobSnapshot.fromFlightState(readFlightState(jobId));
+      }
 
-      var billingProfileId =
+      FlightState flightState = readFlightState(jobId);
+      FlightMap inputParameters = flightState.getInputParameters();
+      checkJobAccess(
+          bearerToken,
+          jobId,
+          landingZoneId,
           Optional.ofNullable(
-              inputParameters.get(LandingZoneFlightMapKeys.BILLING_PROFILE_ID, UUID.class));
-
-      // if given landing zone id does not match the flight's landing zone id, throw Forbidden
-      landingZoneId.ifPresent(
-          lzId -> {
-            UUID flightLandingZoneId =
-                inputParameters.get(LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class);
-            if (!lzId.equals(flightLandingZoneId)) {
-              throw newJobForbiddenException(jobId);
-            }
-          });
-
-      SamRethrow.onInterrupted(
-          () ->
-              samService.checkAuthz(
-                  bearerToken,
-                  SamConstants.SamResourceType.SPEND_PROFILE,
-                  billingProfileId.orElseThrow(() -> newJobForbiddenException(jobId)).toString(),
-                  SamConstants.SamSpendProfileAction.READ_JOB_RESULT),
-          IS_AUTHORIZED);
-
+              inputParameters.get(LandingZoneFlightMapKeys.BILLING_PROFILE_ID, UUID.class)),
+          () -> inputParameters.get(LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class));
+      return JobSnapshot.fromFlightState(flightState);
     } catch (DatabaseOperationException | InterruptedException ex) {
       throw new InternalStairwayException("Stairway exception looking up the job", ex);
     } catch (FlightNotFoundException | ForbiddenException ex) {
@@ -417,13 +735,103 @@ public class LandingZoneJobService {
     }
   }
 
+  private void checkJobAccess(
+      BearerToken bearerToken,
+      String jobId,
+      Optional<UUID> landingZoneId,
+      Optional<UUID> billingProfileId,
+      Supplier<UUID> jobLandingZoneId) {
+    // if given landing zone id does not match the job's landing zone id, throw Forbidden
+    landingZoneId.ifPresent(
+        lzId -> {
+          if (!lzId.equals(jobLandingZoneId.get())) {
+            throw newJobForbiddenException(jobId);
+          }
+        });
+
+    SamRethrow.onInterrupted(
+        () ->
+            samService.checkAuthz(
+                bearerToken,
+                SamConstants.SamResourceType.SPEND_PROFILE,
+                billingProfileId.orElseThrow(() -> newJobForbiddenException(jobId)).toString(),
+                SamConstants.SamSpendProfileAction.READ_JOB_RESULT),
+        IS_AUTHORIZED);
+  }
+
+  /**
+   * Reads the state of a job once, without checking access to it. Completed jobs are read from the
+   * landing zone job table when they are recorded there.
+   *
+   * @param jobId id of the job
+   * @return state of the job
+   */
+  public JobSnapshot retrieveJobSnapshot(String jobId) {
+    return readJobRecord(jobId)
+        .filter(LandingZoneJobRecord::isCompleted)
+        .map(JobSnapshot::fromJobRecord)
+        .orElseGet(() -> JobSnapshot.fromFlightState(retrieveFlightState(jobId)));
+  }
+
+  /**
+   * Reads the record of a job. The job table only saves reading Stairway, so a failure to read it
+   * is logged and the job read from Stairway instead.
+   */
+  private Optional<LandingZoneJobRecord> readJobRecord(String jobId) {
+    try {
+      return jobDao.getJobIfExists(jobId);
+    } catch (DataAccessException e) {
+      logger.warn("Failed to read the record of job {}", jobId, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Records a job about to be submitted in the landing zone job table. The job table only saves
+   * reading Stairway, so a failure to record the job is logged and otherwise ignored.
+   *
+   * @return true if the record was inserted, false if the job id already had a record or the job
+   *     couldn't be recorded
+   */
+  private boolean recordSubmittedJob(String jobId, FlightMap parameterMap) {
+    try {
+      return jobDao.createJob(
+          LandingZoneJobRecord.builder()
+              .jobId(jobId)
+              .landingZoneId(parameterMap.get(LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class))
+              .billingProfileId(
+                  parameterMap.get(LandingZoneFlightMapKeys.BILLING_PROFILE_ID, UUID.class))
+              .operationType(
+                  parameterMap.get(LandingZoneFlightMapKeys.OPERATION_TYPE, OperationType.class))
+              .description(parameterMap.get(JobMapKeys.DESCRIPTION.getKeyName(), String.class))
+              .resultPath(parameterMap.get(JobMapKeys.RESULT_PATH.getKeyName(), String.class))
+              .status(JobReport.StatusEnum.RUNNING)
+              .submittedDate(Instant.now())
+              .build());
+    } catch (DataAccessException e) {
+      logger.warn("Failed to record submitted job {}", jobId, e);
+      return false;
+    }
+  }
+
+  /**
+   * Removes the record of a job whose flight was not submitted. A record left behind is only read
+   * as long as Stairway doesn't know the job, so a failure to remove it is logged and ignored.
+   */
+  private void removeRejectedJob(String jobId) {
+    try {
+      jobDao.deleteJob(jobId);
+    } catch (DataAccessException e) {
+      logger.warn("Failed to remove the record of rejected job {}", jobId, e);
+    }
+  }
+
   private ForbiddenException newJobForbiddenException(String jobId) {
     return new ForbiddenException("Caller is not authorized to view job " + jobId);
   }
 
-  private <T> JobResultOrException<T> retrieveJobResultWorker(String jobId, Class<T> resultClass)
-      throws StairwayException, InterruptedException {
-    FlightState flightState = stairwayComponent.get().getFlightState(jobId);
+  private <T> JobResultOrException<T> retrieveJobResultWorker(
+      FlightState flightState, Class<T> resultClass) {
     FlightMap resultMap = flightState.getResultMap().orElse(null);
     if (resultMap == null) {
       throw new InvalidResultStateException("No result map returned from flight");
@@ -573,24 +981,4 @@ public class LandingZoneJobService {
       return this;
     }
   }
-
-  private static class PollFlightTask implements Callable<FlightState> {
-    private final Stairway stairway;
-    private final String flightId;
-
-    public PollFlightTask(Stairway stairway, String flightId) {
-      this.stairway = stairway;
-      this.flightId = flightId;
-    }
-
-    @Override
-    public FlightState call() throws Exception {
-      FlightState state = stairway.getFlightState(flightId);
-      if (!state.isActive()) {
-        return state;
-      } else {
-        return null;
-      }
-    }
-  }
 }
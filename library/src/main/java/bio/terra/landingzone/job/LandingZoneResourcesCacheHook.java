@@ -0,0 +1,30 @@
+package bio.terra.landingzone.job;
+
+import bio.terra.landingzone.library.LandingZoneResourcesCache;
+import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.HookAction;
+import bio.terra.stairway.StairwayHook;
+import java.util.UUID;
+
+/**
+ * Drops cached resource listings of a landing zone when a flight operating on it ends, so that
+ * resources created or deleted by the flight are visible to subsequent reads on this instance.
+ */
+public class LandingZoneResourcesCacheHook implements StairwayHook {
+  private final LandingZoneResourcesCache resourcesCache;
+
+  public LandingZoneResourcesCacheHook(LandingZoneResourcesCache resourcesCache) {
+    this.resourcesCache = resourcesCache;
+  }
+
+  @Override
+  public HookAction endFlight(FlightContext context) {
+    var landingZoneId =
+        context.getInputParameters().get(LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class);
+    if (landingZoneId != null) {
+      resourcesCache.invalidate(landingZoneId.toString());
+    }
+    return HookAction.CONTINUE;
+  }
+}
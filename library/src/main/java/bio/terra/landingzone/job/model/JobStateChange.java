@@ -0,0 +1,11 @@
+package bio.terra.landingzone.job.model;
+
+/**
+ * State change of a running job: a step of its flight ended, or the whole flight ended.
+ *
+ * @param jobId id of the job
+ * @param stepIndex index of the last step which ran
+ * @param stepName simple class name of the last step which ran
+ * @param completed whether the flight ended, successfully or not
+ */
+public record JobStateChange(String jobId, int stepIndex, String stepName, boolean completed) {}
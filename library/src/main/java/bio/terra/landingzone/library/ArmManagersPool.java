@@ -0,0 +1,88 @@
+package bio.terra.landingzone.library;
+
+import bio.terra.landingzone.common.utils.MetricUtils;
+import bio.terra.landingzone.library.configuration.LandingZoneArmManagersPoolConfiguration;
+import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
+import com.azure.core.management.profile.AzureProfile;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded pool of {@link ArmManagers}. Building the managers creates eight http pipelines, so a set
+ * of managers is built once per tenant, subscription, Azure environment and usage attribute and
+ * shared by all requests and flights targeting it. Managers which are not used for a while are
+ * evicted.
+ */
+@Component
+public class ArmManagersPool {
+  private static final Logger logger = LoggerFactory.getLogger(ArmManagersPool.class);
+  private static final String CACHE_NAME = "landingzone.arm.managers";
+
+  private final AzureCredentialsProvider azureCredentialsProvider;
+  private final AzureHttpClientProvider azureHttpClientProvider;
+  private final Cache<PoolKey, ArmManagers> pool;
+
+  @Autowired
+  public ArmManagersPool(
+      AzureCredentialsProvider azureCredentialsProvider,
+      AzureHttpClientProvider azureHttpClientProvider,
+      LandingZoneArmManagersPoolConfiguration configuration) {
+    this.azureCredentialsProvider = azureCredentialsProvider;
+    this.azureHttpClientProvider = azureHttpClientProvider;
+    this.pool =
+        CacheBuilder.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfterAccess(configuration.getExpireAfterAccess())
+            .recordStats()
+            .build();
+    MetricUtils.monitorCache(pool, CACHE_NAME);
+  }
+
+  /**
+   * Returns the ARM managers for a subscription, building them on first use.
+   *
+   * @param profile azure profile of the subscription.
+   * @param azureCustomerUsageAttribute customer usage attribute added to the user agent.
+   * @return ARM managers.
+   */
+  public ArmManagers get(AzureProfile profile, String azureCustomerUsageAttribute) {
+    var key =
+        new PoolKey(
+            profile.getTenantId(),
+            profile.getSubscriptionId(),
+            profile.getEnvironment().getResourceManagerEndpoint(),
+            azureCustomerUsageAttribute);
+    try {
+      return pool.get(
+          key,
+          () -> {
+            logger.info(
+                "Creating ARM managers. tenant:{} subscription:{}",
+                key.tenantId(),
+                key.subscriptionId());
+            return LandingZoneManager.createArmManagers(
+                azureCredentialsProvider.getTokenCredential(),
+                profile,
+                azureCustomerUsageAttribute,
+                azureHttpClientProvider.getHttpClient());
+          });
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to create ARM managers", e.getCause());
+    }
+  }
+
+  private record PoolKey(
+      String tenantId, String subscriptionId, String environment, String usageAttribute) {}
+}
@@ -4,7 +4,9 @@ import bio.terra.landingzone.library.configuration.LandingZoneAzureConfiguration
 import com.azure.core.credential.TokenCredential;
 import com.azure.identity.ClientSecretCredentialBuilder;
 import com.azure.identity.DefaultAzureCredentialBuilder;
+import com.google.common.base.Suppliers;
 import java.util.Objects;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -16,19 +18,29 @@ import org.springframework.stereotype.Component;
  * credentials needed by DefaultAzureCredentialsBuilder in CI scenarios where landing zones are
  * involved.
  *
+ * <p>A single credential is built per provider and wrapped in a {@link CachingTokenCredential}, so
+ * access tokens are shared by all callers and refreshed before they expire.
+ *
  * <p>This class should be removed upon full de-amalgamation from WSM.
  */
 @Component
 public class AzureCredentialsProvider {
 
   private final LandingZoneAzureConfiguration azureConfiguration;
+  private final Supplier<TokenCredential> tokenCredential;
 
   @Autowired
   public AzureCredentialsProvider(LandingZoneAzureConfiguration azureConfiguration) {
     this.azureConfiguration = azureConfiguration;
+    this.tokenCredential =
+        Suppliers.memoize(() -> new CachingTokenCredential(buildTokenCredential()));
   }
 
   public TokenCredential getTokenCredential() {
+    return tokenCredential.get();
+  }
+
+  private TokenCredential buildTokenCredential() {
     if (Objects.nonNull(azureConfiguration.getManagedAppTenantId())
         && Objects.nonNull(azureConfiguration.getManagedAppClientSecret())
         && Objects.nonNull(azureConfiguration.getManagedAppClientId())) {
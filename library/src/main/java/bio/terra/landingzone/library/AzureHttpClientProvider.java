@@ -0,0 +1,74 @@
+package bio.terra.landingzone.library;
+
+import bio.terra.landingzone.library.configuration.LandingZoneAzureHttpClientConfiguration;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.netty.NettyAsyncHttpClientBuilder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Provides the http client shared by all ARM managers, so that requests to the management
+ * endpoint reuse a single connection pool instead of one pool per manager.
+ *
+ * <p>Connection pool metrics (active, idle and pending connections) are published to the global
+ * Micrometer registry under the "reactor.netty.connection.provider" prefix, tagged with the pool
+ * name "landingzone-arm".
+ */
+@Component
+public class AzureHttpClientProvider {
+  private static final Logger logger = LoggerFactory.getLogger(AzureHttpClientProvider.class);
+  private static final String POOL_NAME = "landingzone-arm";
+
+  private final ConnectionProvider connectionProvider;
+  // null when the Netty default event loop is used
+  private final LoopResources loopResources;
+  private final HttpClient httpClient;
+
+  @Autowired
+  public AzureHttpClientProvider(LandingZoneAzureHttpClientConfiguration configuration) {
+    this.connectionProvider =
+        ConnectionProvider.builder(POOL_NAME)
+            .maxConnections(configuration.getMaxConnections())
+            .pendingAcquireTimeout(configuration.getPendingAcquireTimeout())
+            .maxIdleTime(configuration.getMaxIdleTime())
+            .metrics(true)
+            .build();
+    this.loopResources =
+        configuration.getEventLoopThreads() > 0
+            ? LoopResources.create(POOL_NAME, configuration.getEventLoopThreads(), true)
+            : null;
+
+    var nettyHttpClient =
+        reactor.netty.http.client.HttpClient.create(connectionProvider)
+            .keepAlive(configuration.isKeepAlive());
+    if (loopResources != null) {
+      nettyHttpClient = nettyHttpClient.runOn(loopResources);
+    }
+    if (configuration.isHttp2Enabled()) {
+      nettyHttpClient = nettyHttpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+    }
+    this.httpClient = new NettyAsyncHttpClientBuilder(nettyHttpClient).build();
+    logger.info(
+        "Created shared Azure http client. maxConnections:{} http2Enabled:{}",
+        configuration.getMaxConnections(),
+        configuration.isHttp2Enabled());
+  }
+
+  public HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    connectionProvider.dispose();
+    if (loopResources != null) {
+      loopResources.dispose();
+    }
+  }
+}
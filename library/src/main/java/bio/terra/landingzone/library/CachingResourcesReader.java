@@ -0,0 +1,79 @@
+package bio.terra.landingzone.library;
+
+import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
+import bio.terra.landingzone.library.landingzones.deployment.DeployedSubnet;
+import bio.terra.landingzone.library.landingzones.deployment.DeployedVNet;
+import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
+import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import bio.terra.landingzone.library.landingzones.management.ResourcesReader;
+import java.util.List;
+
+/** {@link ResourcesReader} which serves listings from {@link LandingZoneResourcesCache}. */
+class CachingResourcesReader implements ResourcesReader {
+  private final ResourcesReader delegate;
+  private final LandingZoneResourcesCache cache;
+  private final boolean bypassCache;
+
+  CachingResourcesReader(
+      ResourcesReader delegate, LandingZoneResourcesCache cache, boolean bypassCache) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.bypassCache = bypassCache;
+  }
+
+  @Override
+  public List<DeployedResource> listSharedResources(String landingZoneId) {
+    return cache.get(
+        landingZoneId, "shared", bypassCache, () -> delegate.listSharedResources(landingZoneId));
+  }
+
+  @Override
+  public List<DeployedResource> listResourcesByPurpose(
+      String landingZoneId, ResourcePurpose purpose) {
+    return cache.get(
+        landingZoneId,
+        "purpose:" + purpose,
+        bypassCache,
+        () -> delegate.listResourcesByPurpose(landingZoneId, purpose));
+  }
+
+  @Override
+  public List<DeployedResource> listResourcesWithPurpose(String landingZoneId) {
+    return cache.get(
+        landingZoneId,
+        "withPurpose",
+        bypassCache,
+        () -> delegate.listResourcesWithPurpose(landingZoneId));
+  }
+
+  @Override
+  public List<DeployedVNet> listVNetBySubnetPurpose(
+      String landingZoneId, SubnetResourcePurpose purpose) {
+    return cache.get(
+        landingZoneId,
+        "vnet:" + purpose,
+        bypassCache,
+        () -> delegate.listVNetBySubnetPurpose(landingZoneId, purpose));
+  }
+
+  @Override
+  public List<DeployedResource> listAllResources(String landingZoneId) {
+    return cache.get(
+        landingZoneId, "all", bypassCache, () -> delegate.listAllResources(landingZoneId));
+  }
+
+  @Override
+  public List<DeployedSubnet> listSubnetsBySubnetPurpose(
+      String landingZoneId, SubnetResourcePurpose purpose) {
+    return cache.get(
+        landingZoneId,
+        "subnet:" + purpose,
+        bypassCache,
+        () -> delegate.listSubnetsBySubnetPurpose(landingZoneId, purpose));
+  }
+
+  @Override
+  public int armRequestCount() {
+    return delegate.armRequestCount();
+  }
+}
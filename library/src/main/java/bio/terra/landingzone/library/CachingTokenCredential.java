@@ -0,0 +1,146 @@
+package bio.terra.landingzone.library;
+
+import bio.terra.landingzone.common.utils.MetricUtils;
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.credential.TokenRequestContext;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Token credential which caches access tokens of a delegate credential per scopes and tenant.
+ *
+ * <p>A token is refreshed in the background {@link #REFRESH_BEFORE_EXPIRY} before it expires, so
+ * that callers keep getting a cached token. Only tokens which were used since they were last
+ * acquired are refreshed; tokens of idle scopes are left to expire and are acquired on next use.
+ * Concurrent requests for a token which is not cached share a single acquisition.
+ *
+ * <p>Requests with claims (e.g. continuous access evaluation challenges) always go to the delegate.
+ */
+public class CachingTokenCredential implements TokenCredential {
+  private static final Logger logger = LoggerFactory.getLogger(CachingTokenCredential.class);
+
+  static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofMinutes(5);
+  // cached tokens are not handed out when they are about to expire
+  static final Duration EXPIRY_MARGIN = Duration.ofMinutes(1);
+  private static final Duration MIN_REFRESH_DELAY = Duration.ofSeconds(30);
+
+  private final TokenCredential delegate;
+  private final ScheduledExecutorService refreshExecutor;
+  private final Clock clock;
+  private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+  private final Map<TokenKey, Mono<AccessToken>> acquisitions = new ConcurrentHashMap<>();
+
+  public CachingTokenCredential(TokenCredential delegate) {
+    this(
+        delegate,
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("landingzone-token-refresh-%d")
+                .setDaemon(true)
+                .build()),
+        Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  CachingTokenCredential(
+      TokenCredential delegate, ScheduledExecutorService refreshExecutor, Clock clock) {
+    this.delegate = delegate;
+    this.refreshExecutor = refreshExecutor;
+    this.clock = clock;
+  }
+
+  @Override
+  public Mono<AccessToken> getToken(TokenRequestContext request) {
+    if (request.getClaims() != null) {
+      return delegate.getToken(request);
+    }
+    var key = TokenKey.of(request);
+    var cached = tokens.get(key);
+    if (isUsable(cached)) {
+      MetricUtils.incrementTokenCacheRequest(true);
+      cached.accessed().set(true);
+      return Mono.just(cached.token());
+    }
+    MetricUtils.incrementTokenCacheRequest(false);
+    return acquire(key, request);
+  }
+
+  @Override
+  public AccessToken getTokenSync(TokenRequestContext request) {
+    return getToken(request).block();
+  }
+
+  private Mono<AccessToken> acquire(TokenKey key, TokenRequestContext request) {
+    return acquisitions.computeIfAbsent(
+        key,
+        k ->
+            Mono.defer(
+                    () -> {
+                      long start = System.nanoTime();
+                      return delegate
+                          .getToken(request)
+                          .doOnSuccess(
+                              token -> {
+                                MetricUtils.recordTokenAcquisition(elapsedSince(start), true);
+                                tokens.put(k, new CachedToken(token, new AtomicBoolean()));
+                                scheduleRefresh(k, request, token);
+                              })
+                          .doOnError(
+                              e -> MetricUtils.recordTokenAcquisition(elapsedSince(start), false));
+                    })
+                .doFinally(signal -> acquisitions.remove(k))
+                .cache());
+  }
+
+  private void scheduleRefresh(TokenKey key, TokenRequestContext request, AccessToken token) {
+    var refreshAt = token.getExpiresAt().toInstant().minus(REFRESH_BEFORE_EXPIRY);
+    var delay = Duration.between(clock.instant(), refreshAt);
+    if (delay.compareTo(MIN_REFRESH_DELAY) < 0) {
+      delay = MIN_REFRESH_DELAY;
+    }
+    refreshExecutor.schedule(() -> refresh(key, request), delay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void refresh(TokenKey key, TokenRequestContext request) {
+    var cached = tokens.get(key);
+    if (cached == null || !cached.accessed().get()) {
+      logger.debug("Token was not used since it was acquired, skipping refresh. scopes:{}", key);
+      return;
+    }
+    acquire(key, request)
+        .subscribe(
+            token -> logger.debug("Refreshed token. scopes:{}", key),
+            e -> logger.warn("Failed to refresh token. scopes:{}", key, e));
+  }
+
+  private boolean isUsable(CachedToken cached) {
+    return cached != null
+        && clock.instant().isBefore(cached.token().getExpiresAt().toInstant().minus(EXPIRY_MARGIN));
+  }
+
+  private static Duration elapsedSince(long startNanos) {
+    return Duration.ofNanos(System.nanoTime() - startNanos);
+  }
+
+  private record TokenKey(List<String> scopes, String tenantId) {
+    static TokenKey of(TokenRequestContext request) {
+      return new TokenKey(List.copyOf(request.getScopes()), request.getTenantId());
+    }
+  }
+
+  // accessed is set when the token is served from the cache
+  private record CachedToken(AccessToken token, AtomicBoolean accessed) {}
+}
@@ -0,0 +1,59 @@
+package bio.terra.landingzone.library;
+
+import bio.terra.landingzone.common.utils.MetricUtils;
+import bio.terra.landingzone.library.configuration.LandingZoneDeletePlanConfiguration;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneDeletePlan;
+import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of landing zone delete previews. A deletion started on this instance while a
+ * preview is cached reuses its resource listing, but applies the delete rules to it again: the
+ * verdict of the preview is never reused, as resources may have changed since.
+ */
+@Component
+public class LandingZoneDeletePlanCache {
+  private static final String CACHE_NAME = "landingzone.delete.plans";
+
+  private final Cache<UUID, CachedDeletePlan> cache;
+
+  @Autowired
+  public LandingZoneDeletePlanCache(LandingZoneDeletePlanConfiguration configuration) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(configuration.getCacheMaximumSize())
+            .expireAfterWrite(configuration.getCacheExpireAfterWrite())
+            .recordStats()
+            .build();
+    MetricUtils.monitorCache(cache, CACHE_NAME);
+  }
+
+  public Optional<LandingZoneDeletePlan> get(UUID landingZoneId) {
+    return Optional.ofNullable(cache.getIfPresent(landingZoneId)).map(CachedDeletePlan::plan);
+  }
+
+  public void put(
+      UUID landingZoneId, List<ResourceToDelete> resources, LandingZoneDeletePlan plan) {
+    cache.put(landingZoneId, new CachedDeletePlan(resources, plan));
+  }
+
+  /**
+   * Removes the preview of a landing zone from the cache and returns the resources it listed. A
+   * listing is used by one deletion only.
+   *
+   * @param landingZoneId landing zone id.
+   * @return the resources listed by the cached preview.
+   */
+  public Optional<List<ResourceToDelete>> takeResources(UUID landingZoneId) {
+    return Optional.ofNullable(cache.asMap().remove(landingZoneId))
+        .map(CachedDeletePlan::resources);
+  }
+
+  private record CachedDeletePlan(List<ResourceToDelete> resources, LandingZoneDeletePlan plan) {}
+}
@@ -2,11 +2,14 @@ package bio.terra.landingzone.library;
 
 import bio.terra.landingzone.library.configuration.AzureCustomerUsageConfiguration;
 import bio.terra.landingzone.library.configuration.LandingZoneAzureConfiguration;
+import bio.terra.landingzone.library.configuration.LandingZoneResourcesReaderConfiguration;
 import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
+import bio.terra.landingzone.library.landingzones.management.ResourcesReaderFactory;
 import bio.terra.landingzone.model.LandingZoneTarget;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.management.profile.AzureProfile;
 import com.azure.resourcemanager.AzureResourceManager;
+import java.time.Duration;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -16,24 +19,61 @@ public class LandingZoneManagerProvider {
   private AzureCustomerUsageConfiguration azureCustomerUsageConfiguration;
   private final AzureCredentialsProvider azureCredentialsProvider;
   private final LandingZoneAzureConfiguration azureConfiguration;
+  private final LandingZoneResourcesCache resourcesCache;
+  private final LandingZoneResourcesReaderConfiguration resourcesReaderConfiguration;
+  private final ArmManagersPool armManagersPool;
+  private final AzureHttpClientProvider azureHttpClientProvider;
 
   @Autowired
   public LandingZoneManagerProvider(
       AzureCustomerUsageConfiguration azureCustomerUsageConfiguration,
       AzureCredentialsProvider azureCredentialsProvider,
-      LandingZoneAzureConfiguration azureConfiguration) {
+      LandingZoneAzureConfiguration azureConfiguration,
+      LandingZoneResourcesCache resourcesCache,
+      LandingZoneResourcesReaderConfiguration resourcesReaderConfiguration,
+      ArmManagersPool armManagersPool,
+      AzureHttpClientProvider azureHttpClientProvider) {
     this.azureCustomerUsageConfiguration = azureCustomerUsageConfiguration;
     this.azureCredentialsProvider = azureCredentialsProvider;
     this.azureConfiguration = azureConfiguration;
+    this.resourcesCache = resourcesCache;
+    this.resourcesReaderConfiguration = resourcesReaderConfiguration;
+    this.armManagersPool = armManagersPool;
+    this.azureHttpClientProvider = azureHttpClientProvider;
   }
 
   public LandingZoneManager createLandingZoneManager(LandingZoneTarget landingZoneTarget) {
+    return createLandingZoneManager(landingZoneTarget, false);
+  }
+
+  /**
+   * Creates a landing zone manager whose resource listings are served from the resources cache.
+   *
+   * @param landingZoneTarget landing zone target.
+   * @param bypassResourcesCache when true, listings are read from Azure and the cache is refreshed.
+   * @return landing zone manager.
+   */
+  public LandingZoneManager createLandingZoneManager(
+      LandingZoneTarget landingZoneTarget, boolean bypassResourcesCache) {
     AzureProfile azureProfile = createAzureProfile(landingZoneTarget);
+    ResourcesReaderFactory resourcesReaderFactory = getResourcesReaderFactory();
     return LandingZoneManager.createLandingZoneManager(
-        buildTokenCredential(),
+        armManagersPool.get(azureProfile, azureCustomerUsageConfiguration.getUsageAttribute()),
         azureProfile,
         landingZoneTarget.azureResourceGroupId(),
-        azureCustomerUsageConfiguration.getUsageAttribute());
+        (azureResourceManager, profile, resourceGroupName) ->
+            resourcesCache.decorate(
+                resourcesReaderFactory.create(azureResourceManager, profile, resourceGroupName),
+                bypassResourcesCache));
+  }
+
+  private ResourcesReaderFactory getResourcesReaderFactory() {
+    // managers are created per request, so a listing is only reused by the lookups of a request
+    Duration snapshotTtl = resourcesReaderConfiguration.getSnapshotTtl();
+    return switch (resourcesReaderConfiguration.getBackend()) {
+      case RESOURCE_GRAPH -> ResourcesReaderFactory.resourceGraph(snapshotTtl);
+      case RESOURCE_GROUP -> ResourcesReaderFactory.resourceGroup(snapshotTtl);
+    };
   }
 
   @NotNull
@@ -47,7 +87,9 @@ public class LandingZoneManagerProvider {
   public AzureResourceManager createAzureResourceManagerClient(
       LandingZoneTarget landingZoneTarget) {
     AzureProfile azureProfile = createAzureProfile(landingZoneTarget);
-    return AzureResourceManager.authenticate(buildTokenCredential(), azureProfile)
+    return AzureResourceManager.configure()
+        .withHttpClient(azureHttpClientProvider.getHttpClient())
+        .authenticate(buildTokenCredential(), azureProfile)
         .withSubscription(azureProfile.getSubscriptionId());
   }
 
@@ -0,0 +1,78 @@
+package bio.terra.landingzone.library;
+
+import bio.terra.landingzone.common.utils.MetricUtils;
+import bio.terra.landingzone.library.configuration.LandingZoneResourceQuotaConfiguration;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
+import bio.terra.landingzone.library.landingzones.management.quotas.ResourceQuota;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time expiring cache of landing zone quota snapshots. Quotas (e.g. Batch core quotas) change
+ * rarely and only through support requests, so a snapshot is served from memory until it expires.
+ *
+ * <p>Snapshots are read with a bounded executor shared by all requests, which caps the number of
+ * quota requests sent to Azure at the same time.
+ */
+@Component
+public class LandingZoneResourceQuotaCache {
+  private static final Logger logger = LoggerFactory.getLogger(LandingZoneResourceQuotaCache.class);
+  private static final String CACHE_NAME = "landingzone.resource.quotas";
+
+  private final Cache<String, List<ResourceQuota>> cache;
+  private final ExecutorService executor;
+
+  @Autowired
+  public LandingZoneResourceQuotaCache(LandingZoneResourceQuotaConfiguration configuration) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(configuration.getCacheMaximumSize())
+            .expireAfterWrite(configuration.getCacheExpireAfterWrite())
+            .recordStats()
+            .build();
+    this.executor =
+        Executors.newFixedThreadPool(
+            configuration.getParallelism(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("landingzone-quota-%d")
+                .setDaemon(true)
+                .build());
+    MetricUtils.monitorCache(cache, CACHE_NAME);
+  }
+
+  /**
+   * Returns quota information for all quota-bearing resources of a landing zone.
+   *
+   * @param landingZoneManager manager of the landing zone.
+   * @param landingZoneId landing zone id.
+   * @param bypassCache when true, quotas are read from Azure and the cached snapshot is refreshed.
+   * @return quota information of each quota-bearing resource.
+   */
+  public List<ResourceQuota> getResourceQuotas(
+      LandingZoneManager landingZoneManager, String landingZoneId, boolean bypassCache) {
+    if (!bypassCache) {
+      var cached = cache.getIfPresent(landingZoneId);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    logger.info("Reading resource quotas of landing zone {}", landingZoneId);
+    var quotas = List.copyOf(landingZoneManager.resourceQuotas(landingZoneId, executor));
+    cache.put(landingZoneId, quotas);
+    return quotas;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,98 @@
+package bio.terra.landingzone.library;
+
+import bio.terra.landingzone.common.utils.MetricUtils;
+import bio.terra.landingzone.library.configuration.LandingZoneResourcesCacheConfiguration;
+import bio.terra.landingzone.library.landingzones.management.ResourcesReader;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, time expiring cache of landing zone resource listings. Landing zone contents only
+ * change while a create or delete flight is running, so listings are served from memory between
+ * flights. Entries of a landing zone are invalidated when one of its flights finishes; the expiry
+ * bounds staleness for flights which ran on other instances.
+ *
+ * <p>Each invalidation bumps a generation of the landing zone. A listing loaded while the landing
+ * zone was invalidated may predate the flight, so it isn't kept in the cache.
+ */
+@Component
+public class LandingZoneResourcesCache {
+  private static final Logger logger = LoggerFactory.getLogger(LandingZoneResourcesCache.class);
+  private static final String CACHE_NAME = "landingzone.resources";
+
+  private final LandingZoneResourcesCacheConfiguration configuration;
+  private final Cache<CacheKey, List<?>> cache;
+  private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+  @Autowired
+  public LandingZoneResourcesCache(LandingZoneResourcesCacheConfiguration configuration) {
+    this.configuration = configuration;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfterWrite(configuration.getExpireAfterWrite())
+            .recordStats()
+            .build();
+    MetricUtils.monitorCache(cache, CACHE_NAME);
+  }
+
+  /**
+   * Wraps a reader so that its listings are served from this cache.
+   *
+   * @param resourcesReader reader which lists resources from Azure.
+   * @param bypassCache when true, listings are read live and the cached entries are refreshed.
+   * @return caching reader, or the given reader if caching is disabled.
+   */
+  public ResourcesReader decorate(ResourcesReader resourcesReader, boolean bypassCache) {
+    if (!configuration.isEnabled()) {
+      return resourcesReader;
+    }
+    return new CachingResourcesReader(resourcesReader, this, bypassCache);
+  }
+
+  /**
+   * Removes all cached listings of a landing zone.
+   *
+   * @param landingZoneId landing zone id.
+   */
+  public void invalidate(String landingZoneId) {
+    logger.info("Invalidating cached resources of landing zone {}", landingZoneId);
+    // bump the generation first, so that a load racing with the removal drops its listing
+    generations.merge(landingZoneId, 1L, Long::sum);
+    cache.asMap().keySet().removeIf(k -> k.landingZoneId().equals(landingZoneId));
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> List<T> get(
+      String landingZoneId, String query, boolean bypassCache, Supplier<List<T>> loader) {
+    var key = new CacheKey(landingZoneId, query);
+    if (!bypassCache) {
+      var cached = (List<T>) cache.getIfPresent(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    long generation = generation(landingZoneId);
+    var loaded = List.copyOf(loader.get());
+    cache.put(key, loaded);
+    if (generation(landingZoneId) != generation) {
+      // the landing zone was invalidated while loading, the listing may predate the change
+      cache.asMap().remove(key, loaded);
+    }
+    return loaded;
+  }
+
+  private long generation(String landingZoneId) {
+    return generations.getOrDefault(landingZoneId, 0L);
+  }
+
+  private record CacheKey(String landingZoneId, String query) {}
+}
@@ -0,0 +1,33 @@
+package bio.terra.landingzone.library.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "landingzone.arm-managers-pool")
+public class LandingZoneArmManagersPoolConfiguration {
+  /** Maximum number of pooled sets of ARM managers */
+  private long maximumSize = 100;
+
+  /** Time after which an unused set of ARM managers is evicted */
+  private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+  public long getMaximumSize() {
+    return maximumSize;
+  }
+
+  public void setMaximumSize(long maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  public Duration getExpireAfterAccess() {
+    return expireAfterAccess;
+  }
+
+  public void setExpireAfterAccess(Duration expireAfterAccess) {
+    this.expireAfterAccess = expireAfterAccess;
+  }
+}
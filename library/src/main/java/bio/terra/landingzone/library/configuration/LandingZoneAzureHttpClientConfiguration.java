@@ -0,0 +1,77 @@
+package bio.terra.landingzone.library.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "landingzone.azure-http-client")
+public class LandingZoneAzureHttpClientConfiguration {
+  /** Maximum number of open connections shared by all ARM clients */
+  private int maxConnections = 200;
+
+  /** Maximum time to wait for a connection when all connections are in use */
+  private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+  /** Time after which an idle connection is closed */
+  private Duration maxIdleTime = Duration.ofSeconds(60);
+
+  /** Determines whether connections are kept alive between requests */
+  private boolean keepAlive = true;
+
+  /** Determines whether HTTP/2 is negotiated with hosts which support it */
+  private boolean http2Enabled = false;
+
+  /** Number of event loop threads; 0 uses the Netty default */
+  private int eventLoopThreads = 0;
+
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  public void setMaxConnections(int maxConnections) {
+    this.maxConnections = maxConnections;
+  }
+
+  public Duration getPendingAcquireTimeout() {
+    return pendingAcquireTimeout;
+  }
+
+  public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+    this.pendingAcquireTimeout = pendingAcquireTimeout;
+  }
+
+  public Duration getMaxIdleTime() {
+    return maxIdleTime;
+  }
+
+  public void setMaxIdleTime(Duration maxIdleTime) {
+    this.maxIdleTime = maxIdleTime;
+  }
+
+  public boolean isKeepAlive() {
+    return keepAlive;
+  }
+
+  public void setKeepAlive(boolean keepAlive) {
+    this.keepAlive = keepAlive;
+  }
+
+  public boolean isHttp2Enabled() {
+    return http2Enabled;
+  }
+
+  public void setHttp2Enabled(boolean http2Enabled) {
+    this.http2Enabled = http2Enabled;
+  }
+
+  public int getEventLoopThreads() {
+    return eventLoopThreads;
+  }
+
+  public void setEventLoopThreads(int eventLoopThreads) {
+    this.eventLoopThreads = eventLoopThreads;
+  }
+}
@@ -0,0 +1,33 @@
+package bio.terra.landingzone.library.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "landingzone.delete-plan")
+public class LandingZoneDeletePlanConfiguration {
+  /** Maximum number of landing zones whose delete plans are cached */
+  private long cacheMaximumSize = 1000;
+
+  /** Time after which a cached delete plan expires and its listing can't be reused */
+  private Duration cacheExpireAfterWrite = Duration.ofMinutes(5);
+
+  public long getCacheMaximumSize() {
+    return cacheMaximumSize;
+  }
+
+  public void setCacheMaximumSize(long cacheMaximumSize) {
+    this.cacheMaximumSize = cacheMaximumSize;
+  }
+
+  public Duration getCacheExpireAfterWrite() {
+    return cacheExpireAfterWrite;
+  }
+
+  public void setCacheExpireAfterWrite(Duration cacheExpireAfterWrite) {
+    this.cacheExpireAfterWrite = cacheExpireAfterWrite;
+  }
+}
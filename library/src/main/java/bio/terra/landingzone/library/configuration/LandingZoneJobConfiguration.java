@@ -14,7 +14,10 @@ public class LandingZoneJobConfiguration {
   /** Timeout in seconds */
   private int timeoutSeconds;
 
-  /** Polling interval in seconds */
+  /**
+   * Polling interval in seconds. Waiting for a job ends as soon as its flight ends on this
+   * instance, so the flight state is only polled to detect flights ending on other instances.
+   */
   private int pollingIntervalSeconds;
 
   /** For identifying the application to SAM */
@@ -0,0 +1,45 @@
+package bio.terra.landingzone.library.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "landingzone.job-result-cache")
+public class LandingZoneJobResultCacheConfiguration {
+  /** Determines whether the states and results of completed jobs are cached */
+  private boolean enabled = true;
+
+  /** Maximum total size of cached jobs, estimated from their serialized results */
+  private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+  /** Time after which a cached job which hasn't been read expires */
+  private Duration expireAfterAccess = Duration.ofHours(1);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public DataSize getMaximumSize() {
+    return maximumSize;
+  }
+
+  public void setMaximumSize(DataSize maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  public Duration getExpireAfterAccess() {
+    return expireAfterAccess;
+  }
+
+  public void setExpireAfterAccess(Duration expireAfterAccess) {
+    this.expireAfterAccess = expireAfterAccess;
+  }
+}
@@ -0,0 +1,44 @@
+package bio.terra.landingzone.library.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "landingzone.resource-quota")
+public class LandingZoneResourceQuotaConfiguration {
+  /** Maximum number of quota requests sent to Azure at the same time */
+  private int parallelism = 8;
+
+  /** Maximum number of landing zones whose quota snapshots are cached */
+  private long cacheMaximumSize = 1000;
+
+  /** Time after which a cached quota snapshot expires */
+  private Duration cacheExpireAfterWrite = Duration.ofMinutes(15);
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public long getCacheMaximumSize() {
+    return cacheMaximumSize;
+  }
+
+  public void setCacheMaximumSize(long cacheMaximumSize) {
+    this.cacheMaximumSize = cacheMaximumSize;
+  }
+
+  public Duration getCacheExpireAfterWrite() {
+    return cacheExpireAfterWrite;
+  }
+
+  public void setCacheExpireAfterWrite(Duration cacheExpireAfterWrite) {
+    this.cacheExpireAfterWrite = cacheExpireAfterWrite;
+  }
+}
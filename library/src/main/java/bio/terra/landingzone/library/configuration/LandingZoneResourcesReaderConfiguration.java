@@ -0,0 +1,47 @@
+package bio.terra.landingzone.library.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "landingzone.resources-reader")
+public class LandingZoneResourcesReaderConfiguration {
+  public enum Backend {
+    /** Lists the landing zone resource group and filters resources by tag */
+    RESOURCE_GROUP,
+    /** Queries Azure Resource Graph for the resources of a landing zone; eventually consistent */
+    RESOURCE_GRAPH
+  }
+
+  /**
+   * Backend used to look up landing zone resources. The Resource Graph index lags ARM, so right
+   * after a flight its results can miss new resources; stale results do not fall back to the
+   * resource group listing
+   */
+  private Backend backend = Backend.RESOURCE_GROUP;
+
+  /**
+   * Time a listing of landing zone resources answers further lookups of the same reader, so that
+   * the lookups of one request share a listing
+   */
+  private Duration snapshotTtl = Duration.ofSeconds(5);
+
+  public Backend getBackend() {
+    return backend;
+  }
+
+  public void setBackend(Backend backend) {
+    this.backend = backend;
+  }
+
+  public Duration getSnapshotTtl() {
+    return snapshotTtl;
+  }
+
+  public void setSnapshotTtl(Duration snapshotTtl) {
+    this.snapshotTtl = snapshotTtl;
+  }
+}
@@ -8,14 +8,115 @@ import com.azure.resourcemanager.monitor.MonitorManager;
 import com.azure.resourcemanager.postgresqlflexibleserver.PostgreSqlManager;
 import com.azure.resourcemanager.relay.RelayManager;
 import com.azure.resourcemanager.securityinsights.SecurityInsightsManager;
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 
-/** Record with the ARM clients required for deployments */
-public record ArmManagers(
-    AzureResourceManager azureResourceManager,
-    RelayManager relayManager,
-    BatchManager batchManager,
-    PostgreSqlManager postgreSqlManager,
-    LogAnalyticsManager logAnalyticsManager,
-    MonitorManager monitorManager,
-    ApplicationInsightsManager applicationInsightsManager,
-    SecurityInsightsManager securityInsightsManager) {}
+/**
+ * Holder of the ARM clients required for deployments. Clients created with {@link #lazy} are built
+ * on first access and then reused; concurrent first accesses build a client only once.
+ */
+public class ArmManagers {
+  private final Supplier<AzureResourceManager> azureResourceManager;
+  private final Supplier<RelayManager> relayManager;
+  private final Supplier<BatchManager> batchManager;
+  private final Supplier<PostgreSqlManager> postgreSqlManager;
+  private final Supplier<LogAnalyticsManager> logAnalyticsManager;
+  private final Supplier<MonitorManager> monitorManager;
+  private final Supplier<ApplicationInsightsManager> applicationInsightsManager;
+  private final Supplier<SecurityInsightsManager> securityInsightsManager;
+
+  public ArmManagers(
+      AzureResourceManager azureResourceManager,
+      RelayManager relayManager,
+      BatchManager batchManager,
+      PostgreSqlManager postgreSqlManager,
+      LogAnalyticsManager logAnalyticsManager,
+      MonitorManager monitorManager,
+      ApplicationInsightsManager applicationInsightsManager,
+      SecurityInsightsManager securityInsightsManager) {
+    this.azureResourceManager = Suppliers.ofInstance(azureResourceManager);
+    this.relayManager = Suppliers.ofInstance(relayManager);
+    this.batchManager = Suppliers.ofInstance(batchManager);
+    this.postgreSqlManager = Suppliers.ofInstance(postgreSqlManager);
+    this.logAnalyticsManager = Suppliers.ofInstance(logAnalyticsManager);
+    this.monitorManager = Suppliers.ofInstance(monitorManager);
+    this.applicationInsightsManager = Suppliers.ofInstance(applicationInsightsManager);
+    this.securityInsightsManager = Suppliers.ofInstance(securityInsightsManager);
+  }
+
+  private ArmManagers(
+      Supplier<AzureResourceManager> azureResourceManager,
+      Supplier<RelayManager> relayManager,
+      Supplier<BatchManager> batchManager,
+      Supplier<PostgreSqlManager> postgreSqlManager,
+      Supplier<LogAnalyticsManager> logAnalyticsManager,
+      Supplier<MonitorManager> monitorManager,
+      Supplier<ApplicationInsightsManager> applicationInsightsManager,
+      Supplier<SecurityInsightsManager> securityInsightsManager) {
+    this.azureResourceManager = Suppliers.memoize(azureResourceManager::get);
+    this.relayManager = Suppliers.memoize(relayManager::get);
+    this.batchManager = Suppliers.memoize(batchManager::get);
+    this.postgreSqlManager = Suppliers.memoize(postgreSqlManager::get);
+    this.logAnalyticsManager = Suppliers.memoize(logAnalyticsManager::get);
+    this.monitorManager = Suppliers.memoize(monitorManager::get);
+    this.applicationInsightsManager = Suppliers.memoize(applicationInsightsManager::get);
+    this.securityInsightsManager = Suppliers.memoize(securityInsightsManager::get);
+  }
+
+  /**
+   * Creates a holder which builds each client with the given supplier on first access.
+   *
+   * @return ARM managers.
+   */
+  public static ArmManagers lazy(
+      Supplier<AzureResourceManager> azureResourceManager,
+      Supplier<RelayManager> relayManager,
+      Supplier<BatchManager> batchManager,
+      Supplier<PostgreSqlManager> postgreSqlManager,
+      Supplier<LogAnalyticsManager> logAnalyticsManager,
+      Supplier<MonitorManager> monitorManager,
+      Supplier<ApplicationInsightsManager> applicationInsightsManager,
+      Supplier<SecurityInsightsManager> securityInsightsManager) {
+    return new ArmManagers(
+        azureResourceManager,
+        relayManager,
+        batchManager,
+        postgreSqlManager,
+        logAnalyticsManager,
+        monitorManager,
+        applicationInsightsManager,
+        securityInsightsManager);
+  }
+
+  public AzureResourceManager azureResourceManager() {
+    return azureResourceManager.get();
+  }
+
+  public RelayManager relayManager() {
+    return relayManager.get();
+  }
+
+  public BatchManager batchManager() {
+    return batchManager.get();
+  }
+
+  public PostgreSqlManager postgreSqlManager() {
+    return postgreSqlManager.get();
+  }
+
+  public LogAnalyticsManager logAnalyticsManager() {
+    return logAnalyticsManager.get();
+  }
+
+  public MonitorManager monitorManager() {
+    return monitorManager.get();
+  }
+
+  public ApplicationInsightsManager applicationInsightsManager() {
+    return applicationInsightsManager.get();
+  }
+
+  public SecurityInsightsManager securityInsightsManager() {
+    return securityInsightsManager.get();
+  }
+}
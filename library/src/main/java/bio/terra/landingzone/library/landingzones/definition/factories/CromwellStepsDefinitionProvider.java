@@ -9,6 +9,7 @@ import bio.terra.landingzone.library.landingzones.definition.DefinitionVersion;
 import bio.terra.landingzone.library.landingzones.definition.factories.validation.InputParametersValidationFactory;
 import bio.terra.landingzone.stairway.flight.ParametersResolverProvider;
 import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
+import bio.terra.landingzone.stairway.flight.create.resource.step.AwaitAksStep;
 import bio.terra.landingzone.stairway.flight.create.resource.step.CreateAksCostOptimizationDataCollectionRulesStep;
 import bio.terra.landingzone.stairway.flight.create.resource.step.CreateAksStep;
 import bio.terra.landingzone.stairway.flight.create.resource.step.CreateAppInsightsStep;
@@ -32,6 +33,7 @@ import bio.terra.landingzone.stairway.flight.create.resource.step.GetManagedReso
 import bio.terra.landingzone.stairway.flight.create.resource.step.GetParametersResolver;
 import bio.terra.landingzone.stairway.flight.create.resource.step.KubernetesClientProviderImpl;
 import bio.terra.landingzone.stairway.flight.create.resource.step.ValidateLandingZoneParametersStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.postgres.AwaitPostgresqlDbStep;
 import bio.terra.landingzone.stairway.flight.create.resource.step.postgres.CreatePostgresLogSettingsStep;
 import bio.terra.landingzone.stairway.flight.create.resource.step.postgres.CreatePostgresqlDNSStep;
 import bio.terra.landingzone.stairway.flight.create.resource.step.postgres.CreatePostgresqlDbAdminStep;
@@ -68,68 +70,116 @@ public class CromwellStepsDefinitionProvider implements StepsDefinitionProvider
       ParametersResolverProvider parametersResolverProvider,
       ResourceNameProvider resourceNameProvider,
       LandingZoneProtectedDataConfiguration landingZoneProtectedDataConfiguration) {
+    return getStepGroups(
+            armManagers,
+            parametersResolverProvider,
+            resourceNameProvider,
+            landingZoneProtectedDataConfiguration)
+        .stream()
+        .flatMap(List::stream)
+        .toList();
+  }
+
+  /**
+   * Groups the steps by their dependencies: VNet, then Postgres or AKS, then their settings.
+   * Postgres and AKS are submitted in one step and awaited in another, so that both are
+   * provisioned at once while the steps in between run.
+   */
+  @Override
+  public List<List<Pair<Step, RetryRule>>> getStepGroups(
+      ArmManagers armManagers,
+      ParametersResolverProvider parametersResolverProvider,
+      ResourceNameProvider resourceNameProvider,
+      LandingZoneProtectedDataConfiguration landingZoneProtectedDataConfiguration) {
     return List.of(
-        Pair.of(new GetManagedResourceGroupInfo(armManagers), RetryRules.cloud()),
-        Pair.of(new GetParametersResolver(parametersResolverProvider), RetryRules.shortDatabase()),
-        Pair.of(
-            new ValidateLandingZoneParametersStep(
-                InputParametersValidationFactory.buildValidators(
-                    StepsDefinitionFactoryType.CROMWELL_BASE_DEFINITION_STEPS_PROVIDER_TYPE)),
-            RetryRules.shortExponential()),
-        Pair.of(
-            new CreateNetworkSecurityGroupStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(
-            new CreateBatchNetworkSecurityGroupStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(new CreateVnetStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreateLogAnalyticsWorkspaceStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(new CreatePostgresqlDNSStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreateVirtualNetworkLinkStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(
-            new CreateLandingZoneIdentityStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(new CreatePostgresqlDbStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreatePostgresqlDbAdminStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreateStorageAccountStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(new CreateBatchAccountStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreateStorageAccountCorsRules(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(
-            new CreateLogAnalyticsDataCollectionRulesStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(new CreateAksStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreateLandingZoneFederatedIdentityStep(
-                armManagers, new KubernetesClientProviderImpl()),
-            RetryRules.cloud()),
-        Pair.of(
-            new CreateRelayNamespaceStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreateStorageAuditLogSettingsStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(
-            new CreateBatchLogSettingsStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreatePostgresLogSettingsStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(new CreateAppInsightsStep(armManagers, resourceNameProvider), RetryRules.cloud()),
-        Pair.of(
-            new CreateAksCostOptimizationDataCollectionRulesStep(armManagers, resourceNameProvider),
-            RetryRules.cloud()),
-        Pair.of(
-            new EnableAksContainerLogV2Step(
-                armManagers,
-                new KubernetesClientProviderImpl(),
-                new AksConfigMapFileReaderImpl(EnableAksContainerLogV2Step.CONFIG_MAP_PATH)),
-            RetryRules.cloud()),
-        Pair.of(new EnableAksContainerInsightsStep(armManagers), RetryRules.cloud()));
+        List.of(Pair.of(new GetManagedResourceGroupInfo(armManagers), RetryRules.cloud())),
+        List.of(
+            Pair.of(
+                new GetParametersResolver(parametersResolverProvider), RetryRules.shortDatabase())),
+        List.of(
+            Pair.of(
+                new ValidateLandingZoneParametersStep(
+                    InputParametersValidationFactory.buildValidators(
+                        StepsDefinitionFactoryType.CROMWELL_BASE_DEFINITION_STEPS_PROVIDER_TYPE)),
+                RetryRules.shortExponential())),
+        // resources which don't depend on any other resource
+        List.of(
+            Pair.of(
+                new CreateNetworkSecurityGroupStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateBatchNetworkSecurityGroupStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateLogAnalyticsWorkspaceStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreatePostgresqlDNSStep(armManagers, resourceNameProvider), RetryRules.cloud()),
+            Pair.of(
+                new CreateLandingZoneIdentityStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateStorageAccountStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateBatchAccountStep(armManagers, resourceNameProvider), RetryRules.cloud()),
+            Pair.of(
+                new CreateRelayNamespaceStep(armManagers, resourceNameProvider),
+                RetryRules.cloud())),
+        // the VNet needs the security groups; the other steps need the workspace, the storage
+        // account or the batch account
+        List.of(
+            Pair.of(new CreateVnetStep(armManagers, resourceNameProvider), RetryRules.cloud()),
+            Pair.of(
+                new CreateStorageAccountCorsRules(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateLogAnalyticsDataCollectionRulesStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateStorageAuditLogSettingsStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateBatchLogSettingsStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateAppInsightsStep(armManagers, resourceNameProvider), RetryRules.cloud())),
+        // AKS needs the VNet; its creation is only submitted, the cluster is awaited later
+        List.of(
+            Pair.of(
+                new CreateVirtualNetworkLinkStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(new CreateAksStep(armManagers, resourceNameProvider), RetryRules.cloud())),
+        // the Postgres server needs the linked DNS zone; it is provisioned while AKS is awaited
+        List.of(
+            Pair.of(
+                new CreatePostgresqlDbStep(armManagers, resourceNameProvider), RetryRules.cloud()),
+            Pair.of(new AwaitAksStep(armManagers, resourceNameProvider), RetryRules.cloud())),
+        List.of(
+            Pair.of(
+                new AwaitPostgresqlDbStep(armManagers, resourceNameProvider), RetryRules.cloud()),
+            Pair.of(
+                new CreateLandingZoneFederatedIdentityStep(
+                    armManagers, new KubernetesClientProviderImpl()),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateAksCostOptimizationDataCollectionRulesStep(
+                    armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new EnableAksContainerLogV2Step(
+                    armManagers,
+                    new KubernetesClientProviderImpl(),
+                    new AksConfigMapFileReaderImpl(EnableAksContainerLogV2Step.CONFIG_MAP_PATH)),
+                RetryRules.cloud())),
+        List.of(
+            Pair.of(
+                new CreatePostgresqlDbAdminStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreatePostgresLogSettingsStep(armManagers, resourceNameProvider),
+                RetryRules.cloud()),
+            // updates the AKS cluster itself, so it doesn't run next to other AKS changes
+            Pair.of(new EnableAksContainerInsightsStep(armManagers), RetryRules.cloud())));
   }
 }
@@ -43,53 +43,51 @@ public class ProtectedDataStepsDefinitionProvider extends CromwellStepsDefinitio
   }
 
   @Override
-  public List<Pair<Step, RetryRule>> get(
+  public List<List<Pair<Step, RetryRule>>> getStepGroups(
       ArmManagers armManagers,
       ParametersResolverProvider parametersResolverProvider,
       ResourceNameProvider resourceNameProvider,
       LandingZoneProtectedDataConfiguration landingZoneProtectedDataConfiguration) {
     // inherit all cromwell steps and define specific below
-    var protectedDataSteps =
+    var protectedDataStepGroups =
         new ArrayList<>(
-            super.get(
+            super.getStepGroups(
                 armManagers,
                 parametersResolverProvider,
                 resourceNameProvider,
                 landingZoneProtectedDataConfiguration));
 
-    protectedDataSteps.add(
-        Pair.of(
-            new ConnectLongTermLogStorageStep(
-                armManagers,
-                resourceNameProvider,
-                new ProtectedDataAzureStorageHelper(armManagers),
-                landingZoneProtectedDataConfiguration.getLongTermStorageTableNames(),
-                landingZoneProtectedDataConfiguration.getLongTermStorageAccountIds()),
-            RetryRules.cloud()));
-
-    protectedDataSteps.add(
-        Pair.of(new CreateSentinelStep(armManagers, resourceNameProvider), RetryRules.cloud()));
+    protectedDataStepGroups.add(
+        List.of(
+            Pair.of(
+                new ConnectLongTermLogStorageStep(
+                    armManagers,
+                    resourceNameProvider,
+                    new ProtectedDataAzureStorageHelper(armManagers),
+                    landingZoneProtectedDataConfiguration.getLongTermStorageTableNames(),
+                    landingZoneProtectedDataConfiguration.getLongTermStorageAccountIds()),
+                RetryRules.cloud()),
+            Pair.of(new CreateSentinelStep(armManagers, resourceNameProvider), RetryRules.cloud()),
+            Pair.of(
+                new CreateAksLogSettingsStep(
+                    armManagers, resourceNameProvider, landingZoneProtectedDataConfiguration),
+                RetryRules.cloud())));
 
-    protectedDataSteps.add(
-        Pair.of(
-            new CreateSentinelRunPlaybookAutomationRule(
-                armManagers, resourceNameProvider, landingZoneProtectedDataConfiguration),
-            RetryRules.cloud()));
-
-    protectedDataSteps.add(
-        Pair.of(
-            new CreateSentinelAlertRulesStep(
-                armManagers,
-                resourceNameProvider,
-                new AlertRulesHelper(armManagers.securityInsightsManager()),
-                landingZoneProtectedDataConfiguration),
-            RetryRules.cloudLongRunning()));
-    protectedDataSteps.add(
-        Pair.of(
-            new CreateAksLogSettingsStep(
-                armManagers, resourceNameProvider, landingZoneProtectedDataConfiguration),
-            RetryRules.cloud()));
+    // the automation and alert rules need Sentinel
+    protectedDataStepGroups.add(
+        List.of(
+            Pair.of(
+                new CreateSentinelRunPlaybookAutomationRule(
+                    armManagers, resourceNameProvider, landingZoneProtectedDataConfiguration),
+                RetryRules.cloud()),
+            Pair.of(
+                new CreateSentinelAlertRulesStep(
+                    armManagers,
+                    resourceNameProvider,
+                    new AlertRulesHelper(armManagers.securityInsightsManager()),
+                    landingZoneProtectedDataConfiguration),
+                RetryRules.cloudLongRunning())));
 
-    return protectedDataSteps;
+    return protectedDataStepGroups;
   }
 }
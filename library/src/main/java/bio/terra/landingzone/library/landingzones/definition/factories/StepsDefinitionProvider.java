@@ -54,4 +54,33 @@ public interface StepsDefinitionProvider {
       ParametersResolverProvider parametersResolverProvider,
       ResourceNameProvider resourceNameProvider,
       LandingZoneProtectedDataConfiguration landingZoneProtectedDataConfiguration);
+
+  /**
+   * Returns the steps of {@link #get} arranged in groups, in list order. Steps of the same group
+   * don't depend on each other; the flight still runs them one by one, in the order of {@link
+   * #get}. Long-running resources overlap with other steps by splitting their creation into a
+   * step which submits it and a later step which awaits it. By default, every step is a group of
+   * its own. Groups have to respect the working map dependencies declared by the steps, which the
+   * unit tests of the definitions check.
+   *
+   * @param ArmManagers armManagers
+   * @param ParametersResolverProvider parametersResolverProvider
+   * @param ResourceNameProvider resourceNameProvider
+   * @param LandingZoneProtectedDataConfiguration landingZoneProtectedDataConfiguration
+   * @return List of groups of pairs of steps and step's retry rule
+   */
+  default List<List<Pair<Step, RetryRule>>> getStepGroups(
+      ArmManagers armManagers,
+      ParametersResolverProvider parametersResolverProvider,
+      ResourceNameProvider resourceNameProvider,
+      LandingZoneProtectedDataConfiguration landingZoneProtectedDataConfiguration) {
+    return get(
+            armManagers,
+            parametersResolverProvider,
+            resourceNameProvider,
+            landingZoneProtectedDataConfiguration)
+        .stream()
+        .map(List::of)
+        .toList();
+  }
 }
@@ -0,0 +1,12 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+/**
+ * A delete rule which doesn't allow deleting a landing zone resource in its current state.
+ *
+ * @param resourceId id of the resource which can't be deleted.
+ * @param ruleName name of the rule.
+ * @param reason why the resource can't be deleted.
+ * @param resourceType type of the resource.
+ */
+public record DeleteRuleViolation(
+    String resourceId, String ruleName, String reason, String resourceType) {}
@@ -1,25 +1,56 @@
 package bio.terra.landingzone.library.landingzones.management;
 
+import bio.terra.landingzone.common.utils.MetricUtils;
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.library.landingzones.management.deleterules.AKSAgentPoolHasMoreThanOneNode;
 import bio.terra.landingzone.library.landingzones.management.deleterules.AzureRelayHasHybridConnections;
 import bio.terra.landingzone.library.landingzones.management.deleterules.BatchAccountHasNodePools;
 import bio.terra.landingzone.library.landingzones.management.deleterules.DeleteRule;
+import bio.terra.landingzone.library.landingzones.management.deleterules.DeleteRuleContext;
 import bio.terra.landingzone.library.landingzones.management.deleterules.LandingZoneRuleDeleteException;
 import bio.terra.landingzone.library.landingzones.management.deleterules.PostgreSQLServerHasDBs;
 import bio.terra.landingzone.library.landingzones.management.deleterules.StorageAccountHasContainers;
 import bio.terra.landingzone.library.landingzones.management.deleterules.VmsAreAttachedToVnet;
+import com.azure.core.util.logging.ClientLogger;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 
-/** Contains and applies a list of rules to a resource to confirm if it can be deleted. */
+/**
+ * Contains and applies a list of rules to a resource to confirm if it can be deleted.
+ *
+ * <p>The rules of a verification are evaluated concurrently and share a {@link DeleteRuleContext},
+ * so that Azure state needed by several resources is looked up once.
+ */
 public class DeleteRulesVerifier {
+  /** Maximum number of rules which are evaluated at the same time. */
+  public static final int DEFAULT_RULE_PARALLELISM = 8;
+
+  private static final ClientLogger logger = new ClientLogger(DeleteRulesVerifier.class);
+
   private final List<DeleteRule> deleteRules;
 
+  private final int ruleParallelism;
+
   public DeleteRulesVerifier(List<DeleteRule> deleteRules) {
+    this(deleteRules, DEFAULT_RULE_PARALLELISM);
+  }
+
+  public DeleteRulesVerifier(List<DeleteRule> deleteRules, int ruleParallelism) {
+    if (ruleParallelism < 1) {
+      throw logger.logExceptionAsError(
+          new IllegalArgumentException("Rule parallelism must be at least 1"));
+    }
     this.deleteRules = deleteRules;
+    this.ruleParallelism = ruleParallelism;
   }
 
   public DeleteRulesVerifier(ArmManagers armManagers) {
@@ -35,18 +66,13 @@ public class DeleteRulesVerifier {
 
   public void checkIfRulesAllowDelete(List<ResourceToDelete> landingZoneResources)
       throws LandingZoneRuleDeleteException {
-    if (deleteRules == null) {
-      return;
-    }
     String rulesResultsMessage =
-        landingZoneResources.stream()
-            .flatMap(this::applyRulesToResource)
-            .filter(r -> !r.isDeletable())
+        findViolations(landingZoneResources).stream()
             .map(
-                r ->
+                v ->
                     String.format(
                         "rule:%s reason:%s resourceType:%s",
-                        r.ruleName(), r.reason(), r.resourceType()))
+                        v.ruleName(), v.reason(), v.resourceType()))
             .collect(Collectors.joining(", "));
 
     if (!StringUtils.isEmpty(rulesResultsMessage)) {
@@ -55,10 +81,90 @@ public class DeleteRulesVerifier {
     }
   }
 
+  /**
+   * Applies the rules to the resources without failing on the rules which don't allow deleting
+   * them.
+   *
+   * @param landingZoneResources resources to delete.
+   * @return the rules which don't allow deleting a resource, in the order of the resources.
+   */
+  public List<DeleteRuleViolation> findViolations(List<ResourceToDelete> landingZoneResources) {
+    if (deleteRules == null || deleteRules.isEmpty() || landingZoneResources.isEmpty()) {
+      return List.of();
+    }
+    List<DeleteRuleResult> results = applyRules(landingZoneResources);
+    List<DeleteRuleViolation> violations = new ArrayList<>();
+    for (int i = 0; i < results.size(); i++) {
+      DeleteRuleResult result = results.get(i);
+      if (!result.isDeletable()) {
+        // results are ordered by resource, then by rule
+        var resource = landingZoneResources.get(i / deleteRules.size()).resource();
+        violations.add(
+            new DeleteRuleViolation(
+                resource.id(), result.ruleName(), result.reason(), result.resourceType()));
+      }
+    }
+    return violations;
+  }
+
   public Stream<DeleteRuleResult> applyRulesToResource(ResourceToDelete resourceToDelete) {
     if (deleteRules == null || deleteRules.isEmpty()) {
       return Stream.empty();
     }
     return deleteRules.stream().map(r -> r.applyRule(resourceToDelete));
   }
+
+  /**
+   * Applies every rule to every resource concurrently. Results are returned in the order of the
+   * resources and rules.
+   */
+  private List<DeleteRuleResult> applyRules(List<ResourceToDelete> landingZoneResources) {
+    var context = new DeleteRuleContext();
+    int evaluations = landingZoneResources.size() * deleteRules.size();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(ruleParallelism, evaluations),
+            new ThreadFactoryBuilder()
+                .setNameFormat("landingzone-delete-rule-%d")
+                .setDaemon(true)
+                .build());
+    try {
+      List<CompletableFuture<DeleteRuleResult>> results =
+          landingZoneResources.stream()
+              .flatMap(
+                  resource ->
+                      deleteRules.stream()
+                          .map(
+                              rule ->
+                                  CompletableFuture.supplyAsync(
+                                      () -> applyRule(rule, resource, context), executor)))
+              .toList();
+      // wait for every rule, so that none is left running if one of them fails
+      CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+          .exceptionally(e -> null)
+          .join();
+      return results.stream().map(CompletableFuture::join).toList();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private DeleteRuleResult applyRule(
+      DeleteRule rule, ResourceToDelete resource, DeleteRuleContext context) {
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      DeleteRuleResult result = rule.applyRule(resource, context);
+      success = true;
+      return result;
+    } finally {
+      MetricUtils.recordDeleteRuleDuration(
+          rule.getClass().getSimpleName(), Duration.ofNanos(System.nanoTime() - start), success);
+    }
+  }
 }
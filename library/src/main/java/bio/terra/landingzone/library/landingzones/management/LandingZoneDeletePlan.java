@@ -0,0 +1,19 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import java.util.List;
+
+/**
+ * Preview of a landing zone deletion: the resources which would be deleted and the delete rules
+ * which don't allow deleting them.
+ *
+ * @param resources resources to delete, in delete order.
+ * @param violations delete rules the resources don't satisfy. The landing zone can only be deleted
+ *     when there are none.
+ */
+public record LandingZoneDeletePlan(
+    List<PlannedResourceDelete> resources, List<DeleteRuleViolation> violations) {
+
+  public boolean isDeletable() {
+    return violations.isEmpty();
+  }
+}
@@ -7,6 +7,7 @@ import bio.terra.landingzone.library.landingzones.management.deleterules.Landing
 import bio.terra.landingzone.library.landingzones.management.quotas.QuotaProvider;
 import bio.terra.landingzone.library.landingzones.management.quotas.ResourceQuota;
 import com.azure.core.credential.TokenCredential;
+import com.azure.core.http.HttpClient;
 import com.azure.core.http.policy.UserAgentPolicy;
 import com.azure.core.management.Region;
 import com.azure.core.management.profile.AzureProfile;
@@ -21,9 +22,15 @@ import com.azure.resourcemanager.relay.RelayManager;
 import com.azure.resourcemanager.resources.fluentcore.arm.models.HasId;
 import com.azure.resourcemanager.resources.models.ResourceGroup;
 import com.azure.resourcemanager.securityinsights.SecurityInsightsManager;
+import com.google.common.base.Suppliers;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -31,21 +38,39 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class LandingZoneManager {
   private static final ClientLogger logger = new ClientLogger(LandingZoneManager.class);
-  private final ResourceGroup resourceGroup;
+  private final String resourceGroupName;
+  // only needed to answer region questions, so it is read from ARM on first use
+  private final Supplier<ResourceGroup> resourceGroup;
   private final ResourcesReader resourcesReader;
-  private final QuotaProvider quotaProvider;
+  private final Supplier<QuotaProvider> quotaProvider;
 
-  private final ResourcesDeleteManager resourcesDeleteManager;
+  private final Supplier<ResourcesDeleteManager> resourcesDeleteManager;
 
   LandingZoneManager(
       ResourceGroup resourceGroup,
       ResourcesReader resourcesReader,
       QuotaProvider quotaProvider,
       ResourcesDeleteManager resourcesDeleteManager) {
-    this.resourceGroup = resourceGroup;
+    this(
+        resourceGroup.name(),
+        Suppliers.ofInstance(resourceGroup),
+        resourcesReader,
+        Suppliers.ofInstance(quotaProvider),
+        Suppliers.ofInstance(resourcesDeleteManager));
+  }
+
+  // quota and delete collaborators are only needed by some operations and are created on demand
+  private LandingZoneManager(
+      String resourceGroupName,
+      Supplier<ResourceGroup> resourceGroup,
+      ResourcesReader resourcesReader,
+      Supplier<QuotaProvider> quotaProvider,
+      Supplier<ResourcesDeleteManager> resourcesDeleteManager) {
+    this.resourceGroupName = resourceGroupName;
+    this.resourceGroup = Suppliers.memoize(resourceGroup::get);
     this.resourcesReader = resourcesReader;
-    this.quotaProvider = quotaProvider;
-    this.resourcesDeleteManager = resourcesDeleteManager;
+    this.quotaProvider = Suppliers.memoize(quotaProvider::get);
+    this.resourcesDeleteManager = Suppliers.memoize(resourcesDeleteManager::get);
   }
 
   public static LandingZoneManager createLandingZoneManager(
@@ -53,81 +78,151 @@ public class LandingZoneManager {
       AzureProfile profile,
       String resourceGroupName,
       String azureCustomerUsageAttribute) {
+    return createLandingZoneManager(
+        credential,
+        profile,
+        resourceGroupName,
+        azureCustomerUsageAttribute,
+        ResourcesReaderFactory.RESOURCE_GROUP);
+  }
+
+  /**
+   * Creates a landing zone manager whose resources reader is created by the given factory, e.g.
+   * to select the lookup backend or to serve listings from a cache.
+   */
+  public static LandingZoneManager createLandingZoneManager(
+      TokenCredential credential,
+      AzureProfile profile,
+      String resourceGroupName,
+      String azureCustomerUsageAttribute,
+      ResourcesReaderFactory resourcesReaderFactory) {
 
     Objects.requireNonNull(credential, "credential can't be null");
     Objects.requireNonNull(profile, "profile can't be null");
+
+    return createLandingZoneManager(
+        createArmManagers(credential, profile, azureCustomerUsageAttribute),
+        profile,
+        resourceGroupName,
+        resourcesReaderFactory);
+  }
+
+  /**
+   * Creates a landing zone manager on top of existing, possibly shared, ARM managers.
+   *
+   * @param armManagers ARM managers of the landing zone subscription.
+   * @param profile azure profile of the landing zone subscription.
+   * @param resourceGroupName landing zone resource group.
+   * @param resourcesReaderFactory factory of the resources reader.
+   * @return landing zone manager.
+   */
+  public static LandingZoneManager createLandingZoneManager(
+      ArmManagers armManagers,
+      AzureProfile profile,
+      String resourceGroupName,
+      ResourcesReaderFactory resourcesReaderFactory) {
+    Objects.requireNonNull(armManagers, "armManagers can't be null");
+    Objects.requireNonNull(profile, "profile can't be null");
     if (StringUtils.isBlank(resourceGroupName)) {
       throw logger.logExceptionAsError(
           new IllegalArgumentException("Resource group name can't be blank or null"));
     }
 
-    ArmManagers armManagers = createArmManagers(credential, profile, azureCustomerUsageAttribute);
-    ResourceGroup resourceGroup =
-        armManagers.azureResourceManager().resourceGroups().getByName(resourceGroupName);
-    DeleteRulesVerifier deleteRulesVerifier = new DeleteRulesVerifier(armManagers);
+    Supplier<ResourceGroup> resourceGroup =
+        () -> armManagers.azureResourceManager().resourceGroups().getByName(resourceGroupName);
+    Supplier<QuotaProvider> quotaProvider = () -> new QuotaProvider(armManagers);
+    Supplier<ResourcesDeleteManager> resourcesDeleteManager =
+        () -> new ResourcesDeleteManager(armManagers, new DeleteRulesVerifier(armManagers));
     return new LandingZoneManager(
+        resourceGroupName,
         resourceGroup,
-        new ResourcesReaderImpl(armManagers.azureResourceManager(), resourceGroup),
-        new QuotaProvider(armManagers),
-        new ResourcesDeleteManager(armManagers, deleteRulesVerifier));
+        resourcesReaderFactory.create(
+            armManagers.azureResourceManager(), profile, resourceGroupName),
+        quotaProvider,
+        resourcesDeleteManager);
   }
 
   public static ArmManagers createArmManagers(
       TokenCredential credential, AzureProfile profile, String azureCustomerUsageAttribute) {
+    return createArmManagers(credential, profile, azureCustomerUsageAttribute, null);
+  }
+
+  /**
+   * Creates ARM managers which send requests through the given http client. Sharing one client
+   * between managers lets them share its connection pool.
+   *
+   * @param credential credential used to authenticate requests.
+   * @param profile azure profile of the subscription.
+   * @param azureCustomerUsageAttribute customer usage attribute added to the user agent.
+   * @param httpClient shared http client, or null to let each manager create its own.
+   * @return ARM managers.
+   */
+  public static ArmManagers createArmManagers(
+      TokenCredential credential,
+      AzureProfile profile,
+      String azureCustomerUsageAttribute,
+      HttpClient httpClient) {
     final Optional<UserAgentPolicy> resourceUsagePolicy =
         getUserAgentPolicy(azureCustomerUsageAttribute);
-    AzureResourceManager.Configurable azureResourceManagerConfigurable =
-        AzureResourceManager.configure();
-    resourceUsagePolicy.ifPresent(azureResourceManagerConfigurable::withPolicy);
-    AzureResourceManager azureResourceManager =
-        azureResourceManagerConfigurable
-            .authenticate(credential, profile)
-            .withSubscription(profile.getSubscriptionId());
-
-    RelayManager.Configurable relayManagerConfigurable = RelayManager.configure();
-    resourceUsagePolicy.ifPresent(relayManagerConfigurable::withPolicy);
-    RelayManager relayManager = relayManagerConfigurable.authenticate(credential, profile);
-
-    BatchManager.Configurable batchManagerConfigurable = BatchManager.configure();
-    resourceUsagePolicy.ifPresent(batchManagerConfigurable::withPolicy);
-    BatchManager batchManager = batchManagerConfigurable.authenticate(credential, profile);
-
-    PostgreSqlManager.Configurable postgreSqlManagerConfigurable = PostgreSqlManager.configure();
-    resourceUsagePolicy.ifPresent(postgreSqlManagerConfigurable::withPolicy);
-    PostgreSqlManager postgreSqlManager =
-        postgreSqlManagerConfigurable.authenticate(credential, profile);
-
-    LogAnalyticsManager.Configurable logAnalyticsManagerConfigurable =
-        LogAnalyticsManager.configure();
-    resourceUsagePolicy.ifPresent(logAnalyticsManagerConfigurable::withPolicy);
-    LogAnalyticsManager logAnalyticsManager =
-        logAnalyticsManagerConfigurable.authenticate(credential, profile);
-
-    MonitorManager.Configurable monitorManagerConfigurable = MonitorManager.configure();
-    resourceUsagePolicy.ifPresent(monitorManagerConfigurable::withPolicy);
-    MonitorManager monitorManager = monitorManagerConfigurable.authenticate(credential, profile);
-
-    ApplicationInsightsManager.Configurable applicationInsightsManagerConfigurable =
-        ApplicationInsightsManager.configure();
-    resourceUsagePolicy.ifPresent(applicationInsightsManagerConfigurable::withPolicy);
-    ApplicationInsightsManager applicationInsightsManager =
-        applicationInsightsManagerConfigurable.authenticate(credential, profile);
-
-    SecurityInsightsManager.Configurable securityInsightsManagerConfigurable =
-        SecurityInsightsManager.configure();
-    resourceUsagePolicy.ifPresent(securityInsightsManagerConfigurable::withPolicy);
-    SecurityInsightsManager securityInsightsManager =
-        securityInsightsManagerConfigurable.authenticate(credential, profile);
-
-    return new ArmManagers(
-        azureResourceManager,
-        relayManager,
-        batchManager,
-        postgreSqlManager,
-        logAnalyticsManager,
-        monitorManager,
-        applicationInsightsManager,
-        securityInsightsManager);
+    final Optional<HttpClient> sharedHttpClient = Optional.ofNullable(httpClient);
+
+    // managers are built on first use, so callers only pay for the services they touch
+    return ArmManagers.lazy(
+        () -> {
+          AzureResourceManager.Configurable azureResourceManagerConfigurable =
+              AzureResourceManager.configure();
+          resourceUsagePolicy.ifPresent(azureResourceManagerConfigurable::withPolicy);
+          sharedHttpClient.ifPresent(azureResourceManagerConfigurable::withHttpClient);
+          return azureResourceManagerConfigurable
+              .authenticate(credential, profile)
+              .withSubscription(profile.getSubscriptionId());
+        },
+        () -> {
+          RelayManager.Configurable relayManagerConfigurable = RelayManager.configure();
+          resourceUsagePolicy.ifPresent(relayManagerConfigurable::withPolicy);
+          sharedHttpClient.ifPresent(relayManagerConfigurable::withHttpClient);
+          return relayManagerConfigurable.authenticate(credential, profile);
+        },
+        () -> {
+          BatchManager.Configurable batchManagerConfigurable = BatchManager.configure();
+          resourceUsagePolicy.ifPresent(batchManagerConfigurable::withPolicy);
+          sharedHttpClient.ifPresent(batchManagerConfigurable::withHttpClient);
+          return batchManagerConfigurable.authenticate(credential, profile);
+        },
+        () -> {
+          PostgreSqlManager.Configurable postgreSqlManagerConfigurable =
+              PostgreSqlManager.configure();
+          resourceUsagePolicy.ifPresent(postgreSqlManagerConfigurable::withPolicy);
+          sharedHttpClient.ifPresent(postgreSqlManagerConfigurable::withHttpClient);
+          return postgreSqlManagerConfigurable.authenticate(credential, profile);
+        },
+        () -> {
+          LogAnalyticsManager.Configurable logAnalyticsManagerConfigurable =
+              LogAnalyticsManager.configure();
+          resourceUsagePolicy.ifPresent(logAnalyticsManagerConfigurable::withPolicy);
+          sharedHttpClient.ifPresent(logAnalyticsManagerConfigurable::withHttpClient);
+          return logAnalyticsManagerConfigurable.authenticate(credential, profile);
+        },
+        () -> {
+          MonitorManager.Configurable monitorManagerConfigurable = MonitorManager.configure();
+          resourceUsagePolicy.ifPresent(monitorManagerConfigurable::withPolicy);
+          sharedHttpClient.ifPresent(monitorManagerConfigurable::withHttpClient);
+          return monitorManagerConfigurable.authenticate(credential, profile);
+        },
+        () -> {
+          ApplicationInsightsManager.Configurable applicationInsightsManagerConfigurable =
+              ApplicationInsightsManager.configure();
+          resourceUsagePolicy.ifPresent(applicationInsightsManagerConfigurable::withPolicy);
+          sharedHttpClient.ifPresent(applicationInsightsManagerConfigurable::withHttpClient);
+          return applicationInsightsManagerConfigurable.authenticate(credential, profile);
+        },
+        () -> {
+          SecurityInsightsManager.Configurable securityInsightsManagerConfigurable =
+              SecurityInsightsManager.configure();
+          resourceUsagePolicy.ifPresent(securityInsightsManagerConfigurable::withPolicy);
+          sharedHttpClient.ifPresent(securityInsightsManagerConfigurable::withHttpClient);
+          return securityInsightsManagerConfigurable.authenticate(credential, profile);
+        });
   }
 
   public static List<FactoryDefinitionInfo> listDefinitionFactories() {
@@ -137,12 +232,79 @@ public class LandingZoneManager {
 
   public List<String> deleteResources(String landingZoneId) throws LandingZoneRuleDeleteException {
     return resourcesDeleteManager
-        .deleteLandingZoneResources(landingZoneId, resourceGroup.name())
+        .get()
+        .deleteLandingZoneResources(landingZoneId, resourceGroupName)
         .stream()
         .map(HasId::id)
         .toList();
   }
 
+  /**
+   * Lists the landing zone resources to delete and verifies that the delete rules allow deleting
+   * them.
+   *
+   * @param landingZoneId landing zone id.
+   * @return resources to delete.
+   * @throws LandingZoneRuleDeleteException if at least one resource can't be deleted in its
+   *     current state.
+   */
+  public List<PlannedResourceDelete> planResourcesDelete(String landingZoneId)
+      throws LandingZoneRuleDeleteException {
+    return resourcesDeleteManager
+        .get()
+        .planLandingZoneResourcesDelete(landingZoneId, resourceGroupName);
+  }
+
+  /**
+   * Verifies that the delete rules allow deleting resources listed earlier by {@link
+   * #listResourcesToDelete(String)}. The rules are applied to the current state of the resources.
+   *
+   * @param resourcesToDelete resources to delete.
+   * @return resources to delete.
+   * @throws LandingZoneRuleDeleteException if at least one resource can't be deleted in its
+   *     current state.
+   */
+  public List<PlannedResourceDelete> planResourcesDelete(List<ResourceToDelete> resourcesToDelete)
+      throws LandingZoneRuleDeleteException {
+    return resourcesDeleteManager.get().planLandingZoneResourcesDelete(resourcesToDelete);
+  }
+
+  /**
+   * Lists the landing zone resources to delete without applying the delete rules.
+   *
+   * @param landingZoneId landing zone id.
+   * @return resources to delete.
+   */
+  public List<ResourceToDelete> listResourcesToDelete(String landingZoneId) {
+    return resourcesDeleteManager
+        .get()
+        .listLandingZoneResourcesToDelete(landingZoneId, resourceGroupName);
+  }
+
+  /**
+   * Previews the deletion of resources listed by {@link #listResourcesToDelete(String)} without
+   * deleting anything.
+   *
+   * @param resourcesToDelete resources to delete.
+   * @return resources to delete and the delete rules which don't allow deleting them.
+   */
+  public LandingZoneDeletePlan previewResourcesDelete(List<ResourceToDelete> resourcesToDelete) {
+    return resourcesDeleteManager.get().previewLandingZoneResourcesDelete(resourcesToDelete);
+  }
+
+  /**
+   * Deletes the resources of a plan, skipping those already deleted.
+   *
+   * @param plan resources to delete.
+   * @param deletedResourceIds thread safe set of the ids of resources already deleted; ids of
+   *     resources deleted by this call are added to it.
+   * @return ids of the planned resources.
+   */
+  public List<String> deletePlannedResources(
+      List<PlannedResourceDelete> plan, Set<String> deletedResourceIds) {
+    return resourcesDeleteManager.get().deletePlannedResources(plan, deletedResourceIds);
+  }
+
   /**
    * Returns quota information for a landing zone resource.
    *
@@ -167,15 +329,53 @@ public class LandingZoneManager {
                     new IllegalStateException(
                         "The resource was not found in the landing zone. Please make sure that the landing zone deployment is complete."));
 
-    return quotaProvider.resourceQuota(deployedResource.resourceId());
+    return quotaProvider.get().resourceQuota(deployedResource.resourceId());
+  }
+
+  /**
+   * Returns quota information for all landing zone resources which have quotas. The landing zone is
+   * listed once and quotas of the resources are read in parallel.
+   *
+   * @param landingZoneId landing zone id.
+   * @param executor executor which reads the quotas; its size bounds the parallelism.
+   * @return quota information of each quota-bearing resource.
+   */
+  public List<ResourceQuota> resourceQuotas(String landingZoneId, Executor executor) {
+    if (StringUtils.isBlank(landingZoneId)) {
+      throw new IllegalArgumentException("Landing zone id is required.");
+    }
+
+    var futures =
+        resourcesReader.listAllResources(landingZoneId).stream()
+            .filter(r -> quotaProvider.get().isQuotaSupported(r.resourceType()))
+            .map(
+                r ->
+                    CompletableFuture.supplyAsync(
+                        () -> quotaProvider.get().resourceQuota(r.resourceId()), executor))
+            .toList();
+    try {
+      return futures.stream().map(CompletableFuture::join).toList();
+    } catch (CompletionException e) {
+      futures.forEach(f -> f.cancel(true));
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
   }
 
   public ResourcesReader reader() {
     return resourcesReader;
   }
 
+  /**
+   * Returns the region of the landing zone resource group. The resource group is read from ARM on
+   * the first call; callers which know the region from the landing zone record should prefer it.
+   *
+   * @return landing zone region.
+   */
   public Region getLandingZoneRegion() {
-    return resourceGroup.region();
+    return resourceGroup.get().region();
   }
 
   private static Optional<UserAgentPolicy> getUserAgentPolicy(String azureCustomerUsageAttribute) {
@@ -0,0 +1,134 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
+import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
+import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time index of the landing zone resources in a resource group. The index is built from a
+ * single listing of the resource group and answers all tag based lookups from memory.
+ *
+ * <p>Resources are indexed by landing zone id (WLZ-ID tag), by landing zone purpose (WLZ-PURPOSE
+ * tag) and by subnet purpose (tag key equal to a {@link SubnetResourcePurpose} value). Resources
+ * without a landing zone id are ignored. The listing order of the resource group is preserved.
+ */
+public class LandingZoneResourceSnapshot {
+  private final Map<String, List<DeployedResource>> resourcesByLandingZone;
+  private final Map<String, List<DeployedResource>> resourcesWithPurposeByLandingZone;
+  private final Map<String, Map<String, List<DeployedResource>>> resourcesByPurpose;
+  private final Map<String, Map<SubnetResourcePurpose, List<DeployedResource>>>
+      resourcesBySubnetPurpose;
+
+  private LandingZoneResourceSnapshot(
+      Map<String, List<DeployedResource>> resourcesByLandingZone,
+      Map<String, List<DeployedResource>> resourcesWithPurposeByLandingZone,
+      Map<String, Map<String, List<DeployedResource>>> resourcesByPurpose,
+      Map<String, Map<SubnetResourcePurpose, List<DeployedResource>>> resourcesBySubnetPurpose) {
+    this.resourcesByLandingZone = resourcesByLandingZone;
+    this.resourcesWithPurposeByLandingZone = resourcesWithPurposeByLandingZone;
+    this.resourcesByPurpose = resourcesByPurpose;
+    this.resourcesBySubnetPurpose = resourcesBySubnetPurpose;
+  }
+
+  /**
+   * Builds the index in a single pass over the resources of a resource group.
+   *
+   * @param resources resources of the resource group.
+   * @return snapshot of the landing zone resources.
+   */
+  public static LandingZoneResourceSnapshot fromResources(Collection<DeployedResource> resources) {
+    var landingZoneIdKey = LandingZoneTagKeys.LANDING_ZONE_ID.toString();
+    var purposeKey = LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString();
+
+    Map<String, List<DeployedResource>> byLandingZone = new HashMap<>();
+    Map<String, List<DeployedResource>> withPurposeByLandingZone = new HashMap<>();
+    Map<String, Map<String, List<DeployedResource>>> byPurpose = new HashMap<>();
+    Map<String, Map<SubnetResourcePurpose, List<DeployedResource>>> bySubnetPurpose =
+        new HashMap<>();
+
+    for (DeployedResource resource : resources) {
+      var tags = resource.tags();
+      if (tags == null || tags.get(landingZoneIdKey) == null) {
+        continue;
+      }
+      var landingZoneId = tags.get(landingZoneIdKey);
+      byLandingZone.computeIfAbsent(landingZoneId, k -> new ArrayList<>()).add(resource);
+
+      var purpose = tags.get(purposeKey);
+      if (purpose != null) {
+        withPurposeByLandingZone
+            .computeIfAbsent(landingZoneId, k -> new ArrayList<>())
+            .add(resource);
+        byPurpose
+            .computeIfAbsent(landingZoneId, k -> new HashMap<>())
+            .computeIfAbsent(purpose, k -> new ArrayList<>())
+            .add(resource);
+      }
+
+      for (SubnetResourcePurpose subnetPurpose : SubnetResourcePurpose.values()) {
+        if (tags.containsKey(subnetPurpose.toString())) {
+          bySubnetPurpose
+              .computeIfAbsent(landingZoneId, k -> new EnumMap<>(SubnetResourcePurpose.class))
+              .computeIfAbsent(subnetPurpose, k -> new ArrayList<>())
+              .add(resource);
+        }
+      }
+    }
+
+    return new LandingZoneResourceSnapshot(
+        byLandingZone, withPurposeByLandingZone, byPurpose, bySubnetPurpose);
+  }
+
+  /**
+   * Lists all resources of a landing zone.
+   *
+   * @param landingZoneId the identifier of the landing zone
+   * @return the list of resources
+   */
+  public List<DeployedResource> allResources(String landingZoneId) {
+    return List.copyOf(resourcesByLandingZone.getOrDefault(landingZoneId, List.of()));
+  }
+
+  /**
+   * Lists resources of a landing zone which have any landing zone purpose.
+   *
+   * @param landingZoneId the identifier of the landing zone
+   * @return the list of resources
+   */
+  public List<DeployedResource> resourcesWithPurpose(String landingZoneId) {
+    return List.copyOf(resourcesWithPurposeByLandingZone.getOrDefault(landingZoneId, List.of()));
+  }
+
+  /**
+   * Lists resources of a landing zone with a specific landing zone purpose.
+   *
+   * @param landingZoneId the identifier of the landing zone
+   * @param purpose purpose's value
+   * @return the list of resources
+   */
+  public List<DeployedResource> resourcesByPurpose(String landingZoneId, String purpose) {
+    return List.copyOf(
+        resourcesByPurpose.getOrDefault(landingZoneId, Map.of()).getOrDefault(purpose, List.of()));
+  }
+
+  /**
+   * Lists resources of a landing zone which are tagged with a specific subnet purpose.
+   *
+   * @param landingZoneId the identifier of the landing zone
+   * @param purpose subnet purpose
+   * @return the list of resources
+   */
+  public List<DeployedResource> resourcesBySubnetPurpose(
+      String landingZoneId, SubnetResourcePurpose purpose) {
+    return List.copyOf(
+        resourcesBySubnetPurpose
+            .getOrDefault(landingZoneId, Map.of())
+            .getOrDefault(purpose, List.of()));
+  }
+}
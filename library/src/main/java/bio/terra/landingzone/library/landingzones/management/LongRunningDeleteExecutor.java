@@ -0,0 +1,157 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.SyncPoller;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs Azure resource deletes as long running operations, multiplexed on a single thread.
+ *
+ * <p>A delete is started with the begin-delete API, which returns as soon as Azure accepted it.
+ * The executor thread then polls every outstanding operation, waiting between two polls of an
+ * operation as long as Azure asks in the Retry-After header or, without one, with exponential
+ * backoff. The future of a delete is completed once its operation finished, so waiting for any
+ * number of deletes takes a single thread instead of one blocked thread per resource.
+ */
+class LongRunningDeleteExecutor implements AutoCloseable {
+  private static final ClientLogger logger = new ClientLogger(LongRunningDeleteExecutor.class);
+
+  private final Function<String, SyncPoller<?, ?>> beginDelete;
+  private final int maxOutstandingDeletes;
+  private final Duration initialPollInterval;
+  private final Duration maxPollInterval;
+  private final ScheduledExecutorService scheduler;
+
+  // only accessed from the scheduler thread
+  private final Deque<PendingDelete> waitingDeletes = new ArrayDeque<>();
+  private int outstandingDeletes;
+
+  /**
+   * @param beginDelete starts the delete of a resource by id and returns its poller.
+   * @param maxOutstandingDeletes maximum number of delete operations running at the same time;
+   *     further deletes wait until an operation finished.
+   * @param initialPollInterval interval between the first polls of an operation.
+   * @param maxPollInterval maximum interval between two polls of an operation, unless Azure asks
+   *     for a longer one.
+   */
+  LongRunningDeleteExecutor(
+      Function<String, SyncPoller<?, ?>> beginDelete,
+      int maxOutstandingDeletes,
+      Duration initialPollInterval,
+      Duration maxPollInterval) {
+    this.beginDelete = beginDelete;
+    this.maxOutstandingDeletes = maxOutstandingDeletes;
+    this.initialPollInterval = initialPollInterval;
+    this.maxPollInterval = maxPollInterval;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("landingzone-delete-poller-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  /**
+   * Deletes a resource.
+   *
+   * @param resourceId id of the resource to delete.
+   * @return future completed once the delete operation finished, or completed exceptionally with
+   *     the error of starting or polling the operation.
+   */
+  CompletableFuture<Void> delete(String resourceId) {
+    var delete = new PendingDelete(resourceId, new CompletableFuture<>());
+    scheduler.execute(
+        () -> {
+          waitingDeletes.add(delete);
+          startWaitingDeletes();
+        });
+    return delete.future();
+  }
+
+  /** Stops polling; operations still running in Azure are not cancelled. */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private void startWaitingDeletes() {
+    while (outstandingDeletes < maxOutstandingDeletes && !waitingDeletes.isEmpty()) {
+      start(waitingDeletes.poll());
+    }
+  }
+
+  private void start(PendingDelete delete) {
+    SyncPoller<?, ?> poller;
+    try {
+      poller = beginDelete.apply(delete.resourceId());
+    } catch (RuntimeException e) {
+      delete.future().completeExceptionally(e);
+      return;
+    }
+    outstandingDeletes++;
+    logger.info("Delete of resource started. id:{}", delete.resourceId());
+    schedulePoll(delete, poller, initialPollInterval, initialPollInterval);
+  }
+
+  private void schedulePoll(
+      PendingDelete delete, SyncPoller<?, ?> poller, Duration delay, Duration interval) {
+    scheduler.schedule(
+        () -> poll(delete, poller, interval), delay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void poll(PendingDelete delete, SyncPoller<?, ?> poller, Duration interval) {
+    PollResponse<?> response;
+    try {
+      response = poller.poll();
+    } catch (RuntimeException e) {
+      finish(delete, e);
+      return;
+    }
+
+    LongRunningOperationStatus status = response.getStatus();
+    if (status == LongRunningOperationStatus.SUCCESSFULLY_COMPLETED) {
+      finish(delete, null);
+    } else if (status.isComplete()) {
+      finish(delete, getFailure(delete, poller, status));
+    } else {
+      Duration backoff = interval.multipliedBy(2);
+      Duration nextInterval = backoff.compareTo(maxPollInterval) > 0 ? maxPollInterval : backoff;
+      Duration delay = response.getRetryAfter() != null ? response.getRetryAfter() : interval;
+      schedulePoll(delete, poller, delay, nextInterval);
+    }
+  }
+
+  private void finish(PendingDelete delete, RuntimeException failure) {
+    outstandingDeletes--;
+    if (failure == null) {
+      delete.future().complete(null);
+    } else {
+      delete.future().completeExceptionally(failure);
+    }
+    startWaitingDeletes();
+  }
+
+  private static RuntimeException getFailure(
+      PendingDelete delete, SyncPoller<?, ?> poller, LongRunningOperationStatus status) {
+    // the final result of a failed operation throws the error returned by Azure
+    try {
+      poller.getFinalResult();
+    } catch (RuntimeException e) {
+      return e;
+    }
+    return new IllegalStateException(
+        "Delete of resource %s finished with status %s".formatted(delete.resourceId(), status));
+  }
+
+  private record PendingDelete(String resourceId, CompletableFuture<Void> future) {}
+}
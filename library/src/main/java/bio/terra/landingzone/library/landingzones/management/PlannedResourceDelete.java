@@ -0,0 +1,15 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import java.util.List;
+
+/**
+ * A landing zone resource which was verified for deletion, identified by ids only so that the plan
+ * can be checkpointed and deleted later, e.g. by a retry of the delete step.
+ *
+ * @param resourceId id of the resource to delete.
+ * @param deleteOrder tier of the resource; tiers are deleted in ascending order.
+ * @param privateEndpointId id of the private endpoint of the resource, or null.
+ * @param solutionIds ids of the solutions associated with the resource.
+ */
+public record PlannedResourceDelete(
+    String resourceId, int deleteOrder, String privateEndpointId, List<String> solutionIds) {}
@@ -0,0 +1,170 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.management.profile.AzureProfile;
+import com.azure.core.util.Context;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.resourcemanager.AzureResourceManager;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Minimal client of the Azure Resource Graph query API. Queries are sent through the ARM http
+ * pipeline, so they are authenticated and instrumented the same way as other ARM requests.
+ */
+public class ResourceGraphClient {
+  private static final ClientLogger logger = new ClientLogger(ResourceGraphClient.class);
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  static final String API_VERSION = "2021-03-01";
+  static final String QUERY_PATH = "/providers/Microsoft.ResourceGraph/resources";
+  private static final int PAGE_SIZE = 1000;
+  private static final String PROVIDERS_SEGMENT = "/providers/";
+
+  private final HttpPipeline httpPipeline;
+  private final String queryUrl;
+  private final String subscriptionId;
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  public ResourceGraphClient(HttpPipeline httpPipeline, String endpoint, String subscriptionId) {
+    this.httpPipeline = httpPipeline;
+    this.queryUrl =
+        StringUtils.removeEnd(endpoint, "/") + QUERY_PATH + "?api-version=" + API_VERSION;
+    this.subscriptionId = subscriptionId;
+  }
+
+  /**
+   * Creates a client which shares the http pipeline of the given resource manager.
+   *
+   * @param azureResourceManager resource manager.
+   * @param profile azure profile of the subscription to query.
+   * @return resource graph client.
+   */
+  public static ResourceGraphClient create(
+      AzureResourceManager azureResourceManager, AzureProfile profile) {
+    return new ResourceGraphClient(
+        azureResourceManager.genericResources().manager().httpPipeline(),
+        profile.getEnvironment().getResourceManagerEndpoint(),
+        profile.getSubscriptionId());
+  }
+
+  /**
+   * Runs a KQL query which projects the id, type, tags and location of resources. All result pages
+   * are fetched. Resource types are returned in ARM casing.
+   *
+   * @param query KQL query.
+   * @return resources returned by the query.
+   */
+  public List<DeployedResource> queryResources(String query) {
+    List<DeployedResource> resources = new ArrayList<>();
+    String skipToken = null;
+    do {
+      var page =
+          send(
+              new QueryRequest(
+                  List.of(subscriptionId),
+                  query,
+                  new QueryRequestOptions("objectArray", PAGE_SIZE, skipToken)));
+      if (page.data() != null) {
+        for (ResourceRow r : page.data()) {
+          resources.add(
+              new DeployedResource(
+                  r.id(), armResourceType(r.id(), r.type()), r.tags(), r.location()));
+        }
+      }
+      skipToken = page.skipToken();
+    } while (skipToken != null);
+    return resources;
+  }
+
+  /**
+   * Resource Graph returns resource types in lower case, while ARM returns them in the casing of
+   * the resource provider, e.g. Microsoft.Storage/storageAccounts. The ARM casing is recovered from
+   * the resource id, so that resources read from either backend are equal.
+   *
+   * @param resourceId resource id.
+   * @param resourceType resource type returned by Resource Graph.
+   * @return resource type in the casing of the resource id, or the given type if the id does not
+   *     name it.
+   */
+  static String armResourceType(String resourceId, String resourceType) {
+    if (resourceId == null || resourceType == null) {
+      return resourceType;
+    }
+    int providers = StringUtils.lastIndexOfIgnoreCase(resourceId, PROVIDERS_SEGMENT);
+    if (providers < 0) {
+      return resourceType;
+    }
+    // namespace followed by alternating type and name segments
+    String[] segments =
+        StringUtils.split(resourceId.substring(providers + PROVIDERS_SEGMENT.length()), "/");
+    if (segments.length < 2) {
+      return resourceType;
+    }
+    var armType = new StringBuilder(segments[0]);
+    for (int i = 1; i < segments.length; i += 2) {
+      armType.append('/').append(segments[i]);
+    }
+    return armType.toString().equalsIgnoreCase(resourceType) ? armType.toString() : resourceType;
+  }
+
+  /** @return number of requests sent to Resource Graph by this client. */
+  public int requestCount() {
+    return requestCount.get();
+  }
+
+  private QueryResponse send(QueryRequest queryRequest) {
+    requestCount.incrementAndGet();
+    try {
+      var request =
+          new HttpRequest(HttpMethod.POST, queryUrl)
+              .setHeader(HttpHeaderName.CONTENT_TYPE, "application/json")
+              .setBody(objectMapper.writeValueAsBytes(queryRequest));
+      try (HttpResponse response = httpPipeline.sendSync(request, Context.NONE)) {
+        var body = response.getBodyAsBinaryData();
+        if (response.getStatusCode() != 200) {
+          throw logger.logExceptionAsError(
+              new HttpResponseException(
+                  String.format(
+                      "Resource Graph query failed with status %d: %s",
+                      response.getStatusCode(), body),
+                  response,
+                  null));
+        }
+        return objectMapper.readValue(body.toBytes(), QueryResponse.class);
+      }
+    } catch (IOException e) {
+      throw logger.logExceptionAsError(new UncheckedIOException(e));
+    }
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  record QueryRequest(List<String> subscriptions, String query, QueryRequestOptions options) {}
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  record QueryRequestOptions(
+      String resultFormat,
+      @JsonProperty("$top") Integer top,
+      @JsonProperty("$skipToken") String skipToken) {}
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record QueryResponse(List<ResourceRow> data, @JsonProperty("$skipToken") String skipToken) {}
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record ResourceRow(String id, String type, Map<String, String> tags, String location) {}
+}
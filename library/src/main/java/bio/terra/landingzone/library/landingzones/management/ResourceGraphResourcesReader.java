@@ -0,0 +1,169 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
+import bio.terra.landingzone.library.landingzones.deployment.DeployedSubnet;
+import bio.terra.landingzone.library.landingzones.deployment.DeployedVNet;
+import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
+import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
+import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.resourcemanager.AzureResourceManager;
+import com.azure.resourcemanager.resources.models.ResourceGroup;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides search operations for resources in a specific landing zone using Azure Resource Graph.
+ * Unlike {@link ResourcesReaderImpl}, which lists the whole resource group and filters by tag on
+ * the client, the landing zone filter is applied by Resource Graph, so the cost of a lookup depends
+ * on the size of the landing zone rather than the size of the resource group.
+ *
+ * <p>By default a landing zone is queried for every search operation. A reader created with a
+ * snapshot time to live answers the search operations on a landing zone made within that time from
+ * one query. If a query fails, the reader falls back to listing the resource group with {@link
+ * ResourcesReaderImpl}.
+ *
+ * <p>Resource Graph is eventually consistent: its index lags ARM, so right after a flight creates
+ * or deletes resources a query may still miss the new resources or return the deleted ones. The
+ * reader only falls back to the resource group listing when a query fails, not when its result is
+ * stale, so callers which need to see the resources of a flight which has just finished should use
+ * the resource group backend.
+ */
+public class ResourceGraphResourcesReader implements ResourcesReader {
+  private static final ClientLogger logger = new ClientLogger(ResourceGraphResourcesReader.class);
+
+  private static final String LANDING_ZONE_RESOURCES_QUERY =
+      """
+      Resources
+      | where resourceGroup =~ '%s' and tostring(tags['%s']) =~ '%s'
+      | project id, type, tags, location
+      """;
+
+  private final ResourceGraphClient resourceGraphClient;
+  private final String resourceGroupName;
+  private final ResourcesReaderImpl fallbackReader;
+  private final VNetResolver vNetResolver;
+  private final Map<String, LandingZoneResourceSnapshot> snapshots;
+
+  public ResourceGraphResourcesReader(
+      ResourceGraphClient resourceGraphClient,
+      AzureResourceManager azureResourceManager,
+      ResourceGroup resourceGroup) {
+    this(resourceGraphClient, azureResourceManager, resourceGroup.name());
+  }
+
+  public ResourceGraphResourcesReader(
+      ResourceGraphClient resourceGraphClient,
+      AzureResourceManager azureResourceManager,
+      String resourceGroupName) {
+    this(resourceGraphClient, azureResourceManager, resourceGroupName, Duration.ZERO);
+  }
+
+  /**
+   * @param resourceGraphClient client of Resource Graph.
+   * @param azureResourceManager resource manager of the landing zone subscription.
+   * @param resourceGroupName landing zone resource group.
+   * @param snapshotTtl time the query result of a landing zone and the virtual networks fetched for
+   *     it are reused for; zero queries Resource Graph for every search operation.
+   */
+  public ResourceGraphResourcesReader(
+      ResourceGraphClient resourceGraphClient,
+      AzureResourceManager azureResourceManager,
+      String resourceGroupName,
+      Duration snapshotTtl) {
+    this.resourceGraphClient = resourceGraphClient;
+    this.resourceGroupName = resourceGroupName;
+    this.fallbackReader =
+        new ResourcesReaderImpl(azureResourceManager, resourceGroupName, snapshotTtl);
+    this.vNetResolver = new VNetResolver(azureResourceManager, snapshotTtl);
+    this.snapshots =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(snapshotTtl.isNegative() ? Duration.ZERO : snapshotTtl)
+            .<String, LandingZoneResourceSnapshot>build()
+            .asMap();
+  }
+
+  @Override
+  public List<DeployedResource> listSharedResources(String landingZoneId) {
+    return snapshot(landingZoneId)
+        .resourcesByPurpose(landingZoneId, ResourcePurpose.SHARED_RESOURCE.toString());
+  }
+
+  @Override
+  public List<DeployedResource> listResourcesByPurpose(
+      String landingZoneId, ResourcePurpose purpose) {
+    return snapshot(landingZoneId).resourcesByPurpose(landingZoneId, purpose.toString());
+  }
+
+  @Override
+  public List<DeployedResource> listResourcesWithPurpose(String landingZoneId) {
+    return snapshot(landingZoneId).resourcesWithPurpose(landingZoneId);
+  }
+
+  @Override
+  public List<DeployedVNet> listVNetBySubnetPurpose(
+      String landingZoneId, SubnetResourcePurpose purpose) {
+    return snapshot(landingZoneId).resourcesBySubnetPurpose(landingZoneId, purpose).stream()
+        .map(r -> vNetResolver.resolve(r.resourceId()))
+        .toList();
+  }
+
+  @Override
+  public List<DeployedResource> listAllResources(String landingZoneId) {
+    return snapshot(landingZoneId).allResources(landingZoneId);
+  }
+
+  @Override
+  public List<DeployedSubnet> listSubnetsBySubnetPurpose(
+      String landingZoneId, SubnetResourcePurpose purpose) {
+    return snapshot(landingZoneId).resourcesBySubnetPurpose(landingZoneId, purpose).stream()
+        .map(r -> vNetResolver.resolve(r.resourceId()).subnetIdPurposeMap().get(purpose))
+        .toList();
+  }
+
+  /**
+   * Returns the number of ARM requests made by this reader: Resource Graph queries, one GET per
+   * distinct virtual network and any resource group listing made as a fallback.
+   *
+   * @return number of ARM requests
+   */
+  @Override
+  public int armRequestCount() {
+    return resourceGraphClient.requestCount()
+        + vNetResolver.armRequestCount()
+        + fallbackReader.armRequestCount();
+  }
+
+  private LandingZoneResourceSnapshot snapshot(String landingZoneId) {
+    return snapshots.computeIfAbsent(landingZoneId, this::takeSnapshot);
+  }
+
+  private LandingZoneResourceSnapshot takeSnapshot(String landingZoneId) {
+    logger.verbose(
+        "Querying landing zone resources. group:{} landingZoneId:{}",
+        resourceGroupName,
+        landingZoneId);
+    try {
+      return LandingZoneResourceSnapshot.fromResources(
+          resourceGraphClient.queryResources(
+              String.format(
+                  LANDING_ZONE_RESOURCES_QUERY,
+                  escape(resourceGroupName),
+                  LandingZoneTagKeys.LANDING_ZONE_ID,
+                  escape(landingZoneId))));
+    } catch (RuntimeException e) {
+      // Resource Graph is an optimization; the resource group listing is always available
+      logger.warning(
+          "Resource Graph query failed, listing resource group {} instead",
+          resourceGroupName,
+          e);
+      return fallbackReader.snapshot();
+    }
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("'", "\\'");
+  }
+}
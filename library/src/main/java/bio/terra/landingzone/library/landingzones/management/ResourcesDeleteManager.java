@@ -1,27 +1,80 @@
 package bio.terra.landingzone.library.landingzones.management;
 
+import bio.terra.landingzone.common.utils.MetricUtils;
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
-import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
 import bio.terra.landingzone.library.landingzones.management.deleterules.LandingZoneRuleDeleteException;
 import com.azure.core.management.exception.ManagementException;
 import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.polling.SyncPoller;
 import com.azure.resourcemanager.network.models.PrivateEndpoint;
 import com.azure.resourcemanager.resources.models.GenericResource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 
 public class ResourcesDeleteManager {
+  /** Maximum number of Azure delete operations running at the same time. */
+  public static final int DEFAULT_DELETE_PARALLELISM = 32;
+
+  /** Interval between the first polls of a delete operation, unless Azure asks for another. */
+  public static final Duration DEFAULT_INITIAL_POLL_INTERVAL = Duration.ofSeconds(2);
+
+  /** Maximum interval between two polls of a delete operation, unless Azure asks for another. */
+  public static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(30);
+
   private final ArmManagers armManagers;
 
   private final DeleteRulesVerifier deleteRulesVerifier;
 
+  private final int deleteParallelism;
+
+  private final Duration initialPollInterval;
+
+  private final Duration maxPollInterval;
+
   private static final ClientLogger logger = new ClientLogger(ResourcesDeleteManager.class);
 
   public ResourcesDeleteManager(ArmManagers armManagers, DeleteRulesVerifier deleteRulesVerifier) {
+    this(armManagers, deleteRulesVerifier, DEFAULT_DELETE_PARALLELISM);
+  }
+
+  public ResourcesDeleteManager(
+      ArmManagers armManagers, DeleteRulesVerifier deleteRulesVerifier, int deleteParallelism) {
+    this(
+        armManagers,
+        deleteRulesVerifier,
+        deleteParallelism,
+        DEFAULT_INITIAL_POLL_INTERVAL,
+        DEFAULT_MAX_POLL_INTERVAL);
+  }
+
+  public ResourcesDeleteManager(
+      ArmManagers armManagers,
+      DeleteRulesVerifier deleteRulesVerifier,
+      int deleteParallelism,
+      Duration initialPollInterval,
+      Duration maxPollInterval) {
+    if (deleteParallelism < 1) {
+      throw logger.logExceptionAsError(
+          new IllegalArgumentException("Delete parallelism must be at least 1"));
+    }
     this.armManagers = armManagers;
     this.deleteRulesVerifier = deleteRulesVerifier;
+    this.deleteParallelism = deleteParallelism;
+    this.initialPollInterval = initialPollInterval;
+    this.maxPollInterval = maxPollInterval;
   }
 
   /***
@@ -40,10 +93,120 @@ public class ResourcesDeleteManager {
 
     deleteRulesVerifier.checkIfRulesAllowDelete(resourcesToDelete);
 
-    return deleteLandingZoneResourcesInOrder(resourcesToDelete);
+    Map<String, GenericResource> resourcesById = new HashMap<>();
+    resourcesToDelete.forEach(r -> resourcesById.putIfAbsent(r.resource().id(), r.resource()));
+    return deletePlannedResources(
+            toPlan(resourcesToDelete), Collections.synchronizedSet(new HashSet<>()))
+        .stream()
+        .map(resourcesById::get)
+        .toList();
+  }
+
+  /**
+   * Lists the landing zone resources to delete and verifies that the delete rules allow deleting
+   * them. The plan only holds resource ids, so it can be kept and deleted later with {@link
+   * #deletePlannedResources(List, Set)}.
+   *
+   * @param landingZoneId the landing zone id.
+   * @param resourceGroupName resource group where the landing zone resources are deployed.
+   * @return the resources to delete.
+   * @throws LandingZoneRuleDeleteException If at least one resource can't be deleted in its
+   *     current state.
+   */
+  public List<PlannedResourceDelete> planLandingZoneResourcesDelete(
+      String landingZoneId, String resourceGroupName) throws LandingZoneRuleDeleteException {
+    return planLandingZoneResourcesDelete(
+        listLandingZoneResourcesToDelete(landingZoneId, resourceGroupName));
   }
 
-  private List<ResourceToDelete> listLandingZoneResourcesToDelete(
+  /**
+   * Verifies that the delete rules allow deleting resources listed earlier. The rules assess the
+   * current state of the resources, e.g. the virtual machines attached to a network, so they are
+   * applied again even if the listing is reused.
+   *
+   * @param resourcesToDelete resources listed by {@link #listLandingZoneResourcesToDelete(String,
+   *     String)}.
+   * @return the resources to delete.
+   * @throws LandingZoneRuleDeleteException If at least one resource can't be deleted in its
+   *     current state.
+   */
+  public List<PlannedResourceDelete> planLandingZoneResourcesDelete(
+      List<ResourceToDelete> resourcesToDelete) throws LandingZoneRuleDeleteException {
+    deleteRulesVerifier.checkIfRulesAllowDelete(resourcesToDelete);
+
+    return toPlan(resourcesToDelete);
+  }
+
+  /**
+   * Lists the landing zone resources to delete and applies the delete rules to them, without
+   * deleting anything.
+   *
+   * @param landingZoneId the landing zone id.
+   * @param resourceGroupName resource group where the landing zone resources are deployed.
+   * @return the resources to delete, in delete order, and the rules which don't allow it.
+   */
+  public LandingZoneDeletePlan previewLandingZoneResourcesDelete(
+      String landingZoneId, String resourceGroupName) {
+    return previewLandingZoneResourcesDelete(
+        listLandingZoneResourcesToDelete(landingZoneId, resourceGroupName));
+  }
+
+  /**
+   * Applies the delete rules to resources listed earlier, without deleting anything.
+   *
+   * @param resourcesToDelete resources listed by {@link #listLandingZoneResourcesToDelete(String,
+   *     String)}.
+   * @return the resources to delete, in delete order, and the rules which don't allow it.
+   */
+  public LandingZoneDeletePlan previewLandingZoneResourcesDelete(
+      List<ResourceToDelete> resourcesToDelete) {
+    List<PlannedResourceDelete> plan =
+        toPlan(resourcesToDelete).stream()
+            .sorted(Comparator.comparingInt(PlannedResourceDelete::deleteOrder))
+            .toList();
+    return new LandingZoneDeletePlan(plan, deleteRulesVerifier.findViolations(resourcesToDelete));
+  }
+
+  /**
+   * Deletes the resources of a plan in tiers of the same delete order. Resources, private endpoints
+   * and solutions whose id is in {@code deletedResourceIds} are skipped; the id of every resource
+   * deleted is added to it as soon as the resource is gone, so a failed delete can be resumed with
+   * the same set.
+   *
+   * @param plan resources to delete.
+   * @param deletedResourceIds ids of the resources already deleted. Must be thread safe, as
+   *     resources of a tier are deleted concurrently.
+   * @return ids of the planned resources, in the order they were deleted.
+   */
+  public List<String> deletePlannedResources(
+      List<PlannedResourceDelete> plan, Set<String> deletedResourceIds) {
+    Map<Integer, List<PlannedResourceDelete>> tiers =
+        plan.stream()
+            .collect(
+                Collectors.groupingBy(
+                    PlannedResourceDelete::deleteOrder, TreeMap::new, Collectors.toList()));
+    if (tiers.isEmpty()) {
+      return List.of();
+    }
+
+    try (var executor =
+        new LongRunningDeleteExecutor(
+            this::beginDelete, deleteParallelism, initialPollInterval, maxPollInterval)) {
+      var deletes = new Deletes(deletedResourceIds, executor);
+      List<String> deletedResources = new ArrayList<>();
+      tiers.forEach((order, tier) -> deletedResources.addAll(deleteTier(order, tier, deletes)));
+      return deletedResources;
+    }
+  }
+
+  /**
+   * Lists the landing zone resources to delete, with their private endpoints and solutions.
+   *
+   * @param landingZoneId the landing zone id.
+   * @param resourceGroupName resource group where the landing zone resources are deployed.
+   * @return the resources to delete.
+   */
+  public List<ResourceToDelete> listLandingZoneResourcesToDelete(
       String landingZoneId, String resourceGroupName) {
     final List<PrivateEndpoint> privateEndPoints =
         armManagers
@@ -54,119 +217,159 @@ public class ResourcesDeleteManager {
             .toList();
 
     // Deploying AKS with monitoring connected to a log analytics workspace also deploys a
-    // container insights solution named `ContainerInsights(WORKSPACE_ID)` which is untagged
-    // this code lists them all and later code figures out which to delete
-    var solutions =
+    // container insights solution named `ContainerInsights(WORKSPACE_ID)` which is untagged.
+    // The planner finds them in the same listing as the landing zone resources.
+    final List<GenericResource> resourceGroupResources =
         armManagers
             .azureResourceManager()
             .genericResources()
             .listByResourceGroup(resourceGroupName)
             .stream()
-            .filter(
-                r ->
-                    AzureResourceTypeUtils.AZURE_SOLUTIONS_TYPE.equalsIgnoreCase(
-                        "%s/%s".formatted(r.resourceProviderNamespace(), r.resourceType())))
             .toList();
 
-    return armManagers
-        .azureResourceManager()
-        .genericResources()
-        .listByResourceGroup(resourceGroupName)
-        .stream()
-        .filter(
+    return new ResourcesDeletePlanner(resourceGroupResources, privateEndPoints).plan(landingZoneId);
+  }
+
+  private List<PlannedResourceDelete> toPlan(List<ResourceToDelete> resourcesToDelete) {
+    return resourcesToDelete.stream()
+        .map(
             r ->
-                r.tags()
-                    .getOrDefault(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), "")
-                    .equals(landingZoneId))
-        .map(r -> toResourceToDelete(r, privateEndPoints, solutions))
+                new PlannedResourceDelete(
+                    r.resource().id(),
+                    getDeleteOrder(r),
+                    r.privateEndpoint() == null ? null : r.privateEndpoint().id(),
+                    r.solutions() == null
+                        ? List.of()
+                        : r.solutions().stream().map(GenericResource::id).toList()))
         .toList();
   }
 
-  private ResourceToDelete toResourceToDelete(
-      GenericResource genericResource,
-      List<PrivateEndpoint> privateEndPoints,
-      List<GenericResource> solutions) {
-
-    PrivateEndpoint privateEndPoint = null;
-    List<GenericResource> resourceRelatedSolutions = null;
-    if (privateEndPoints != null) {
-      privateEndPoint =
-          privateEndPoints.stream()
-              .filter(
-                  p ->
-                      p.privateLinkServiceConnections().values().stream()
-                          .anyMatch(
-                              c ->
-                                  c.privateLinkResourceId().equalsIgnoreCase(genericResource.id())))
-              .findFirst()
-              .orElse(null);
+  /**
+   * Deletes the resources of one tier. Resources of a tier don't depend on each other and their
+   * deletes are started together; the next tier starts only once every resource of this tier is
+   * deleted.
+   */
+  private List<String> deleteTier(int order, List<PlannedResourceDelete> tier, Deletes deletes) {
+    logger.info("Deleting landing zone resources of tier {}. count:{}", order, tier.size());
+    long start = System.nanoTime();
+    boolean success = false;
+    List<CompletableFuture<String>> deletions =
+        tier.stream().map(r -> deleteResource(r, deletes)).toList();
+    try {
+      // wait for every delete of the tier, so that none is left running if one of them fails
+      CompletableFuture.allOf(deletions.toArray(CompletableFuture[]::new))
+          .exceptionally(e -> null)
+          .join();
+      List<String> deletedResources = deletions.stream().map(CompletableFuture::join).toList();
+      success = true;
+      return deletedResources;
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    } finally {
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+      MetricUtils.recordDeleteTierDuration(order, elapsed, success);
+      logger.info("Tier {} finished. success:{} elapsed:{}", order, success, elapsed);
     }
+  }
+
+  /**
+   * Deletes a resource after its private endpoint and solutions. The returned future completes
+   * once the resource is deleted; no thread waits for the deletes meanwhile.
+   */
+  private CompletableFuture<String> deleteResource(
+      PlannedResourceDelete resourceToDelete, Deletes deletes) {
+    logger.info("Deleting landing zone resource: {}", resourceToDelete.resourceId());
 
-    if (solutions != null) {
-      resourceRelatedSolutions =
-          solutions.stream().filter(s -> s.name().contains(genericResource.name())).toList();
+    CompletableFuture<Void> privateEndpointDeleted = CompletableFuture.completedFuture(null);
+    if (resourceToDelete.privateEndpointId() != null) {
+      logger.info(
+          "Deleting landing zone private endpoint {} for resource: {}",
+          resourceToDelete.privateEndpointId(),
+          resourceToDelete.resourceId());
+      privateEndpointDeleted = deletes.deleteOnce(resourceToDelete.privateEndpointId());
     }
 
-    return new ResourceToDelete(genericResource, privateEndPoint, resourceRelatedSolutions);
+    List<String> solutionIds =
+        resourceToDelete.solutionIds() == null ? List.of() : resourceToDelete.solutionIds();
+    return privateEndpointDeleted
+        .thenCompose(
+            v ->
+                CompletableFuture.allOf(
+                    solutionIds.stream()
+                        .map(
+                            solutionId -> {
+                              logger.info(
+                                  "Deleting landing zone solution {} for resource: {}",
+                                  solutionId,
+                                  resourceToDelete.resourceId());
+                              return deletes.deleteOnce(solutionId);
+                            })
+                        .toArray(CompletableFuture[]::new)))
+        .thenCompose(v -> deletes.deleteOnce(resourceToDelete.resourceId()))
+        .thenApply(v -> resourceToDelete.resourceId());
   }
 
-  private List<GenericResource> deleteLandingZoneResourcesInOrder(
-      List<ResourceToDelete> resourcesToDelete) {
-
-    return resourcesToDelete.stream()
-        .sorted(Comparator.comparingInt(this::getDeleteOrder))
-        .map(this::deleteResource)
-        .toList();
-  }
+  /**
+   * Deletes of one plan. Resources of a tier may share a private endpoint or a solution; it is
+   * deleted once and every resource which depends on it waits for the same delete.
+   */
+  private class Deletes {
+    private final Set<String> deletedResourceIds;
+    private final LongRunningDeleteExecutor executor;
+    private final Map<String, CompletableFuture<Void>> deletesById = new ConcurrentHashMap<>();
 
-  private GenericResource deleteResource(ResourceToDelete resourceToDelete) {
-    logger.info("Deleting landing zone resource: {}", resourceToDelete.resource().id());
+    Deletes(Set<String> deletedResourceIds, LongRunningDeleteExecutor executor) {
+      this.deletedResourceIds = deletedResourceIds;
+      this.executor = executor;
+    }
 
-    if (resourceToDelete.privateEndpoint() != null) {
-      logger.info(
-          "Deleting landing zone private endpoint {} for resource: {}",
-          resourceToDelete.privateEndpoint().id(),
-          resourceToDelete.resource().id());
-      handleResourceDeletion(this::deleteResource, resourceToDelete.privateEndpoint().id());
-      logger.info("Resource deleted. id:{}", resourceToDelete.privateEndpoint().id());
+    CompletableFuture<Void> deleteOnce(String resourceId) {
+      return deletesById.computeIfAbsent(resourceId, this::delete);
     }
 
-    if (resourceToDelete.solutions() != null && !resourceToDelete.solutions().isEmpty()) {
-      resourceToDelete
-          .solutions()
-          .forEach(
-              solution -> {
-                logger.info(
-                    "Deleting landing zone solution {} for resource: {}",
-                    solution.id(),
-                    resourceToDelete.resource().id());
-                handleResourceDeletion(this::deleteResource, solution.id());
-                logger.info("Resource deleted. id:{}", solution.id());
+    private CompletableFuture<Void> delete(String resourceId) {
+      if (deletedResourceIds.contains(resourceId)) {
+        logger.info("Landing zone resource was already deleted. id:{}", resourceId);
+        return CompletableFuture.completedFuture(null);
+      }
+      return executor
+          .delete(resourceId)
+          .exceptionally(
+              e -> {
+                handleResourceDeletionFailure(resourceId, e);
+                return null;
+              })
+          .thenRun(
+              () -> {
+                deletedResourceIds.add(resourceId);
+                logger.info("Resource deleted. id:{}", resourceId);
               });
     }
-
-    handleResourceDeletion(this::deleteResource, resourceToDelete.resource().id());
-    logger.info("Resource deleted. id:{}", resourceToDelete.resource().id());
-
-    return resourceToDelete.resource();
   }
 
-  private void deleteResource(String resourceId) {
-    armManagers.azureResourceManager().genericResources().deleteById(resourceId);
+  private SyncPoller<?, ?> beginDelete(String resourceId) {
+    return armManagers
+        .azureResourceManager()
+        .genericResources()
+        .beginDeleteById(resourceId)
+        .getSyncPoller();
   }
 
-  private void handleResourceDeletion(
-      Consumer<String> deleteResourceByIdAction, String resourceId) {
-    try {
-      deleteResourceByIdAction.accept(resourceId);
-    } catch (ManagementException e) {
-      if (StringUtils.equalsIgnoreCase(e.getValue().getCode(), "ResourceNotFound")) {
-        logger.info("Landing zone resource with id={} doesn't exist.", resourceId);
-      } else {
-        logger.error("Failed to delete resource with id={}.", resourceId);
-        throw e;
-      }
+  private void handleResourceDeletionFailure(String resourceId, Throwable failure) {
+    Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+    if (cause instanceof ManagementException e
+        && StringUtils.equalsIgnoreCase(e.getValue().getCode(), "ResourceNotFound")) {
+      logger.info("Landing zone resource with id={} doesn't exist.", resourceId);
+      return;
+    }
+    logger.error("Failed to delete resource with id={}.", resourceId);
+    if (cause instanceof RuntimeException e) {
+      throw e;
     }
+    throw new CompletionException(cause);
   }
 
   private int getDeleteOrder(ResourceToDelete resourceToDelete) {
@@ -0,0 +1,105 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
+import com.azure.resourcemanager.network.models.PrivateEndpoint;
+import com.azure.resourcemanager.resources.models.GenericResource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Builds the list of landing zone resources to delete from a single listing of the resource group.
+ *
+ * <p>Private endpoints are indexed by the id of the resource they link to, and solutions by the
+ * name of the workspace they belong to, so that matching them to the landing zone resources takes
+ * linear time in the size of the resource group.
+ */
+class ResourcesDeletePlanner {
+  private final List<GenericResource> resourceGroupResources;
+  private final Map<String, PrivateEndpoint> privateEndpointsByLinkedResourceId = new HashMap<>();
+  private final Map<String, List<GenericResource>> solutionsByWorkspaceName = new HashMap<>();
+  // solutions whose name doesn't follow the 'Type(workspace)' convention are matched by name
+  private final List<GenericResource> unindexedSolutions = new ArrayList<>();
+
+  /**
+   * @param resourceGroupResources all resources of the landing zone resource group.
+   * @param privateEndpoints all private endpoints of the landing zone resource group.
+   */
+  ResourcesDeletePlanner(
+      List<GenericResource> resourceGroupResources, List<PrivateEndpoint> privateEndpoints) {
+    this.resourceGroupResources = resourceGroupResources;
+    privateEndpoints.forEach(this::indexPrivateEndpoint);
+    resourceGroupResources.stream()
+        .filter(ResourcesDeletePlanner::isSolution)
+        .forEach(this::indexSolution);
+  }
+
+  /**
+   * Lists the resources of a landing zone together with their private endpoints and solutions.
+   *
+   * @param landingZoneId landing zone id.
+   * @return resources to delete.
+   */
+  List<ResourceToDelete> plan(String landingZoneId) {
+    return resourceGroupResources.stream()
+        .filter(
+            r ->
+                r.tags() != null
+                    && r.tags()
+                        .getOrDefault(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), "")
+                        .equals(landingZoneId))
+        .map(this::toResourceToDelete)
+        .toList();
+  }
+
+  private ResourceToDelete toResourceToDelete(GenericResource resource) {
+    PrivateEndpoint privateEndpoint = privateEndpointsByLinkedResourceId.get(key(resource.id()));
+    List<GenericResource> solutions =
+        resource.name() == null
+            ? List.of()
+            : Stream.concat(
+                    solutionsByWorkspaceName.getOrDefault(key(resource.name()), List.of()).stream(),
+                    unindexedSolutions.stream().filter(s -> s.name().contains(resource.name())))
+                .toList();
+    return new ResourceToDelete(resource, privateEndpoint, solutions);
+  }
+
+  private void indexPrivateEndpoint(PrivateEndpoint privateEndpoint) {
+    if (privateEndpoint.privateLinkServiceConnections() == null) {
+      return;
+    }
+    privateEndpoint.privateLinkServiceConnections().values().stream()
+        .filter(c -> c.privateLinkResourceId() != null)
+        // the first endpoint linked to a resource is deleted with it
+        .forEach(
+            c ->
+                privateEndpointsByLinkedResourceId.putIfAbsent(
+                    key(c.privateLinkResourceId()), privateEndpoint));
+  }
+
+  private void indexSolution(GenericResource solution) {
+    String name = solution.name();
+    int open = name.indexOf('(');
+    int close = name.lastIndexOf(')');
+    if (open >= 0 && close > open) {
+      solutionsByWorkspaceName
+          .computeIfAbsent(key(name.substring(open + 1, close)), k -> new ArrayList<>())
+          .add(solution);
+    } else {
+      unindexedSolutions.add(solution);
+    }
+  }
+
+  private static boolean isSolution(GenericResource resource) {
+    return resource.name() != null
+        && AzureResourceTypeUtils.AZURE_SOLUTIONS_TYPE.equalsIgnoreCase(
+            "%s/%s".formatted(resource.resourceProviderNamespace(), resource.resourceType()));
+  }
+
+  private static String key(String value) {
+    return value == null ? null : value.toLowerCase(Locale.ROOT);
+  }
+}
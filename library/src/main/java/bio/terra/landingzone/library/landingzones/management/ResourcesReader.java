@@ -20,4 +20,10 @@ public interface ResourcesReader {
 
   List<DeployedSubnet> listSubnetsBySubnetPurpose(
       String landingZoneId, SubnetResourcePurpose purpose);
+
+  /**
+   * Number of ARM requests issued by this reader so far. Readers are scoped to a single API call,
+   * so this is the ARM cost of that call.
+   */
+  int armRequestCount();
 }
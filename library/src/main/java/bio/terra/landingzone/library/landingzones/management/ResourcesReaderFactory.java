@@ -0,0 +1,46 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import com.azure.core.management.profile.AzureProfile;
+import com.azure.resourcemanager.AzureResourceManager;
+import java.time.Duration;
+
+/** Creates the {@link ResourcesReader} of a {@link LandingZoneManager}. */
+@FunctionalInterface
+public interface ResourcesReaderFactory {
+  /** Lists the resource group and filters resources by tag. */
+  ResourcesReaderFactory RESOURCE_GROUP = resourceGroup(Duration.ZERO);
+
+  /** Queries Azure Resource Graph, falling back to listing the resource group. */
+  ResourcesReaderFactory RESOURCE_GRAPH = resourceGraph(Duration.ZERO);
+
+  /**
+   * Lists the resource group and filters resources by tag. A listing answers the lookups made
+   * within the given time, so a reader meant to serve a single request should get a short one.
+   *
+   * @param snapshotTtl time a listing is reused for; zero lists for every lookup.
+   * @return factory of the reader.
+   */
+  static ResourcesReaderFactory resourceGroup(Duration snapshotTtl) {
+    return (azureResourceManager, profile, resourceGroupName) ->
+        new ResourcesReaderImpl(azureResourceManager, resourceGroupName, snapshotTtl);
+  }
+
+  /**
+   * Queries Azure Resource Graph, falling back to listing the resource group. A query result
+   * answers the lookups made within the given time.
+   *
+   * @param snapshotTtl time a query result is reused for; zero queries for every lookup.
+   * @return factory of the reader.
+   */
+  static ResourcesReaderFactory resourceGraph(Duration snapshotTtl) {
+    return (azureResourceManager, profile, resourceGroupName) ->
+        new ResourceGraphResourcesReader(
+            ResourceGraphClient.create(azureResourceManager, profile),
+            azureResourceManager,
+            resourceGroupName,
+            snapshotTtl);
+  }
+
+  ResourcesReader create(
+      AzureResourceManager azureResourceManager, AzureProfile profile, String resourceGroupName);
+}
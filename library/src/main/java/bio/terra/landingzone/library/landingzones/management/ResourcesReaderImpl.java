@@ -8,14 +8,15 @@ import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
 import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.resourcemanager.AzureResourceManager;
-import com.azure.resourcemanager.network.models.Network;
 import com.azure.resourcemanager.resources.models.GenericResource;
 import com.azure.resourcemanager.resources.models.ResourceGroup;
-import java.util.Arrays;
-import java.util.EnumMap;
+import com.google.common.base.Suppliers;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Provides search operations for a resources in specific landing zone. All resources in landing
@@ -27,17 +28,46 @@ import java.util.stream.Stream;
  * <p>WLZ-PURPOSE - defines purpose for a specific resource;
  *
  * <p>WLZ-ID - defines landing zone identifier
+ *
+ * <p>Search operations are answered from a {@link LandingZoneResourceSnapshot} of the resource
+ * group. By default the resource group is listed for every search operation. A reader created with
+ * a snapshot time to live answers the search operations made within that time from one listing,
+ * e.g. all lookups of one request.
  */
 public class ResourcesReaderImpl implements ResourcesReader {
   private static final ClientLogger logger = new ClientLogger(ResourcesReaderImpl.class);
 
   private final AzureResourceManager azureResourceManager;
-  private final ResourceGroup resourceGroup;
+  private final String resourceGroupName;
+  private final VNetResolver vNetResolver;
+  private final AtomicInteger armRequestCount = new AtomicInteger();
+  private final Supplier<LandingZoneResourceSnapshot> snapshot;
 
   public ResourcesReaderImpl(
       AzureResourceManager azureResourceManager, ResourceGroup resourceGroup) {
+    this(azureResourceManager, resourceGroup.name());
+  }
+
+  public ResourcesReaderImpl(AzureResourceManager azureResourceManager, String resourceGroupName) {
+    this(azureResourceManager, resourceGroupName, Duration.ZERO);
+  }
+
+  /**
+   * @param azureResourceManager resource manager of the landing zone subscription.
+   * @param resourceGroupName landing zone resource group.
+   * @param snapshotTtl time a resource group listing and the virtual networks fetched for it are
+   *     reused for; zero lists the resource group for every search operation.
+   */
+  public ResourcesReaderImpl(
+      AzureResourceManager azureResourceManager, String resourceGroupName, Duration snapshotTtl) {
     this.azureResourceManager = azureResourceManager;
-    this.resourceGroup = resourceGroup;
+    this.resourceGroupName = resourceGroupName;
+    this.vNetResolver = new VNetResolver(azureResourceManager, snapshotTtl);
+    this.snapshot =
+        snapshotTtl.isZero() || snapshotTtl.isNegative()
+            ? this::takeSnapshot
+            : Suppliers.memoizeWithExpiration(
+                this::takeSnapshot, snapshotTtl.toNanos(), TimeUnit.NANOSECONDS);
   }
 
   /**
@@ -48,11 +78,8 @@ public class ResourcesReaderImpl implements ResourcesReader {
    */
   @Override
   public List<DeployedResource> listSharedResources(String landingZoneId) {
-    return listResourcesByTag(
-        landingZoneId,
-        resourceGroup.name(),
-        LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
-        ResourcePurpose.SHARED_RESOURCE.toString());
+    return snapshot()
+        .resourcesByPurpose(landingZoneId, ResourcePurpose.SHARED_RESOURCE.toString());
   }
 
   /**
@@ -65,11 +92,7 @@ public class ResourcesReaderImpl implements ResourcesReader {
   @Override
   public List<DeployedResource> listResourcesByPurpose(
       String landingZoneId, ResourcePurpose purpose) {
-    return listResourcesByTag(
-        landingZoneId,
-        resourceGroup.name(),
-        LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
-        purpose.toString());
+    return snapshot().resourcesByPurpose(landingZoneId, purpose.toString());
   }
 
   /**
@@ -81,11 +104,7 @@ public class ResourcesReaderImpl implements ResourcesReader {
    */
   @Override
   public List<DeployedResource> listResourcesWithPurpose(String landingZoneId) {
-    return listResourcesByTag(
-        landingZoneId,
-        resourceGroup.name(),
-        LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
-        null);
+    return snapshot().resourcesWithPurpose(landingZoneId);
   }
 
   /**
@@ -98,17 +117,14 @@ public class ResourcesReaderImpl implements ResourcesReader {
   @Override
   public List<DeployedVNet> listVNetBySubnetPurpose(
       String landingZoneId, SubnetResourcePurpose purpose) {
-    return listResourcesByTag(landingZoneId, resourceGroup.name(), purpose.toString(), null)
-        .stream()
+    return snapshot().resourcesBySubnetPurpose(landingZoneId, purpose).stream()
         .map(this::toDeployedVNet)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<DeployedResource> listAllResources(String landingZoneId) {
-    return landingZoneResources(landingZoneId, resourceGroup.name())
-        .map(this::toLandingZoneDeployedResource)
-        .toList();
+    return snapshot().allResources(landingZoneId);
   }
 
   /**
@@ -121,31 +137,41 @@ public class ResourcesReaderImpl implements ResourcesReader {
   @Override
   public List<DeployedSubnet> listSubnetsBySubnetPurpose(
       String landingZoneId, SubnetResourcePurpose purpose) {
-    return listResourcesByTag(landingZoneId, resourceGroup.name(), purpose.toString(), null)
-        .stream()
+    return snapshot().resourcesBySubnetPurpose(landingZoneId, purpose).stream()
         .map(r -> toDeployedSubnet(r, purpose))
         .toList();
   }
 
-  private List<DeployedResource> listResourcesByTag(
-      String landingZoneId, String resourceGroup, String key, String value) {
-    logger.verbose(
-        "Listing resources by tag. lzid:{} group:{} key:{} value:{} ",
-        landingZoneId,
-        resourceGroup,
-        key,
-        value);
-    return landingZoneResources(landingZoneId, resourceGroup)
-        .filter(
-            r -> r.tags().containsKey(key) && (r.tags().get(key).equals(value) || value == null))
-        .map(this::toLandingZoneDeployedResource)
-        .collect(Collectors.toList());
+  /**
+   * Returns the number of ARM requests made by this reader: the resource group listing plus one GET
+   * per distinct virtual network.
+   *
+   * @return number of ARM requests
+   */
+  @Override
+  public int armRequestCount() {
+    return armRequestCount.get() + vNetResolver.armRequestCount();
   }
 
-  private Stream<GenericResource> landingZoneResources(String landingZoneId, String resourceGroup) {
+  /**
+   * Returns the index of the resource group's landing zone resources. The resource group is listed
+   * again once the snapshot time to live of this reader has passed.
+   *
+   * @return snapshot of the landing zone resources in the resource group
+   */
+  public LandingZoneResourceSnapshot snapshot() {
+    return snapshot.get();
+  }
+
+  private LandingZoneResourceSnapshot takeSnapshot() {
+    logger.verbose("Listing landing zone resources. group:{}", resourceGroupName);
     var key = LandingZoneTagKeys.LANDING_ZONE_ID.toString();
-    return this.azureResourceManager.genericResources().listByResourceGroup(resourceGroup).stream()
-        .filter(r -> r.tags().containsKey(key) && (r.tags().get(key).equals(landingZoneId)));
+    armRequestCount.incrementAndGet();
+    return LandingZoneResourceSnapshot.fromResources(
+        azureResourceManager.genericResources().listByResourceGroup(resourceGroupName).stream()
+            .filter(r -> r.tags() != null && r.tags().containsKey(key))
+            .map(this::toLandingZoneDeployedResource)
+            .toList());
   }
 
   private DeployedResource toLandingZoneDeployedResource(GenericResource r) {
@@ -155,51 +181,11 @@ public class ResourcesReaderImpl implements ResourcesReader {
   }
 
   private DeployedVNet toDeployedVNet(DeployedResource resource) {
-    Network vNet = azureResourceManager.networks().getById(resource.resourceId());
-
-    if (vNet == null) {
-      throw logger.logExceptionAsError(
-          new RuntimeException(
-              "The resource provided is not VNet or the resource is no longer available"));
-    }
-
-    return toDeployedVNet(vNet);
+    return vNetResolver.resolve(resource.resourceId());
   }
 
   private DeployedSubnet toDeployedSubnet(
       DeployedResource resource, SubnetResourcePurpose purpose) {
-    Network vNet = azureResourceManager.networks().getById(resource.resourceId());
-
-    if (vNet == null) {
-      throw logger.logExceptionAsError(
-          new RuntimeException(
-              "The resource provided is not VNet or the resource is no longer available"));
-    }
-
-    var subnetName = vNet.tags().get(purpose.toString());
-    var subnet = vNet.subnets().get(subnetName);
-
-    return new DeployedSubnet(subnet.id(), subnetName, vNet.id(), vNet.regionName());
-  }
-
-  private DeployedVNet toDeployedVNet(Network network) {
-    EnumMap<SubnetResourcePurpose, DeployedSubnet> subnetHashMap =
-        new EnumMap<>(SubnetResourcePurpose.class);
-
-    Arrays.stream(SubnetResourcePurpose.values())
-        .toList()
-        .forEach(
-            p -> {
-              var subnetName = network.tags().get(p.toString());
-              if (subnetName != null) {
-                var subnet = network.subnets().get(subnetName);
-                subnetHashMap.put(
-                    p,
-                    new DeployedSubnet(
-                        subnet.id(), subnet.name(), network.id(), network.regionName()));
-              }
-            });
-
-    return new DeployedVNet(network.id(), subnetHashMap, network.regionName());
+    return vNetResolver.resolve(resource.resourceId()).subnetIdPurposeMap().get(purpose);
   }
 }
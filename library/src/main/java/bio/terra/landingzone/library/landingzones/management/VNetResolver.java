@@ -0,0 +1,89 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import bio.terra.landingzone.library.landingzones.deployment.DeployedSubnet;
+import bio.terra.landingzone.library.landingzones.deployment.DeployedVNet;
+import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.resourcemanager.AzureResourceManager;
+import com.azure.resourcemanager.network.models.Network;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolver of virtual networks. Each VNet (including its subnets) is fetched from ARM at most once
+ * within the time to live of the resolver; all subnet purposes of the VNet are resolved from that
+ * single result.
+ */
+class VNetResolver {
+  private static final ClientLogger logger = new ClientLogger(VNetResolver.class);
+
+  private final AzureResourceManager azureResourceManager;
+  private final Map<String, DeployedVNet> vNetsById;
+  private final AtomicInteger armRequestCount = new AtomicInteger();
+
+  /**
+   * @param azureResourceManager resource manager of the landing zone subscription.
+   * @param ttl time a fetched VNet is reused for; zero fetches the VNet on every use.
+   */
+  VNetResolver(AzureResourceManager azureResourceManager, Duration ttl) {
+    this.azureResourceManager = azureResourceManager;
+    this.vNetsById =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl.isNegative() ? Duration.ZERO : ttl)
+            .<String, DeployedVNet>build()
+            .asMap();
+  }
+
+  /**
+   * Returns the virtual network with the given id and its subnets by purpose, fetching it from ARM
+   * unless it was fetched within the time to live.
+   *
+   * @param vNetId virtual network resource id.
+   * @return virtual network.
+   */
+  DeployedVNet resolve(String vNetId) {
+    return vNetsById.computeIfAbsent(vNetId.toLowerCase(), k -> toDeployedVNet(fetch(vNetId)));
+  }
+
+  /** @return number of ARM requests this resolver has made. */
+  int armRequestCount() {
+    return armRequestCount.get();
+  }
+
+  private Network fetch(String vNetId) {
+    armRequestCount.incrementAndGet();
+    Network vNet = azureResourceManager.networks().getById(vNetId);
+
+    if (vNet == null) {
+      throw logger.logExceptionAsError(
+          new RuntimeException(
+              "The resource provided is not VNet or the resource is no longer available"));
+    }
+    return vNet;
+  }
+
+  private DeployedVNet toDeployedVNet(Network network) {
+    EnumMap<SubnetResourcePurpose, DeployedSubnet> subnetHashMap =
+        new EnumMap<>(SubnetResourcePurpose.class);
+
+    Arrays.stream(SubnetResourcePurpose.values())
+        .toList()
+        .forEach(
+            p -> {
+              var subnetName = network.tags().get(p.toString());
+              if (subnetName != null) {
+                var subnet = network.subnets().get(subnetName);
+                subnetHashMap.put(
+                    p,
+                    new DeployedSubnet(
+                        subnet.id(), subnet.name(), network.id(), network.regionName()));
+              }
+            });
+
+    return new DeployedVNet(network.id(), subnetHashMap, network.regionName());
+  }
+}
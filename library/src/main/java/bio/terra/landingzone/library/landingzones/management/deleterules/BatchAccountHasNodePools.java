@@ -26,4 +26,12 @@ public class BatchAccountHasNodePools extends ResourceDependencyDeleteRule {
         .findAny()
         .isPresent();
   }
+
+  @Override
+  public boolean hasDependentResources(
+      ResourceToDelete resourceToDelete, DeleteRuleContext context) {
+    return context.memoize(
+        "batch-pools/" + resourceToDelete.resource().id(),
+        () -> hasDependentResources(resourceToDelete));
+  }
 }
@@ -9,4 +9,16 @@ import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
  */
 public interface DeleteRule {
   DeleteRuleResult applyRule(ResourceToDelete genericResource);
+
+  /**
+   * Applies the rule as part of a verification of several resources. Rules which look up the same
+   * Azure state for several resources can memoize it in the context of the verification.
+   *
+   * @param genericResource resource to delete.
+   * @param context state shared by the rules during the verification.
+   * @return result of the rule.
+   */
+  default DeleteRuleResult applyRule(ResourceToDelete genericResource, DeleteRuleContext context) {
+    return applyRule(genericResource);
+  }
 }
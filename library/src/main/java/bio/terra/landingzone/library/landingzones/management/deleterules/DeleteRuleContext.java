@@ -0,0 +1,34 @@
+package bio.terra.landingzone.library.landingzones.management.deleterules;
+
+import com.google.common.base.Suppliers;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * State shared by the delete rules during one verification of the landing zone resources.
+ *
+ * <p>Rules memoize expensive Azure lookups in the context, so that a lookup needed by several
+ * resources of a resource group, e.g. the networks of all virtual machines, is done once per
+ * verification. Rules are evaluated concurrently; concurrent requests for the same lookup share a
+ * single call to Azure.
+ */
+public class DeleteRuleContext {
+  private final Map<String, Supplier<?>> lookups = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the result of a lookup, loading it on first request.
+   *
+   * @param key key of the lookup, compared ignoring case as Azure resource names and ids are.
+   * @param loader loads the result of the lookup.
+   * @return result of the lookup.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T memoize(String key, Supplier<T> loader) {
+    return (T)
+        lookups
+            .computeIfAbsent(key.toLowerCase(Locale.ROOT), k -> Suppliers.memoize(loader::get))
+            .get();
+  }
+}
@@ -4,6 +4,7 @@ import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.library.landingzones.management.DeleteRuleResult;
 import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
 import com.azure.core.util.logging.ClientLogger;
+import java.util.function.BooleanSupplier;
 
 /**
  * A base rule that facilitates the implementation of rules that check for arm or functional
@@ -24,25 +25,53 @@ public abstract class ResourceDependencyDeleteRule implements DeleteRule {
 
   public abstract boolean hasDependentResources(ResourceToDelete resourceToDelete);
 
+  /**
+   * Checks for dependencies using the lookups memoized in the context of a verification. Rules
+   * which look up state shared by several resources override this method.
+   */
+  public boolean hasDependentResources(
+      ResourceToDelete resourceToDelete, DeleteRuleContext context) {
+    return hasDependentResources(resourceToDelete);
+  }
+
   @Override
   public DeleteRuleResult applyRule(ResourceToDelete genericResource) {
-    if (!genericResource.resource().type().equalsIgnoreCase(getExpectedType())) {
-      return new DeleteRuleResult(
-          true,
-          getClass().getSimpleName(),
-          "Rule is not applicable to this azure resource type",
-          genericResource.resource().type());
+    if (!isApplicable(genericResource)) {
+      return notApplicable(genericResource);
+    }
+
+    return applyDependencyRule(genericResource, () -> hasDependentResources(genericResource));
+  }
+
+  @Override
+  public DeleteRuleResult applyRule(ResourceToDelete genericResource, DeleteRuleContext context) {
+    if (!isApplicable(genericResource)) {
+      return notApplicable(genericResource);
     }
 
-    return applyDependencyRule(genericResource);
+    return applyDependencyRule(
+        genericResource, () -> hasDependentResources(genericResource, context));
+  }
+
+  private boolean isApplicable(ResourceToDelete genericResource) {
+    return genericResource.resource().type().equalsIgnoreCase(getExpectedType());
+  }
+
+  private DeleteRuleResult notApplicable(ResourceToDelete genericResource) {
+    return new DeleteRuleResult(
+        true,
+        getClass().getSimpleName(),
+        "Rule is not applicable to this azure resource type",
+        genericResource.resource().type());
   }
 
-  private DeleteRuleResult applyDependencyRule(ResourceToDelete resourceToDelete) {
+  private DeleteRuleResult applyDependencyRule(
+      ResourceToDelete resourceToDelete, BooleanSupplier hasDependentResources) {
     logger.info(
         "Applying delete rule. name:{} to resource:{}",
         getClass().getSimpleName(),
         resourceToDelete.resource().id());
-    if (hasDependentResources(resourceToDelete)) {
+    if (hasDependentResources.getAsBoolean()) {
       logger.info(
           "Resource has a dependant resource. resource:{}", resourceToDelete.resource().id());
       return new DeleteRuleResult(
@@ -26,4 +26,12 @@ public class StorageAccountHasContainers extends ResourceDependencyDeleteRule {
         .findAny()
         .isPresent();
   }
+
+  @Override
+  public boolean hasDependentResources(
+      ResourceToDelete resourceToDelete, DeleteRuleContext context) {
+    return context.memoize(
+        "storage-containers/" + resourceToDelete.resource().id(),
+        () -> hasDependentResources(resourceToDelete));
+  }
 }
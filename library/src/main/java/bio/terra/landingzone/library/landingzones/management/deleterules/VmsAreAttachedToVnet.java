@@ -4,6 +4,9 @@ import static bio.terra.landingzone.library.landingzones.management.AzureResourc
 
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class VmsAreAttachedToVnet extends ResourceDependencyDeleteRule {
 
@@ -18,18 +21,28 @@ public class VmsAreAttachedToVnet extends ResourceDependencyDeleteRule {
 
   @Override
   public boolean hasDependentResources(ResourceToDelete resourceToDelete) {
+    return hasDependentResources(resourceToDelete, new DeleteRuleContext());
+  }
+
+  @Override
+  public boolean hasDependentResources(
+      ResourceToDelete resourceToDelete, DeleteRuleContext context) {
+    String resourceGroupName = resourceToDelete.resource().resourceGroupName();
+    // the virtual machines of a resource group are listed once for all of its networks
+    Set<String> attachedNetworkIds =
+        context.memoize(
+            "vm-networks/" + resourceGroupName, () -> listAttachedNetworkIds(resourceGroupName));
+    return attachedNetworkIds.contains(resourceToDelete.resource().id().toLowerCase(Locale.ROOT));
+  }
 
+  private Set<String> listAttachedNetworkIds(String resourceGroupName) {
     return armManagers
         .azureResourceManager()
         .virtualMachines()
-        .listByResourceGroup(resourceToDelete.resource().resourceGroupName())
+        .listByResourceGroup(resourceGroupName)
         .stream()
-        .anyMatch(
-            v ->
-                v.getPrimaryNetworkInterface()
-                    .primaryIPConfiguration()
-                    .getNetwork()
-                    .id()
-                    .equalsIgnoreCase(resourceToDelete.resource().id()));
+        .map(v -> v.getPrimaryNetworkInterface().primaryIPConfiguration().networkId())
+        .map(id -> id.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toSet());
   }
 }
@@ -17,6 +17,16 @@ public class QuotaProvider {
     this.quotaReaders = quotaReaders;
   }
 
+  /**
+   * Determines whether quota information can be read for a resource type.
+   *
+   * @param resourceType azure resource type.
+   * @return true if a quota reader supports the resource type.
+   */
+  public boolean isQuotaSupported(String resourceType) {
+    return quotaReaders.stream().anyMatch(r -> r.getResourceType().equalsIgnoreCase(resourceType));
+  }
+
   public ResourceQuota resourceQuota(String resourceId) {
     String resourceType = AzureResourceTypeUtils.resourceTypeFromResourceId(resourceId);
 
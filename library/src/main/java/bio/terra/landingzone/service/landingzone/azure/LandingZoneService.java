@@ -10,11 +10,15 @@ import bio.terra.landingzone.db.LandingZoneDao;
 import bio.terra.landingzone.db.exception.DuplicateLandingZoneException;
 import bio.terra.landingzone.db.model.LandingZoneRecord;
 import bio.terra.landingzone.job.JobMapKeys;
+import bio.terra.landingzone.job.JobSnapshot;
+import bio.terra.landingzone.job.JobStateListener;
 import bio.terra.landingzone.job.LandingZoneJobBuilder;
 import bio.terra.landingzone.job.LandingZoneJobService;
 import bio.terra.landingzone.job.LandingZoneJobService.AsyncJobResult;
 import bio.terra.landingzone.job.model.OperationType;
+import bio.terra.landingzone.library.LandingZoneDeletePlanCache;
 import bio.terra.landingzone.library.LandingZoneManagerProvider;
+import bio.terra.landingzone.library.LandingZoneResourceQuotaCache;
 import bio.terra.landingzone.library.configuration.LandingZoneTestingConfiguration;
 import bio.terra.landingzone.library.landingzones.definition.factories.StepsDefinitionFactoryType;
 import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
@@ -23,7 +27,9 @@ import bio.terra.landingzone.library.landingzones.deployment.LandingZonePurpose;
 import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
 import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
 import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneDeletePlan;
 import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
+import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
 import bio.terra.landingzone.library.landingzones.management.quotas.ResourceQuota;
 import bio.terra.landingzone.model.LandingZoneTarget;
 import bio.terra.landingzone.service.bpm.LandingZoneBillingProfileManagerService;
@@ -44,6 +50,7 @@ import bio.terra.landingzone.service.landingzone.azure.model.StartLandingZoneDel
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
 import bio.terra.landingzone.stairway.flight.create.CreateLandingZoneFlight;
 import bio.terra.landingzone.stairway.flight.delete.DeleteLandingZoneFlight;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -71,6 +78,8 @@ public class LandingZoneService {
   private final LandingZoneSamService samService;
   private final LandingZoneBillingProfileManagerService bpmService;
   private final LandingZoneTestingConfiguration testingConfiguration;
+  private final LandingZoneResourceQuotaCache resourceQuotaCache;
+  private final LandingZoneDeletePlanCache deletePlanCache;
 
   @Autowired
   public LandingZoneService(
@@ -79,13 +88,17 @@ public class LandingZoneService {
       LandingZoneDao landingZoneDao,
       LandingZoneSamService samService,
       LandingZoneBillingProfileManagerService bpmService,
-      LandingZoneTestingConfiguration landingZoneTestingConfiguration) {
+      LandingZoneTestingConfiguration landingZoneTestingConfiguration,
+      LandingZoneResourceQuotaCache resourceQuotaCache,
+      LandingZoneDeletePlanCache deletePlanCache) {
     this.azureLandingZoneJobService = azureLandingZoneJobService;
     this.landingZoneManagerProvider = landingZoneManagerProvider;
     this.landingZoneDao = landingZoneDao;
     this.samService = samService;
     this.bpmService = bpmService;
     this.testingConfiguration = landingZoneTestingConfiguration;
+    this.resourceQuotaCache = resourceQuotaCache;
+    this.deletePlanCache = deletePlanCache;
   }
 
   /**
@@ -97,9 +110,25 @@ public class LandingZoneService {
    */
   public AsyncJobResult<DeployedLandingZone> getAsyncJobResult(
       BearerToken bearerToken, String jobId) {
+    return getAsyncJobResult(bearerToken, jobId, Duration.ZERO);
+  }
+
+  /**
+   * Retrieves the result of an asynchronous landing zone creation job, after waiting for the next
+   * change of its state.
+   *
+   * @param bearerToken bearer token for the user request.
+   * @param jobId job identifier.
+   * @param wait maximum time to wait for the job to change state; the result is returned as soon
+   *     as it does.
+   * @return result of asynchronous job.
+   */
+  public AsyncJobResult<DeployedLandingZone> getAsyncJobResult(
+      BearerToken bearerToken, String jobId, Duration wait) {
     // Check calling user has access to the landing zone referenced by this job
-    azureLandingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.empty());
-    return azureLandingZoneJobService.retrieveAsyncJobResult(jobId, DeployedLandingZone.class);
+    var job = azureLandingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.empty());
+    job = maybeWaitForJobStateChange(job, wait);
+    return azureLandingZoneJobService.retrieveAsyncJobResult(job, DeployedLandingZone.class);
   }
 
   /**
@@ -112,9 +141,73 @@ public class LandingZoneService {
    */
   public AsyncJobResult<DeletedLandingZone> getAsyncDeletionJobResult(
       BearerToken bearerToken, UUID landingZoneId, String jobId) {
+    return getAsyncDeletionJobResult(bearerToken, landingZoneId, jobId, Duration.ZERO);
+  }
+
+  /**
+   * Retrieves the result of an asynchronous landing zone deleting job, after waiting for the next
+   * change of its state.
+   *
+   * @param bearerToken bearer token for the user request.
+   * @param landingZoneId landing zone id associated with the job.
+   * @param jobId job identifier.
+   * @param wait maximum time to wait for the job to change state; the result is returned as soon
+   *     as it does.
+   * @return result of asynchronous job.
+   */
+  public AsyncJobResult<DeletedLandingZone> getAsyncDeletionJobResult(
+      BearerToken bearerToken, UUID landingZoneId, String jobId, Duration wait) {
+    // Check calling user has access to the landing zone referenced by this job
+    var job =
+        azureLandingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.of(landingZoneId));
+    job = maybeWaitForJobStateChange(job, wait);
+    return azureLandingZoneJobService.retrieveAsyncJobResult(job, DeletedLandingZone.class);
+  }
+
+  /**
+   * The job state read for the authorization check is reused to build the job result, so that a
+   * request reads it once. It is only read again if the job was waited for.
+   */
+  private JobSnapshot maybeWaitForJobStateChange(JobSnapshot job, Duration wait) {
+    if (!wait.isPositive() || !job.isRunning()) {
+      return job;
+    }
+    azureLandingZoneJobService.waitForJobStateChange(job.getJobId(), wait);
+    return azureLandingZoneJobService.retrieveJobSnapshot(job.getJobId());
+  }
+
+  /**
+   * Subscribes to the progress of an asynchronous landing zone creation job.
+   *
+   * @param bearerToken bearer token for the user request.
+   * @param jobId job identifier.
+   * @param listener listener of the job progress and result.
+   * @return action removing the subscription.
+   */
+  public Runnable subscribeToCreationJob(
+      BearerToken bearerToken, String jobId, JobStateListener<DeployedLandingZone> listener) {
+    // Check calling user has access to the landing zone referenced by this job
+    azureLandingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.empty());
+    return azureLandingZoneJobService.subscribeToJob(jobId, DeployedLandingZone.class, listener);
+  }
+
+  /**
+   * Subscribes to the progress of an asynchronous landing zone deleting job.
+   *
+   * @param bearerToken bearer token for the user request.
+   * @param landingZoneId landing zone id associated with the job.
+   * @param jobId job identifier.
+   * @param listener listener of the job progress and result.
+   * @return action removing the subscription.
+   */
+  public Runnable subscribeToDeletionJob(
+      BearerToken bearerToken,
+      UUID landingZoneId,
+      String jobId,
+      JobStateListener<DeletedLandingZone> listener) {
     // Check calling user has access to the landing zone referenced by this job
     azureLandingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.of(landingZoneId));
-    return azureLandingZoneJobService.retrieveAsyncJobResult(jobId, DeletedLandingZone.class);
+    return azureLandingZoneJobService.subscribeToJob(jobId, DeletedLandingZone.class, listener);
   }
 
   /**
@@ -237,6 +330,42 @@ public class LandingZoneService {
         jobBuilder.submit(), new StartLandingZoneDeletion(landingZoneId));
   }
 
+  /**
+   * Previews the deletion of a landing zone: the resources which would be deleted, in delete order,
+   * and the delete rules which don't allow deleting them. Nothing is deleted. The plan is cached
+   * briefly, and a deletion started while it is cached reuses its resource listing.
+   *
+   * @param bearerToken bearer token of the calling user.
+   * @param landingZoneId landing zone id.
+   * @param bypassCache when true, the plan is computed again even if one is cached.
+   * @return the delete plan.
+   */
+  public LandingZoneDeletePlan getDeletePlan(
+      BearerToken bearerToken, UUID landingZoneId, boolean bypassCache) {
+    checkIfUserHasPermissionForLandingZoneResource(
+        bearerToken, landingZoneId, SamConstants.SamLandingZoneAction.LIST_RESOURCES);
+    if (!bypassCache) {
+      var cached = deletePlanCache.get(landingZoneId);
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+    }
+
+    LandingZoneRecord landingZoneRecord = getLandingZoneRecord(landingZoneId);
+    if (Boolean.parseBoolean(
+        landingZoneRecord.properties().getOrDefault(LandingZoneFlightMapKeys.ATTACH, "false"))) {
+      // resources of an attached landing zone are not deleted
+      return new LandingZoneDeletePlan(List.of(), List.of());
+    }
+    var landingZoneManager =
+        landingZoneManagerProvider.createLandingZoneManager(toLandingZoneTarget(landingZoneRecord));
+    List<ResourceToDelete> resources =
+        landingZoneManager.listResourcesToDelete(landingZoneId.toString());
+    LandingZoneDeletePlan plan = landingZoneManager.previewResourcesDelete(resources);
+    deletePlanCache.put(landingZoneId, resources, plan);
+    return plan;
+  }
+
   /**
    * Lists available landing zone definitions.
    *
@@ -272,11 +401,45 @@ public class LandingZoneService {
    */
   public ResourceQuota getResourceQuota(
       BearerToken bearerToken, UUID landingZoneId, String resourceId) {
+    return getResourceQuota(bearerToken, landingZoneId, resourceId, false);
+  }
 
-    return createLandingZoneManagerAndCheckListPermission(bearerToken, landingZoneId)
+  /**
+   * Returns resource quota information for a landing zone resource.
+   *
+   * @param landingZoneId landing zone id.
+   * @param resourceId azure resource id.
+   * @param bypassResourcesCache when true, landing zone resources are read from Azure.
+   * @return quota information.
+   */
+  public ResourceQuota getResourceQuota(
+      BearerToken bearerToken,
+      UUID landingZoneId,
+      String resourceId,
+      boolean bypassResourcesCache) {
+
+    return createLandingZoneManagerAndCheckListPermission(
+            bearerToken, landingZoneId, bypassResourcesCache)
         .resourceQuota(landingZoneId.toString(), resourceId);
   }
 
+  /**
+   * Returns quota information for all quota-bearing resources of a landing zone. Snapshots are
+   * cached for a configurable time since quotas change rarely.
+   *
+   * @param bearerToken bearer token of the calling user.
+   * @param landingZoneId landing zone id.
+   * @param bypassCache when true, resources and quotas are read from Azure.
+   * @return quota information of each quota-bearing resource.
+   */
+  public List<ResourceQuota> getResourceQuotas(
+      BearerToken bearerToken, UUID landingZoneId, boolean bypassCache) {
+    var landingZoneManager =
+        createLandingZoneManagerAndCheckListPermission(bearerToken, landingZoneId, bypassCache);
+    return resourceQuotaCache.getResourceQuotas(
+        landingZoneManager, landingZoneId.toString(), bypassCache);
+  }
+
   /**
    * Lists all landing zone resources with a provided ResourcePurpose.
    *
@@ -287,10 +450,28 @@ public class LandingZoneService {
    */
   public List<LandingZoneResource> listResourcesByPurpose(
       BearerToken bearerToken, UUID landingZoneId, LandingZonePurpose purpose) {
+    return listResourcesByPurpose(bearerToken, landingZoneId, purpose, false);
+  }
+
+  /**
+   * Lists all landing zone resources with a provided ResourcePurpose.
+   *
+   * @param bearerToken bearer token of the calling user.
+   * @param landingZoneId landing zone ID to query.
+   * @param purpose landing zone purpose to query.
+   * @param bypassResourcesCache when true, resources are read from Azure instead of the cache.
+   * @return list of resources with the purpose specified.
+   */
+  public List<LandingZoneResource> listResourcesByPurpose(
+      BearerToken bearerToken,
+      UUID landingZoneId,
+      LandingZonePurpose purpose,
+      boolean bypassResourcesCache) {
     List<LandingZoneResource> deployedResources = null;
 
     LandingZoneManager landingZoneManager =
-        createLandingZoneManagerAndCheckListPermission(bearerToken, landingZoneId);
+        createLandingZoneManagerAndCheckListPermission(
+            bearerToken, landingZoneId, bypassResourcesCache);
 
     if (purpose.getClass().equals(ResourcePurpose.class)) {
       deployedResources =
@@ -303,18 +484,21 @@ public class LandingZoneService {
               landingZoneManager, landingZoneId, (SubnetResourcePurpose) purpose);
     }
 
+    MetricUtils.recordArmRequestCount(
+        "listResourcesByPurpose", landingZoneManager.reader().armRequestCount());
     return deployedResources;
   }
 
   private LandingZoneManager createLandingZoneManagerAndCheckListPermission(
-      BearerToken bearerToken, UUID landingZoneId) {
+      BearerToken bearerToken, UUID landingZoneId, boolean bypassResourcesCache) {
     checkIfUserHasPermissionForLandingZoneResource(
         bearerToken, landingZoneId, SamConstants.SamLandingZoneAction.LIST_RESOURCES);
 
     LandingZoneTarget landingZoneTarget = buildLandingZoneTarget(landingZoneId);
 
     LandingZoneManager landingZoneManager =
-        landingZoneManagerProvider.createLandingZoneManager(landingZoneTarget);
+        landingZoneManagerProvider.createLandingZoneManager(
+            landingZoneTarget, bypassResourcesCache);
     return landingZoneManager;
   }
 
@@ -345,10 +529,35 @@ public class LandingZoneService {
     }
   }
 
+  /**
+   * Gets the region of a landing zone. The region is read from the landing zone record; Azure is
+   * only consulted for records created before the region was stored, and the record is then
+   * backfilled.
+   *
+   * @param bearerToken bearer token of the calling user.
+   * @param landingZoneId landing zone ID.
+   * @return region name.
+   */
   public String getLandingZoneRegion(BearerToken bearerToken, UUID landingZoneId) {
-    var landingZoneManager =
-        createLandingZoneManagerAndCheckListPermission(bearerToken, landingZoneId);
-    return landingZoneManager.getLandingZoneRegion().name();
+    checkIfUserHasPermissionForLandingZoneResource(
+        bearerToken, landingZoneId, SamConstants.SamLandingZoneAction.LIST_RESOURCES);
+    LandingZoneRecord landingZoneRecord = getLandingZoneRecord(landingZoneId);
+    if (StringUtils.isNotBlank(landingZoneRecord.region())) {
+      return landingZoneRecord.region();
+    }
+
+    String region =
+        landingZoneManagerProvider
+            .createLandingZoneManager(toLandingZoneTarget(landingZoneRecord))
+            .getLandingZoneRegion()
+            .name();
+    try {
+      landingZoneDao.updateLandingZoneRegionIfMissing(landingZoneId, region);
+    } catch (DataAccessException e) {
+      // the region is still correct; the backfill is retried on the next request
+      logger.warn("Failed to backfill region for landing zone {}", landingZoneId, e);
+    }
+    return region;
   }
 
   /**
@@ -433,8 +642,22 @@ public class LandingZoneService {
    */
   public LandingZoneResourcesByPurpose listResourcesWithPurposes(
       BearerToken bearerToken, UUID landingZoneId) {
+    return listResourcesWithPurposes(bearerToken, landingZoneId, false);
+  }
+
+  /**
+   * List all resources in a landing zone.
+   *
+   * @param bearerToken bearer token of the calling user.
+   * @param landingZoneId the landing zone ID.
+   * @param bypassResourcesCache when true, resources are read from Azure instead of the cache.
+   * @return list of resources grouped by purpose.
+   */
+  public LandingZoneResourcesByPurpose listResourcesWithPurposes(
+      BearerToken bearerToken, UUID landingZoneId, boolean bypassResourcesCache) {
     LandingZoneManager landingZoneManager =
-        createLandingZoneManagerAndCheckListPermission(bearerToken, landingZoneId);
+        createLandingZoneManagerAndCheckListPermission(
+            bearerToken, landingZoneId, bypassResourcesCache);
 
     var listGeneralResources =
         listGeneralResourcesWithPurposes(landingZoneId.toString(), landingZoneManager);
@@ -443,18 +666,19 @@ public class LandingZoneService {
     // Merge lists, no key collision is expected since the purpose sets are different.
     listGeneralResources.putAll(listSubnetResources);
 
+    MetricUtils.recordArmRequestCount(
+        "listResourcesWithPurposes", landingZoneManager.reader().armRequestCount());
     return new LandingZoneResourcesByPurpose(listGeneralResources);
   }
 
   private LandingZoneTarget buildLandingZoneTarget(UUID landingZoneId) {
+    return toLandingZoneTarget(getLandingZoneRecord(landingZoneId));
+  }
+
+  private LandingZoneRecord getLandingZoneRecord(UUID landingZoneId) {
     try {
       // Look up the landing zone record from the database
-      LandingZoneRecord landingZoneRecord = landingZoneDao.getLandingZoneRecord(landingZoneId);
-
-      return new LandingZoneTarget(
-          landingZoneRecord.tenantId(),
-          landingZoneRecord.subscriptionId(),
-          landingZoneRecord.resourceGroupId());
+      return landingZoneDao.getLandingZoneRecord(landingZoneId);
     } catch (DataAccessException e) {
       logger.error("Error while retrieving landing zone record {}", landingZoneId, e);
       throw new InternalServerErrorException(
@@ -462,6 +686,13 @@ public class LandingZoneService {
     }
   }
 
+  private static LandingZoneTarget toLandingZoneTarget(LandingZoneRecord landingZoneRecord) {
+    return new LandingZoneTarget(
+        landingZoneRecord.tenantId(),
+        landingZoneRecord.subscriptionId(),
+        landingZoneRecord.resourceGroupId());
+  }
+
   private void checkIfUserHasPermissionForLandingZoneResource(
       BearerToken bearerToken, UUID landingZoneId, String permissionName) {
     SamRethrow.onInterrupted(
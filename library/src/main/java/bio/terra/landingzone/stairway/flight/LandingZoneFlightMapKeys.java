@@ -10,6 +10,8 @@ public class LandingZoneFlightMapKeys {
   public static final String ATTACH = "attach";
   public static final String STORAGE_ACCOUNT_NAME = "storageAccountName";
   public static final String CREATE_LANDING_ZONE_PARAMETERS_RESOLVER = "parametersResolver";
+  public static final String DELETE_PLAN = "deletePlan";
+  public static final String DELETED_RESOURCE_IDS = "deletedResourceIds";
 
   private LandingZoneFlightMapKeys() {}
 }
@@ -0,0 +1,59 @@
+package bio.terra.landingzone.stairway.flight;
+
+import bio.terra.landingzone.stairway.flight.exception.InvalidStepDependenciesException;
+import bio.terra.stairway.Step;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of the steps of a landing zone definition together with its earliest-start
+ * schedule, as computed by {@link StepDependencyPlanner}.
+ *
+ * @param dependencies steps each step reads working map keys from, for every step in definition
+ *     order.
+ * @param earliestStarts earliest start of each step, once all steps it depends on finished.
+ * @param stages steps grouped by earliest start, in start order; steps of a stage don't depend on
+ *     each other.
+ * @param criticalPath longest chain of dependent steps, which bounds the duration of the flight.
+ * @param duration finish of the last step of the critical path.
+ */
+public record StepDependencyPlan(
+    Map<Step, Set<Step>> dependencies,
+    Map<Step, Long> earliestStarts,
+    List<List<Step>> stages,
+    List<Step> criticalPath,
+    long duration) {
+
+  /**
+   * Checks that groups of steps which run one after another respect the dependencies: every step
+   * runs in a later group than the steps it depends on.
+   *
+   * @param groups steps of this plan arranged in groups, in run order.
+   * @throws InvalidStepDependenciesException if a step runs before or together with a step it
+   *     depends on.
+   */
+  public void validateGroups(List<List<Step>> groups) {
+    Map<Step, Integer> groupIndexes = new HashMap<>();
+    for (int i = 0; i < groups.size(); i++) {
+      for (Step step : groups.get(i)) {
+        groupIndexes.put(step, i);
+      }
+    }
+    if (!groupIndexes.keySet().equals(dependencies.keySet())) {
+      throw new InvalidStepDependenciesException("Groups don't contain the steps of the plan.");
+    }
+    dependencies.forEach(
+        (step, stepDependencies) -> {
+          for (Step dependency : stepDependencies) {
+            if (groupIndexes.get(dependency) >= groupIndexes.get(step)) {
+              throw new InvalidStepDependenciesException(
+                  "Step %s doesn't run after step %s it depends on."
+                      .formatted(
+                          step.getClass().getSimpleName(), dependency.getClass().getSimpleName()));
+            }
+          }
+        });
+  }
+}
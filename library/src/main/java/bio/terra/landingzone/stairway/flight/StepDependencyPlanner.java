@@ -0,0 +1,180 @@
+package bio.terra.landingzone.stairway.flight;
+
+import bio.terra.landingzone.stairway.flight.exception.InvalidStepDependenciesException;
+import bio.terra.stairway.Step;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+/**
+ * Builds the dependency graph of the steps of a landing zone definition from the working map keys
+ * they declare with {@link WorkingMapDependencies}: a step depends on the step producing a key it
+ * consumes. Steps which don't declare their keys have no dependencies.
+ */
+public class StepDependencyPlanner {
+  private StepDependencyPlanner() {}
+
+  /**
+   * Plans steps assuming every step takes the same time, so that the earliest start of a step is
+   * the length of the longest chain of steps it depends on.
+   *
+   * @param steps steps of a definition.
+   * @return dependency graph and schedule of the steps.
+   * @throws InvalidStepDependenciesException if a consumed key has no producer, a key has more
+   *     than one producer or the dependencies form a cycle.
+   */
+  public static StepDependencyPlan plan(List<Step> steps) {
+    return plan(steps, step -> 1);
+  }
+
+  /**
+   * Plans steps with estimated durations.
+   *
+   * @param steps steps of a definition.
+   * @param duration estimated duration of a step, in any unit.
+   * @return dependency graph and schedule of the steps.
+   * @throws InvalidStepDependenciesException if a consumed key has no producer, a key has more
+   *     than one producer or the dependencies form a cycle.
+   */
+  public static StepDependencyPlan plan(List<Step> steps, ToLongFunction<Step> duration) {
+    List<Set<Integer>> dependencies = getDependencies(steps);
+    List<Integer> order = sortTopologically(steps, dependencies);
+
+    long[] earliestStarts = new long[steps.size()];
+    int[] criticalPredecessors = new int[steps.size()];
+    int lastStep = -1;
+    long planDuration = 0;
+    for (int step : order) {
+      criticalPredecessors[step] = -1;
+      for (int dependency : dependencies.get(step)) {
+        long finish = earliestStarts[dependency] + duration.applyAsLong(steps.get(dependency));
+        if (criticalPredecessors[step] == -1 || finish > earliestStarts[step]) {
+          earliestStarts[step] = finish;
+          criticalPredecessors[step] = dependency;
+        }
+      }
+      long finish = earliestStarts[step] + duration.applyAsLong(steps.get(step));
+      if (lastStep == -1 || finish > planDuration) {
+        lastStep = step;
+        planDuration = finish;
+      }
+    }
+
+    Map<Step, Set<Step>> stepDependencies = new LinkedHashMap<>();
+    Map<Step, Long> stepEarliestStarts = new LinkedHashMap<>();
+    TreeMap<Long, List<Step>> stages = new TreeMap<>();
+    for (int i = 0; i < steps.size(); i++) {
+      Set<Step> dependencySteps = new LinkedHashSet<>();
+      dependencies.get(i).forEach(d -> dependencySteps.add(steps.get(d)));
+      stepDependencies.put(steps.get(i), dependencySteps);
+      stepEarliestStarts.put(steps.get(i), earliestStarts[i]);
+      stages.computeIfAbsent(earliestStarts[i], s -> new ArrayList<>()).add(steps.get(i));
+    }
+
+    List<Step> criticalPath = new ArrayList<>();
+    for (int step = lastStep; step != -1; step = criticalPredecessors[step]) {
+      criticalPath.add(0, steps.get(step));
+    }
+
+    return new StepDependencyPlan(
+        stepDependencies,
+        stepEarliestStarts,
+        List.copyOf(stages.values()),
+        criticalPath,
+        planDuration);
+  }
+
+  private static List<Set<Integer>> getDependencies(List<Step> steps) {
+    Map<String, Integer> producers = new HashMap<>();
+    for (int i = 0; i < steps.size(); i++) {
+      for (String key : getProducedKeys(steps.get(i))) {
+        Integer producer = producers.putIfAbsent(key, i);
+        if (producer != null) {
+          throw new InvalidStepDependenciesException(
+              "Key %s is produced by steps %s and %s."
+                  .formatted(key, getName(steps.get(producer)), getName(steps.get(i))));
+        }
+      }
+    }
+
+    List<Set<Integer>> dependencies = new ArrayList<>();
+    for (Step step : steps) {
+      // sorted, so that ties in the schedule are broken in definition order
+      Set<Integer> stepDependencies = new TreeSet<>();
+      for (String key : getConsumedKeys(step)) {
+        Integer producer = producers.get(key);
+        if (producer == null) {
+          throw new InvalidStepDependenciesException(
+              "Key %s consumed by step %s is not produced by any step."
+                  .formatted(key, getName(step)));
+        }
+        stepDependencies.add(producer);
+      }
+      dependencies.add(stepDependencies);
+    }
+    return dependencies;
+  }
+
+  /** Kahn's algorithm; among steps ready at the same time the first one of the definition wins. */
+  private static List<Integer> sortTopologically(
+      List<Step> steps, List<Set<Integer>> dependencies) {
+    int[] missingDependencies = new int[steps.size()];
+    List<List<Integer>> dependents = new ArrayList<>();
+    PriorityQueue<Integer> ready = new PriorityQueue<>();
+    for (int i = 0; i < steps.size(); i++) {
+      dependents.add(new ArrayList<>());
+    }
+    for (int i = 0; i < steps.size(); i++) {
+      missingDependencies[i] = dependencies.get(i).size();
+      for (int dependency : dependencies.get(i)) {
+        dependents.get(dependency).add(i);
+      }
+      if (missingDependencies[i] == 0) {
+        ready.add(i);
+      }
+    }
+
+    List<Integer> order = new ArrayList<>();
+    while (!ready.isEmpty()) {
+      int step = ready.poll();
+      order.add(step);
+      for (int dependent : dependents.get(step)) {
+        if (--missingDependencies[dependent] == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+
+    if (order.size() < steps.size()) {
+      List<String> cycleSteps = new ArrayList<>();
+      for (int i = 0; i < steps.size(); i++) {
+        if (missingDependencies[i] > 0) {
+          cycleSteps.add(getName(steps.get(i)));
+        }
+      }
+      throw new InvalidStepDependenciesException(
+          "Steps %s are part of or depend on a dependency cycle.".formatted(cycleSteps));
+    }
+    return order;
+  }
+
+  private static Set<String> getProducedKeys(Step step) {
+    return step instanceof WorkingMapDependencies declared ? declared.getProducedKeys() : Set.of();
+  }
+
+  private static Set<String> getConsumedKeys(Step step) {
+    return step instanceof WorkingMapDependencies declared ? declared.getConsumedKeys() : Set.of();
+  }
+
+  private static String getName(Step step) {
+    return step.getClass().getSimpleName();
+  }
+}
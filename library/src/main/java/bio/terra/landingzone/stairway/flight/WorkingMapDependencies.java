@@ -0,0 +1,28 @@
+package bio.terra.landingzone.stairway.flight;
+
+import java.util.Set;
+
+/**
+ * Declares which flight working map keys a step puts for later steps and which keys put by
+ * earlier steps it reads. {@link StepDependencyPlanner} derives the order of the steps of a
+ * landing zone definition from these declarations.
+ *
+ * <p>Keys a step only reads back itself, for example the id of the resource it created to undo
+ * it, are not declared. Neither are keys a step doesn't read: if Azure needs a resource to exist
+ * before a step runs, the step groups of the definition order them.
+ */
+public interface WorkingMapDependencies {
+  /**
+   * @return working map keys put by this step and read by other steps.
+   */
+  default Set<String> getProducedKeys() {
+    return Set.of();
+  }
+
+  /**
+   * @return working map keys put by other steps and read by this step.
+   */
+  default Set<String> getConsumedKeys() {
+    return Set.of();
+  }
+}
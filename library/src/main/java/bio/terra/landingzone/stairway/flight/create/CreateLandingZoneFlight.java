@@ -5,7 +5,6 @@ import bio.terra.landingzone.common.utils.RetryRules;
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.library.landingzones.definition.factories.LandingZoneStepsDefinitionProviderFactory;
 import bio.terra.landingzone.library.landingzones.definition.factories.StepsDefinitionFactoryType;
-import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
 import bio.terra.landingzone.model.LandingZoneTarget;
 import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneRequest;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
@@ -112,9 +111,8 @@ public class CreateLandingZoneFlight extends Flight {
             landingZoneTarget.azureTenantId(),
             landingZoneTarget.azureSubscriptionId(),
             flightBeanBag.getAzureConfiguration().getAzureEnvironment());
-    return LandingZoneManager.createArmManagers(
-        flightBeanBag.getAzureCredentialsProvider().getTokenCredential(),
-        azureProfile,
-        flightBeanBag.getAzureCustomerUsageConfiguration().getUsageAttribute());
+    return flightBeanBag
+        .getArmManagersPool()
+        .get(azureProfile, flightBeanBag.getAzureCustomerUsageConfiguration().getUsageAttribute());
   }
 }
@@ -10,6 +10,7 @@ import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
 import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneRequest;
 import bio.terra.landingzone.stairway.common.model.TargetManagedResourceGroup;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.landingzone.stairway.flight.WorkingMapDependencies;
 import bio.terra.landingzone.stairway.flight.create.resource.step.GetManagedResourceGroupInfo;
 import bio.terra.landingzone.stairway.flight.exception.translation.FlightExceptionTranslator;
 import bio.terra.landingzone.stairway.flight.exception.utils.ManagementExceptionUtils;
@@ -23,13 +24,14 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.collections4.map.HashedMap;
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public abstract class BaseReferencedResourceStep implements Step {
+public abstract class BaseReferencedResourceStep implements Step, WorkingMapDependencies {
   private static final Logger logger = LoggerFactory.getLogger(BaseReferencedResourceStep.class);
 
   public static final String REFERENCED_RESOURCE_ID = "referencedResourceId";
@@ -49,6 +51,13 @@ public abstract class BaseReferencedResourceStep implements Step {
     this.armManagers = armManagers;
   }
 
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Set.of(
+        GetManagedResourceGroupInfo.TARGET_MRG_KEY,
+        LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER);
+  }
+
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
 
@@ -6,6 +6,7 @@ import static bio.terra.landingzone.stairway.flight.create.resource.step.CreateA
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
 import bio.terra.stairway.FlightContext;
+import java.util.Set;
 
 public class ReferencedAksStep extends SharedReferencedResourceStep {
 
@@ -13,6 +14,11 @@ public class ReferencedAksStep extends SharedReferencedResourceStep {
     super(armManagers);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(AKS_OIDC_ISSUER_URL, AKS_RESOURCE_KEY);
+  }
+
   @Override
   protected ArmResourceType getArmResourceType() {
     return ArmResourceType.AKS;
@@ -6,12 +6,18 @@ import static bio.terra.landingzone.stairway.flight.create.resource.step.CreateL
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
 import bio.terra.stairway.FlightContext;
+import java.util.Set;
 
 public class ReferencedManagedIdentityStep extends SharedReferencedResourceStep {
   public ReferencedManagedIdentityStep(ArmManagers armManagers) {
     super(armManagers);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(LANDING_ZONE_IDENTITY_CLIENT_ID, LANDING_ZONE_IDENTITY_RESOURCE_KEY);
+  }
+
   @Override
   protected ArmResourceType getArmResourceType() {
     return ArmResourceType.MANAGED_IDENTITY;
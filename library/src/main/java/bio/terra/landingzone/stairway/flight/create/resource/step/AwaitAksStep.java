@@ -0,0 +1,129 @@
+package bio.terra.landingzone.stairway.flight.create.resource.step;
+
+import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
+import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
+import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
+import bio.terra.landingzone.stairway.flight.ResourceNameRequirements;
+import bio.terra.landingzone.stairway.flight.exception.utils.ManagementExceptionUtils;
+import bio.terra.landingzone.stairway.flight.utils.ResourceProvisioningPoller;
+import bio.terra.landingzone.stairway.flight.utils.ResourceProvisioningPoller.ProvisioningStatus;
+import bio.terra.stairway.FlightContext;
+import com.azure.core.management.exception.ManagementException;
+import com.azure.resourcemanager.containerservice.models.KubernetesCluster;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for the AKS cluster submitted by {@link CreateAksStep} to be provisioned and records the
+ * cluster in the working map.
+ */
+public class AwaitAksStep extends BaseResourceCreateStep {
+  private static final Logger logger = LoggerFactory.getLogger(AwaitAksStep.class);
+
+  private final ResourceProvisioningPoller provisioningPoller;
+
+  public AwaitAksStep(ArmManagers armManagers, ResourceNameProvider resourceNameProvider) {
+    this(
+        armManagers,
+        resourceNameProvider,
+        new ResourceProvisioningPoller(
+            Duration.ofSeconds(15), Duration.ofMinutes(2), Duration.ofMinutes(30)));
+  }
+
+  @VisibleForTesting
+  AwaitAksStep(
+      ArmManagers armManagers,
+      ResourceNameProvider resourceNameProvider,
+      ResourceProvisioningPoller provisioningPoller) {
+    super(armManagers, resourceNameProvider);
+    this.provisioningPoller = provisioningPoller;
+  }
+
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(
+        CreateAksStep.AKS_ID, CreateAksStep.AKS_OIDC_ISSUER_URL, CreateAksStep.AKS_RESOURCE_KEY);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(super.getConsumedKeys(), Set.of(CreateAksStep.AKS_PENDING_ID));
+  }
+
+  @Override
+  protected void createResource(FlightContext context, ArmManagers armManagers) {
+    var aksId =
+        getParameterOrThrow(context.getWorkingMap(), CreateAksStep.AKS_PENDING_ID, String.class);
+    var aks =
+        provisioningPoller.waitForProvisioning(
+            aksId, () -> getAks(aksId), AwaitAksStep::getProvisioningStatus);
+
+    context.getWorkingMap().put(CreateAksStep.AKS_ID, aks.id());
+    context
+        .getWorkingMap()
+        .put(CreateAksStep.AKS_OIDC_ISSUER_URL, aks.innerModel().oidcIssuerProfile().issuerUrl());
+    context
+        .getWorkingMap()
+        .put(
+            CreateAksStep.AKS_RESOURCE_KEY,
+            LandingZoneResource.builder()
+                .resourceId(aks.id())
+                .resourceType(aks.type())
+                .tags(aks.tags())
+                .region(aks.regionName())
+                .resourceName(aks.name())
+                .build());
+    logger.info(RESOURCE_CREATED, getResourceType(), aks.id(), getMRGName(context));
+  }
+
+  private Optional<KubernetesCluster> getAks(String aksId) {
+    try {
+      return Optional.ofNullable(
+          armManagers.azureResourceManager().kubernetesClusters().getById(aksId));
+    } catch (ManagementException e) {
+      // the cluster may not be visible right after its creation was submitted
+      if (ManagementExceptionUtils.isNotFound(e)) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
+  private static ProvisioningStatus getProvisioningStatus(KubernetesCluster aks) {
+    var provisioningState = aks.provisioningState();
+    if (StringUtils.equalsIgnoreCase(provisioningState, "Succeeded")) {
+      return ProvisioningStatus.SUCCEEDED;
+    }
+    if (StringUtils.equalsAnyIgnoreCase(provisioningState, "Failed", "Canceled")) {
+      return ProvisioningStatus.FAILED;
+    }
+    return ProvisioningStatus.IN_PROGRESS;
+  }
+
+  @Override
+  protected void deleteResource(String resourceId) {
+    // nothing to delete, the cluster is deleted when CreateAksStep is undone
+  }
+
+  @Override
+  protected String getResourceType() {
+    return "AksProvisioning";
+  }
+
+  @Override
+  protected Optional<String> getResourceId(FlightContext context) {
+    return Optional.empty();
+  }
+
+  @Override
+  public List<ResourceNameRequirements> getResourceNameRequirements() {
+    return List.of();
+  }
+}
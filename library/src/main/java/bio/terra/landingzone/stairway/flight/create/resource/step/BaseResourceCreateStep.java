@@ -10,6 +10,7 @@ import bio.terra.landingzone.stairway.common.model.TargetManagedResourceGroup;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
 import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
 import bio.terra.landingzone.stairway.flight.ResourceNameRequirements;
+import bio.terra.landingzone.stairway.flight.WorkingMapDependencies;
 import bio.terra.landingzone.stairway.flight.exception.translation.FlightExceptionTranslator;
 import bio.terra.landingzone.stairway.flight.exception.utils.ManagementExceptionUtils;
 import bio.terra.landingzone.stairway.flight.utils.FlightUtils;
@@ -25,12 +26,13 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public abstract class BaseResourceCreateStep implements Step {
+public abstract class BaseResourceCreateStep implements Step, WorkingMapDependencies {
   private static final Logger logger = LoggerFactory.getLogger(BaseResourceCreateStep.class);
 
   protected static final String FAILED_TO_CREATE_RESOURCE =
@@ -55,6 +57,17 @@ public abstract class BaseResourceCreateStep implements Step {
     registerForNameGeneration(resourceNameProvider, this);
   }
 
+  /**
+   * Every resource step reads the target managed resource group and the parameters resolver.
+   * Subclasses add the keys of the resources they depend on.
+   */
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Set.of(
+        GetManagedResourceGroupInfo.TARGET_MRG_KEY,
+        LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER);
+  }
+
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
     var billingProfile =
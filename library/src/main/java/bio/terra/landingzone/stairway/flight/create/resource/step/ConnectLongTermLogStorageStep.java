@@ -8,9 +8,11 @@ import bio.terra.landingzone.stairway.flight.exception.LandingZoneCreateExceptio
 import bio.terra.landingzone.stairway.flight.exception.MissingRequiredFieldsException;
 import bio.terra.landingzone.stairway.flight.utils.ProtectedDataAzureStorageHelper;
 import bio.terra.stairway.FlightContext;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +47,18 @@ public class ConnectLongTermLogStorageStep extends BaseResourceCreateStep {
     }
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(DATA_EXPORT_ID, DATA_EXPORT_RESOURCE_KEY);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_RESOURCE_KEY));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var logAnalyticsWorkspace =
@@ -25,9 +25,11 @@ import com.azure.resourcemanager.monitor.models.KnownSyslogDataSourceLogLevels;
 import com.azure.resourcemanager.monitor.models.KnownSyslogDataSourceStreams;
 import com.azure.resourcemanager.monitor.models.LogAnalyticsDestination;
 import com.azure.resourcemanager.monitor.models.SyslogDataSource;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,6 +96,21 @@ public class CreateAksCostOptimizationDataCollectionRulesStep extends BaseResour
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(AKS_COST_OPTIMIZATION_DATA_COLLECTION_RULE_ID);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(
+            CreateAksStep.AKS_ID,
+            CreateAksStep.AKS_RESOURCE_KEY,
+            CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var landingZoneId =
@@ -10,10 +10,12 @@ import bio.terra.landingzone.stairway.flight.ResourceNameRequirements;
 import bio.terra.landingzone.stairway.flight.exception.MissingRequiredFieldsException;
 import bio.terra.stairway.FlightContext;
 import com.azure.resourcemanager.monitor.models.DiagnosticSetting;
+import com.google.common.collect.Sets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +53,11 @@ public class CreateAksLogSettingsStep extends BaseResourceCreateStep {
     this.landingZoneProtectedDataConfiguration = landingZoneProtectedDataConfiguration;
   }
 
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(super.getConsumedKeys(), Set.of(CreateAksStep.AKS_ID));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var aksId = getParameterOrThrow(context.getWorkingMap(), CreateAksStep.AKS_ID, String.class);
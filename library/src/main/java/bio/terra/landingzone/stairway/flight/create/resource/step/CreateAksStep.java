@@ -1,39 +1,59 @@
 package bio.terra.landingzone.stairway.flight.create.resource.step;
 
+import bio.terra.landingzone.common.utils.MetricUtils;
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.library.landingzones.definition.ResourceNameGenerator;
 import bio.terra.landingzone.library.landingzones.definition.factories.ParametersResolver;
 import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
 import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
-import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
 import bio.terra.landingzone.stairway.flight.LandingZoneDefaultParameters;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
 import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
 import bio.terra.landingzone.stairway.flight.ResourceNameRequirements;
-import bio.terra.landingzone.stairway.flight.exception.ResourceCreationException;
+import bio.terra.landingzone.stairway.flight.exception.utils.ManagementExceptionUtils;
 import bio.terra.stairway.FlightContext;
 import com.azure.core.management.exception.ManagementException;
+import com.azure.resourcemanager.containerservice.fluent.models.ManagedClusterInner;
 import com.azure.resourcemanager.containerservice.models.AgentPoolMode;
-import com.azure.resourcemanager.containerservice.models.ContainerServiceVMSizeTypes;
-import com.azure.resourcemanager.containerservice.models.KubernetesCluster;
+import com.azure.resourcemanager.containerservice.models.AgentPoolType;
+import com.azure.resourcemanager.containerservice.models.ManagedClusterAadProfile;
+import com.azure.resourcemanager.containerservice.models.ManagedClusterAgentPoolProfile;
+import com.azure.resourcemanager.containerservice.models.ManagedClusterIdentity;
 import com.azure.resourcemanager.containerservice.models.ManagedClusterOidcIssuerProfile;
 import com.azure.resourcemanager.containerservice.models.ManagedClusterSecurityProfile;
 import com.azure.resourcemanager.containerservice.models.ManagedClusterSecurityProfileWorkloadIdentity;
+import com.azure.resourcemanager.containerservice.models.ManagedClusterWorkloadAutoScalerProfile;
 import com.azure.resourcemanager.containerservice.models.ManagedClusterWorkloadAutoScalerProfileVerticalPodAutoscaler;
+import com.azure.resourcemanager.containerservice.models.OSType;
+import com.azure.resourcemanager.containerservice.models.ResourceIdentityType;
+import com.azure.resourcemanager.containerservice.models.ScaleSetEvictionPolicy;
+import com.azure.resourcemanager.containerservice.models.ScaleSetPriority;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 
+/**
+ * Submits the creation of the AKS cluster without waiting for it to be provisioned, which takes
+ * several minutes, and records the cluster id in the working map. The complete cluster
+ * configuration, including workload identity and the cost savings options, is sent in this single
+ * request, so the cluster isn't updated after it is provisioned. {@link AwaitAksStep} waits for
+ * the cluster, so that the steps in between run while it is provisioned. The creation isn't
+ * submitted again if the cluster already exists, for example when a resumed flight reruns the
+ * step.
+ */
 public class CreateAksStep extends BaseResourceCreateStep {
   private static final Logger logger = LoggerFactory.getLogger(CreateAksStep.class);
   public static final String AKS_ID = "AKS_ID";
+  public static final String AKS_PENDING_ID = "AKS_PENDING_ID";
   public static final String AKS_RESOURCE_KEY = "AKS";
   private static final String DNS_SUFFIX_KEY = "_DNS";
   private static final String POOL_SUFFIX_KEY = "_POOL";
@@ -41,193 +61,233 @@ public class CreateAksStep extends BaseResourceCreateStep {
   public static final int NODE_RESOURCE_GROUP_NAME_MAX_LENGTH = 80;
   public static final String NODE_RESOURCE_GROUP_NAME_SUFFIX = "_aks";
   public static final String SPOT_NODE_POOL_NAME = "spotnodepool";
-
-  // it's always true, false is only for testing; see denySleepWhilePoolingForAksStatus() method
-  private boolean sleepWhilePollingAksStatus = true;
+  private static final String AKS_ID_FORMAT =
+      "/subscriptions/%s/resourceGroups/%s/providers/Microsoft.ContainerService/managedClusters/%s";
 
   public CreateAksStep(ArmManagers armManagers, ResourceNameProvider resourceNameProvider) {
     super(armManagers, resourceNameProvider);
   }
 
   @Override
-  protected void createResource(FlightContext context, ArmManagers armManagers) {
-    var vNetId = getParameterOrThrow(context.getWorkingMap(), CreateVnetStep.VNET_ID, String.class);
-    boolean costSavingsSpotNodesEnabled =
-        Boolean.parseBoolean(
-            getParametersResolver(context)
-                .getValue(
-                    LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_SPOT_NODES_ENABLED
-                        .name()));
-    boolean costSavingsVpaEnabled =
-        Boolean.parseBoolean(
-            getParametersResolver(context)
-                .getValue(
-                    LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_VPA_ENABLED
-                        .name()));
-    boolean autoScalingEnabled =
-        Boolean.parseBoolean(
-            getParametersResolver(context)
-                .getValue(
-                    LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_ENABLED.name()));
-
-    var aks =
-        createAks(
-            context,
-            vNetId,
-            costSavingsSpotNodesEnabled,
-            costSavingsVpaEnabled,
-            autoScalingEnabled);
-    enableWorkloadIdentity(aks);
-    enableCostSavings(
-        aks,
-        vNetId,
-        costSavingsSpotNodesEnabled,
-        costSavingsVpaEnabled,
-        getParametersResolver(context));
-
-    context.getWorkingMap().put(AKS_ID, aks.id());
-    context
-        .getWorkingMap()
-        .put(AKS_OIDC_ISSUER_URL, aks.innerModel().oidcIssuerProfile().issuerUrl());
-    context
-        .getWorkingMap()
-        .put(
-            AKS_RESOURCE_KEY,
-            LandingZoneResource.builder()
-                .resourceId(aks.id())
-                .resourceType(aks.type())
-                .tags(aks.tags())
-                .region(aks.regionName())
-                .resourceName(aks.name())
-                .build());
-    logger.info(RESOURCE_CREATED, getResourceType(), aks.id(), getMRGName(context));
+  public Set<String> getProducedKeys() {
+    return Set.of(AKS_PENDING_ID);
   }
 
-  private KubernetesCluster createAks(
-      FlightContext context,
-      String vNetId,
-      boolean costSavingsSpotNodesEnabled,
-      boolean costSavingsVpaEnabled,
-      boolean autoScalingEnabled) {
-    UUID landingZoneId =
-        getParameterOrThrow(
-            context.getInputParameters(), LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class);
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(super.getConsumedKeys(), Set.of(CreateVnetStep.VNET_ID));
+  }
 
+  @Override
+  protected void createResource(FlightContext context, ArmManagers armManagers) {
     var aksName = resourceNameProvider.getName(getResourceType());
+    var mrgName = getMRGName(context);
+    var aksId =
+        AKS_ID_FORMAT.formatted(
+            armManagers.azureResourceManager().subscriptionId(), mrgName, aksName);
+
+    // the whole cluster configuration is sent in a single request, so a run of the step starts at
+    // most one ARM operation on the cluster
+    int armOperations = 0;
+    if (aksExists(mrgName, aksName)) {
+      logger.info(RESOURCE_ALREADY_EXISTS, getResourceType(), mrgName);
+    } else if (beginCreateAks(context, aksName)) {
+      armOperations++;
+      logger.info(
+          "{} resource id='{}' submitted for creation in resource group '{}'.",
+          getResourceType(),
+          aksId,
+          mrgName);
+    }
+    MetricUtils.recordAksArmOperationCount(armOperations);
+    context.getWorkingMap().put(AKS_PENDING_ID, aksId);
+  }
 
-    KubernetesCluster aks;
+  private boolean aksExists(String mrgName, String aksName) {
     try {
-      var aksPartial =
-          armManagers
+      return armManagers
               .azureResourceManager()
               .kubernetesClusters()
-              .define(aksName)
-              .withRegion(getMRGRegionName(context))
-              .withExistingResourceGroup(getMRGName(context))
-              .withDefaultVersion()
-              .withSystemAssignedManagedServiceIdentity()
-              .withAgentPoolResourceGroup(getNodeResourceGroup(getMRGName(context)))
-              .withAzureActiveDirectoryGroup(
-                  getParametersResolver(context)
-                      .getValue(
-                          LandingZoneDefaultParameters.ParametersNames.AKS_AAD_PROFILE_USER_GROUP_ID
-                              .name()))
-              .defineAgentPool(resourceNameProvider.getName(getResourceType() + POOL_SUFFIX_KEY))
-              .withVirtualMachineSize(
-                  ContainerServiceVMSizeTypes.fromString(
-                      getParametersResolver(context)
-                          .getValue(
-                              LandingZoneDefaultParameters.ParametersNames.AKS_MACHINE_TYPE
-                                  .name())))
-              .withAgentPoolVirtualMachineCount(
-                  Integer.parseInt(
-                      getParametersResolver(context)
-                          .getValue(
-                              LandingZoneDefaultParameters.ParametersNames.AKS_NODE_COUNT.name())))
-              .withAgentPoolMode(AgentPoolMode.SYSTEM)
-              .withVirtualNetwork(vNetId, LandingZoneDefaultParameters.Subnet.AKS_SUBNET.name());
-
-      // Add autoscaling to system nodepool
-      if (autoScalingEnabled) {
-        int min =
-            Integer.parseInt(
-                getParametersResolver(context)
-                    .getValue(
-                        LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_MIN.name()));
-        int max =
-            Integer.parseInt(
-                getParametersResolver(context)
-                    .getValue(
-                        LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_MAX.name()));
-        aksPartial = aksPartial.withAutoScaling(min, max);
+              .getByResourceGroup(mrgName, aksName)
+          != null;
+    } catch (ManagementException e) {
+      if (ManagementExceptionUtils.isNotFound(e)) {
+        return false;
       }
+      throw e;
+    }
+  }
 
-      aks =
-          aksPartial
-              .attach()
-              .withDnsPrefix(resourceNameProvider.getName(getResourceType() + DNS_SUFFIX_KEY))
-              .withTags(
-                  buildTagMap(landingZoneId, costSavingsSpotNodesEnabled, costSavingsVpaEnabled))
-              .create();
-
+  /**
+   * Sends the request creating the cluster. The returned poller is dropped; the cluster is awaited
+   * by reading it, so that waiting survives a restart of the flight.
+   *
+   * @return true if Azure started a create operation, false if another operation on the cluster
+   *     was already in progress
+   */
+  private boolean beginCreateAks(FlightContext context, String aksName) {
+    try {
+      armManagers
+          .azureResourceManager()
+          .kubernetesClusters()
+          .manager()
+          .serviceClient()
+          .getManagedClusters()
+          .beginCreateOrUpdate(getMRGName(context), aksName, buildManagedCluster(context));
+      return true;
     } catch (ManagementException e) {
-      if (e.getResponse() != null
-          && HttpStatus.CONFLICT.value() == e.getResponse().getStatusCode()) {
-        aks = handleConflictAndMaybeGetAks(context, aksName, e);
-      } else {
+      // another operation on the cluster is in progress, so its creation was already submitted
+      if (e.getResponse() == null
+          || HttpStatus.CONFLICT.value() != e.getResponse().getStatusCode()) {
         throw e;
       }
+      logger.info(RESOURCE_ALREADY_EXISTS, getResourceType(), getMRGName(context));
+      return false;
     }
-    return aks;
   }
 
-  private KubernetesCluster handleConflictAndMaybeGetAks(
-      FlightContext context, String aksName, ManagementException e) {
-    return switch (e.getValue().getCode().toLowerCase()) {
-      /*duplicate request (Stairway has resumed flight after interruption)
-      but resource is not ready for use and is still being provisioned*/
-      case "operationnotallowed" -> waitAndMaybeGetAksProvisioned(getMRGName(context), aksName);
-      /*duplicate request (Stairway resume flight after interruption), but resource is ready for use*/
-      case "conflict" ->
-          armManagers
-              .azureResourceManager()
-              .kubernetesClusters()
-              .getByResourceGroup(getMRGName(context), aksName);
-      default -> throw e;
-    };
-  }
+  private ManagedClusterInner buildManagedCluster(FlightContext context) {
+    UUID landingZoneId =
+        getParameterOrThrow(
+            context.getInputParameters(), LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class);
+    var vNetId = getParameterOrThrow(context.getWorkingMap(), CreateVnetStep.VNET_ID, String.class);
+    var parametersResolver = getParametersResolver(context);
+
+    var systemPool =
+        new ManagedClusterAgentPoolProfile()
+            .withName(resourceNameProvider.getName(getResourceType() + POOL_SUFFIX_KEY))
+            .withVmSize(
+                parametersResolver.getValue(
+                    LandingZoneDefaultParameters.ParametersNames.AKS_MACHINE_TYPE.name()))
+            .withCount(
+                Integer.parseInt(
+                    parametersResolver.getValue(
+                        LandingZoneDefaultParameters.ParametersNames.AKS_NODE_COUNT.name())))
+            .withMode(AgentPoolMode.SYSTEM)
+            .withType(AgentPoolType.VIRTUAL_MACHINE_SCALE_SETS)
+            .withOsType(OSType.LINUX)
+            .withVnetSubnetId(getAksSubnetId(vNetId));
+    // Add autoscaling to system nodepool
+    if (Boolean.parseBoolean(
+        parametersResolver.getValue(
+            LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_ENABLED.name()))) {
+      systemPool
+          .withEnableAutoScaling(true)
+          .withMinCount(
+              Integer.parseInt(
+                  parametersResolver.getValue(
+                      LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_MIN.name())))
+          .withMaxCount(
+              Integer.parseInt(
+                  parametersResolver.getValue(
+                      LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_MAX.name())));
+    }
+    var agentPools = new ArrayList<>(List.of(systemPool));
+    if (isCostSavingsSpotNodesEnabled(parametersResolver)) {
+      agentPools.add(buildSpotPool(vNetId, parametersResolver));
+    }
 
-  private KubernetesCluster waitAndMaybeGetAksProvisioned(String mrgName, String aksName) {
-    final int pollCycleNumberMax = 30;
-    final int sleepDurationSeconds = 30;
-    int pollCycleNumber = 0;
-    KubernetesCluster existingAks;
-    try {
-      boolean aksNotProvisioned;
-      do {
-        if (sleepWhilePollingAksStatus) {
-          /*always sleep except during unit testing*/
-          TimeUnit.SECONDS.sleep(sleepDurationSeconds);
-        }
-        existingAks =
-            armManagers
-                .azureResourceManager()
-                .kubernetesClusters()
-                .getByResourceGroup(mrgName, aksName);
-        aksNotProvisioned =
-            (existingAks == null)
-                || (!StringUtils.equalsIgnoreCase(existingAks.provisioningState(), "Succeeded"));
-        if (++pollCycleNumber == pollCycleNumberMax && aksNotProvisioned) {
-          throw new ResourceCreationException(
-              "Aks resource still not ready after %s sec."
-                  .formatted(pollCycleNumber * sleepDurationSeconds));
-        }
-      } while (aksNotProvisioned);
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new ResourceCreationException(e.getMessage(), e);
+    var cluster =
+        new ManagedClusterInner()
+            .withIdentity(
+                new ManagedClusterIdentity().withType(ResourceIdentityType.SYSTEM_ASSIGNED))
+            .withNodeResourceGroup(getNodeResourceGroup(getMRGName(context)))
+            .withEnableRbac(true)
+            .withAadProfile(
+                new ManagedClusterAadProfile()
+                    .withManaged(true)
+                    .withAdminGroupObjectIDs(
+                        List.of(
+                            parametersResolver.getValue(
+                                LandingZoneDefaultParameters.ParametersNames
+                                    .AKS_AAD_PROFILE_USER_GROUP_ID
+                                    .name()))))
+            .withDnsPrefix(resourceNameProvider.getName(getResourceType() + DNS_SUFFIX_KEY))
+            .withAgentPoolProfiles(agentPools)
+            // workload identity requires the OIDC issuer,
+            // see https://github.com/Azure/azure-sdk-for-java/issues/31271
+            .withOidcIssuerProfile(new ManagedClusterOidcIssuerProfile().withEnabled(true))
+            .withSecurityProfile(
+                new ManagedClusterSecurityProfile()
+                    .withWorkloadIdentity(
+                        new ManagedClusterSecurityProfileWorkloadIdentity().withEnabled(true)));
+    // enable Vertical Pod Autoscaler on the AKS cluster if this option for cost savings is enabled
+    if (isCostSavingsVpaEnabled(parametersResolver)) {
+      cluster.withWorkloadAutoScalerProfile(
+          new ManagedClusterWorkloadAutoScalerProfile()
+              .withVerticalPodAutoscaler(
+                  new ManagedClusterWorkloadAutoScalerProfileVerticalPodAutoscaler()
+                      .withEnabled(true)));
     }
-    return existingAks;
+    cluster
+        .withLocation(getMRGRegionName(context))
+        .withTags(
+            buildTagMap(
+                landingZoneId,
+                isCostSavingsSpotNodesEnabled(parametersResolver),
+                isCostSavingsVpaEnabled(parametersResolver)));
+    return cluster;
+  }
+
+  /** Builds the spot user pool enabled for cost savings. */
+  private static ManagedClusterAgentPoolProfile buildSpotPool(
+      String vNetId, ParametersResolver parametersResolver) {
+    // set to default if no specified parameters were provided at LZ creation
+    var machineSize =
+        !StringUtils.isEmpty(
+                parametersResolver.getValue(
+                    LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_MACHINE_TYPE.name()))
+            ? parametersResolver.getValue(
+                LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_MACHINE_TYPE.name())
+            : parametersResolver.getValue(
+                LandingZoneDefaultParameters.ParametersNames.AKS_MACHINE_TYPE.name());
+
+    // spot nodes should always use auto scaler per MS documentation:
+    // https://learn.microsoft.com/en-us/azure/aks/spot-node-pool
+    // "If you don't use a cluster autoscaler, upon eviction,
+    // the Spot pool will eventually decrease to 0 and require manual operation to receive any
+    // additional Spot nodes."
+    int max =
+        Integer.parseInt(
+            parametersResolver.getValue(
+                LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_AUTOSCALING_MAX.name()));
+
+    return new ManagedClusterAgentPoolProfile()
+        .withName(SPOT_NODE_POOL_NAME)
+        .withVmSize(machineSize)
+        .withCount(
+            Integer.parseInt(
+                parametersResolver.getValue(
+                    LandingZoneDefaultParameters.ParametersNames.AKS_NODE_COUNT.name())))
+        .withMode(AgentPoolMode.USER)
+        .withType(AgentPoolType.VIRTUAL_MACHINE_SCALE_SETS)
+        .withOsType(OSType.LINUX)
+        .withVnetSubnetId(getAksSubnetId(vNetId))
+        // same as the fluent withSpotPriorityVirtualMachine(): evicted nodes are deleted and
+        // the price is capped at the on-demand price
+        .withScaleSetPriority(ScaleSetPriority.SPOT)
+        .withScaleSetEvictionPolicy(ScaleSetEvictionPolicy.DELETE)
+        .withSpotMaxPrice(-1.0f)
+        .withEnableAutoScaling(true)
+        .withMinCount(1)
+        .withMaxCount(max);
+  }
+
+  private static String getAksSubnetId(String vNetId) {
+    return vNetId + "/subnets/" + LandingZoneDefaultParameters.Subnet.AKS_SUBNET.name();
+  }
+
+  private static boolean isCostSavingsSpotNodesEnabled(ParametersResolver parametersResolver) {
+    return Boolean.parseBoolean(
+        parametersResolver.getValue(
+            LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_SPOT_NODES_ENABLED
+                .name()));
+  }
+
+  private static boolean isCostSavingsVpaEnabled(ParametersResolver parametersResolver) {
+    return Boolean.parseBoolean(
+        parametersResolver.getValue(
+            LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_VPA_ENABLED.name()));
   }
 
   private Map<String, String> buildTagMap(
@@ -243,90 +303,6 @@ public class CreateAksStep extends BaseResourceCreateStep {
         String.valueOf(costSavingsVpaEnabled));
   }
 
-  @VisibleForTesting
-  void denySleepWhilePoolingForAksStatus() {
-    sleepWhilePollingAksStatus = false;
-  }
-
-  /** see https://github.com/Azure/azure-sdk-for-java/issues/31271 */
-  private static void enableWorkloadIdentity(KubernetesCluster aks) {
-    KubernetesCluster.Update update = aks.update();
-
-    var securityProfile = aks.innerModel().securityProfile();
-    if (securityProfile == null) {
-      securityProfile = new ManagedClusterSecurityProfile();
-      aks.innerModel().withSecurityProfile(securityProfile);
-    }
-    securityProfile.withWorkloadIdentity(
-        new ManagedClusterSecurityProfileWorkloadIdentity().withEnabled(true));
-    aks.innerModel().withOidcIssuerProfile(new ManagedClusterOidcIssuerProfile().withEnabled(true));
-
-    update.apply();
-    aks.refresh();
-  }
-
-  private void enableCostSavings(
-      KubernetesCluster aks,
-      String vNetId,
-      boolean costSavingsSpotNodesEnabled,
-      boolean costSavingsVpaEnabled,
-      ParametersResolver parametersResolver) {
-    // enable Vertical Pod Autoscaler on the AKS cluster if this option for cost savings is enabled
-    if (costSavingsVpaEnabled) {
-      KubernetesCluster.Update update = aks.update();
-
-      var autoScaleProfileVpa = new ManagedClusterWorkloadAutoScalerProfileVerticalPodAutoscaler();
-      aks.innerModel()
-          .workloadAutoScalerProfile()
-          .withVerticalPodAutoscaler(autoScaleProfileVpa.withEnabled(true));
-
-      update.apply();
-      aks.refresh();
-    }
-
-    // Enable a spot nodepool  if this option for cost savings is enabled.
-    if (costSavingsSpotNodesEnabled) {
-      // set to default if no specified parameters were provided at LZ creation
-      var machineSize =
-          !StringUtils.isEmpty(
-                  parametersResolver.getValue(
-                      LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_MACHINE_TYPE.name()))
-              ? ContainerServiceVMSizeTypes.fromString(
-                  parametersResolver.getValue(
-                      LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_MACHINE_TYPE.name()))
-              : ContainerServiceVMSizeTypes.fromString(
-                  parametersResolver.getValue(
-                      LandingZoneDefaultParameters.ParametersNames.AKS_MACHINE_TYPE.name()));
-
-      // spot nodes should always use auto scaler per MS documentation:
-      // https://learn.microsoft.com/en-us/azure/aks/spot-node-pool
-      // "If you don't use a cluster autoscaler, upon eviction,
-      // the Spot pool will eventually decrease to 0 and require manual operation to receive any
-      // additional Spot nodes."
-      int max =
-          Integer.parseInt(
-              parametersResolver.getValue(
-                  LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_AUTOSCALING_MAX.name()));
-
-      var aksPartialUpdate =
-          aks.update()
-              .defineAgentPool(SPOT_NODE_POOL_NAME)
-              .withVirtualMachineSize(machineSize)
-              .withAgentPoolVirtualMachineCount(
-                  Integer.parseInt(
-                      parametersResolver.getValue(
-                          LandingZoneDefaultParameters.ParametersNames.AKS_NODE_COUNT.name())))
-              .withSpotPriorityVirtualMachine()
-              .withAgentPoolMode(AgentPoolMode.USER)
-              .withAutoScaling(1, max)
-              .withVirtualNetwork(vNetId, LandingZoneDefaultParameters.Subnet.AKS_SUBNET.name());
-
-      var attach = aksPartialUpdate.attach();
-      attach.apply();
-      aks.refresh();
-    }
-  }
-
   @Override
   protected void deleteResource(String resourceId) {
     armManagers.azureResourceManager().kubernetesClusters().deleteById(resourceId);
@@ -339,7 +315,7 @@ public class CreateAksStep extends BaseResourceCreateStep {
 
   @Override
   protected Optional<String> getResourceId(FlightContext context) {
-    return Optional.ofNullable(context.getWorkingMap().get(AKS_ID, String.class));
+    return Optional.ofNullable(context.getWorkingMap().get(AKS_PENDING_ID, String.class));
   }
 
   @Override
@@ -12,9 +12,11 @@ import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import com.azure.core.management.exception.ManagementException;
 import com.azure.resourcemanager.applicationinsights.models.ApplicationType;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -30,6 +32,18 @@ public class CreateAppInsightsStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(APP_INSIGHT_ID);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var landingZoneId =
@@ -12,6 +12,7 @@ import bio.terra.stairway.FlightContext;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +27,11 @@ public class CreateBatchAccountStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(BATCH_ACCOUNT_ID, BATCH_ACCOUNT_RESOURCE_KEY);
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var landingZoneId =
@@ -7,8 +7,10 @@ import bio.terra.landingzone.stairway.flight.ResourceNameRequirements;
 import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.StepResult;
 import com.azure.resourcemanager.monitor.models.DiagnosticSettingsCategory;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,6 +22,15 @@ public class CreateBatchLogSettingsStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(
+            CreateBatchAccountStep.BATCH_ACCOUNT_ID,
+            CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID));
+  }
+
   @Override
   public StepResult undoStep(FlightContext context) {
     // will be removed as part of batch account deletion
@@ -15,6 +15,7 @@ import com.azure.resourcemanager.network.models.SecurityRuleProtocol;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,11 @@ public class CreateBatchNetworkSecurityGroupStep extends BaseResourceCreateStep
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(NSG_ID, NSG_RESOURCE_KEY);
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var landingZoneId =
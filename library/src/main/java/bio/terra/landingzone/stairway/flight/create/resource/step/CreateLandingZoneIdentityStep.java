@@ -12,6 +12,7 @@ import bio.terra.stairway.FlightContext;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,15 @@ public class CreateLandingZoneIdentityStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(
+        LANDING_ZONE_IDENTITY_ID,
+        LANDING_ZONE_IDENTITY_PRINCIPAL_ID,
+        LANDING_ZONE_IDENTITY_CLIENT_ID,
+        LANDING_ZONE_IDENTITY_RESOURCE_KEY);
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var landingZoneId =
@@ -24,9 +24,11 @@ import com.azure.resourcemanager.monitor.models.KnownSyslogDataSourceStreams;
 import com.azure.resourcemanager.monitor.models.LogAnalyticsDestination;
 import com.azure.resourcemanager.monitor.models.PerfCounterDataSource;
 import com.azure.resourcemanager.monitor.models.SyslogDataSource;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -42,6 +44,18 @@ public class CreateLogAnalyticsDataCollectionRulesStep extends BaseResourceCreat
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(DATA_COLLECTION_RULE_NAME);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID));
+  }
+
   @Override
   public StepResult undoStep(FlightContext context) {
     var dataCollectionRuleName =
@@ -17,6 +17,7 @@ import com.azure.core.management.exception.ManagementException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -34,6 +35,11 @@ public class CreateLogAnalyticsWorkspaceStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(LOG_ANALYTICS_WORKSPACE_ID, LOG_ANALYTICS_RESOURCE_KEY);
+  }
+
   @Override
   public StepResult undoStep(FlightContext context) throws InterruptedException {
     super.undoStep(context);
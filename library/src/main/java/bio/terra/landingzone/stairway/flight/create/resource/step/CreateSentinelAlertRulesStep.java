@@ -15,9 +15,11 @@ import com.azure.resourcemanager.securityinsights.models.AlertSeverity;
 import com.azure.resourcemanager.securityinsights.models.MLBehaviorAnalyticsAlertRule;
 import com.azure.resourcemanager.securityinsights.models.ScheduledAlertRule;
 import com.azure.resourcemanager.securityinsights.models.TriggerOperator;
+import com.google.common.collect.Sets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +39,13 @@ public class CreateSentinelAlertRulesStep extends BaseResourceCreateStep {
     this.landingZoneProtectedDataConfiguration = landingZoneProtectedDataConfiguration;
   }
 
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_RESOURCE_KEY));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var logAnalyticsWorkspace =
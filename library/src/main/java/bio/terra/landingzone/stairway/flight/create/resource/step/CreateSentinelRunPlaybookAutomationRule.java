@@ -12,8 +12,10 @@ import com.azure.resourcemanager.securityinsights.models.AutomationRuleTriggerin
 import com.azure.resourcemanager.securityinsights.models.PlaybookActionProperties;
 import com.azure.resourcemanager.securityinsights.models.TriggersOn;
 import com.azure.resourcemanager.securityinsights.models.TriggersWhen;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +34,13 @@ public class CreateSentinelRunPlaybookAutomationRule extends BaseResourceCreateS
     this.landingZoneProtectedDataConfiguration = landingZoneProtectedDataConfiguration;
   }
 
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_RESOURCE_KEY));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var logAnalyticsWorkspace =
@@ -15,6 +15,7 @@ import com.azure.resourcemanager.storage.models.StorageAccountSkuType;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,14 @@ public class CreateStorageAccountStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(
+        STORAGE_ACCOUNT_ID,
+        LandingZoneFlightMapKeys.STORAGE_ACCOUNT_NAME,
+        STORAGE_ACCOUNT_RESOURCE_KEY);
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var landingZoneId =
@@ -6,8 +6,10 @@ import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneDiagnost
 import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
 import bio.terra.landingzone.stairway.flight.ResourceNameRequirements;
 import bio.terra.stairway.FlightContext;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +24,20 @@ public class CreateStorageAuditLogSettingsStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(STORAGE_AUDIT_LOG_SETTINGS_KEY);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(
+            CreateStorageAccountStep.STORAGE_ACCOUNT_ID,
+            CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var storageAccountId =
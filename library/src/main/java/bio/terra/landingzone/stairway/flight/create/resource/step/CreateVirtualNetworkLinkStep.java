@@ -12,9 +12,11 @@ import bio.terra.landingzone.stairway.flight.create.resource.step.postgres.Creat
 import bio.terra.stairway.FlightContext;
 import com.azure.core.management.SubResource;
 import com.azure.resourcemanager.privatedns.fluent.models.VirtualNetworkLinkInner;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +31,18 @@ public class CreateVirtualNetworkLinkStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(VNET_LINK_RESOURCE_KEY);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(CreateVnetStep.VNET_ID, CreatePostgresqlDNSStep.POSTGRESQL_DNS_RESOURCE_KEY));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var landingZoneId =
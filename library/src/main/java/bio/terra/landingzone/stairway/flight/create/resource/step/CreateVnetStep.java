@@ -13,9 +13,11 @@ import bio.terra.stairway.FlightContext;
 import com.azure.core.management.exception.ManagementException;
 import com.azure.resourcemanager.network.models.Network;
 import com.azure.resourcemanager.network.models.ServiceEndpointType;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +32,18 @@ public class CreateVnetStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(VNET_ID, VNET_RESOURCE_KEY);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(CreateNetworkSecurityGroupStep.NSG_ID, CreateBatchNetworkSecurityGroupStep.NSG_ID));
+  }
+
   @Override
   public void createResource(FlightContext context, ArmManagers armManagers) {
     String vNetName = resourceNameProvider.getName(getResourceType());
@@ -2,6 +2,7 @@ package bio.terra.landingzone.stairway.flight.create.resource.step;
 
 import bio.terra.landingzone.common.utils.HttpResponseUtils;
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
+import bio.terra.landingzone.stairway.flight.WorkingMapDependencies;
 import bio.terra.landingzone.stairway.flight.utils.FlightUtils;
 import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.Step;
@@ -13,6 +14,7 @@ import com.azure.resourcemanager.containerservice.models.KubernetesCluster;
 import com.azure.resourcemanager.containerservice.models.ManagedClusterAddonProfile;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,7 +25,7 @@ import org.slf4j.LoggerFactory;
  * association in case of cost optimization settings or ContainerLogV2). Attempting to enable
  * container insights at the time of AKS creation resulted in broken AKS monitoring.
  */
-public class EnableAksContainerInsightsStep implements Step {
+public class EnableAksContainerInsightsStep implements Step, WorkingMapDependencies {
   private static final Logger logger =
       LoggerFactory.getLogger(EnableAksContainerInsightsStep.class);
 
@@ -33,6 +35,11 @@ public class EnableAksContainerInsightsStep implements Step {
     this.armManagers = armManagers;
   }
 
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Set.of(CreateAksStep.AKS_ID, CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID);
+  }
+
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
     FlightUtils.validateRequiredEntries(
@@ -3,13 +3,15 @@ package bio.terra.landingzone.stairway.flight.create.resource.step;
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.stairway.common.model.TargetManagedResourceGroup;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.landingzone.stairway.flight.WorkingMapDependencies;
 import bio.terra.profile.model.ProfileModel;
 import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.Step;
 import bio.terra.stairway.StepResult;
 import bio.terra.stairway.exception.RetryException;
+import java.util.Set;
 
-public class GetManagedResourceGroupInfo implements Step {
+public class GetManagedResourceGroupInfo implements Step, WorkingMapDependencies {
   public static final String TARGET_MRG_KEY = "TARGET_MRG";
 
   private final ArmManagers armManagers;
@@ -18,6 +20,11 @@ public class GetManagedResourceGroupInfo implements Step {
     this.armManagers = armManagers;
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(TARGET_MRG_KEY);
+  }
+
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
     var billingProfile =
@@ -4,13 +4,15 @@ import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneRequest;
 import bio.terra.landingzone.stairway.common.model.TargetManagedResourceGroup;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
 import bio.terra.landingzone.stairway.flight.ParametersResolverProvider;
+import bio.terra.landingzone.stairway.flight.WorkingMapDependencies;
 import bio.terra.landingzone.stairway.flight.utils.FlightUtils;
 import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.Step;
 import bio.terra.stairway.StepResult;
 import bio.terra.stairway.exception.RetryException;
+import java.util.Set;
 
-public class GetParametersResolver implements Step {
+public class GetParametersResolver implements Step, WorkingMapDependencies {
 
   private final ParametersResolverProvider parametersResolverProvider;
 
@@ -18,6 +20,16 @@ public class GetParametersResolver implements Step {
     this.parametersResolverProvider = parametersResolverProvider;
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Set.of(GetManagedResourceGroupInfo.TARGET_MRG_KEY);
+  }
+
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
     TargetManagedResourceGroup targetMrg =
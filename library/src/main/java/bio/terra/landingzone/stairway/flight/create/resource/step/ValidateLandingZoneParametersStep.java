@@ -4,6 +4,7 @@ import bio.terra.landingzone.library.landingzones.definition.factories.Parameter
 import bio.terra.landingzone.library.landingzones.definition.factories.exception.InvalidInputParameterException;
 import bio.terra.landingzone.library.landingzones.definition.factories.validation.InputParameterValidator;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.landingzone.stairway.flight.WorkingMapDependencies;
 import bio.terra.landingzone.stairway.flight.utils.FlightUtils;
 import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.Step;
@@ -12,8 +13,9 @@ import bio.terra.stairway.StepStatus;
 import bio.terra.stairway.exception.RetryException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
-public class ValidateLandingZoneParametersStep implements Step {
+public class ValidateLandingZoneParametersStep implements Step, WorkingMapDependencies {
 
   private final List<InputParameterValidator> inputParameterValidators;
 
@@ -22,6 +24,11 @@ public class ValidateLandingZoneParametersStep implements Step {
         Objects.requireNonNull(validators, "validators must not be null");
   }
 
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Set.of(LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER);
+  }
+
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
     ParametersResolver parametersResolver =
@@ -0,0 +1,172 @@
+package bio.terra.landingzone.stairway.flight.create.resource.step.postgres;
+
+import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
+import bio.terra.landingzone.library.landingzones.definition.factories.ParametersResolver;
+import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
+import bio.terra.landingzone.stairway.flight.LandingZoneDefaultParameters;
+import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
+import bio.terra.landingzone.stairway.flight.ResourceNameRequirements;
+import bio.terra.landingzone.stairway.flight.create.resource.step.BaseResourceCreateStep;
+import bio.terra.landingzone.stairway.flight.exception.utils.ManagementExceptionUtils;
+import bio.terra.landingzone.stairway.flight.utils.ResourceProvisioningPoller;
+import bio.terra.landingzone.stairway.flight.utils.ResourceProvisioningPoller.ProvisioningStatus;
+import bio.terra.stairway.FlightContext;
+import com.azure.core.management.exception.ManagementException;
+import com.azure.resourcemanager.postgresqlflexibleserver.models.Server;
+import com.azure.resourcemanager.postgresqlflexibleserver.models.ServerState;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Waits for the PostgreSQL server submitted by {@link CreatePostgresqlDbStep} to be provisioned,
+ * then enables PgBouncer on it and records the server in the working map.
+ */
+public class AwaitPostgresqlDbStep extends BaseResourceCreateStep {
+  private static final Logger logger = LoggerFactory.getLogger(AwaitPostgresqlDbStep.class);
+
+  private final ResourceProvisioningPoller provisioningPoller;
+
+  public AwaitPostgresqlDbStep(
+      ArmManagers armManagers, ResourceNameProvider resourceNameProvider) {
+    this(
+        armManagers,
+        resourceNameProvider,
+        new ResourceProvisioningPoller(
+            Duration.ofSeconds(15), Duration.ofMinutes(2), Duration.ofMinutes(30)));
+  }
+
+  @VisibleForTesting
+  AwaitPostgresqlDbStep(
+      ArmManagers armManagers,
+      ResourceNameProvider resourceNameProvider,
+      ResourceProvisioningPoller provisioningPoller) {
+    super(armManagers, resourceNameProvider);
+    this.provisioningPoller = provisioningPoller;
+  }
+
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(
+        CreatePostgresqlDbStep.POSTGRESQL_ID,
+        CreatePostgresqlDbStep.POSTGRESQL_RESOURCE_KEY,
+        CreatePostgresqlDbStep.POSTGRESQL_NAME);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(), Set.of(CreatePostgresqlDbStep.POSTGRESQL_PENDING_ID));
+  }
+
+  @Override
+  protected void createResource(FlightContext context, ArmManagers armManagers) {
+    var postgresId =
+        getParameterOrThrow(
+            context.getWorkingMap(), CreatePostgresqlDbStep.POSTGRESQL_PENDING_ID, String.class);
+
+    var postgres =
+        provisioningPoller.waitForProvisioning(
+            postgresId, () -> getServer(postgresId), AwaitPostgresqlDbStep::getProvisioningStatus);
+
+    enablePgBouncer(getMRGName(context), postgres.name(), getParametersResolver(context));
+
+    context.getWorkingMap().put(CreatePostgresqlDbStep.POSTGRESQL_ID, postgres.id());
+    context
+        .getWorkingMap()
+        .put(
+            CreatePostgresqlDbStep.POSTGRESQL_RESOURCE_KEY,
+            LandingZoneResource.builder()
+                .resourceId(postgres.id())
+                .resourceType(postgres.type())
+                .tags(postgres.tags())
+                .region(postgres.region().name())
+                .resourceName(postgres.name())
+                .build());
+    context.getWorkingMap().put(CreatePostgresqlDbStep.POSTGRESQL_NAME, postgres.name());
+    logger.info(RESOURCE_CREATED, getResourceType(), postgres.id(), getMRGName(context));
+  }
+
+  private Optional<Server> getServer(String postgresId) {
+    try {
+      return Optional.of(armManagers.postgreSqlManager().servers().getById(postgresId));
+    } catch (ManagementException e) {
+      // the server may not be visible right after its creation was submitted
+      if (ManagementExceptionUtils.isNotFound(e)) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
+  private static ProvisioningStatus getProvisioningStatus(Server postgres) {
+    var state = postgres.state();
+    if (ServerState.READY.equals(state)) {
+      return ProvisioningStatus.SUCCEEDED;
+    }
+    if (ServerState.DROPPING.equals(state) || ServerState.DISABLED.equals(state)) {
+      return ProvisioningStatus.FAILED;
+    }
+    return ProvisioningStatus.IN_PROGRESS;
+  }
+
+  private void enablePgBouncer(
+      String mrgName, String postgresName, ParametersResolver parametersResolver) {
+    // Note: azure sdk does not allow this to be done with one call, let alone while creating the
+    // server
+    if (Boolean.parseBoolean(
+        parametersResolver.getValue(
+            LandingZoneDefaultParameters.ParametersNames.ENABLE_PGBOUNCER.name()))) {
+      LinkedHashMap<String, String> params = new LinkedHashMap<>();
+      params.put("pgbouncer.enabled", "true");
+      params.put("metrics.pgbouncer_diagnostics", "on");
+      params.put("pgbouncer.ignore_startup_parameters", "extra_float_digits");
+
+      try {
+        params.forEach(
+            (key, value) ->
+                armManagers
+                    .postgreSqlManager()
+                    .configurations()
+                    .define(key)
+                    .withExistingFlexibleServer(mrgName, postgresName)
+                    .withValue(value)
+                    .withSource("user-override")
+                    .create());
+      } catch (ManagementException e) {
+        // resource may already exist if this step is being retried
+        if (e.getResponse() != null
+            && HttpStatus.CONFLICT.value() != e.getResponse().getStatusCode()) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  @Override
+  protected void deleteResource(String resourceId) {
+    // nothing to delete, the server is deleted when CreatePostgresqlDbStep is undone
+  }
+
+  @Override
+  protected String getResourceType() {
+    return "PostgresProvisioning";
+  }
+
+  @Override
+  protected Optional<String> getResourceId(FlightContext context) {
+    return Optional.empty();
+  }
+
+  @Override
+  public List<ResourceNameRequirements> getResourceNameRequirements() {
+    return List.of();
+  }
+}
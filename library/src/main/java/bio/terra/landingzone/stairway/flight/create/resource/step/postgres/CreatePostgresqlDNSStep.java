@@ -14,6 +14,7 @@ import com.azure.core.management.AzureEnvironment;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,11 @@ public class CreatePostgresqlDNSStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(POSTGRESQL_DNS_ID, POSTGRESQL_DNS_RESOURCE_KEY);
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var beanBag = LandingZoneFlightBeanBag.getFromObject(context.getApplicationContext());
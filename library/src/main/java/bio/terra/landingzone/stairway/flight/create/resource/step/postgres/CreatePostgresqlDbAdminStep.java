@@ -11,9 +11,11 @@ import bio.terra.landingzone.stairway.flight.create.resource.step.CreateLandingZ
 import bio.terra.stairway.FlightContext;
 import com.azure.core.management.exception.ManagementException;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.PrincipalType;
+import com.google.common.collect.Sets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -28,6 +30,16 @@ public class CreatePostgresqlDbAdminStep extends BaseResourceCreateStep {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(
+            CreatePostgresqlDbStep.POSTGRESQL_NAME,
+            CreateLandingZoneIdentityStep.LANDING_ZONE_IDENTITY_PRINCIPAL_ID,
+            CreateLandingZoneIdentityStep.LANDING_ZONE_IDENTITY_RESOURCE_KEY));
+  }
+
   @Override
   public List<ResourceNameRequirements> getResourceNameRequirements() {
     return Collections.emptyList();
@@ -2,10 +2,8 @@ package bio.terra.landingzone.stairway.flight.create.resource.step.postgres;
 
 import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
 import bio.terra.landingzone.library.landingzones.definition.ResourceNameGenerator;
-import bio.terra.landingzone.library.landingzones.definition.factories.ParametersResolver;
 import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
 import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
-import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
 import bio.terra.landingzone.stairway.flight.LandingZoneDefaultParameters;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
 import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
@@ -17,6 +15,7 @@ import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import com.azure.core.management.exception.ManagementException;
+import com.azure.resourcemanager.postgresqlflexibleserver.fluent.models.ServerInner;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.ActiveDirectoryAuthEnum;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.AuthConfig;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.Backup;
@@ -26,186 +25,175 @@ import com.azure.resourcemanager.postgresqlflexibleserver.models.HighAvailabilit
 import com.azure.resourcemanager.postgresqlflexibleserver.models.HighAvailabilityMode;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.Network;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.PasswordAuthEnum;
-import com.azure.resourcemanager.postgresqlflexibleserver.models.Server;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.ServerVersion;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.Sku;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.SkuTier;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.Storage;
-import java.util.LinkedHashMap;
+import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 
+/**
+ * Submits the creation of the PostgreSQL flexible server without waiting for it to be provisioned
+ * and records the server id in the working map. {@link AwaitPostgresqlDbStep} waits for the server,
+ * so that the steps in between run while it is provisioned. The creation isn't submitted again if
+ * the server already exists, for example when a resumed flight reruns the step.
+ */
 public class CreatePostgresqlDbStep extends BaseResourceCreateStep {
   private static final Logger logger = LoggerFactory.getLogger(CreatePostgresqlDbStep.class);
   public static final String POSTGRESQL_ID = "POSTGRESQL_ID";
+  public static final String POSTGRESQL_PENDING_ID = "POSTGRESQL_PENDING_ID";
   public static final String POSTGRESQL_RESOURCE_KEY = "POSTGRESQL";
   public static final String POSTGRESQL_NAME = "POSTGRESQL_NAME";
+  private static final String POSTGRESQL_ID_FORMAT =
+      "/subscriptions/%s/resourceGroups/%s/providers/Microsoft.DBforPostgreSQL/flexibleServers/%s";
 
   public CreatePostgresqlDbStep(
       ArmManagers armManagers, ResourceNameProvider resourceNameProvider) {
     super(armManagers, resourceNameProvider);
   }
 
+  @Override
+  public Set<String> getProducedKeys() {
+    return Set.of(POSTGRESQL_PENDING_ID);
+  }
+
+  @Override
+  public Set<String> getConsumedKeys() {
+    return Sets.union(
+        super.getConsumedKeys(),
+        Set.of(CreateVnetStep.VNET_ID, CreatePostgresqlDNSStep.POSTGRESQL_DNS_ID));
+  }
+
   @Override
   protected void createResource(FlightContext context, ArmManagers armManagers) {
     var postgresName = resourceNameProvider.getName(getResourceType());
-
-    var postgres = createServer(context, armManagers, postgresName);
-
-    enablePgBouncer(getMRGName(context), postgresName, getParametersResolver(context));
-
-    context.getWorkingMap().put(POSTGRESQL_ID, postgres.id());
-    context
-        .getWorkingMap()
-        .put(
-            POSTGRESQL_RESOURCE_KEY,
-            LandingZoneResource.builder()
-                .resourceId(postgres.id())
-                .resourceType(postgres.type())
-                .tags(postgres.tags())
-                .region(postgres.region().name())
-                .resourceName(postgres.name())
-                .build());
-    context.getWorkingMap().put(POSTGRESQL_NAME, postgresName);
-    logger.info(RESOURCE_CREATED, getResourceType(), postgres.id(), getMRGName(context));
+    var mrgName = getMRGName(context);
+    var postgresId =
+        POSTGRESQL_ID_FORMAT.formatted(
+            armManagers.azureResourceManager().subscriptionId(), mrgName, postgresName);
+
+    if (serverExists(mrgName, postgresName)) {
+      logger.info(RESOURCE_ALREADY_EXISTS, getResourceType(), mrgName);
+    } else {
+      beginCreateServer(context, postgresName);
+      logger.info(
+          "{} resource id='{}' submitted for creation in resource group '{}'.",
+          getResourceType(),
+          postgresId,
+          mrgName);
+    }
+    context.getWorkingMap().put(POSTGRESQL_PENDING_ID, postgresId);
   }
 
-  private Server createServer(FlightContext context, ArmManagers armManagers, String postgresName) {
+  private boolean serverExists(String mrgName, String postgresName) {
     try {
-      var landingZoneId =
-          getParameterOrThrow(
-              context.getInputParameters(), LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class);
-
-      var vNetId =
-          getParameterOrThrow(context.getWorkingMap(), CreateVnetStep.VNET_ID, String.class);
-      var dnsId =
-          getParameterOrThrow(
-              context.getWorkingMap(), CreatePostgresqlDNSStep.POSTGRESQL_DNS_ID, String.class);
+      armManagers.postgreSqlManager().servers().getByResourceGroup(mrgName, postgresName);
+      return true;
+    } catch (ManagementException e) {
+      if (ManagementExceptionUtils.isNotFound(e)) {
+        return false;
+      }
+      throw e;
+    }
+  }
 
-      return armManagers
+  /**
+   * Sends the request creating the server. The returned poller is dropped; the server is awaited
+   * by reading it, so that waiting survives a restart of the flight.
+   */
+  private void beginCreateServer(FlightContext context, String postgresName) {
+    try {
+      armManagers
           .postgreSqlManager()
-          .servers()
-          .define(postgresName)
-          .withRegion(getMRGRegionName(context))
-          .withExistingResourceGroup(getMRGName(context))
-          .withVersion(
-              ServerVersion.fromString(
-                  getParametersResolver(context)
-                      .getValue(
-                          LandingZoneDefaultParameters.ParametersNames.POSTGRES_SERVER_VERSION
-                              .name())))
-          .withSku(
-              new Sku()
-                  .withName(
-                      getParametersResolver(context)
-                          .getValue(
-                              LandingZoneDefaultParameters.ParametersNames.POSTGRES_SERVER_SKU
-                                  .name()))
-                  .withTier(
-                      SkuTier.fromString(
-                          getParametersResolver(context)
-                              .getValue(
-                                  LandingZoneDefaultParameters.ParametersNames
-                                      .POSTGRES_SERVER_SKU_TIER
-                                      .name()))))
-          .withNetwork(
-              new Network()
-                  .withDelegatedSubnetResourceId(
-                      vNetId + "/subnets/" + LandingZoneDefaultParameters.Subnet.POSTGRESQL_SUBNET)
-                  .withPrivateDnsZoneArmResourceId(dnsId))
-          .withAuthConfig(
-              new AuthConfig()
-                  .withPasswordAuth(PasswordAuthEnum.DISABLED)
-                  .withActiveDirectoryAuth(ActiveDirectoryAuthEnum.ENABLED))
-          .withBackup(
-              new Backup()
-                  .withGeoRedundantBackup(GeoRedundantBackupEnum.DISABLED)
-                  .withBackupRetentionDays(
-                      Integer.parseInt(
-                          getParametersResolver(context)
-                              .getValue(
-                                  LandingZoneDefaultParameters.ParametersNames
-                                      .POSTGRES_SERVER_BACKUP_RETENTION_DAYS
-                                      .name()))))
-          .withCreateMode(CreateMode.DEFAULT)
-          .withHighAvailability(new HighAvailability().withMode(HighAvailabilityMode.DISABLED))
-          .withStorage(
-              new Storage()
-                  .withStorageSizeGB(
-                      Integer.parseInt(
-                          getParametersResolver(context)
-                              .getValue(
-                                  LandingZoneDefaultParameters.ParametersNames
-                                      .POSTGRES_SERVER_STORAGE_SIZE_GB
-                                      .name()))))
-          .withTags(
-              Map.of(
-                  LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
-                  landingZoneId.toString(),
-                  LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
-                  ResourcePurpose.SHARED_RESOURCE.toString(),
-                  LandingZoneTagKeys.PGBOUNCER_ENABLED.toString(),
-                  getParametersResolver(context)
-                      .getValue(
-                          LandingZoneDefaultParameters.ParametersNames.ENABLE_PGBOUNCER.name())))
-          .create();
+          .serviceClient()
+          .getServers()
+          .beginCreate(getMRGName(context), postgresName, buildServer(context));
     } catch (ManagementException e) {
-      // resource may already exist if this step is being retried
-      if (e.getResponse() != null
-          && HttpStatus.CONFLICT.value() == e.getResponse().getStatusCode()) {
-        return armManagers
-            .postgreSqlManager()
-            .servers()
-            .getByResourceGroup(getMRGName(context), postgresName);
-      } else {
+      // another operation on the server is in progress, so its creation was already submitted
+      if (e.getResponse() == null
+          || HttpStatus.CONFLICT.value() != e.getResponse().getStatusCode()) {
         throw e;
       }
+      logger.info(RESOURCE_ALREADY_EXISTS, getResourceType(), getMRGName(context));
     }
   }
 
-  private void enablePgBouncer(
-      String mrgName, String postgresName, ParametersResolver parametersResolver) {
-    // Note: azure sdk does not allow this to be done with one call, let alone while creating the
-    // server
-    if (Boolean.parseBoolean(
-        parametersResolver.getValue(
-            LandingZoneDefaultParameters.ParametersNames.ENABLE_PGBOUNCER.name()))) {
-      LinkedHashMap<String, String> params = new LinkedHashMap<>();
-      params.put("pgbouncer.enabled", "true");
-      params.put("metrics.pgbouncer_diagnostics", "on");
-      params.put("pgbouncer.ignore_startup_parameters", "extra_float_digits");
-
-      try {
-        params.forEach(
-            (key, value) ->
-                armManagers
-                    .postgreSqlManager()
-                    .configurations()
-                    .define(key)
-                    .withExistingFlexibleServer(mrgName, postgresName)
-                    .withValue(value)
-                    .withSource("user-override")
-                    .create());
-      } catch (ManagementException e) {
-        // resource may already exist if this step is being retried
-        if (e.getResponse() != null
-            && HttpStatus.CONFLICT.value() != e.getResponse().getStatusCode()) {
-          throw e;
-        }
-      }
-    }
+  private ServerInner buildServer(FlightContext context) {
+    var landingZoneId =
+        getParameterOrThrow(
+            context.getInputParameters(), LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class);
+    var vNetId = getParameterOrThrow(context.getWorkingMap(), CreateVnetStep.VNET_ID, String.class);
+    var dnsId =
+        getParameterOrThrow(
+            context.getWorkingMap(), CreatePostgresqlDNSStep.POSTGRESQL_DNS_ID, String.class);
+    var parametersResolver = getParametersResolver(context);
+
+    return new ServerInner()
+        .withVersion(
+            ServerVersion.fromString(
+                parametersResolver.getValue(
+                    LandingZoneDefaultParameters.ParametersNames.POSTGRES_SERVER_VERSION.name())))
+        .withSku(
+            new Sku()
+                .withName(
+                    parametersResolver.getValue(
+                        LandingZoneDefaultParameters.ParametersNames.POSTGRES_SERVER_SKU.name()))
+                .withTier(
+                    SkuTier.fromString(
+                        parametersResolver.getValue(
+                            LandingZoneDefaultParameters.ParametersNames.POSTGRES_SERVER_SKU_TIER
+                                .name()))))
+        .withNetwork(
+            new Network()
+                .withDelegatedSubnetResourceId(
+                    vNetId + "/subnets/" + LandingZoneDefaultParameters.Subnet.POSTGRESQL_SUBNET)
+                .withPrivateDnsZoneArmResourceId(dnsId))
+        .withAuthConfig(
+            new AuthConfig()
+                .withPasswordAuth(PasswordAuthEnum.DISABLED)
+                .withActiveDirectoryAuth(ActiveDirectoryAuthEnum.ENABLED))
+        .withBackup(
+            new Backup()
+                .withGeoRedundantBackup(GeoRedundantBackupEnum.DISABLED)
+                .withBackupRetentionDays(
+                    Integer.parseInt(
+                        parametersResolver.getValue(
+                            LandingZoneDefaultParameters.ParametersNames
+                                .POSTGRES_SERVER_BACKUP_RETENTION_DAYS
+                                .name()))))
+        .withCreateMode(CreateMode.DEFAULT)
+        .withHighAvailability(new HighAvailability().withMode(HighAvailabilityMode.DISABLED))
+        .withStorage(
+            new Storage()
+                .withStorageSizeGB(
+                    Integer.parseInt(
+                        parametersResolver.getValue(
+                            LandingZoneDefaultParameters.ParametersNames
+                                .POSTGRES_SERVER_STORAGE_SIZE_GB
+                                .name()))))
+        .withLocation(getMRGRegionName(context))
+        .withTags(
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                landingZoneId.toString(),
+                LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
+                ResourcePurpose.SHARED_RESOURCE.toString(),
+                LandingZoneTagKeys.PGBOUNCER_ENABLED.toString(),
+                parametersResolver.getValue(
+                    LandingZoneDefaultParameters.ParametersNames.ENABLE_PGBOUNCER.name())));
   }
 
   /*
-   Current step is responsible for multiple postgres operations such as 1) DB server provisioning
-   2) Enabling pgbouncer 3) Creating admin user. This particular method works as a global handler for
-   the whole step. But current implementation handles specific Postgres db provisioning issue.
+   Handles a specific Postgres db provisioning issue returned when the creation of the server is
+   submitted.
   */
   @Override
   protected Optional<StepResult> maybeHandleManagementException(ManagementException e) {
@@ -235,7 +223,7 @@ public class CreatePostgresqlDbStep extends BaseResourceCreateStep {
 
   @Override
   protected Optional<String> getResourceId(FlightContext context) {
-    return Optional.ofNullable(context.getWorkingMap().get(POSTGRESQL_ID, String.class));
+    return Optional.ofNullable(context.getWorkingMap().get(POSTGRESQL_PENDING_ID, String.class));
   }
 
   @Override
@@ -28,6 +28,13 @@ public class DeleteLandingZoneFlight extends Flight {
   }
 
   private void addDeleteSteps(LandingZoneFlightBeanBag flightBeanBag) {
+    addStep(
+        new PlanLandingZoneResourcesDeleteStep(
+            flightBeanBag.getAzureLandingZoneManagerProvider(),
+            flightBeanBag.getLandingZoneDao(),
+            flightBeanBag.getDeletePlanCache()),
+        RetryRules.shortExponential());
+
     addStep(
         new DeleteLandingZoneResourcesStep(
             flightBeanBag.getAzureLandingZoneManagerProvider(), flightBeanBag.getLandingZoneDao()),
@@ -6,8 +6,7 @@ import bio.terra.landingzone.db.LandingZoneDao;
 import bio.terra.landingzone.db.model.LandingZoneRecord;
 import bio.terra.landingzone.job.JobMapKeys;
 import bio.terra.landingzone.library.LandingZoneManagerProvider;
-import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
-import bio.terra.landingzone.library.landingzones.management.deleterules.LandingZoneRuleDeleteException;
+import bio.terra.landingzone.library.landingzones.management.PlannedResourceDelete;
 import bio.terra.landingzone.model.LandingZoneTarget;
 import bio.terra.landingzone.service.landingzone.azure.model.DeletedLandingZone;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
@@ -19,11 +18,24 @@ import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import bio.terra.stairway.exception.RetryException;
 import com.azure.core.management.exception.ManagementException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Deletes the resources of the plan stored by {@link PlanLandingZoneResourcesDeleteStep}, one tier
+ * per run of the step. After each tier the ids of the deleted resources are stored in the working
+ * map and the step is rerun, so that Stairway persists the progress at the end of every tier and a
+ * recovered flight resumes with the first tier which isn't deleted yet.
+ */
 public class DeleteLandingZoneResourcesStep implements Step {
 
   private static final Logger logger =
@@ -54,22 +66,36 @@ public class DeleteLandingZoneResourcesStep implements Step {
     }
 
     LandingZoneRecord landingZoneRecord = landingZoneRecordOpt.get();
+    if (isAttached(landingZoneRecord)) {
+      logger.info("Landing zone {} was attached, skipping Azure resource deletion", landingZoneId);
+      persistResponse(
+          context,
+          DeletedLandingZone.emptyLandingZone(landingZoneId, landingZoneRecord.billingProfileId()));
+      return StepResult.getStepResultSuccess();
+    }
 
-    try {
-      LandingZoneTarget landingZoneTarget =
-          new LandingZoneTarget(
-              landingZoneRecord.tenantId(),
-              landingZoneRecord.subscriptionId(),
-              landingZoneRecord.resourceGroupId());
-
-      // Delete the landing zone resources
+    FlightMap workingMap = context.getWorkingMap();
+    FlightUtils.validateRequiredEntries(workingMap, LandingZoneFlightMapKeys.DELETE_PLAN);
+    List<PlannedResourceDelete> plan =
+        workingMap.get(
+            LandingZoneFlightMapKeys.DELETE_PLAN,
+            new TypeReference<List<PlannedResourceDelete>>() {});
+    Set<String> deletedResourceIds = readCheckpoint(workingMap);
+
+    Optional<Integer> nextTier =
+        plan.stream()
+            .filter(r -> !deletedResourceIds.contains(r.resourceId()))
+            .map(PlannedResourceDelete::deleteOrder)
+            .min(Comparator.naturalOrder());
+    if (nextTier.isEmpty()) {
       DeletedLandingZone deletedLandingZone =
-          deleteLandingZoneResources(
+          new DeletedLandingZone(
               landingZoneId,
-              landingZoneRecord.billingProfileId(),
-              landingZoneManagerProvider.createLandingZoneManager(landingZoneTarget),
-              isAttached(landingZoneRecord));
-
+              plan.stream()
+                  .sorted(Comparator.comparingInt(PlannedResourceDelete::deleteOrder))
+                  .map(PlannedResourceDelete::resourceId)
+                  .toList(),
+              landingZoneRecord.billingProfileId());
       persistResponse(context, deletedLandingZone);
 
       String deletedResources = String.join(", ", deletedLandingZone.deleteResources());
@@ -77,8 +103,28 @@ public class DeleteLandingZoneResourcesStep implements Step {
           "Successfully deleted landing zone resources. id='{}', deleted resources='{}'",
           deletedLandingZone.landingZoneId(),
           deletedResources);
-
       return StepResult.getStepResultSuccess();
+    }
+
+    try {
+      LandingZoneTarget landingZoneTarget =
+          new LandingZoneTarget(
+              landingZoneRecord.tenantId(),
+              landingZoneRecord.subscriptionId(),
+              landingZoneRecord.resourceGroupId());
+      List<PlannedResourceDelete> tier =
+          plan.stream().filter(r -> r.deleteOrder() == nextTier.get()).toList();
+      logger.info(
+          "Deleting landing zone resources of tier {}. id={}, already deleted={}",
+          nextTier.get(),
+          landingZoneId,
+          deletedResourceIds.size());
+      landingZoneManagerProvider
+          .createLandingZoneManager(landingZoneTarget)
+          .deletePlannedResources(tier, deletedResourceIds);
+
+      // rerun the step for the next tier; Stairway persists the checkpoint when the step ends
+      return new StepResult(StepStatus.STEP_RESULT_RERUN);
     } catch (ManagementException e) {
       // Azure returns AuthorizationFailed when an MRG is deleted or otherwise inaccessible. Since
       // the user is unable to change the IAM permissions on an MRG due to deny assignments, we
@@ -104,13 +150,16 @@ public class DeleteLandingZoneResourcesStep implements Step {
         logger.error("Failed to delete the landing zone due to Azure error.", e);
         return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, e);
       }
-    } catch (LandingZoneRuleDeleteException e) {
-      logger.error("Failed to delete the landing zone due to delete rules.", e);
-      return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, e);
     } catch (RuntimeException maybeInterrupt) {
       var notInterrupt = maybeThrowAzureInterruptedException(maybeInterrupt);
       logger.error("Unexpected exception while deleting the landing zone.", notInterrupt);
       return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, notInterrupt);
+    } finally {
+      // ids deleted before a failure are kept as well, so that a retry skips them
+      synchronized (deletedResourceIds) {
+        workingMap.put(
+            LandingZoneFlightMapKeys.DELETED_RESOURCE_IDS, new ArrayList<>(deletedResourceIds));
+      }
     }
   }
 
@@ -124,19 +173,16 @@ public class DeleteLandingZoneResourcesStep implements Step {
     workingMap.put(JobMapKeys.RESPONSE.getKeyName(), deletedLandingZone);
   }
 
-  private DeletedLandingZone deleteLandingZoneResources(
-      UUID landingZoneId,
-      UUID billingProfileId,
-      LandingZoneManager landingZoneManager,
-      boolean isAttached)
-      throws LandingZoneRuleDeleteException {
-    if (isAttached) {
-      logger.info("Landing zone {} was attached, skipping Azure resource deletion", landingZoneId);
-      return DeletedLandingZone.emptyLandingZone(landingZoneId, billingProfileId);
+  /** Ids of the resources deleted by previous runs of the step, in a thread safe set. */
+  private static Set<String> readCheckpoint(FlightMap workingMap) {
+    List<String> checkpoint =
+        workingMap.get(
+            LandingZoneFlightMapKeys.DELETED_RESOURCE_IDS, new TypeReference<List<String>>() {});
+    Set<String> deletedResourceIds = Collections.synchronizedSet(new LinkedHashSet<>());
+    if (checkpoint != null) {
+      deletedResourceIds.addAll(checkpoint);
     }
-
-    List<String> deletedResources = landingZoneManager.deleteResources(landingZoneId.toString());
-    return new DeletedLandingZone(landingZoneId, deletedResources, billingProfileId);
+    return deletedResourceIds;
   }
 
   private boolean isAttached(LandingZoneRecord record) {
@@ -0,0 +1,123 @@
+package bio.terra.landingzone.stairway.flight.delete;
+
+import static bio.terra.landingzone.stairway.flight.utils.FlightUtils.maybeThrowAzureInterruptedException;
+
+import bio.terra.landingzone.db.LandingZoneDao;
+import bio.terra.landingzone.db.model.LandingZoneRecord;
+import bio.terra.landingzone.library.LandingZoneDeletePlanCache;
+import bio.terra.landingzone.library.LandingZoneManagerProvider;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
+import bio.terra.landingzone.library.landingzones.management.PlannedResourceDelete;
+import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
+import bio.terra.landingzone.library.landingzones.management.deleterules.LandingZoneRuleDeleteException;
+import bio.terra.landingzone.model.LandingZoneTarget;
+import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.landingzone.stairway.flight.utils.FlightUtils;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.Step;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
+import bio.terra.stairway.exception.RetryException;
+import com.azure.core.management.exception.ManagementException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lists the landing zone resources to delete, verifies that the delete rules allow deleting them
+ * and stores the plan in the working map. Stairway persists the plan when the step ends, so the
+ * delete step and any rerun of it after a failure or a pod restart delete exactly this plan.
+ */
+public class PlanLandingZoneResourcesDeleteStep implements Step {
+  private static final Logger logger =
+      LoggerFactory.getLogger(PlanLandingZoneResourcesDeleteStep.class);
+
+  private final LandingZoneManagerProvider landingZoneManagerProvider;
+  private final LandingZoneDao landingZoneDao;
+  private final LandingZoneDeletePlanCache deletePlanCache;
+
+  public PlanLandingZoneResourcesDeleteStep(
+      LandingZoneManagerProvider landingZoneManagerProvider,
+      LandingZoneDao landingZoneDao,
+      LandingZoneDeletePlanCache deletePlanCache) {
+    this.landingZoneManagerProvider = landingZoneManagerProvider;
+    this.landingZoneDao = landingZoneDao;
+    this.deletePlanCache = deletePlanCache;
+  }
+
+  @Override
+  public StepResult doStep(FlightContext context) throws RetryException, InterruptedException {
+    FlightMap inputMap = context.getInputParameters();
+    FlightUtils.validateRequiredEntries(inputMap, LandingZoneFlightMapKeys.LANDING_ZONE_ID);
+    var landingZoneId = inputMap.get(LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.class);
+    FlightMap workingMap = context.getWorkingMap();
+
+    if (workingMap.getRaw(LandingZoneFlightMapKeys.DELETE_PLAN) != null) {
+      logger.info("Landing zone delete plan already exists. id={}", landingZoneId);
+      return StepResult.getStepResultSuccess();
+    }
+
+    LandingZoneRecord landingZoneRecord =
+        landingZoneDao.getLandingZoneIfExists(landingZoneId).orElse(null);
+    if (landingZoneRecord == null || isAttached(landingZoneRecord)) {
+      // the delete step doesn't delete Azure resources in these cases
+      return StepResult.getStepResultSuccess();
+    }
+
+    try {
+      LandingZoneTarget landingZoneTarget =
+          new LandingZoneTarget(
+              landingZoneRecord.tenantId(),
+              landingZoneRecord.subscriptionId(),
+              landingZoneRecord.resourceGroupId());
+      LandingZoneManager landingZoneManager =
+          landingZoneManagerProvider.createLandingZoneManager(landingZoneTarget);
+      // a preview shortly before saves listing the resource group; the delete rules are applied
+      // again in any case, as the resources may have changed since
+      Optional<List<ResourceToDelete>> previewedResources =
+          deletePlanCache.takeResources(landingZoneId);
+      List<PlannedResourceDelete> plan =
+          previewedResources.isPresent()
+              ? landingZoneManager.planResourcesDelete(previewedResources.get())
+              : landingZoneManager.planResourcesDelete(landingZoneId.toString());
+      workingMap.put(LandingZoneFlightMapKeys.DELETE_PLAN, plan);
+      logger.info(
+          "Planned landing zone resource deletion. id={}, resources={}",
+          landingZoneId,
+          plan.size());
+      return StepResult.getStepResultSuccess();
+    } catch (ManagementException e) {
+      // See DeleteLandingZoneResourcesStep: an inaccessible MRG is treated as removed.
+      if (e.getValue().getCode().equals("AuthorizationFailed")) {
+        logger.warn(
+            "Landing zone MRG is either inaccessible or has been removed. id = '{}'",
+            landingZoneId,
+            e);
+        workingMap.put(LandingZoneFlightMapKeys.DELETE_PLAN, List.of());
+        return StepResult.getStepResultSuccess();
+      }
+      logger.error("Failed to plan the landing zone deletion due to Azure error.", e);
+      return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, e);
+    } catch (LandingZoneRuleDeleteException e) {
+      logger.error("Failed to delete the landing zone due to delete rules.", e);
+      return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, e);
+    } catch (RuntimeException maybeInterrupt) {
+      var notInterrupt = maybeThrowAzureInterruptedException(maybeInterrupt);
+      logger.error("Unexpected exception while planning the landing zone deletion.", notInterrupt);
+      return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, notInterrupt);
+    }
+  }
+
+  @Override
+  public StepResult undoStep(FlightContext context) {
+    return StepResult.getStepResultSuccess();
+  }
+
+  private boolean isAttached(LandingZoneRecord record) {
+    return Boolean.parseBoolean(
+        record.properties().getOrDefault(LandingZoneFlightMapKeys.ATTACH, "false"));
+  }
+}
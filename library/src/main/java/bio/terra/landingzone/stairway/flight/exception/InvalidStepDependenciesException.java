@@ -0,0 +1,7 @@
+package bio.terra.landingzone.stairway.flight.exception;
+
+public class InvalidStepDependenciesException extends RuntimeException {
+  public InvalidStepDependenciesException(String message) {
+    super(message);
+  }
+}
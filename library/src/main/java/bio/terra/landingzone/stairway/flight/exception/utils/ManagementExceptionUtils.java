@@ -3,6 +3,7 @@ package bio.terra.landingzone.stairway.flight.exception.utils;
 import com.azure.core.management.exception.ManagementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
 
 public class ManagementExceptionUtils {
   private ManagementExceptionUtils() {}
@@ -29,4 +30,10 @@ public class ManagementExceptionUtils {
     }
     return errorDetails.toString();
   }
+
+  /** Whether the request failed because the resource doesn't exist. */
+  public static boolean isNotFound(ManagementException e) {
+    return e.getResponse() != null
+        && HttpStatus.NOT_FOUND.value() == e.getResponse().getStatusCode();
+  }
 }
@@ -0,0 +1,89 @@
+package bio.terra.landingzone.stairway.flight.utils;
+
+import bio.terra.landingzone.stairway.flight.exception.ResourceCreationException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for a resource whose creation was submitted to Azure to be provisioned, by reading the
+ * resource until its state is final.
+ *
+ * <p>The interval between two reads starts at the initial interval and doubles after every read
+ * up to the maximum interval, so a fast creation is noticed quickly while a slow one is read
+ * rarely. Only the resource is read, so waiting can be picked up by a resumed flight which doesn't
+ * know the operation that created it.
+ */
+public class ResourceProvisioningPoller {
+  private static final Logger logger = LoggerFactory.getLogger(ResourceProvisioningPoller.class);
+
+  public enum ProvisioningStatus {
+    IN_PROGRESS,
+    SUCCEEDED,
+    FAILED
+  }
+
+  private final Duration initialInterval;
+  private final Duration maxInterval;
+  private final Duration timeout;
+
+  /**
+   * @param initialInterval interval between the first two reads of the resource.
+   * @param maxInterval maximum interval between two reads of the resource.
+   * @param timeout time after which the resource is considered as failed to provision.
+   */
+  public ResourceProvisioningPoller(
+      Duration initialInterval, Duration maxInterval, Duration timeout) {
+    this.initialInterval = initialInterval;
+    this.maxInterval = maxInterval;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Reads a resource until it is provisioned.
+   *
+   * @param resourceId id of the resource, for logging.
+   * @param getResource reads the resource; empty while the resource isn't visible yet.
+   * @param getStatus provisioning status of the resource.
+   * @param <T> type of the resource.
+   * @return the provisioned resource.
+   * @throws ResourceCreationException if provisioning failed, didn't finish in time or waiting was
+   *     interrupted; in the last case the cause is the InterruptedException.
+   */
+  public <T> T waitForProvisioning(
+      String resourceId,
+      Supplier<Optional<T>> getResource,
+      Function<T, ProvisioningStatus> getStatus) {
+    final Instant deadline = Instant.now().plus(timeout);
+    Duration interval = initialInterval;
+    try {
+      while (true) {
+        Optional<T> resource = getResource.get();
+        var status = resource.map(getStatus).orElse(ProvisioningStatus.IN_PROGRESS);
+        if (status == ProvisioningStatus.SUCCEEDED) {
+          return resource.get();
+        }
+        if (status == ProvisioningStatus.FAILED) {
+          throw new ResourceCreationException(
+              "Provisioning of resource %s failed.".formatted(resourceId));
+        }
+        if (Instant.now().plus(interval).isAfter(deadline)) {
+          throw new ResourceCreationException(
+              "Resource %s still not provisioned after %s.".formatted(resourceId, timeout));
+        }
+        logger.info("Resource {} is being provisioned, next check in {}.", resourceId, interval);
+        TimeUnit.MILLISECONDS.sleep(interval.toMillis());
+        Duration backoff = interval.multipliedBy(2);
+        interval = backoff.compareTo(maxInterval) > 0 ? maxInterval : backoff;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ResourceCreationException(e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package bio.terra.landingzone.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import bio.terra.landingzone.job.LandingZoneJobService.AsyncJobResult;
+import bio.terra.landingzone.job.model.ErrorReport;
+import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.landingzone.library.configuration.LandingZoneJobResultCacheConfiguration;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.FlightState;
+import bio.terra.stairway.FlightStatus;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+@Tag("unit")
+class CompletedJobCacheTest {
+  private static final String JOB_ID = "jobId";
+
+  private LandingZoneJobResultCacheConfiguration configuration;
+
+  @BeforeEach
+  void setup() {
+    configuration = new LandingZoneJobResultCacheConfiguration();
+  }
+
+  @Test
+  void put_completedFlightIsCached() {
+    var cache = new CompletedJobCache(configuration);
+    var flightState = flightState(FlightStatus.SUCCESS, "result");
+
+    cache.put(flightState);
+
+    assertThat(cache.getFlightState(JOB_ID), equalTo(Optional.of(flightState)));
+  }
+
+  @Test
+  void put_runningFlightIsNotCached() {
+    var cache = new CompletedJobCache(configuration);
+
+    cache.put(flightState(FlightStatus.RUNNING, null));
+
+    assertThat(cache.getFlightState(JOB_ID), equalTo(Optional.empty()));
+  }
+
+  @Test
+  void put_disabledCacheKeepsNothing() {
+    configuration.setEnabled(false);
+    var cache = new CompletedJobCache(configuration);
+
+    cache.put(flightState(FlightStatus.ERROR, null));
+
+    assertThat(cache.getFlightState(JOB_ID), equalTo(Optional.empty()));
+  }
+
+  @Test
+  void put_resultLargerThanCacheIsNotKept() {
+    configuration.setMaximumSize(DataSize.ofKilobytes(8));
+    var cache = new CompletedJobCache(configuration);
+
+    cache.put(flightState(FlightStatus.SUCCESS, "x".repeat(10_000)));
+
+    assertThat(cache.getFlightState(JOB_ID), equalTo(Optional.empty()));
+  }
+
+  @Test
+  void getAsyncJobResult_completedJobResultIsBuiltOnce() {
+    var cache = new CompletedJobCache(configuration);
+    var flightState = flightState(FlightStatus.SUCCESS, "result");
+    cache.put(flightState);
+    var builds = new AtomicInteger();
+
+    var firstResult = cache.getAsyncJobResult(flightState, String.class, () -> build(builds));
+    var secondResult = cache.getAsyncJobResult(flightState, String.class, () -> build(builds));
+
+    assertThat(secondResult.getResult(), sameInstance(firstResult.getResult()));
+    assertThat(builds.get(), equalTo(1));
+  }
+
+  @Test
+  void getAsyncJobResult_callersGetTheirOwnReports() {
+    var cache = new CompletedJobCache(configuration);
+    var flightState = flightState(FlightStatus.ERROR, null);
+    cache.put(flightState);
+    var builds = new AtomicInteger();
+
+    var firstResult = cache.getAsyncJobResult(flightState, String.class, () -> build(builds));
+    firstResult.getJobReport().status(JobReport.StatusEnum.RUNNING);
+    firstResult.getApiErrorReport().addCausesItem("changed by a caller");
+    firstResult.result("changed by a caller");
+    var secondResult = cache.getAsyncJobResult(flightState, String.class, () -> build(builds));
+
+    assertThat(secondResult, not(sameInstance(firstResult)));
+    assertThat(secondResult.getJobReport().getStatus(), equalTo(JobReport.StatusEnum.FAILED));
+    assertThat(secondResult.getApiErrorReport().getCauses(), contains("cause"));
+    assertThat(secondResult.getResult(), equalTo("result"));
+    assertThat(builds.get(), equalTo(1));
+  }
+
+  @Test
+  void getAsyncJobResult_runningJobResultIsBuiltEveryTime() {
+    var cache = new CompletedJobCache(configuration);
+    var flightState = flightState(FlightStatus.RUNNING, null);
+    cache.put(flightState);
+    var builds = new AtomicInteger();
+
+    cache.getAsyncJobResult(flightState, String.class, () -> build(builds));
+    cache.getAsyncJobResult(flightState, String.class, () -> build(builds));
+
+    assertThat(builds.get(), equalTo(2));
+  }
+
+  private static AsyncJobResult<String> build(AtomicInteger builds) {
+    builds.incrementAndGet();
+    return new AsyncJobResult<String>()
+        .jobReport(new JobReport().id(JOB_ID).status(JobReport.StatusEnum.FAILED))
+        .errorReport(new ErrorReport().message("failed").addCausesItem("cause"))
+        .result("result");
+  }
+
+  private static FlightState flightState(FlightStatus flightStatus, String result) {
+    var flightState = new FlightState();
+    flightState.setFlightId(JOB_ID);
+    flightState.setFlightStatus(flightStatus);
+    if (result != null) {
+      var resultMap = new FlightMap();
+      resultMap.put(JobMapKeys.RESPONSE.getKeyName(), result);
+      flightState.setResultMap(resultMap);
+    }
+    return flightState;
+  }
+}
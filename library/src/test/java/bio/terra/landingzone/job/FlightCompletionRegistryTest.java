@@ -0,0 +1,49 @@
+package bio.terra.landingzone.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class FlightCompletionRegistryTest {
+  private static final String FLIGHT_ID = "flightId";
+
+  private final FlightCompletionRegistry registry = new FlightCompletionRegistry();
+
+  @Test
+  void complete_everyWaiterOfTheFlightIsCompleted() {
+    var first = registry.register(FLIGHT_ID);
+    var second = registry.register(FLIGHT_ID);
+
+    registry.complete(FLIGHT_ID);
+
+    assertThat(first.isDone(), equalTo(true));
+    assertThat(second.isDone(), equalTo(true));
+    assertThat(registry.size(), equalTo(0));
+  }
+
+  @Test
+  void unregister_otherWaiterOfTheFlightIsStillCompleted() {
+    var first = registry.register(FLIGHT_ID);
+    var second = registry.register(FLIGHT_ID);
+
+    registry.unregister(FLIGHT_ID, first);
+    registry.complete(FLIGHT_ID);
+
+    assertThat(first.isDone(), equalTo(false));
+    assertThat(second.isDone(), equalTo(true));
+  }
+
+  @Test
+  void unregister_flightIsDroppedOnceNobodyWaitsForIt() {
+    var first = registry.register(FLIGHT_ID);
+    var second = registry.register(FLIGHT_ID);
+
+    registry.unregister(FLIGHT_ID, first);
+    assertThat(registry.size(), equalTo(1));
+    registry.unregister(FLIGHT_ID, second);
+    assertThat(registry.size(), equalTo(0));
+  }
+}
@@ -0,0 +1,105 @@
+package bio.terra.landingzone.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.db.DbSerDes;
+import bio.terra.landingzone.db.LandingZoneJobDao;
+import bio.terra.landingzone.job.model.ErrorReport;
+import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.FlightStatus;
+import bio.terra.stairway.HookAction;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.http.HttpStatus;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class JobRecordHookTest {
+  private static final String JOB_ID = "jobId";
+
+  @Mock private LandingZoneJobDao jobDao;
+  @Mock private FlightContext context;
+
+  @Test
+  void endFlight_succeededFlightResultIsRecorded() {
+    var workingMap = new FlightMap();
+    workingMap.put(JobMapKeys.RESPONSE.getKeyName(), "result");
+    workingMap.put(JobMapKeys.STATUS_CODE.getKeyName(), HttpStatus.CREATED);
+    when(context.getFlightId()).thenReturn(JOB_ID);
+    when(context.getFlightStatus()).thenReturn(FlightStatus.SUCCESS);
+    when(context.getWorkingMap()).thenReturn(workingMap);
+
+    var hookAction = new JobRecordHook(jobDao).endFlight(context);
+
+    assertThat(hookAction, equalTo(HookAction.CONTINUE));
+    verify(jobDao)
+        .completeJob(
+            eq(JOB_ID),
+            eq(JobReport.StatusEnum.SUCCEEDED),
+            eq(HttpStatus.CREATED.value()),
+            any(),
+            eq("\"result\""),
+            isNull());
+  }
+
+  @Test
+  void endFlight_failedFlightErrorReportIsRecorded() {
+    when(context.getFlightId()).thenReturn(JOB_ID);
+    when(context.getFlightStatus()).thenReturn(FlightStatus.ERROR);
+    when(context.getResult())
+        .thenReturn(
+            new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, new RuntimeException("failed")));
+    var errorReportCaptor = ArgumentCaptor.forClass(String.class);
+
+    new JobRecordHook(jobDao).endFlight(context);
+
+    verify(jobDao)
+        .completeJob(
+            eq(JOB_ID),
+            eq(JobReport.StatusEnum.FAILED),
+            eq(HttpStatus.INTERNAL_SERVER_ERROR.value()),
+            any(),
+            isNull(),
+            errorReportCaptor.capture());
+    var errorReport = DbSerDes.fromJson(errorReportCaptor.getValue(), ErrorReport.class);
+    assertThat(errorReport.getMessage(), equalTo("failed"));
+  }
+
+  @Test
+  void endFlight_pausedFlightIsNotRecorded() {
+    when(context.getFlightStatus()).thenReturn(FlightStatus.READY);
+
+    new JobRecordHook(jobDao).endFlight(context);
+
+    verifyNoInteractions(jobDao);
+  }
+
+  @Test
+  void endFlight_failureToRecordDoesNotFailFlight() {
+    when(context.getFlightId()).thenReturn(JOB_ID);
+    when(context.getFlightStatus()).thenReturn(FlightStatus.SUCCESS);
+    when(context.getWorkingMap()).thenReturn(new FlightMap());
+    when(jobDao.completeJob(any(), any(), eq(HttpStatus.OK.value()), any(), isNull(), isNull()))
+        .thenThrow(new DataRetrievalFailureException("database down"));
+
+    var hookAction = new JobRecordHook(jobDao).endFlight(context);
+
+    assertThat(hookAction, equalTo(HookAction.CONTINUE));
+  }
+}
@@ -0,0 +1,66 @@
+package bio.terra.landingzone.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import bio.terra.landingzone.job.model.JobStateChange;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class JobStateNotifierTest {
+  private static final String JOB_ID = "jobId";
+
+  private final JobStateNotifier notifier = new JobStateNotifier();
+
+  @Test
+  void subscribe_listenerReceivesStateChangesInOrder() throws Exception {
+    var stateChanges = List.of(stateChange(0, false), stateChange(1, false), stateChange(1, true));
+    var received = new CopyOnWriteArrayList<JobStateChange>();
+    var allReceived = new CountDownLatch(stateChanges.size());
+    notifier.subscribe(
+        JOB_ID,
+        stateChange -> {
+          received.add(stateChange);
+          allReceived.countDown();
+        });
+
+    stateChanges.forEach(notifier::notifyStateChange);
+
+    assertThat(allReceived.await(10, TimeUnit.SECONDS), equalTo(true));
+    assertThat(received, contains(stateChanges.toArray()));
+  }
+
+  @Test
+  void subscribe_unsubscribedListenerIsNotNotified() throws Exception {
+    var received = new CopyOnWriteArrayList<JobStateChange>();
+    var unsubscribe = notifier.subscribe(JOB_ID, received::add);
+    unsubscribe.run();
+    var next = notifier.nextStateChange(JOB_ID);
+
+    notifier.notifyStateChange(stateChange(0, false));
+
+    // the other subscriber shows that the state change was delivered
+    assertThat(next.get(10, TimeUnit.SECONDS), equalTo(stateChange(0, false)));
+    assertThat(received.isEmpty(), equalTo(true));
+  }
+
+  @Test
+  void nextStateChange_ignoresOtherJobs() throws Exception {
+    var next = notifier.nextStateChange(JOB_ID);
+
+    notifier.notifyStateChange(new JobStateChange("otherJobId", 0, "step", false));
+    notifier.notifyStateChange(stateChange(2, true));
+
+    assertThat(next.get(10, TimeUnit.SECONDS), equalTo(stateChange(2, true)));
+  }
+
+  private static JobStateChange stateChange(int stepIndex, boolean completed) {
+    return new JobStateChange(JOB_ID, stepIndex, "step", completed);
+  }
+}
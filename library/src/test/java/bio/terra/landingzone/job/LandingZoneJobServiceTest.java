@@ -3,12 +3,22 @@ package bio.terra.landingzone.job;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import bio.terra.common.exception.ErrorReportException;
@@ -16,30 +26,56 @@ import bio.terra.common.exception.ForbiddenException;
 import bio.terra.common.iam.BearerToken;
 import bio.terra.common.stairway.StairwayComponent;
 import bio.terra.landingzone.common.utils.LandingZoneFlightBeanBag;
+import bio.terra.landingzone.db.DbSerDes;
+import bio.terra.landingzone.db.LandingZoneJobDao;
+import bio.terra.landingzone.db.model.LandingZoneJobRecord;
+import bio.terra.landingzone.job.exception.DuplicateJobIdException;
+import bio.terra.landingzone.job.exception.InternalStairwayException;
+import bio.terra.landingzone.job.model.ErrorReport;
 import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.landingzone.job.model.JobStateChange;
+import bio.terra.landingzone.job.model.OperationType;
+import bio.terra.landingzone.library.LandingZoneResourcesCache;
 import bio.terra.landingzone.library.configuration.LandingZoneIngressConfiguration;
 import bio.terra.landingzone.library.configuration.LandingZoneJobConfiguration;
+import bio.terra.landingzone.library.configuration.LandingZoneJobResultCacheConfiguration;
 import bio.terra.landingzone.library.configuration.stairway.LandingZoneStairwayDatabaseConfiguration;
 import bio.terra.landingzone.service.iam.LandingZoneSamService;
 import bio.terra.landingzone.service.iam.SamConstants;
+import bio.terra.landingzone.service.landingzone.azure.model.DeletedLandingZone;
+import bio.terra.landingzone.service.landingzone.azure.model.DeployedLandingZone;
 import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneRequest;
+import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
 import bio.terra.landingzone.service.landingzone.azure.model.StartLandingZoneCreation;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.stairway.Flight;
+import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.FlightState;
 import bio.terra.stairway.FlightStatus;
 import bio.terra.stairway.Stairway;
+import bio.terra.stairway.exception.DatabaseOperationException;
+import bio.terra.stairway.exception.DuplicateFlightIdException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -49,6 +85,8 @@ class LandingZoneJobServiceTest {
 
   public static final String EXCEPTION_MSG = "failed";
   private LandingZoneJobService landingZoneJobService;
+  private final FlightCompletionRegistry completionRegistry = new FlightCompletionRegistry();
+  private final JobStateNotifier stateNotifier = new JobStateNotifier();
   @Mock private LandingZoneJobConfiguration jobConfig;
   @Mock private LandingZoneIngressConfiguration ingressConfig;
   @Mock private LandingZoneStairwayDatabaseConfiguration dbConfig;
@@ -56,9 +94,12 @@ class LandingZoneJobServiceTest {
   @Mock private LandingZoneFlightBeanBag flightBeanBag;
   @Mock private ObjectMapper mapper;
   @Mock private LandingZoneSamService samService;
+  @Mock private LandingZoneResourcesCache resourcesCache;
   @Mock private Stairway stairwayInstance;
+  @Mock private LandingZoneJobDao jobDao;
 
   @Mock private FlightState flightState;
+  @Mock private FlightContext flightContext;
 
   @Mock private FlightMap flightMap;
 
@@ -75,7 +116,17 @@ class LandingZoneJobServiceTest {
             flightBeanBag,
             mapper,
             samService,
-            OpenTelemetry.noop());
+            OpenTelemetry.noop(),
+            resourcesCache,
+            completionRegistry,
+            stateNotifier,
+            new CompletedJobCache(new LandingZoneJobResultCacheConfiguration()),
+            jobDao);
+  }
+
+  @AfterEach
+  void tearDown() {
+    landingZoneJobService.shutdown();
   }
 
   @Test
@@ -215,6 +266,534 @@ class LandingZoneJobServiceTest {
     assertThat(asyncResult.getApiErrorReport().getMessage(), equalTo(EXCEPTION_MSG));
   }
 
+  @Test
+  void jobResultRequest_readsFlightStateOnce() throws InterruptedException {
+    // Every read loads and deserializes the input and working maps of the flight. Checking access
+    // and building the job report and result used to take three reads per request.
+    String jobId = "myjob";
+    var landingZoneRequest = createDefaultLandingZoneRequestBuilder().build();
+    var inputParameters = new FlightMap();
+    inputParameters.put(
+        LandingZoneFlightMapKeys.BILLING_PROFILE_ID, landingZoneRequest.billingProfileId());
+    var resultMap = new FlightMap();
+    resultMap.put(JobMapKeys.RESPONSE.getKeyName(), "result");
+    var completedFlightState = flightStateWithStatus(FlightStatus.SUCCESS);
+    completedFlightState.setFlightId(jobId);
+    completedFlightState.setInputParameters(inputParameters);
+    completedFlightState.setResultMap(resultMap);
+    completedFlightState.setSubmitted(Instant.now());
+    completedFlightState.setCompleted(Instant.now());
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId)).thenReturn(completedFlightState);
+    when(ingressConfig.getDomainName()).thenReturn("https://foo.com");
+
+    var job = landingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.empty());
+    var asyncResult = landingZoneJobService.retrieveAsyncJobResult(job, String.class);
+
+    assertThat(asyncResult.getJobReport().getStatus(), equalTo(JobReport.StatusEnum.SUCCEEDED));
+    assertThat(asyncResult.getResult(), equalTo("result"));
+    verify(stairwayInstance, times(1)).getFlightState(jobId);
+  }
+
+  @Test
+  void retrieveAsyncJobResult_readsFlightStateOnce() throws InterruptedException {
+    String jobId = "myjob";
+    setUpNotFailedScenarioForRetrieveStartingAsyncJobResult(jobId, FlightStatus.SUCCESS);
+
+    var asyncResult = landingZoneJobService.retrieveAsyncJobResult(jobId, String.class);
+
+    assertThat(asyncResult.getJobReport().getStatus(), equalTo(JobReport.StatusEnum.SUCCEEDED));
+    verify(stairwayInstance, times(1)).getFlightState(jobId);
+  }
+
+  @Test
+  void verifyUserAccess_completedJobIsReadFromJobTable() throws InterruptedException {
+    String jobId = "myjob";
+    var jobRecord =
+        completedJobRecordBuilder(jobId)
+            .status(JobReport.StatusEnum.SUCCEEDED)
+            .statusCode(200)
+            .result("\"result\"")
+            .build();
+    when(jobDao.getJobIfExists(jobId)).thenReturn(Optional.of(jobRecord));
+    when(ingressConfig.getDomainName()).thenReturn("https://foo.com");
+
+    var job =
+        landingZoneJobService.verifyUserAccess(
+            bearerToken, jobId, Optional.of(jobRecord.landingZoneId().orElseThrow()));
+    var asyncResult = landingZoneJobService.retrieveAsyncJobResult(job, String.class);
+
+    verify(samService)
+        .checkAuthz(
+            bearerToken,
+            SamConstants.SamResourceType.SPEND_PROFILE,
+            jobRecord.billingProfileId().orElseThrow().toString(),
+            SamConstants.SamSpendProfileAction.READ_JOB_RESULT);
+    assertThat(asyncResult.getJobReport().getStatus(), equalTo(JobReport.StatusEnum.SUCCEEDED));
+    assertThat(asyncResult.getJobReport().getStatusCode(), equalTo(200));
+    assertThat(asyncResult.getResult(), equalTo("result"));
+    verifyNoInteractions(stairwayComponent);
+  }
+
+  @Test
+  void verifyUserAccess_landingZoneIdDoesNotMatchJobRecord() {
+    String jobId = "myjob";
+    var jobRecord = completedJobRecordBuilder(jobId).status(JobReport.StatusEnum.FAILED).build();
+    when(jobDao.getJobIfExists(jobId)).thenReturn(Optional.of(jobRecord));
+
+    assertThrows(
+        ForbiddenException.class,
+        () ->
+            landingZoneJobService.verifyUserAccess(
+                bearerToken, jobId, Optional.of(UUID.randomUUID())));
+    verifyNoInteractions(samService);
+  }
+
+  @Test
+  void retrieveAsyncJobResult_failedJobRecordHasErrorReport() {
+    String jobId = "myjob";
+    var errorReport = new ErrorReport().message(EXCEPTION_MSG).statusCode(500);
+    var jobRecord =
+        completedJobRecordBuilder(jobId)
+            .status(JobReport.StatusEnum.FAILED)
+            .statusCode(500)
+            .errorReport(DbSerDes.toJson(errorReport))
+            .build();
+    when(ingressConfig.getDomainName()).thenReturn("https://foo.com");
+
+    var asyncResult =
+        landingZoneJobService.retrieveAsyncJobResult(
+            JobSnapshot.fromJobRecord(jobRecord), String.class);
+
+    assertThat(asyncResult.getJobReport().getStatus(), equalTo(JobReport.StatusEnum.FAILED));
+    assertThat(asyncResult.getResult(), is(nullValue()));
+    assertThat(asyncResult.getApiErrorReport(), equalTo(errorReport));
+  }
+
+  @Test
+  void retrieveJobSnapshot_runningJobIsReadFromStairway() throws InterruptedException {
+    String jobId = "myjob";
+    var jobRecord = completedJobRecordBuilder(jobId).status(JobReport.StatusEnum.RUNNING).build();
+    when(jobDao.getJobIfExists(jobId)).thenReturn(Optional.of(jobRecord));
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    var runningFlightState = flightStateWithStatus(FlightStatus.RUNNING);
+    when(stairwayInstance.getFlightState(jobId)).thenReturn(runningFlightState);
+
+    var job = landingZoneJobService.retrieveJobSnapshot(jobId);
+
+    assertThat(job.getFlightState(), equalTo(Optional.of(runningFlightState)));
+    assertThat(job.isRunning(), equalTo(true));
+  }
+
+  @Test
+  void retrieveAsyncJobResult_completedJobIsServedFromCache() throws InterruptedException {
+    String jobId = "myjob";
+    setUpNotFailedScenarioForRetrieveStartingAsyncJobResult(jobId, FlightStatus.SUCCESS);
+
+    var firstResult = landingZoneJobService.retrieveAsyncJobResult(jobId, String.class);
+    var secondResult = landingZoneJobService.retrieveAsyncJobResult(jobId, String.class);
+
+    assertThat(secondResult.getJobReport(), equalTo(firstResult.getJobReport()));
+    // callers get their own copy of the job report
+    assertThat(secondResult.getJobReport(), not(sameInstance(firstResult.getJobReport())));
+    verify(stairwayInstance, times(1)).getFlightState(jobId);
+  }
+
+  @Test
+  void retrieveAsyncJobResult_runningJobBypassesCache() throws InterruptedException {
+    String jobId = "myjob";
+    setUpNotFailedScenarioForRetrieveStartingAsyncJobResult(jobId, FlightStatus.RUNNING);
+
+    landingZoneJobService.retrieveAsyncJobResult(jobId, String.class);
+    landingZoneJobService.retrieveAsyncJobResult(jobId, String.class);
+
+    verify(stairwayInstance, times(2)).getFlightState(jobId);
+  }
+
+  @Test
+  void waitForJob_returnsWhenFlightEndsOnThisInstance() throws InterruptedException {
+    String jobId = "myjob";
+    // polling alone would not notice the end of the flight within the test timeout
+    when(jobConfig.getPollingIntervalSeconds()).thenReturn(60);
+    when(jobConfig.getTimeoutSeconds()).thenReturn(1800);
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId))
+        .thenAnswer(
+            invocation -> {
+              // the flight ends right after its state is read for the first time
+              completionRegistry.complete(jobId);
+              return flightStateWithStatus(FlightStatus.RUNNING);
+            })
+        .thenReturn(flightStateWithStatus(FlightStatus.SUCCESS));
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10), () -> landingZoneJobService.waitForJob(jobId));
+
+    verify(stairwayInstance, times(2)).getFlightState(jobId);
+    assertThat(completionRegistry.size(), equalTo(0));
+  }
+
+  @Test
+  void waitForJob_readsStateAgainShortlyWhenFinalStateIsStoredLate() throws InterruptedException {
+    String jobId = "myjob";
+    when(jobConfig.getPollingIntervalSeconds()).thenReturn(60);
+    when(jobConfig.getTimeoutSeconds()).thenReturn(1800);
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId))
+        .thenAnswer(
+            invocation -> {
+              completionRegistry.complete(jobId);
+              return flightStateWithStatus(FlightStatus.RUNNING);
+            })
+        // the flight state still shows the flight running after its end was reported
+        .thenReturn(
+            flightStateWithStatus(FlightStatus.RUNNING),
+            flightStateWithStatus(FlightStatus.RUNNING),
+            flightStateWithStatus(FlightStatus.SUCCESS));
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10), () -> landingZoneJobService.waitForJob(jobId));
+
+    verify(stairwayInstance, times(4)).getFlightState(jobId);
+    assertThat(completionRegistry.size(), equalTo(0));
+  }
+
+  @Test
+  void waitForJob_pollsFlightEndingOnAnotherInstance() throws InterruptedException {
+    String jobId = "myjob";
+    when(jobConfig.getPollingIntervalSeconds()).thenReturn(1);
+    when(jobConfig.getTimeoutSeconds()).thenReturn(1800);
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId))
+        .thenReturn(
+            flightStateWithStatus(FlightStatus.RUNNING), flightStateWithStatus(FlightStatus.ERROR));
+
+    landingZoneJobService.waitForJob(jobId);
+
+    verify(stairwayInstance, times(2)).getFlightState(jobId);
+    assertThat(completionRegistry.size(), equalTo(0));
+  }
+
+  @Test
+  void waitForJob_timesOut() throws InterruptedException {
+    String jobId = "myjob";
+    when(jobConfig.getPollingIntervalSeconds()).thenReturn(1);
+    when(jobConfig.getTimeoutSeconds()).thenReturn(0);
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId))
+        .thenReturn(flightStateWithStatus(FlightStatus.RUNNING));
+
+    assertThrows(InternalStairwayException.class, () -> landingZoneJobService.waitForJob(jobId));
+    assertThat(completionRegistry.size(), equalTo(0));
+  }
+
+  @Test
+  void waitForJobStateChange_returnsOnStateChange() throws InterruptedException {
+    String jobId = "myjob";
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId))
+        .thenAnswer(
+            invocation -> {
+              // a step of the flight ends right after its state is read
+              stateNotifier.notifyStateChange(new JobStateChange(jobId, 1, "step", false));
+              return flightStateWithStatus(FlightStatus.RUNNING);
+            });
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> landingZoneJobService.waitForJobStateChange(jobId, Duration.ofMinutes(1)));
+
+    verify(stairwayInstance, times(1)).getFlightState(jobId);
+  }
+
+  @Test
+  void waitForJobStateChange_doesNotWaitForCompletedJob() throws InterruptedException {
+    String jobId = "myjob";
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId))
+        .thenReturn(flightStateWithStatus(FlightStatus.SUCCESS));
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> landingZoneJobService.waitForJobStateChange(jobId, Duration.ofMinutes(1)));
+  }
+
+  @Test
+  void waitForJobStateChange_returnsAfterMaxWait() throws InterruptedException {
+    String jobId = "myjob";
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId))
+        .thenReturn(flightStateWithStatus(FlightStatus.RUNNING));
+
+    landingZoneJobService.waitForJobStateChange(jobId, Duration.ofMillis(10));
+
+    verify(stairwayInstance, times(1)).getFlightState(jobId);
+  }
+
+  @Test
+  void subscribeToJob_reportsJobCompletedOnAnotherInstance() throws Exception {
+    String jobId = "myjob";
+    when(jobConfig.getPollingIntervalSeconds()).thenReturn(1);
+    when(ingressConfig.getDomainName()).thenReturn("https://foo.com");
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId)).thenReturn(runningFlightState(jobId));
+    // the job completes on another instance after it is first read
+    when(jobDao.getJobIfExists(jobId))
+        .thenReturn(Optional.empty(), Optional.of(succeededJobRecord(jobId)));
+    var listener = new RecordingJobStateListener();
+
+    landingZoneJobService.subscribeToJob(jobId, String.class, listener);
+
+    var result = listener.result.get(10, TimeUnit.SECONDS);
+    assertThat(result.getJobReport().getStatus(), equalTo(JobReport.StatusEnum.SUCCEEDED));
+    assertThat(result.getResult(), equalTo("result"));
+    assertThat(listener.completions.get(), equalTo(1));
+  }
+
+  @Test
+  void subscribeToJob_reportsResultOnceItIsStored() throws Exception {
+    String jobId = "myjob";
+    when(jobConfig.getPollingIntervalSeconds()).thenReturn(1);
+    when(ingressConfig.getDomainName()).thenReturn("https://foo.com");
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(stairwayInstance.getFlightState(jobId)).thenReturn(runningFlightState(jobId));
+    // the end of the flight is reported before its final state is stored
+    when(jobDao.getJobIfExists(jobId))
+        .thenReturn(Optional.empty(), Optional.empty(), Optional.of(succeededJobRecord(jobId)));
+    var listener = new RecordingJobStateListener();
+
+    landingZoneJobService.subscribeToJob(jobId, String.class, listener);
+    stateNotifier.notifyStateChange(new JobStateChange(jobId, 1, "step", true));
+
+    var result = listener.result.get(10, TimeUnit.SECONDS);
+    assertThat(result.getJobReport().getStatus(), equalTo(JobReport.StatusEnum.SUCCEEDED));
+    assertThat(listener.completions.get(), equalTo(1));
+    assertThat(listener.stateChanges.get(), equalTo(1));
+    // the result is read and reported off the notification thread
+    assertThat(listener.completedThread, startsWith("landingzone-job-subscription"));
+  }
+
+  @Test
+  void subscribeToJob_blockingListenerDoesNotDelayStateChangesOfOtherJobs() throws Exception {
+    String blockedJobId = "blockedjob";
+    String otherJobId = "otherjob";
+    var blocked = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var blockedListener =
+        new RecordingJobStateListener() {
+          @Override
+          public void onStateChange(JobStateChange stateChange) {
+            super.onStateChange(stateChange);
+            blocked.countDown();
+            // a client which doesn't read its events
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    var otherStateChange = new CompletableFuture<JobStateChange>();
+    var otherListener =
+        new RecordingJobStateListener() {
+          @Override
+          public void onStateChange(JobStateChange stateChange) {
+            otherStateChange.complete(stateChange);
+          }
+        };
+    // the results of the jobs are never read, only their state changes are reported
+    landingZoneJobService.subscribeToJob(blockedJobId, String.class, blockedListener);
+    landingZoneJobService.subscribeToJob(otherJobId, String.class, otherListener);
+
+    try {
+      stateNotifier.notifyStateChange(new JobStateChange(blockedJobId, 1, "step", false));
+      assertThat(blocked.await(10, TimeUnit.SECONDS), equalTo(true));
+      stateNotifier.notifyStateChange(new JobStateChange(blockedJobId, 2, "step", false));
+      var stateChange = new JobStateChange(otherJobId, 1, "step", false);
+      stateNotifier.notifyStateChange(stateChange);
+
+      assertThat(otherStateChange.get(10, TimeUnit.SECONDS), equalTo(stateChange));
+      assertThat(blockedListener.stateChanges.get(), equalTo(1));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void submit_jobIsRecordedBeforeFlightIsSubmitted() throws InterruptedException {
+    String jobId = "myjob";
+    var parameterMap = new FlightMap();
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(jobDao.createJob(any())).thenReturn(true);
+
+    landingZoneJobService.submit(TestFlight.class, parameterMap, jobId);
+
+    var inOrder = inOrder(jobDao, stairwayInstance);
+    inOrder.verify(jobDao).createJob(argThat(job -> job.jobId().equals(jobId)));
+    inOrder
+        .verify(stairwayInstance)
+        .submitWithDebugInfo(eq(jobId), eq(TestFlight.class), eq(parameterMap), eq(false), any());
+    verify(jobDao, never()).deleteJob(any());
+  }
+
+  @Test
+  void submit_recordOfRejectedJobIsRemoved() throws InterruptedException {
+    String jobId = "myjob";
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    when(jobDao.createJob(any())).thenReturn(true);
+    doThrow(DatabaseOperationException.class)
+        .when(stairwayInstance)
+        .submitWithDebugInfo(eq(jobId), eq(TestFlight.class), any(), eq(false), any());
+
+    assertThrows(
+        InternalStairwayException.class,
+        () -> landingZoneJobService.submit(TestFlight.class, new FlightMap(), jobId));
+
+    verify(jobDao).deleteJob(jobId);
+  }
+
+  @Test
+  void submit_recordOfDuplicateJobIsKept() throws InterruptedException {
+    String jobId = "myjob";
+    when(stairwayComponent.get()).thenReturn(stairwayInstance);
+    // the job id already has a record
+    when(jobDao.createJob(any())).thenReturn(false);
+    doThrow(DuplicateFlightIdException.class)
+        .when(stairwayInstance)
+        .submitWithDebugInfo(eq(jobId), eq(TestFlight.class), any(), eq(false), any());
+
+    assertThrows(
+        DuplicateJobIdException.class,
+        () -> landingZoneJobService.submit(TestFlight.class, new FlightMap(), jobId));
+
+    verify(jobDao, never()).deleteJob(any());
+  }
+
+  @Test
+  void retrieveAsyncJobResult_recordedDeployedLandingZoneIsReadBack() {
+    String jobId = "myjob";
+    var deployedLandingZone =
+        new DeployedLandingZone(
+            UUID.randomUUID(),
+            List.of(
+                LandingZoneResource.builder()
+                    .resourceId("vnetId")
+                    .resourceType("Microsoft.Network/virtualNetworks")
+                    .tags(Map.of("WLZ-PURPOSE", "SHARED_RESOURCE"))
+                    .region("eastus")
+                    .build(),
+                LandingZoneResource.builder()
+                    .resourceId("vnetId/subnets/aks")
+                    .resourceType("DeployedSubnet")
+                    .tags(Map.of())
+                    .region("eastus")
+                    .resourceName("aks")
+                    .resourceParentId("vnetId")
+                    .build()));
+    when(ingressConfig.getDomainName()).thenReturn("https://foo.com");
+
+    var asyncResult =
+        landingZoneJobService.retrieveAsyncJobResult(
+            JobSnapshot.fromJobRecord(recordedJobResult(jobId, deployedLandingZone)),
+            DeployedLandingZone.class);
+
+    assertThat(asyncResult.getResult(), equalTo(deployedLandingZone));
+  }
+
+  @Test
+  void retrieveAsyncJobResult_recordedDeletedLandingZoneIsReadBack() {
+    String jobId = "myjob";
+    var deletedLandingZone =
+        new DeletedLandingZone(
+            UUID.randomUUID(), List.of("resource1", "resource2"), UUID.randomUUID());
+    when(ingressConfig.getDomainName()).thenReturn("https://foo.com");
+
+    var asyncResult =
+        landingZoneJobService.retrieveAsyncJobResult(
+            JobSnapshot.fromJobRecord(recordedJobResult(jobId, deletedLandingZone)),
+            DeletedLandingZone.class);
+
+    assertThat(asyncResult.getResult(), equalTo(deletedLandingZone));
+  }
+
+  /** Records the result of a succeeded flight the way {@link JobRecordHook} does. */
+  private LandingZoneJobRecord recordedJobResult(String jobId, Object response) {
+    var workingMap = new FlightMap();
+    workingMap.put(JobMapKeys.RESPONSE.getKeyName(), response);
+    when(flightContext.getFlightId()).thenReturn(jobId);
+    when(flightContext.getFlightStatus()).thenReturn(FlightStatus.SUCCESS);
+    when(flightContext.getWorkingMap()).thenReturn(workingMap);
+    new JobRecordHook(jobDao).endFlight(flightContext);
+    var resultCaptor = ArgumentCaptor.forClass(String.class);
+    verify(jobDao)
+        .completeJob(
+            eq(jobId),
+            eq(JobReport.StatusEnum.SUCCEEDED),
+            eq(200),
+            any(),
+            resultCaptor.capture(),
+            isNull());
+    return completedJobRecordBuilder(jobId)
+        .status(JobReport.StatusEnum.SUCCEEDED)
+        .statusCode(200)
+        .result(resultCaptor.getValue())
+        .build();
+  }
+
+  private LandingZoneJobRecord succeededJobRecord(String jobId) {
+    return completedJobRecordBuilder(jobId)
+        .status(JobReport.StatusEnum.SUCCEEDED)
+        .statusCode(200)
+        .result("\"result\"")
+        .build();
+  }
+
+  private FlightState runningFlightState(String jobId) {
+    FlightState state = flightStateWithStatus(FlightStatus.RUNNING);
+    state.setFlightId(jobId);
+    state.setInputParameters(new FlightMap());
+    state.setSubmitted(Instant.now());
+    return state;
+  }
+
+  private static class RecordingJobStateListener implements JobStateListener<String> {
+    private final CompletableFuture<LandingZoneJobService.AsyncJobResult<String>> result =
+        new CompletableFuture<>();
+    private final AtomicInteger completions = new AtomicInteger();
+    private final AtomicInteger stateChanges = new AtomicInteger();
+    private volatile String completedThread;
+
+    @Override
+    public void onStateChange(JobStateChange stateChange) {
+      stateChanges.incrementAndGet();
+    }
+
+    @Override
+    public void onCompleted(LandingZoneJobService.AsyncJobResult<String> jobResult) {
+      completions.incrementAndGet();
+      completedThread = Thread.currentThread().getName();
+      result.complete(jobResult);
+    }
+  }
+
+  private LandingZoneJobRecord.Builder completedJobRecordBuilder(String jobId) {
+    return LandingZoneJobRecord.builder()
+        .jobId(jobId)
+        .landingZoneId(UUID.randomUUID())
+        .billingProfileId(UUID.randomUUID())
+        .operationType(OperationType.CREATE)
+        .description("Flight description")
+        .resultPath("myresult-path")
+        .submittedDate(Instant.now())
+        .completedDate(Instant.now());
+  }
+
+  private FlightState flightStateWithStatus(FlightStatus flightStatus) {
+    FlightState state = new FlightState();
+    state.setFlightStatus(flightStatus);
+    return state;
+  }
+
   private void setUpFailedScenarioForRetrieveStartingAsyncJobResult(
       String jobId, FlightStatus flightStatus) throws InterruptedException {
     when(stairwayComponent.get()).thenReturn(stairwayInstance);
@@ -292,4 +871,10 @@ class LandingZoneJobServiceTest {
         .definition("lzDefinition")
         .billingProfileId(UUID.randomUUID());
   }
+
+  public static class TestFlight extends Flight {
+    public TestFlight(FlightMap inputParameters, Object applicationContext) {
+      super(inputParameters, applicationContext);
+    }
+  }
 }
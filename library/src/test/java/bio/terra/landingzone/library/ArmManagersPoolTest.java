@@ -0,0 +1,90 @@
+package bio.terra.landingzone.library;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.library.configuration.LandingZoneArmManagersPoolConfiguration;
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.http.HttpClient;
+import com.azure.core.management.AzureEnvironment;
+import com.azure.core.management.profile.AzureProfile;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class ArmManagersPoolTest {
+  private static final String TENANT_ID = UUID.randomUUID().toString();
+  private static final String SUBSCRIPTION_ID = UUID.randomUUID().toString();
+  private static final String USAGE_ATTRIBUTE = "pid-00000000-0000-0000-0000-000000000000";
+
+  @Mock private AzureCredentialsProvider azureCredentialsProvider;
+  @Mock private AzureHttpClientProvider azureHttpClientProvider;
+  @Mock private TokenCredential tokenCredential;
+
+  private ArmManagersPool armManagersPool;
+
+  @BeforeEach
+  void setup() {
+    when(azureCredentialsProvider.getTokenCredential()).thenReturn(tokenCredential);
+    armManagersPool =
+        new ArmManagersPool(
+            azureCredentialsProvider,
+            azureHttpClientProvider,
+            new LandingZoneArmManagersPoolConfiguration());
+  }
+
+  @Test
+  void get_sameSubscriptionReusesManagers() {
+    var first = armManagersPool.get(createProfile(SUBSCRIPTION_ID), USAGE_ATTRIBUTE);
+    var second = armManagersPool.get(createProfile(SUBSCRIPTION_ID), USAGE_ATTRIBUTE);
+
+    assertThat(second, sameInstance(first));
+    verify(azureCredentialsProvider, times(1)).getTokenCredential();
+  }
+
+  @Test
+  void get_differentSubscriptionsGetDifferentManagers() {
+    var first = armManagersPool.get(createProfile(SUBSCRIPTION_ID), USAGE_ATTRIBUTE);
+    var second = armManagersPool.get(createProfile(UUID.randomUUID().toString()), USAGE_ATTRIBUTE);
+
+    assertThat(second, not(sameInstance(first)));
+  }
+
+  @Test
+  void get_differentUsageAttributesGetDifferentManagers() {
+    var first = armManagersPool.get(createProfile(SUBSCRIPTION_ID), USAGE_ATTRIBUTE);
+    var second = armManagersPool.get(createProfile(SUBSCRIPTION_ID), null);
+
+    assertThat(second, not(sameInstance(first)));
+  }
+
+  @Test
+  void get_managersShareHttpClient() {
+    var httpClient = mock(HttpClient.class);
+    when(azureHttpClientProvider.getHttpClient()).thenReturn(httpClient);
+
+    var armManagers = armManagersPool.get(createProfile(SUBSCRIPTION_ID), USAGE_ATTRIBUTE);
+
+    var resourceManagerPipeline =
+        armManagers.azureResourceManager().genericResources().manager().httpPipeline();
+    assertThat(resourceManagerPipeline.getHttpClient(), sameInstance(httpClient));
+    assertThat(
+        armManagers.relayManager().serviceClient().getHttpPipeline().getHttpClient(),
+        sameInstance(httpClient));
+  }
+
+  private static AzureProfile createProfile(String subscriptionId) {
+    return new AzureProfile(TENANT_ID, subscriptionId, AzureEnvironment.AZURE);
+  }
+}
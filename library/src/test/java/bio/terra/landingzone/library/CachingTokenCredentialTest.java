@@ -0,0 +1,156 @@
+package bio.terra.landingzone.library;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.credential.TokenRequestContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class CachingTokenCredentialTest {
+  private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+  private static final TokenRequestContext ARM_REQUEST =
+      new TokenRequestContext().addScopes("https://management.azure.com/.default");
+
+  @Mock private TokenCredential delegate;
+  @Mock private ScheduledExecutorService refreshExecutor;
+  @Mock private Clock clock;
+  @Captor private ArgumentCaptor<Runnable> refreshCaptor;
+
+  private CachingTokenCredential credential;
+
+  @BeforeEach
+  void setup() {
+    credential = new CachingTokenCredential(delegate, refreshExecutor, clock);
+  }
+
+  @Test
+  void getToken_cachedTokenIsReused() {
+    when(clock.instant()).thenReturn(NOW);
+    when(delegate.getToken(any())).thenReturn(Mono.just(token("first", Duration.ofHours(1))));
+
+    var first = credential.getTokenSync(ARM_REQUEST);
+    var second = credential.getToken(ARM_REQUEST).block();
+
+    assertThat(first.getToken(), equalTo("first"));
+    assertThat(second.getToken(), equalTo("first"));
+    verify(delegate, times(1)).getToken(any());
+  }
+
+  @Test
+  void getToken_tokenCloseToExpiryIsAcquiredAgain() {
+    when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofMinutes(59).plusSeconds(30)));
+    when(delegate.getToken(any()))
+        .thenReturn(
+            Mono.just(token("first", Duration.ofHours(1))),
+            Mono.just(token("second", Duration.ofHours(2))));
+
+    credential.getTokenSync(ARM_REQUEST);
+    var token = credential.getTokenSync(ARM_REQUEST);
+
+    assertThat(token.getToken(), equalTo("second"));
+    verify(delegate, times(2)).getToken(any());
+  }
+
+  @Test
+  void getToken_refreshIsScheduledBeforeExpiry() {
+    when(clock.instant()).thenReturn(NOW);
+    when(delegate.getToken(any())).thenReturn(Mono.just(token("first", Duration.ofHours(1))));
+
+    credential.getTokenSync(ARM_REQUEST);
+
+    verify(refreshExecutor)
+        .schedule(
+            any(Runnable.class),
+            eq(Duration.ofHours(1).minus(CachingTokenCredential.REFRESH_BEFORE_EXPIRY).toMillis()),
+            eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void refresh_usedTokenIsReplaced() {
+    when(clock.instant()).thenReturn(NOW);
+    when(delegate.getToken(any()))
+        .thenReturn(
+            Mono.just(token("first", Duration.ofHours(1))),
+            Mono.just(token("second", Duration.ofHours(2))));
+
+    credential.getTokenSync(ARM_REQUEST);
+    credential.getTokenSync(ARM_REQUEST);
+    verify(refreshExecutor).schedule(refreshCaptor.capture(), anyLong(), any());
+    refreshCaptor.getValue().run();
+
+    assertThat(credential.getTokenSync(ARM_REQUEST).getToken(), equalTo("second"));
+    verify(delegate, times(2)).getToken(any());
+  }
+
+  @Test
+  void refresh_idleTokenIsNotRefreshed() {
+    when(clock.instant()).thenReturn(NOW);
+    when(delegate.getToken(any())).thenReturn(Mono.just(token("first", Duration.ofHours(1))));
+
+    credential.getTokenSync(ARM_REQUEST);
+    verify(refreshExecutor).schedule(refreshCaptor.capture(), anyLong(), any());
+    refreshCaptor.getValue().run();
+
+    verify(delegate, times(1)).getToken(any());
+  }
+
+  @Test
+  void getToken_failedAcquisitionIsNotCached() {
+    when(clock.instant()).thenReturn(NOW);
+    when(delegate.getToken(any()))
+        .thenReturn(
+            Mono.error(new IllegalStateException("AAD unavailable")),
+            Mono.just(token("first", Duration.ofHours(1))));
+
+    var failure = credential.getToken(ARM_REQUEST).onErrorResume(e -> Mono.empty()).block();
+    var token = credential.getTokenSync(ARM_REQUEST);
+
+    assertThat(failure, nullValue());
+    assertThat(token.getToken(), equalTo("first"));
+  }
+
+  @Test
+  void getToken_requestWithClaimsBypassesCache() {
+    var claimsRequest =
+        new TokenRequestContext().addScopes("https://management.azure.com/.default");
+    claimsRequest.setClaims("{\"access_token\":{}}");
+    when(delegate.getToken(claimsRequest))
+        .thenReturn(Mono.just(token("claims", Duration.ofHours(1))));
+
+    credential.getTokenSync(claimsRequest);
+    credential.getTokenSync(claimsRequest);
+
+    verify(delegate, times(2)).getToken(claimsRequest);
+    verify(refreshExecutor, never()).schedule(any(Runnable.class), anyLong(), any());
+  }
+
+  private static AccessToken token(String value, Duration expiresIn) {
+    return new AccessToken(value, NOW.plus(expiresIn).atOffset(ZoneOffset.UTC));
+  }
+}
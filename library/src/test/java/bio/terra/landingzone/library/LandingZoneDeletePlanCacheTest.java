@@ -0,0 +1,60 @@
+package bio.terra.landingzone.library;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import bio.terra.landingzone.library.configuration.LandingZoneDeletePlanConfiguration;
+import bio.terra.landingzone.library.landingzones.management.DeleteRuleViolation;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneDeletePlan;
+import bio.terra.landingzone.library.landingzones.management.PlannedResourceDelete;
+import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class LandingZoneDeletePlanCacheTest {
+  private static final UUID LANDING_ZONE_ID = UUID.randomUUID();
+  private static final List<ResourceToDelete> RESOURCES =
+      List.of(new ResourceToDelete(null, null, List.of()));
+  private static final LandingZoneDeletePlan PLAN =
+      new LandingZoneDeletePlan(
+          List.of(new PlannedResourceDelete("resourceId", 0, null, List.of())), List.of());
+
+  private LandingZoneDeletePlanCache planCache;
+
+  @BeforeEach
+  void setup() {
+    planCache = new LandingZoneDeletePlanCache(new LandingZoneDeletePlanConfiguration());
+  }
+
+  @Test
+  void get_cachedPlanIsReturned() {
+    planCache.put(LANDING_ZONE_ID, RESOURCES, PLAN);
+
+    assertThat(planCache.get(LANDING_ZONE_ID), equalTo(Optional.of(PLAN)));
+    assertThat(planCache.get(LANDING_ZONE_ID), equalTo(Optional.of(PLAN)));
+  }
+
+  @Test
+  void takeResources_resourcesAreTakenOnce() {
+    planCache.put(LANDING_ZONE_ID, RESOURCES, PLAN);
+
+    assertThat(planCache.takeResources(LANDING_ZONE_ID), equalTo(Optional.of(RESOURCES)));
+    assertThat(planCache.takeResources(LANDING_ZONE_ID), equalTo(Optional.empty()));
+    assertThat(planCache.get(LANDING_ZONE_ID), equalTo(Optional.empty()));
+  }
+
+  @Test
+  void takeResources_resourcesOfBlockedPlanAreTaken() {
+    // the delete rules are applied again to the resources when they are deleted
+    var violation = new DeleteRuleViolation("resourceId", "rule", "reason", "type");
+    var blockedPlan = new LandingZoneDeletePlan(PLAN.resources(), List.of(violation));
+    planCache.put(LANDING_ZONE_ID, RESOURCES, blockedPlan);
+
+    assertThat(planCache.takeResources(LANDING_ZONE_ID), equalTo(Optional.of(RESOURCES)));
+  }
+}
@@ -0,0 +1,67 @@
+package bio.terra.landingzone.library;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.library.configuration.LandingZoneResourceQuotaConfiguration;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
+import bio.terra.landingzone.library.landingzones.management.quotas.ResourceQuota;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class LandingZoneResourceQuotaCacheTest {
+  private static final String LANDING_ZONE_ID = UUID.randomUUID().toString();
+
+  @Mock private LandingZoneManager landingZoneManager;
+
+  private LandingZoneResourceQuotaCache quotaCache;
+  private List<ResourceQuota> quotas;
+
+  @BeforeEach
+  void setup() {
+    quotaCache = new LandingZoneResourceQuotaCache(new LandingZoneResourceQuotaConfiguration());
+    quotas = List.of(new ResourceQuota("batchAccountId", "type", Map.of("poolQuota", 10)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    quotaCache.shutdown();
+  }
+
+  @Test
+  void getResourceQuotas_secondReadIsServedFromCache() {
+    when(landingZoneManager.resourceQuotas(eq(LANDING_ZONE_ID), any())).thenReturn(quotas);
+
+    quotaCache.getResourceQuotas(landingZoneManager, LANDING_ZONE_ID, false);
+    var result = quotaCache.getResourceQuotas(landingZoneManager, LANDING_ZONE_ID, false);
+
+    assertThat(result, equalTo(quotas));
+    verify(landingZoneManager, times(1)).resourceQuotas(eq(LANDING_ZONE_ID), any());
+  }
+
+  @Test
+  void getResourceQuotas_bypassReadsFromAzureAndRefreshesCache() {
+    when(landingZoneManager.resourceQuotas(eq(LANDING_ZONE_ID), any())).thenReturn(quotas);
+
+    quotaCache.getResourceQuotas(landingZoneManager, LANDING_ZONE_ID, false);
+    quotaCache.getResourceQuotas(landingZoneManager, LANDING_ZONE_ID, true);
+    quotaCache.getResourceQuotas(landingZoneManager, LANDING_ZONE_ID, false);
+
+    verify(landingZoneManager, times(2)).resourceQuotas(eq(LANDING_ZONE_ID), any());
+  }
+}
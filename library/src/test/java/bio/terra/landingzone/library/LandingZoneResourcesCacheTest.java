@@ -0,0 +1,108 @@
+package bio.terra.landingzone.library;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.library.configuration.LandingZoneResourcesCacheConfiguration;
+import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
+import bio.terra.landingzone.library.landingzones.management.ResourcesReader;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class LandingZoneResourcesCacheTest {
+  private static final String LANDING_ZONE_ID = UUID.randomUUID().toString();
+
+  @Mock private ResourcesReader resourcesReader;
+
+  private LandingZoneResourcesCacheConfiguration configuration;
+  private List<DeployedResource> resources;
+
+  @BeforeEach
+  void setup() {
+    configuration = new LandingZoneResourcesCacheConfiguration();
+    resources = List.of(new DeployedResource("resourceId", "type", Map.of(), "region"));
+  }
+
+  @Test
+  void listAllResources_secondReadIsServedFromCache() {
+    when(resourcesReader.listAllResources(LANDING_ZONE_ID)).thenReturn(resources);
+    var cache = new LandingZoneResourcesCache(configuration);
+
+    cache.decorate(resourcesReader, false).listAllResources(LANDING_ZONE_ID);
+    var result = cache.decorate(resourcesReader, false).listAllResources(LANDING_ZONE_ID);
+
+    assertThat(result, equalTo(resources));
+    verify(resourcesReader, times(1)).listAllResources(LANDING_ZONE_ID);
+  }
+
+  @Test
+  void listAllResources_bypassReadsFromAzureAndRefreshesCache() {
+    when(resourcesReader.listAllResources(LANDING_ZONE_ID)).thenReturn(resources);
+    var cache = new LandingZoneResourcesCache(configuration);
+
+    cache.decorate(resourcesReader, false).listAllResources(LANDING_ZONE_ID);
+    cache.decorate(resourcesReader, true).listAllResources(LANDING_ZONE_ID);
+    cache.decorate(resourcesReader, false).listAllResources(LANDING_ZONE_ID);
+
+    verify(resourcesReader, times(2)).listAllResources(LANDING_ZONE_ID);
+  }
+
+  @Test
+  void invalidate_nextReadIsServedFromAzure() {
+    when(resourcesReader.listAllResources(LANDING_ZONE_ID)).thenReturn(resources);
+    var cache = new LandingZoneResourcesCache(configuration);
+
+    cache.decorate(resourcesReader, false).listAllResources(LANDING_ZONE_ID);
+    cache.invalidate(LANDING_ZONE_ID);
+    cache.decorate(resourcesReader, false).listAllResources(LANDING_ZONE_ID);
+
+    verify(resourcesReader, times(2)).listAllResources(LANDING_ZONE_ID);
+  }
+
+  @Test
+  void invalidate_listingLoadedDuringInvalidationIsNotCached() {
+    var cache = new LandingZoneResourcesCache(configuration);
+    when(resourcesReader.listAllResources(LANDING_ZONE_ID))
+        .thenAnswer(
+            invocation -> {
+              // a flight on the landing zone ends while its pre-flight listing is loaded
+              cache.invalidate(LANDING_ZONE_ID);
+              return resources;
+            })
+        .thenReturn(resources);
+
+    cache.decorate(resourcesReader, false).listAllResources(LANDING_ZONE_ID);
+    cache.decorate(resourcesReader, false).listAllResources(LANDING_ZONE_ID);
+
+    verify(resourcesReader, times(2)).listAllResources(LANDING_ZONE_ID);
+  }
+
+  @Test
+  void decorate_disabledCacheReturnsReader() {
+    configuration.setEnabled(false);
+    var cache = new LandingZoneResourcesCache(configuration);
+
+    assertThat(cache.decorate(resourcesReader, false), sameInstance(resourcesReader));
+  }
+
+  @Test
+  void decorate_enabledCacheReturnsCachingReader() {
+    var cache = new LandingZoneResourcesCache(configuration);
+
+    assertThat(cache.decorate(resourcesReader, false), instanceOf(CachingResourcesReader.class));
+  }
+}
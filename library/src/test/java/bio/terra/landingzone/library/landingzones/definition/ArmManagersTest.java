@@ -0,0 +1,106 @@
+package bio.terra.landingzone.library.landingzones.definition;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import com.azure.resourcemanager.AzureResourceManager;
+import com.azure.resourcemanager.batch.BatchManager;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class ArmManagersTest {
+
+  @Test
+  void lazy_managersAreBuiltOnFirstAccessOnly() {
+    var azureResourceManager = mock(AzureResourceManager.class);
+    var azureResourceManagerBuilds = new AtomicInteger();
+    var batchManagerBuilds = new AtomicInteger();
+
+    var armManagers =
+        ArmManagers.lazy(
+            counting(azureResourceManagerBuilds, () -> azureResourceManager),
+            failing(),
+            counting(batchManagerBuilds, () -> mock(BatchManager.class)),
+            failing(),
+            failing(),
+            failing(),
+            failing(),
+            failing());
+
+    assertThat(azureResourceManagerBuilds.get(), equalTo(0));
+    assertThat(armManagers.azureResourceManager(), sameInstance(azureResourceManager));
+    assertThat(armManagers.azureResourceManager(), sameInstance(azureResourceManager));
+    assertThat(azureResourceManagerBuilds.get(), equalTo(1));
+    assertThat(batchManagerBuilds.get(), equalTo(0));
+  }
+
+  @Test
+  void lazy_concurrentFirstAccessBuildsManagerOnce() throws Exception {
+    var builds = new AtomicInteger();
+    var start = new CountDownLatch(1);
+    var armManagers =
+        ArmManagers.lazy(
+            counting(builds, () -> mock(AzureResourceManager.class)),
+            failing(),
+            failing(),
+            failing(),
+            failing(),
+            failing(),
+            failing(),
+            failing());
+
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var futures =
+          IntStream.range(0, 8)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.supplyAsync(
+                          () -> {
+                            awaitQuietly(start);
+                            return armManagers.azureResourceManager();
+                          },
+                          executor))
+              .toList();
+      start.countDown();
+      var first = futures.get(0).get(10, TimeUnit.SECONDS);
+      for (var future : futures) {
+        assertThat(future.get(10, TimeUnit.SECONDS), sameInstance(first));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(builds.get(), equalTo(1));
+  }
+
+  private static <T> Supplier<T> counting(AtomicInteger counter, Supplier<T> supplier) {
+    return () -> {
+      counter.incrementAndGet();
+      return supplier.get();
+    };
+  }
+
+  private static <T> Supplier<T> failing() {
+    return () -> {
+      throw new AssertionError("manager should not be built");
+    };
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package bio.terra.landingzone.library.landingzones.definition.factories;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.mock;
+
+import bio.terra.landingzone.library.configuration.LandingZoneProtectedDataConfiguration;
+import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
+import bio.terra.landingzone.stairway.flight.ParametersResolverProvider;
+import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
+import bio.terra.landingzone.stairway.flight.create.resource.step.AwaitAksStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateAksStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateBatchNetworkSecurityGroupStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateNetworkSecurityGroupStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateVirtualNetworkLinkStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateVnetStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.postgres.AwaitPostgresqlDbStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.postgres.CreatePostgresqlDNSStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.postgres.CreatePostgresqlDbStep;
+import bio.terra.stairway.RetryRule;
+import bio.terra.stairway.Step;
+import java.util.List;
+import java.util.UUID;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class CromwellStepsDefinitionProviderTest {
+  private List<List<Pair<Step, RetryRule>>> stepGroups;
+
+  @BeforeEach
+  void setup() {
+    stepGroups =
+        new CromwellStepsDefinitionProvider()
+            .getStepGroups(
+                mock(ArmManagers.class),
+                mock(ParametersResolverProvider.class),
+                new ResourceNameProvider(UUID.randomUUID()),
+                mock(LandingZoneProtectedDataConfiguration.class));
+  }
+
+  @Test
+  void getStepGroups_stepsRunAfterTheirDependencies() {
+    assertThat(
+        groupOf(CreateVnetStep.class), greaterThan(groupOf(CreateNetworkSecurityGroupStep.class)));
+    assertThat(
+        groupOf(CreateVnetStep.class),
+        greaterThan(groupOf(CreateBatchNetworkSecurityGroupStep.class)));
+    assertThat(
+        groupOf(CreateVirtualNetworkLinkStep.class),
+        greaterThan(groupOf(CreatePostgresqlDNSStep.class)));
+    assertThat(
+        groupOf(CreatePostgresqlDbStep.class),
+        greaterThan(groupOf(CreateVirtualNetworkLinkStep.class)));
+    assertThat(groupOf(CreateAksStep.class), greaterThan(groupOf(CreateVnetStep.class)));
+    assertThat(groupOf(AwaitAksStep.class), greaterThan(groupOf(CreateAksStep.class)));
+    assertThat(
+        groupOf(AwaitPostgresqlDbStep.class), greaterThan(groupOf(CreatePostgresqlDbStep.class)));
+  }
+
+  @Test
+  void getStepGroups_independentResourcesShareAGroup() {
+    assertThat(
+        groupOf(CreateBatchNetworkSecurityGroupStep.class),
+        equalTo(groupOf(CreateNetworkSecurityGroupStep.class)));
+    assertThat(groupOf(AwaitAksStep.class), equalTo(groupOf(CreatePostgresqlDbStep.class)));
+  }
+
+  @Test
+  void get_returnsTheStepsOfAllGroups() {
+    var steps =
+        new CromwellStepsDefinitionProvider()
+            .get(
+                mock(ArmManagers.class),
+                mock(ParametersResolverProvider.class),
+                new ResourceNameProvider(UUID.randomUUID()),
+                mock(LandingZoneProtectedDataConfiguration.class));
+
+    assertThat(
+        steps.stream().map(p -> p.getLeft().getClass()).toList(),
+        equalTo(
+            stepGroups.stream()
+                .flatMap(List::stream)
+                .map(p -> p.getLeft().getClass())
+                .toList()));
+  }
+
+  private int groupOf(Class<? extends Step> stepClass) {
+    for (int i = 0; i < stepGroups.size(); i++) {
+      if (stepGroups.get(i).stream().anyMatch(p -> stepClass.isInstance(p.getLeft()))) {
+        return i;
+      }
+    }
+    throw new AssertionError("step not found: " + stepClass.getSimpleName());
+  }
+}
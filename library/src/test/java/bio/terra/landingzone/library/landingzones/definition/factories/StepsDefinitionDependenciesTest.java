@@ -0,0 +1,90 @@
+package bio.terra.landingzone.library.landingzones.definition.factories;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.mock;
+
+import bio.terra.landingzone.library.configuration.LandingZoneProtectedDataConfiguration;
+import bio.terra.landingzone.library.landingzones.definition.ArmManagers;
+import bio.terra.landingzone.stairway.flight.ParametersResolverProvider;
+import bio.terra.landingzone.stairway.flight.ResourceNameProvider;
+import bio.terra.landingzone.stairway.flight.StepDependencyPlan;
+import bio.terra.landingzone.stairway.flight.StepDependencyPlanner;
+import bio.terra.landingzone.stairway.flight.create.resource.step.AwaitAksStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateAksStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateLandingZoneFederatedIdentityStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateNetworkSecurityGroupStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateVnetStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.GetManagedResourceGroupInfo;
+import bio.terra.landingzone.stairway.flight.create.resource.step.GetParametersResolver;
+import bio.terra.stairway.Step;
+import java.util.List;
+import java.util.UUID;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks the working map dependencies declared by the steps of every landing zone definition: a
+ * step reading a key no step produces, a dependency cycle or a step group running a step before a
+ * step it depends on fails the build instead of a landing zone creation.
+ */
+@Tag("unit")
+class StepsDefinitionDependenciesTest {
+  private LandingZoneProtectedDataConfiguration protectedDataConfiguration;
+
+  @BeforeEach
+  void setup() {
+    protectedDataConfiguration = new LandingZoneProtectedDataConfiguration();
+    protectedDataConfiguration.setLongTermStorageTableNames(List.of("Alert"));
+  }
+
+  @ParameterizedTest
+  @EnumSource(StepsDefinitionFactoryType.class)
+  void getStepGroups_definitionStepsAreValid(StepsDefinitionFactoryType type) {
+    var plan = plan(type);
+
+    assertThat(plan.stages().get(0).get(0), instanceOf(GetManagedResourceGroupInfo.class));
+    assertThat(plan.stages().get(1).get(0), instanceOf(GetParametersResolver.class));
+  }
+
+  @Test
+  void getStepGroups_criticalPathOfCromwellDefinitionGoesThroughAks() {
+    var plan = plan(StepsDefinitionFactoryType.CROMWELL_BASE_DEFINITION_STEPS_PROVIDER_TYPE);
+
+    assertThat(
+        plan.criticalPath().stream().map(s -> s.getClass().getSimpleName()).toList(),
+        contains(
+            GetManagedResourceGroupInfo.class.getSimpleName(),
+            GetParametersResolver.class.getSimpleName(),
+            CreateNetworkSecurityGroupStep.class.getSimpleName(),
+            CreateVnetStep.class.getSimpleName(),
+            CreateAksStep.class.getSimpleName(),
+            AwaitAksStep.class.getSimpleName(),
+            CreateLandingZoneFederatedIdentityStep.class.getSimpleName()));
+    assertThat(plan.duration(), equalTo(7L));
+  }
+
+  private StepDependencyPlan plan(StepsDefinitionFactoryType type) {
+    // steps are only built to read their declarations, they never run
+    List<List<Step>> stepGroups =
+        LandingZoneStepsDefinitionProviderFactory.create(type)
+            .getStepGroups(
+                mock(ArmManagers.class),
+                mock(ParametersResolverProvider.class),
+                new ResourceNameProvider(UUID.randomUUID()),
+                protectedDataConfiguration)
+            .stream()
+            .map(group -> group.stream().map(Pair::getLeft).toList())
+            .toList();
+
+    var plan = StepDependencyPlanner.plan(stepGroups.stream().flatMap(List::stream).toList());
+    plan.validateGroups(stepGroups);
+    return plan;
+  }
+}
@@ -1,21 +1,36 @@
 package bio.terra.landingzone.library.landingzones.management;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import bio.terra.landingzone.library.landingzones.management.deleterules.DeleteRule;
+import bio.terra.landingzone.library.landingzones.management.deleterules.DeleteRuleContext;
 import bio.terra.landingzone.library.landingzones.management.deleterules.LandingZoneRuleDeleteException;
+import com.azure.resourcemanager.resources.models.GenericResource;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
@@ -55,8 +70,8 @@ class DeleteRulesVerifierTest {
 
     when(deleteRuleResult1.isDeletable()).thenReturn(true);
     when(deleteRuleResult2.isDeletable()).thenReturn(true);
-    when(deleteRule1.applyRule(any())).thenReturn(deleteRuleResult1);
-    when(deleteRule2.applyRule(any())).thenReturn(deleteRuleResult2);
+    when(deleteRule1.applyRule(any(), any())).thenReturn(deleteRuleResult1);
+    when(deleteRule2.applyRule(any(), any())).thenReturn(deleteRuleResult2);
 
     deleteRulesVerifier.checkIfRulesAllowDelete(resourcesToDelete);
   }
@@ -64,12 +79,13 @@ class DeleteRulesVerifierTest {
   @Test
   void checkIfRulesAllowDelete_1ruleFails_throwsExceptionAndReason() {
     List<ResourceToDelete> resourcesToDelete = List.of(resourceToDelete1, resourceToDelete2);
+    mockResources();
 
     when(deleteRuleResult1.isDeletable()).thenReturn(true);
     when(deleteRuleResult2.isDeletable()).thenReturn(false);
     when(deleteRuleResult2.reason()).thenReturn("failed 2");
-    when(deleteRule1.applyRule(any())).thenReturn(deleteRuleResult1);
-    when(deleteRule2.applyRule(any())).thenReturn(deleteRuleResult2);
+    when(deleteRule1.applyRule(any(), any())).thenReturn(deleteRuleResult1);
+    when(deleteRule2.applyRule(any(), any())).thenReturn(deleteRuleResult2);
 
     var ex =
         assertThrows(
@@ -82,13 +98,14 @@ class DeleteRulesVerifierTest {
   @Test
   void checkIfRulesAllowDelete_2ruleFail_throwsExceptionAndReasons() {
     List<ResourceToDelete> resourcesToDelete = List.of(resourceToDelete1, resourceToDelete2);
+    mockResources();
 
     when(deleteRuleResult1.isDeletable()).thenReturn(false);
     when(deleteRuleResult2.isDeletable()).thenReturn(false);
     when(deleteRuleResult1.reason()).thenReturn("failed 1");
     when(deleteRuleResult2.reason()).thenReturn("failed 2");
-    when(deleteRule1.applyRule(any())).thenReturn(deleteRuleResult1);
-    when(deleteRule2.applyRule(any())).thenReturn(deleteRuleResult2);
+    when(deleteRule1.applyRule(any(), any())).thenReturn(deleteRuleResult1);
+    when(deleteRule2.applyRule(any(), any())).thenReturn(deleteRuleResult2);
 
     var ex =
         assertThrows(
@@ -98,4 +115,83 @@ class DeleteRulesVerifierTest {
     assertThat(ex.getMessage(), containsString("failed 1"));
     assertThat(ex.getMessage(), containsString("failed 2"));
   }
+
+  @Test
+  void checkIfRulesAllowDelete_rulesAreAppliedConcurrently() throws Exception {
+    List<ResourceToDelete> resourcesToDelete = List.of(resourceToDelete1, resourceToDelete2);
+    // every rule waits until all four evaluations started, which only happens if they run in
+    // parallel
+    var started = new CountDownLatch(4);
+    Answer<DeleteRuleResult> awaitAll =
+        invocation -> {
+          started.countDown();
+          if (!started.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("rules were not applied concurrently");
+          }
+          return deleteRuleResult1;
+        };
+    when(deleteRuleResult1.isDeletable()).thenReturn(true);
+    when(deleteRule1.applyRule(any(), any())).thenAnswer(awaitAll);
+    when(deleteRule2.applyRule(any(), any())).thenAnswer(awaitAll);
+
+    deleteRulesVerifier.checkIfRulesAllowDelete(resourcesToDelete);
+
+    verify(deleteRule1, times(2)).applyRule(any(), any());
+    verify(deleteRule2, times(2)).applyRule(any(), any());
+  }
+
+  @Test
+  void checkIfRulesAllowDelete_rulesShareOneContext() throws LandingZoneRuleDeleteException {
+    List<ResourceToDelete> resourcesToDelete = List.of(resourceToDelete1, resourceToDelete2);
+    when(deleteRuleResult1.isDeletable()).thenReturn(true);
+    when(deleteRule1.applyRule(any(), any())).thenReturn(deleteRuleResult1);
+    when(deleteRule2.applyRule(any(), any())).thenReturn(deleteRuleResult1);
+
+    deleteRulesVerifier.checkIfRulesAllowDelete(resourcesToDelete);
+
+    var contextCaptor = ArgumentCaptor.forClass(DeleteRuleContext.class);
+    verify(deleteRule1, times(2)).applyRule(any(), contextCaptor.capture());
+    verify(deleteRule2, times(2)).applyRule(any(), contextCaptor.capture());
+    assertThat(contextCaptor.getAllValues(), hasSize(4));
+    assertThat(Set.copyOf(contextCaptor.getAllValues()), hasSize(1));
+  }
+
+  @Test
+  void checkIfRulesAllowDelete_ruleThrows_exceptionIsPropagated() {
+    List<ResourceToDelete> resourcesToDelete = List.of(resourceToDelete1);
+    when(deleteRule1.applyRule(any(), any())).thenReturn(deleteRuleResult1);
+    when(deleteRule2.applyRule(any(), any())).thenThrow(new IllegalStateException("ARM failed"));
+
+    var ex =
+        assertThrows(
+            IllegalStateException.class,
+            () -> deleteRulesVerifier.checkIfRulesAllowDelete(resourcesToDelete));
+
+    assertThat(ex.getMessage(), equalTo("ARM failed"));
+  }
+
+  @Test
+  void findViolations_violationsAreReportedPerResource() {
+    List<ResourceToDelete> resourcesToDelete = List.of(resourceToDelete1, resourceToDelete2);
+    mockResources();
+    when(deleteRuleResult1.isDeletable()).thenReturn(true);
+    when(deleteRule1.applyRule(any(), any())).thenReturn(deleteRuleResult1);
+    when(deleteRule2.applyRule(eq(resourceToDelete1), any())).thenReturn(deleteRuleResult1);
+    when(deleteRule2.applyRule(eq(resourceToDelete2), any()))
+        .thenReturn(new DeleteRuleResult(false, "rule2", "failed 2", "type2"));
+
+    var violations = deleteRulesVerifier.findViolations(resourcesToDelete);
+
+    assertThat(
+        violations, contains(new DeleteRuleViolation("resource2", "rule2", "failed 2", "type2")));
+  }
+
+  private void mockResources() {
+    var resource1 = mock(GenericResource.class);
+    var resource2 = mock(GenericResource.class);
+    lenient().when(resource1.id()).thenReturn("resource1");
+    lenient().when(resource2.id()).thenReturn("resource2");
+    lenient().when(resourceToDelete1.resource()).thenReturn(resource1);
+    lenient().when(resourceToDelete2.resource()).thenReturn(resource2);
+  }
 }
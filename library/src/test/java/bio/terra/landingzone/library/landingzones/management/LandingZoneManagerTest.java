@@ -2,8 +2,10 @@ package bio.terra.landingzone.library.landingzones.management;
 
 import static bio.terra.landingzone.library.landingzones.TestUtils.STUB_BATCH_ACCOUNT_ID;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,8 +15,10 @@ import bio.terra.landingzone.library.landingzones.definition.FactoryDefinitionIn
 import bio.terra.landingzone.library.landingzones.definition.factories.TestLandingZoneFactory;
 import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
 import bio.terra.landingzone.library.landingzones.management.quotas.QuotaProvider;
+import bio.terra.landingzone.library.landingzones.management.quotas.ResourceQuota;
 import com.azure.resourcemanager.resources.models.ResourceGroup;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -64,6 +68,52 @@ class LandingZoneManagerTest {
         () -> landingZoneManager.resourceQuota(STUB_LZ_ID, STUB_BATCH_ACCOUNT_ID));
   }
 
+  @Test
+  void resourceQuotas_quotasOfSupportedResourcesAreReadFromOneListing() {
+    var storageAccountId = "storageAccountId";
+    when(resourceReader.listAllResources(STUB_LZ_ID))
+        .thenReturn(
+            List.of(
+                new DeployedResource(
+                    STUB_BATCH_ACCOUNT_ID, AzureResourceTypeUtils.AZURE_BATCH_TYPE, null, "eastus"),
+                new DeployedResource(
+                    storageAccountId,
+                    AzureResourceTypeUtils.AZURE_STORAGE_ACCOUNT_TYPE,
+                    null,
+                    "eastus")));
+    when(quotaProvider.isQuotaSupported(AzureResourceTypeUtils.AZURE_BATCH_TYPE)).thenReturn(true);
+    when(quotaProvider.isQuotaSupported(AzureResourceTypeUtils.AZURE_STORAGE_ACCOUNT_TYPE))
+        .thenReturn(false);
+    var batchQuota =
+        new ResourceQuota(STUB_BATCH_ACCOUNT_ID, AzureResourceTypeUtils.AZURE_BATCH_TYPE, Map.of());
+    when(quotaProvider.resourceQuota(STUB_BATCH_ACCOUNT_ID)).thenReturn(batchQuota);
+
+    var quotas = landingZoneManager.resourceQuotas(STUB_LZ_ID, Runnable::run);
+
+    assertThat(quotas, contains(batchQuota));
+    verify(resourceReader, times(1)).listAllResources(STUB_LZ_ID);
+    verify(quotaProvider, never()).resourceQuota(storageAccountId);
+  }
+
+  @Test
+  void resourceQuotas_quotaReadFailure_throwsException() {
+    when(resourceReader.listAllResources(STUB_LZ_ID))
+        .thenReturn(
+            List.of(
+                new DeployedResource(
+                    STUB_BATCH_ACCOUNT_ID,
+                    AzureResourceTypeUtils.AZURE_BATCH_TYPE,
+                    null,
+                    "eastus")));
+    when(quotaProvider.isQuotaSupported(AzureResourceTypeUtils.AZURE_BATCH_TYPE)).thenReturn(true);
+    when(quotaProvider.resourceQuota(STUB_BATCH_ACCOUNT_ID))
+        .thenThrow(new IllegalStateException("quota unavailable"));
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> landingZoneManager.resourceQuotas(STUB_LZ_ID, Runnable::run));
+  }
+
   @Test
   void listDefinitionFactories_testFactoryIsListed() {
     var factories = LandingZoneManager.listDefinitionFactories();
@@ -0,0 +1,149 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import static com.azure.core.util.polling.LongRunningOperationStatus.SUCCESSFULLY_COMPLETED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.SyncPoller;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class LongRunningDeleteExecutorTest {
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+  @Test
+  void delete_operationIsPolledUntilCompleted() throws Exception {
+    var poller = mockPoller(inProgress(null), inProgress(null), done(SUCCESSFULLY_COMPLETED));
+
+    try (var executor = newExecutor(Map.of("id", poller))) {
+      executor.delete("id").get(10, TimeUnit.SECONDS);
+    }
+
+    verify(poller, times(3)).poll();
+  }
+
+  @Test
+  void delete_retryAfterIsHonoured() throws Exception {
+    var poller = mockPoller(inProgress(Duration.ofHours(1)), done(SUCCESSFULLY_COMPLETED));
+
+    try (var executor = newExecutor(Map.of("id", poller))) {
+      var deleted = executor.delete("id");
+
+      assertThrows(TimeoutException.class, () -> deleted.get(500, TimeUnit.MILLISECONDS));
+      verify(poller, times(1)).poll();
+    }
+  }
+
+  @Test
+  void delete_failedOperationCompletesExceptionally() {
+    var poller = mockPoller(done(LongRunningOperationStatus.FAILED));
+    var failure = new RuntimeException("failed");
+    when(poller.getFinalResult()).thenThrow(failure);
+
+    try (var executor = newExecutor(Map.of("id", poller))) {
+      var exception =
+          assertThrows(
+              ExecutionException.class, () -> executor.delete("id").get(10, TimeUnit.SECONDS));
+      assertThat(exception.getCause(), sameInstance(failure));
+    }
+  }
+
+  @Test
+  void delete_failedStartCompletesExceptionally() {
+    try (var executor = newExecutor(Map.of())) {
+      var exception =
+          assertThrows(
+              ExecutionException.class, () -> executor.delete("id").get(10, TimeUnit.SECONDS));
+      assertThat(exception.getCause(), instanceOf(IllegalArgumentException.class));
+    }
+  }
+
+  @Test
+  void delete_outstandingOperationsAreLimited() throws Exception {
+    var firstPolls = new AtomicInteger();
+    var firstPollsWhenSecondStarted = new AtomicInteger(-1);
+    var firstPoller =
+        mockPoller(
+            () ->
+                firstPolls.incrementAndGet() == 1
+                    ? inProgress(null)
+                    : done(SUCCESSFULLY_COMPLETED));
+    var secondPoller = mockPoller(done(SUCCESSFULLY_COMPLETED));
+
+    try (var executor =
+        new LongRunningDeleteExecutor(
+            id -> {
+              if (id.equals("first")) {
+                return firstPoller;
+              }
+              firstPollsWhenSecondStarted.set(firstPolls.get());
+              return secondPoller;
+            },
+            1,
+            POLL_INTERVAL,
+            POLL_INTERVAL)) {
+      var deletes = List.of(executor.delete("first"), executor.delete("second"));
+      CompletableFuture.allOf(deletes.toArray(CompletableFuture[]::new))
+          .get(10, TimeUnit.SECONDS);
+    }
+
+    // the second delete only started once the first operation was polled to completion
+    assertThat(firstPollsWhenSecondStarted.get(), equalTo(2));
+  }
+
+  private static LongRunningDeleteExecutor newExecutor(Map<String, SyncPoller<?, ?>> pollers) {
+    return new LongRunningDeleteExecutor(
+        id -> {
+          if (!pollers.containsKey(id)) {
+            throw new IllegalArgumentException("unknown resource " + id);
+          }
+          return pollers.get(id);
+        },
+        8,
+        POLL_INTERVAL,
+        POLL_INTERVAL);
+  }
+
+  @SafeVarargs
+  @SuppressWarnings("unchecked")
+  private static SyncPoller<Void, Void> mockPoller(
+      PollResponse<Void> response, PollResponse<Void>... responses) {
+    SyncPoller<Void, Void> poller = mock(SyncPoller.class);
+    when(poller.poll()).thenReturn(response, responses);
+    return poller;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static SyncPoller<Void, Void> mockPoller(Supplier<PollResponse<Void>> responses) {
+    SyncPoller<Void, Void> poller = mock(SyncPoller.class);
+    when(poller.poll()).thenAnswer(invocation -> responses.get());
+    return poller;
+  }
+
+  private static PollResponse<Void> inProgress(Duration retryAfter) {
+    return new PollResponse<>(LongRunningOperationStatus.IN_PROGRESS, null, retryAfter);
+  }
+
+  private static PollResponse<Void> done(LongRunningOperationStatus status) {
+    return new PollResponse<>(status, null);
+  }
+}
@@ -0,0 +1,270 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
+import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
+import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
+import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.management.Region;
+import com.azure.resourcemanager.AzureResourceManager;
+import com.azure.resourcemanager.resources.models.GenericResource;
+import com.azure.resourcemanager.resources.models.GenericResources;
+import com.azure.resourcemanager.resources.models.ResourceGroup;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Runs {@link ResourceGraphResourcesReader} against a local http server which replays recorded
+ * Resource Graph responses from test resources.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class ResourceGraphResourcesReaderTest {
+  // landing zone id used in the recorded responses
+  private static final String LANDING_ZONE_ID = "8b1e1f3a-3c0d-4a57-9d0e-6f0c2a4e1b11";
+  private static final String RESOURCE_GROUP_NAME = "mrg-terra-lz";
+  private static final String SUBSCRIPTION_ID = "00000000-0000-0000-0000-000000000000";
+
+  @Mock private AzureResourceManager azureResourceManagerMock;
+  @Mock private ResourceGroup resourceGroupMock;
+
+  private HttpServer resourceGraphServer;
+  private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+  private int responseStatus = 200;
+
+  private ResourceGraphClient resourceGraphClient;
+  private ResourceGraphResourcesReader resourcesReader;
+
+  @BeforeEach
+  void setup() throws IOException {
+    resourceGraphServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    resourceGraphServer.createContext(ResourceGraphClient.QUERY_PATH, this::replay);
+    resourceGraphServer.start();
+
+    when(resourceGroupMock.name()).thenReturn(RESOURCE_GROUP_NAME);
+    resourceGraphClient =
+        new ResourceGraphClient(
+            new HttpPipelineBuilder().build(),
+            "http://localhost:" + resourceGraphServer.getAddress().getPort() + "/",
+            SUBSCRIPTION_ID);
+    resourcesReader =
+        new ResourceGraphResourcesReader(
+            resourceGraphClient, azureResourceManagerMock, resourceGroupMock);
+  }
+
+  @AfterEach
+  void tearDown() {
+    resourceGraphServer.stop(0);
+  }
+
+  @Test
+  void listAllResources_allPagesAreFetched() {
+    var resources = resourcesReader.listAllResources(LANDING_ZONE_ID);
+
+    assertThat(
+        resources.stream().map(DeployedResource::resourceType).toList(),
+        containsInAnyOrder(
+            AzureResourceTypeUtils.AZURE_STORAGE_ACCOUNT_TYPE,
+            AzureResourceTypeUtils.AZURE_VNET_TYPE,
+            AzureResourceTypeUtils.AZURE_AKS_TYPE));
+    assertThat(resources.get(0).region(), equalTo("eastus"));
+    assertThat(requestBodies, hasSize(2));
+    assertThat(requestBodies.get(1), containsString("\"$skipToken\":\"page-2\""));
+  }
+
+  @Test
+  void listAllResources_resourcesAreEqualToResourceGroupListing() {
+    // the resources of the recorded responses, as ARM lists them
+    String resourceGroupId =
+        "/subscriptions/" + SUBSCRIPTION_ID + "/resourceGroups/" + RESOURCE_GROUP_NAME;
+    var storage =
+        mockGenericResource(
+            resourceGroupId + "/providers/Microsoft.Storage/storageAccounts/lzstorage",
+            AzureResourceTypeUtils.AZURE_STORAGE_ACCOUNT_TYPE,
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                LANDING_ZONE_ID,
+                LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
+                ResourcePurpose.SHARED_RESOURCE.toString()));
+    var vnet =
+        mockGenericResource(
+            resourceGroupId + "/providers/Microsoft.Network/virtualNetworks/lzvnet",
+            AzureResourceTypeUtils.AZURE_VNET_TYPE,
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                LANDING_ZONE_ID,
+                SubnetResourcePurpose.AKS_NODE_POOL_SUBNET.toString(),
+                SubnetResourcePurpose.AKS_NODE_POOL_SUBNET.toString()));
+    var aks =
+        mockGenericResource(
+            resourceGroupId + "/providers/Microsoft.ContainerService/managedClusters/lzaks",
+            AzureResourceTypeUtils.AZURE_AKS_TYPE,
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                LANDING_ZONE_ID,
+                LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
+                ResourcePurpose.WLZ_RESOURCE.toString()));
+    var genericResources = mock(GenericResources.class);
+    PagedIterable<GenericResource> listing = mockPagedIterable(List.of(storage, vnet, aks));
+    when(genericResources.listByResourceGroup(RESOURCE_GROUP_NAME)).thenReturn(listing);
+    when(azureResourceManagerMock.genericResources()).thenReturn(genericResources);
+    var resourceGroupReader = new ResourcesReaderImpl(azureResourceManagerMock, resourceGroupMock);
+
+    assertThat(
+        resourcesReader.listAllResources(LANDING_ZONE_ID),
+        containsInAnyOrder(resourceGroupReader.listAllResources(LANDING_ZONE_ID).toArray()));
+  }
+
+  @Test
+  void armResourceType_casingIsTakenFromResourceId() {
+    assertThat(
+        ResourceGraphClient.armResourceType(
+            "/subscriptions/sub/resourceGroups/rg/providers/Microsoft.Network/virtualNetworks/vnet"
+                + "/subnets/subnet",
+            "microsoft.network/virtualnetworks/subnets"),
+        equalTo("Microsoft.Network/virtualNetworks/subnets"));
+    // ids which do not name the type leave it unchanged
+    assertThat(
+        ResourceGraphClient.armResourceType("unknown", "microsoft.storage/storageaccounts"),
+        equalTo("microsoft.storage/storageaccounts"));
+  }
+
+  @Test
+  void listOperations_landingZoneIsQueriedForEveryLookupByDefault() {
+    resourcesReader.listSharedResources(LANDING_ZONE_ID);
+    resourcesReader.listAllResources(LANDING_ZONE_ID);
+
+    // two pages of each query
+    assertThat(resourcesReader.armRequestCount(), equalTo(4));
+  }
+
+  @Test
+  void listOperations_landingZoneIsQueriedOnceWithinSnapshotTtl() {
+    resourcesReader =
+        new ResourceGraphResourcesReader(
+            resourceGraphClient,
+            azureResourceManagerMock,
+            RESOURCE_GROUP_NAME,
+            Duration.ofMinutes(1));
+    assertThat(resourcesReader.listSharedResources(LANDING_ZONE_ID), hasSize(1));
+    assertThat(
+        resourcesReader.listResourcesByPurpose(LANDING_ZONE_ID, ResourcePurpose.WLZ_RESOURCE),
+        hasSize(1));
+    assertThat(resourcesReader.listResourcesWithPurpose(LANDING_ZONE_ID), hasSize(2));
+    assertThat(
+        resourcesReader.listResourcesByPurpose(LANDING_ZONE_ID, ResourcePurpose.POSTGRES_ADMIN),
+        empty());
+
+    // two pages of a single query
+    assertThat(resourcesReader.armRequestCount(), equalTo(2));
+  }
+
+  @Test
+  void query_landingZoneAndResourceGroupAreFilteredByResourceGraph() {
+    resourcesReader.listAllResources(LANDING_ZONE_ID);
+
+    var requestBody = requestBodies.get(0);
+    assertThat(requestBody, containsString(SUBSCRIPTION_ID));
+    assertThat(requestBody, containsString("resourceGroup =~ '" + RESOURCE_GROUP_NAME + "'"));
+    assertThat(
+        requestBody,
+        containsString(
+            "tags['" + LandingZoneTagKeys.LANDING_ZONE_ID + "']) =~ '" + LANDING_ZONE_ID + "'"));
+  }
+
+  @Test
+  void query_failureFallsBackToResourceGroupListing() {
+    responseStatus = 429;
+    var genericResources = mock(GenericResources.class);
+    var vnet = mock(GenericResource.class);
+    when(vnet.id()).thenReturn("vnet");
+    when(vnet.tags())
+        .thenReturn(
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                LANDING_ZONE_ID,
+                SubnetResourcePurpose.AKS_NODE_POOL_SUBNET.toString(),
+                "aks-subnet"));
+    when(vnet.region()).thenReturn(Region.US_EAST);
+    PagedIterable<GenericResource> listing = mockPagedIterable(List.of(vnet));
+    when(genericResources.listByResourceGroup(RESOURCE_GROUP_NAME)).thenReturn(listing);
+    when(azureResourceManagerMock.genericResources()).thenReturn(genericResources);
+
+    var resources = resourcesReader.listAllResources(LANDING_ZONE_ID);
+
+    assertThat(resources.stream().map(DeployedResource::resourceId).toList(), contains("vnet"));
+    // failed query and resource group listing
+    assertThat(resourcesReader.armRequestCount(), equalTo(2));
+  }
+
+  private void replay(HttpExchange exchange) throws IOException {
+    String requestBody =
+        new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    requestBodies.add(requestBody);
+
+    String recording;
+    if (responseStatus != 200) {
+      recording = "query-error.json";
+    } else if (requestBody.contains("page-2")) {
+      recording = "landing-zone-resources-page-2.json";
+    } else {
+      recording = "landing-zone-resources-page-1.json";
+    }
+
+    byte[] response;
+    try (InputStream in = getClass().getResourceAsStream("/resourcegraph/" + recording)) {
+      response = in.readAllBytes();
+    }
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(responseStatus, response.length);
+    try (var out = exchange.getResponseBody()) {
+      out.write(response);
+    }
+  }
+
+  private static GenericResource mockGenericResource(
+      String id, String type, Map<String, String> tags) {
+    var genericResource = mock(GenericResource.class);
+    when(genericResource.id()).thenReturn(id);
+    when(genericResource.type()).thenReturn(type);
+    when(genericResource.tags()).thenReturn(tags);
+    when(genericResource.region()).thenReturn(Region.US_EAST);
+    return genericResource;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> PagedIterable<T> mockPagedIterable(List<T> resources) {
+    PagedIterable<T> pagedIterableMock = mock(PagedIterable.class);
+    Answer<Stream<T>> answer = invocation -> resources.stream();
+    when(pagedIterableMock.stream()).thenAnswer(answer);
+    return pagedIterableMock;
+  }
+}
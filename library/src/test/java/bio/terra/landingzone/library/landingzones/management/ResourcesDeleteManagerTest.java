@@ -2,14 +2,18 @@ package bio.terra.landingzone.library.landingzones.management;
 
 import static java.util.Collections.emptyList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -22,16 +26,25 @@ import bio.terra.landingzone.library.landingzones.management.deleterules.Landing
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.management.exception.ManagementError;
 import com.azure.core.management.exception.ManagementException;
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.SyncPoller;
 import com.azure.resourcemanager.AzureResourceManager;
 import com.azure.resourcemanager.network.models.PrivateEndpoint;
 import com.azure.resourcemanager.network.models.PrivateEndpoints;
+import com.azure.resourcemanager.resources.fluentcore.model.Accepted;
 import com.azure.resourcemanager.resources.models.GenericResource;
 import com.azure.resourcemanager.resources.models.GenericResources;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -59,7 +72,14 @@ class ResourcesDeleteManagerTest {
   @BeforeEach
   void setup() {
     mockArmManager();
-    resourcesDeleteManager = new ResourcesDeleteManager(armManagersMock, deleteRulesVerifierMock);
+    mockDeleteOperations();
+    resourcesDeleteManager =
+        new ResourcesDeleteManager(
+            armManagersMock,
+            deleteRulesVerifierMock,
+            ResourcesDeleteManager.DEFAULT_DELETE_PARALLELISM,
+            Duration.ofMillis(1),
+            Duration.ofMillis(10));
   }
 
   @Test
@@ -71,7 +91,7 @@ class ResourcesDeleteManagerTest {
     assertThat(deletedResources, is(empty()));
 
     verify(deleteRulesVerifierMock, times(1)).checkIfRulesAllowDelete(any());
-    verify(genericResourcesManagerMock, never()).deleteById(any());
+    verify(genericResourcesManagerMock, never()).beginDeleteById(any());
   }
 
   @Test
@@ -90,7 +110,7 @@ class ResourcesDeleteManagerTest {
     assertThat(deletedResources.size(), equalTo(privateEndpoints.size() + genericResources.size()));
 
     verify(deleteRulesVerifierMock, times(1)).checkIfRulesAllowDelete(any());
-    verify(genericResourcesManagerMock, times(1)).deleteById(any());
+    verify(genericResourcesManagerMock, times(1)).beginDeleteById(any());
   }
 
   @Test
@@ -108,7 +128,7 @@ class ResourcesDeleteManagerTest {
     mockResourceListing(privateEndpoints, genericResources);
 
     var managementException = mockManagementException("ResourceNotFound");
-    doThrow(managementException).when(genericResourcesManagerMock).deleteById(resourceId1);
+    doThrow(managementException).when(genericResourcesManagerMock).beginDeleteById(resourceId1);
 
     var deletedResources =
         resourcesDeleteManager.deleteLandingZoneResources(LANDING_ZONE_ID, RESOURCE_GROUP_NAME);
@@ -119,8 +139,8 @@ class ResourcesDeleteManagerTest {
     assertTrue(deletedResources.stream().anyMatch(r -> r.id().equals(resourceId2)));
 
     verify(deleteRulesVerifierMock, times(1)).checkIfRulesAllowDelete(any());
-    verify(genericResourcesManagerMock, times(1)).deleteById(resourceId2);
-    verify(genericResourcesManagerMock, times(1)).deleteById(resourceId1);
+    verify(genericResourcesManagerMock, times(1)).beginDeleteById(resourceId2);
+    verify(genericResourcesManagerMock, times(1)).beginDeleteById(resourceId1);
   }
 
   @Test
@@ -135,7 +155,7 @@ class ResourcesDeleteManagerTest {
         emptyList() /*ignoring private endpoints*/, Collections.singletonList(genericResource1));
 
     var managementException = mockManagementException(customManagementExceptionCode);
-    doThrow(managementException).when(genericResourcesManagerMock).deleteById(resourceId1);
+    doThrow(managementException).when(genericResourcesManagerMock).beginDeleteById(resourceId1);
 
     var exception =
         assertThrows(
@@ -146,12 +166,195 @@ class ResourcesDeleteManagerTest {
     assertThat(exception.getValue().getCode(), equalTo(customManagementExceptionCode));
   }
 
+  @Test
+  void delete_tiersAreDeletedInOrder() throws LandingZoneRuleDeleteException {
+    var tags = Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), LANDING_ZONE_ID);
+    var vnet = mockGenericResource("VNET_ID", tags);
+    when(vnet.resourceType()).thenReturn("virtualNetworks");
+    var aks = mockGenericResource("AKS_ID", tags);
+    when(aks.resourceType()).thenReturn("managedClusters");
+    var storage = mockGenericResource("STORAGE_ID", tags);
+    when(storage.resourceType()).thenReturn("storageAccounts");
+    mockResourceListing(emptyList(), List.of(vnet, aks, storage));
+
+    var deletedResources =
+        resourcesDeleteManager.deleteLandingZoneResources(LANDING_ZONE_ID, RESOURCE_GROUP_NAME);
+
+    assertThat(deletedResources, contains(storage, aks, vnet));
+    var inOrder = inOrder(genericResourcesManagerMock);
+    inOrder.verify(genericResourcesManagerMock).beginDeleteById("STORAGE_ID");
+    inOrder.verify(genericResourcesManagerMock).beginDeleteById("AKS_ID");
+    inOrder.verify(genericResourcesManagerMock).beginDeleteById("VNET_ID");
+  }
+
+  @Test
+  void delete_deletesOfOneTierAreStartedTogether() throws LandingZoneRuleDeleteException {
+    var tags = Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), LANDING_ZONE_ID);
+    var genericResources =
+        List.of(
+            mockGenericResource("RESOURCE_ID_1", tags), mockGenericResource("RESOURCE_ID_2", tags));
+    mockResourceListing(emptyList(), genericResources);
+    // an operation only completes once every delete of the tier was started
+    Set<String> started = ConcurrentHashMap.newKeySet();
+    Set<Thread> pollingThreads = ConcurrentHashMap.newKeySet();
+    when(genericResourcesManagerMock.beginDeleteById(any()))
+        .thenAnswer(
+            invocation -> {
+              started.add(invocation.getArgument(0));
+              return mockDeleteOperation(
+                  () -> {
+                    pollingThreads.add(Thread.currentThread());
+                    return started.size() == genericResources.size()
+                        ? LongRunningOperationStatus.SUCCESSFULLY_COMPLETED
+                        : LongRunningOperationStatus.IN_PROGRESS;
+                  });
+            });
+
+    var deletedResources =
+        resourcesDeleteManager.deleteLandingZoneResources(LANDING_ZONE_ID, RESOURCE_GROUP_NAME);
+
+    assertThat(deletedResources, equalTo(genericResources));
+    // every operation is polled by the same thread
+    assertThat(pollingThreads, hasSize(1));
+  }
+
+  @Test
+  void delete_failedTierStopsDeletion() {
+    var tags = Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), LANDING_ZONE_ID);
+    var storage = mockGenericResource("STORAGE_ID", tags);
+    var vnet = mockGenericResource("VNET_ID", tags);
+    when(vnet.resourceType()).thenReturn("virtualNetworks");
+    mockResourceListing(emptyList(), List.of(storage, vnet));
+    var managementException = mockManagementException("Conflict");
+    doThrow(managementException).when(genericResourcesManagerMock).beginDeleteById("STORAGE_ID");
+
+    assertThrows(
+        ManagementException.class,
+        () ->
+            resourcesDeleteManager.deleteLandingZoneResources(
+                LANDING_ZONE_ID, RESOURCE_GROUP_NAME));
+    verify(genericResourcesManagerMock, never()).beginDeleteById("VNET_ID");
+  }
+
+  @Test
+  void plan_resourcesAreVerifiedAndPlannedById() throws LandingZoneRuleDeleteException {
+    var tags = Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), LANDING_ZONE_ID);
+    var aks = mockGenericResource("AKS_ID", tags);
+    when(aks.resourceType()).thenReturn("managedClusters");
+    mockResourceListing(emptyList(), List.of(aks));
+
+    var plan =
+        resourcesDeleteManager.planLandingZoneResourcesDelete(LANDING_ZONE_ID, RESOURCE_GROUP_NAME);
+
+    assertThat(plan, contains(new PlannedResourceDelete("AKS_ID", 1, null, List.of())));
+    verify(deleteRulesVerifierMock, times(1)).checkIfRulesAllowDelete(any());
+    verify(genericResourcesManagerMock, never()).beginDeleteById(any());
+  }
+
+  @Test
+  void plan_listedResourcesAreVerifiedAgain() throws LandingZoneRuleDeleteException {
+    var tags = Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), LANDING_ZONE_ID);
+    var vnet = mockGenericResource("VNET_ID", tags);
+    mockResourceListing(emptyList(), List.of(vnet));
+    var resourcesToDelete =
+        resourcesDeleteManager.listLandingZoneResourcesToDelete(
+            LANDING_ZONE_ID, RESOURCE_GROUP_NAME);
+    doThrow(new LandingZoneRuleDeleteException("VMs are attached"))
+        .when(deleteRulesVerifierMock)
+        .checkIfRulesAllowDelete(resourcesToDelete);
+
+    assertThrows(
+        LandingZoneRuleDeleteException.class,
+        () -> resourcesDeleteManager.planLandingZoneResourcesDelete(resourcesToDelete));
+    verify(genericResourcesManagerMock, never()).beginDeleteById(any());
+  }
+
+  @Test
+  void preview_planIsOrderedAndNothingIsDeleted() {
+    var tags = Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), LANDING_ZONE_ID);
+    var vnet = mockGenericResource("VNET_ID", tags);
+    when(vnet.resourceType()).thenReturn("virtualNetworks");
+    var storage = mockGenericResource("STORAGE_ID", tags);
+    mockResourceListing(emptyList(), List.of(vnet, storage));
+    var violation = new DeleteRuleViolation("STORAGE_ID", "rule", "reason", "storageAccounts");
+    when(deleteRulesVerifierMock.findViolations(any())).thenReturn(List.of(violation));
+
+    var plan =
+        resourcesDeleteManager.previewLandingZoneResourcesDelete(
+            LANDING_ZONE_ID, RESOURCE_GROUP_NAME);
+
+    assertThat(
+        plan.resources(),
+        contains(
+            new PlannedResourceDelete("STORAGE_ID", 0, null, List.of()),
+            new PlannedResourceDelete("VNET_ID", 2, null, List.of())));
+    assertThat(plan.violations(), contains(violation));
+    assertThat(plan.isDeletable(), is(false));
+    verify(genericResourcesManagerMock, never()).beginDeleteById(any());
+  }
+
+  @Test
+  void deletePlanned_deletedResourcesAreSkippedAndRecorded() {
+    var plan =
+        List.of(
+            new PlannedResourceDelete("STORAGE_ID", 0, "ENDPOINT_ID", List.of()),
+            new PlannedResourceDelete("VNET_ID", 2, null, List.of()));
+    Set<String> deletedResourceIds = Collections.synchronizedSet(new HashSet<>());
+    deletedResourceIds.add("ENDPOINT_ID");
+
+    var deletedResources = resourcesDeleteManager.deletePlannedResources(plan, deletedResourceIds);
+
+    assertThat(deletedResources, contains("STORAGE_ID", "VNET_ID"));
+    assertThat(deletedResourceIds, equalTo(Set.of("ENDPOINT_ID", "STORAGE_ID", "VNET_ID")));
+    verify(genericResourcesManagerMock, never()).beginDeleteById("ENDPOINT_ID");
+    verify(genericResourcesManagerMock).beginDeleteById("STORAGE_ID");
+    verify(genericResourcesManagerMock).beginDeleteById("VNET_ID");
+  }
+
+  @Test
+  void deletePlanned_sharedPrivateEndpointIsDeletedOnce() {
+    var plan =
+        List.of(
+            new PlannedResourceDelete("STORAGE_ID_1", 0, "ENDPOINT_ID", List.of("SOLUTION_ID")),
+            new PlannedResourceDelete("STORAGE_ID_2", 0, "ENDPOINT_ID", List.of("SOLUTION_ID")));
+    Set<String> deletedResourceIds = Collections.synchronizedSet(new HashSet<>());
+
+    var deletedResources = resourcesDeleteManager.deletePlannedResources(plan, deletedResourceIds);
+
+    assertThat(deletedResources, contains("STORAGE_ID_1", "STORAGE_ID_2"));
+    verify(genericResourcesManagerMock, times(1)).beginDeleteById("ENDPOINT_ID");
+    verify(genericResourcesManagerMock, times(1)).beginDeleteById("SOLUTION_ID");
+    verify(genericResourcesManagerMock, times(1)).beginDeleteById("STORAGE_ID_1");
+    verify(genericResourcesManagerMock, times(1)).beginDeleteById("STORAGE_ID_2");
+  }
+
   private void mockArmManager() {
     when(azureResourceManagerMock.genericResources()).thenReturn(genericResourcesManagerMock);
-    when(azureResourceManagerMock.privateEndpoints()).thenReturn(privateEndpointsManagerMock);
+    // deleting a plan doesn't list private endpoints
+    lenient()
+        .when(azureResourceManagerMock.privateEndpoints())
+        .thenReturn(privateEndpointsManagerMock);
     when(armManagersMock.azureResourceManager()).thenReturn(azureResourceManagerMock);
   }
 
+  // delete operations complete on their first poll, unless a test stubs them otherwise
+  private void mockDeleteOperations() {
+    lenient()
+        .when(genericResourcesManagerMock.beginDeleteById(any()))
+        .thenAnswer(
+            invocation ->
+                mockDeleteOperation(() -> LongRunningOperationStatus.SUCCESSFULLY_COMPLETED));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Accepted<Void> mockDeleteOperation(Supplier<LongRunningOperationStatus> status) {
+    SyncPoller<Void, Void> poller = mock(SyncPoller.class);
+    when(poller.poll()).thenAnswer(invocation -> new PollResponse<Void>(status.get(), null));
+    Accepted<Void> accepted = mock(Accepted.class);
+    when(accepted.getSyncPoller()).thenReturn(poller);
+    return accepted;
+  }
+
   private void mockResourceListing(
       List<PrivateEndpoint> privateEndpoints, List<GenericResource> genericResources) {
     PagedIterable<PrivateEndpoint> pagedPrivateEndpointsMock = mockPagedIterable(privateEndpoints);
@@ -0,0 +1,156 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
+import com.azure.resourcemanager.network.models.PrivateEndpoint;
+import com.azure.resourcemanager.resources.models.GenericResource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.quality.Strictness;
+
+@Tag("unit")
+class ResourcesDeletePlannerTest {
+  private static final String LANDING_ZONE_ID = UUID.randomUUID().toString();
+  private static final Map<String, String> LANDING_ZONE_TAGS =
+      Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), LANDING_ZONE_ID);
+
+  @Test
+  void plan_resourcesOfOtherLandingZonesAreSkipped() {
+    var resource = resource("storage", LANDING_ZONE_TAGS);
+    var otherResource =
+        resource(
+            "other",
+            Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), UUID.randomUUID().toString()));
+    var untaggedResource = resource("untagged", Map.of());
+
+    var plan =
+        new ResourcesDeletePlanner(List.of(resource, otherResource, untaggedResource), List.of())
+            .plan(LANDING_ZONE_ID);
+
+    assertThat(plan, hasSize(1));
+    assertThat(plan.get(0).resource(), sameInstance(resource));
+    assertThat(plan.get(0).privateEndpoint(), nullValue());
+    assertThat(plan.get(0).solutions(), empty());
+  }
+
+  @Test
+  void plan_privateEndpointIsMatchedByLinkedResourceId() {
+    var storage = resource("storage", LANDING_ZONE_TAGS);
+    var privateEndpoint = privateEndpoint(id("STORAGE"));
+
+    var plan =
+        new ResourcesDeletePlanner(List.of(storage), List.of(privateEndpoint))
+            .plan(LANDING_ZONE_ID);
+
+    assertThat(plan.get(0).privateEndpoint(), sameInstance(privateEndpoint));
+  }
+
+  @Test
+  void plan_solutionsAreMatchedByWorkspaceName() {
+    var workspace = resource("workspace", LANDING_ZONE_TAGS);
+    var containerInsights = solution("ContainerInsights(workspace)");
+    var securityInsights = solution("SecurityInsights(workspace)");
+    var otherSolution = solution("ContainerInsights(other-workspace)");
+
+    var plan =
+        new ResourcesDeletePlanner(
+                List.of(workspace, containerInsights, securityInsights, otherSolution), List.of())
+            .plan(LANDING_ZONE_ID);
+
+    assertThat(plan, hasSize(1));
+    assertThat(plan.get(0).solutions(), contains(containerInsights, securityInsights));
+  }
+
+  /**
+   * Plans a synthetic resource group with thousands of resources, private endpoints and solutions.
+   * Matching every resource against every endpoint and solution takes millions of comparisons at
+   * this size; the indexed planner makes one lookup per resource.
+   */
+  @Test
+  void plan_largeResourceGroupIsPlannedInLinearTime() {
+    int resourceCount = 2000;
+    var resourceGroupResources = new ArrayList<GenericResource>();
+    var privateEndpoints = new ArrayList<PrivateEndpoint>();
+    IntStream.range(0, resourceCount)
+        .forEach(
+            i -> {
+              resourceGroupResources.add(resource("resource-" + i, LANDING_ZONE_TAGS));
+              if (i % 2 == 0) {
+                privateEndpoints.add(privateEndpoint(id("RESOURCE-" + i)));
+              }
+              if (i % 4 == 0) {
+                resourceGroupResources.add(solution("ContainerInsights(resource-" + i + ")"));
+              }
+            });
+
+    var plan =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () ->
+                new ResourcesDeletePlanner(resourceGroupResources, privateEndpoints)
+                    .plan(LANDING_ZONE_ID));
+
+    assertThat(plan, hasSize(resourceCount));
+    for (int i = 0; i < resourceCount; i++) {
+      var resourceToDelete = plan.get(i);
+      assertThat(resourceToDelete.privateEndpoint(), i % 2 == 0 ? notNullValue() : nullValue());
+      assertThat(resourceToDelete.solutions(), hasSize(i % 4 == 0 ? 1 : 0));
+    }
+  }
+
+  private static String id(String name) {
+    return "/subscriptions/sub/resourceGroups/rg/providers/Microsoft.Storage/storageAccounts/"
+        + name;
+  }
+
+  // fixtures are lenient, stub-only mocks: not every stub is used by every test, and the large
+  // resource group test creates thousands of them
+  private static <T> T fixture(Class<T> type) {
+    return mock(type, withSettings().stubOnly().strictness(Strictness.LENIENT));
+  }
+
+  private static GenericResource resource(String name, Map<String, String> tags) {
+    var resource = fixture(GenericResource.class);
+    when(resource.id()).thenReturn(id(name));
+    when(resource.name()).thenReturn(name);
+    when(resource.tags()).thenReturn(tags);
+    when(resource.resourceProviderNamespace()).thenReturn("Microsoft.Storage");
+    when(resource.resourceType()).thenReturn("storageAccounts");
+    return resource;
+  }
+
+  private static GenericResource solution(String name) {
+    var solution = fixture(GenericResource.class);
+    when(solution.name()).thenReturn(name);
+    when(solution.tags()).thenReturn(Map.of());
+    when(solution.resourceProviderNamespace()).thenReturn("Microsoft.OperationsManagement");
+    when(solution.resourceType()).thenReturn("solutions");
+    return solution;
+  }
+
+  private static PrivateEndpoint privateEndpoint(String linkedResourceId) {
+    var connection = fixture(PrivateEndpoint.PrivateLinkServiceConnection.class);
+    when(connection.privateLinkResourceId()).thenReturn(linkedResourceId);
+    var privateEndpoint = fixture(PrivateEndpoint.class);
+    when(privateEndpoint.privateLinkServiceConnections())
+        .thenReturn(Map.of("connection", connection));
+    return privateEndpoint;
+  }
+}
@@ -0,0 +1,249 @@
+package bio.terra.landingzone.library.landingzones.management;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.library.landingzones.deployment.DeployedResource;
+import bio.terra.landingzone.library.landingzones.deployment.DeployedSubnet;
+import bio.terra.landingzone.library.landingzones.deployment.DeployedVNet;
+import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
+import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
+import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.management.Region;
+import com.azure.resourcemanager.AzureResourceManager;
+import com.azure.resourcemanager.network.models.Network;
+import com.azure.resourcemanager.network.models.Networks;
+import com.azure.resourcemanager.network.models.Subnet;
+import com.azure.resourcemanager.resources.models.GenericResource;
+import com.azure.resourcemanager.resources.models.GenericResources;
+import com.azure.resourcemanager.resources.models.ResourceGroup;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class ResourcesReaderImplTest {
+  private static final String LANDING_ZONE_ID = UUID.randomUUID().toString();
+  private static final String OTHER_LANDING_ZONE_ID = UUID.randomUUID().toString();
+  private static final String RESOURCE_GROUP_NAME = "RESOURCE_GROUP";
+
+  @Mock private AzureResourceManager azureResourceManagerMock;
+  @Mock private GenericResources genericResourcesMock;
+  @Mock private ResourceGroup resourceGroupMock;
+
+  private ResourcesReaderImpl resourcesReader;
+
+  @BeforeEach
+  void setup() {
+    when(resourceGroupMock.name()).thenReturn(RESOURCE_GROUP_NAME);
+    when(azureResourceManagerMock.genericResources()).thenReturn(genericResourcesMock);
+    resourcesReader = new ResourcesReaderImpl(azureResourceManagerMock, resourceGroupMock);
+  }
+
+  @Test
+  void listOperations_resourceGroupIsListedForEveryLookupByDefault() {
+    var shared =
+        mockGenericResource(
+            "shared",
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                LANDING_ZONE_ID,
+                LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
+                ResourcePurpose.SHARED_RESOURCE.toString()));
+    mockResourceListing(List.of(shared));
+
+    resourcesReader.listSharedResources(LANDING_ZONE_ID);
+    resourcesReader.listAllResources(LANDING_ZONE_ID);
+
+    verify(genericResourcesMock, times(2)).listByResourceGroup(RESOURCE_GROUP_NAME);
+  }
+
+  @Test
+  void listOperations_resourceGroupIsListedOnceWithinSnapshotTtl() {
+    resourcesReader = readerWithSnapshotTtl();
+    var shared =
+        mockGenericResource(
+            "shared",
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                LANDING_ZONE_ID,
+                LandingZoneTagKeys.LANDING_ZONE_PURPOSE.toString(),
+                ResourcePurpose.SHARED_RESOURCE.toString()));
+    var vnet =
+        mockGenericResource(
+            "vnet",
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                LANDING_ZONE_ID,
+                SubnetResourcePurpose.AKS_NODE_POOL_SUBNET.toString(),
+                "aks-subnet"));
+    mockResourceListing(List.of(shared, vnet));
+
+    assertThat(idsOf(resourcesReader.listSharedResources(LANDING_ZONE_ID)), contains("shared"));
+    assertThat(
+        idsOf(resourcesReader.listResourcesWithPurpose(LANDING_ZONE_ID)), contains("shared"));
+    assertThat(
+        idsOf(resourcesReader.listAllResources(LANDING_ZONE_ID)),
+        containsInAnyOrder("shared", "vnet"));
+    assertThat(
+        resourcesReader.listResourcesByPurpose(LANDING_ZONE_ID, ResourcePurpose.WLZ_RESOURCE),
+        empty());
+
+    verify(genericResourcesMock, times(1)).listByResourceGroup(RESOURCE_GROUP_NAME);
+  }
+
+  @Test
+  void snapshot_resourcesAreIndexedByLandingZone() {
+    var lzResource =
+        mockGenericResource(
+            "lz", Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), LANDING_ZONE_ID));
+    var otherLzResource =
+        mockGenericResource(
+            "other", Map.of(LandingZoneTagKeys.LANDING_ZONE_ID.toString(), OTHER_LANDING_ZONE_ID));
+    var untaggedResource = mock(GenericResource.class);
+    when(untaggedResource.tags()).thenReturn(Map.of());
+    mockResourceListing(List.of(lzResource, otherLzResource, untaggedResource));
+
+    var snapshot = resourcesReader.snapshot();
+
+    assertThat(idsOf(snapshot.allResources(LANDING_ZONE_ID)), contains("lz"));
+    assertThat(idsOf(snapshot.allResources(OTHER_LANDING_ZONE_ID)), contains("other"));
+    assertThat(snapshot.allResources(UUID.randomUUID().toString()), empty());
+  }
+
+  @Test
+  void snapshot_resourcesAreIndexedBySubnetPurpose() {
+    var vnet =
+        mockGenericResource(
+            "vnet",
+            Map.of(
+                LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+                LANDING_ZONE_ID,
+                SubnetResourcePurpose.POSTGRESQL_SUBNET.toString(),
+                "postgres-subnet",
+                SubnetResourcePurpose.WORKSPACE_BATCH_SUBNET.toString(),
+                "batch-subnet"));
+    mockResourceListing(List.of(vnet));
+
+    var snapshot = resourcesReader.snapshot();
+
+    assertThat(
+        idsOf(
+            snapshot.resourcesBySubnetPurpose(
+                LANDING_ZONE_ID, SubnetResourcePurpose.POSTGRESQL_SUBNET)),
+        contains("vnet"));
+    assertThat(
+        idsOf(
+            snapshot.resourcesBySubnetPurpose(
+                LANDING_ZONE_ID, SubnetResourcePurpose.WORKSPACE_BATCH_SUBNET)),
+        contains("vnet"));
+    assertThat(
+        snapshot.resourcesBySubnetPurpose(
+            LANDING_ZONE_ID, SubnetResourcePurpose.WORKSPACE_COMPUTE_SUBNET),
+        empty());
+  }
+
+  @Test
+  void listSubnetsBySubnetPurpose_vNetIsFetchedOnceForAllPurposes() {
+    resourcesReader = readerWithSnapshotTtl();
+    var vNetTags =
+        Map.of(
+            LandingZoneTagKeys.LANDING_ZONE_ID.toString(),
+            LANDING_ZONE_ID,
+            SubnetResourcePurpose.AKS_NODE_POOL_SUBNET.toString(),
+            "aks-subnet",
+            SubnetResourcePurpose.POSTGRESQL_SUBNET.toString(),
+            "postgres-subnet");
+    var vnet = mockGenericResource("vnet", vNetTags);
+    mockResourceListing(List.of(vnet));
+
+    var network = mock(Network.class);
+    when(network.id()).thenReturn("vnet");
+    when(network.regionName()).thenReturn(Region.US_EAST.name());
+    when(network.tags()).thenReturn(vNetTags);
+    when(network.subnets())
+        .thenReturn(
+            Map.of(
+                "aks-subnet",
+                mockSubnet("aks-subnet"),
+                "postgres-subnet",
+                mockSubnet("postgres-subnet")));
+    var networks = mock(Networks.class);
+    when(networks.getById("vnet")).thenReturn(network);
+    when(azureResourceManagerMock.networks()).thenReturn(networks);
+
+    var aksSubnets =
+        resourcesReader.listSubnetsBySubnetPurpose(
+            LANDING_ZONE_ID, SubnetResourcePurpose.AKS_NODE_POOL_SUBNET);
+    var postgresSubnets =
+        resourcesReader.listSubnetsBySubnetPurpose(
+            LANDING_ZONE_ID, SubnetResourcePurpose.POSTGRESQL_SUBNET);
+    var vNets =
+        resourcesReader.listVNetBySubnetPurpose(
+            LANDING_ZONE_ID, SubnetResourcePurpose.POSTGRESQL_SUBNET);
+
+    assertThat(aksSubnets.stream().map(DeployedSubnet::name).toList(), contains("aks-subnet"));
+    assertThat(
+        postgresSubnets.stream().map(DeployedSubnet::name).toList(), contains("postgres-subnet"));
+    assertThat(vNets.stream().map(DeployedVNet::Id).toList(), contains("vnet"));
+    verify(networks, times(1)).getById("vnet");
+    // one resource group listing and one VNet GET
+    assertThat(resourcesReader.armRequestCount(), equalTo(2));
+  }
+
+  private ResourcesReaderImpl readerWithSnapshotTtl() {
+    return new ResourcesReaderImpl(
+        azureResourceManagerMock, RESOURCE_GROUP_NAME, Duration.ofMinutes(1));
+  }
+
+  private static Subnet mockSubnet(String name) {
+    var subnet = mock(Subnet.class);
+    when(subnet.id()).thenReturn(name + "-id");
+    when(subnet.name()).thenReturn(name);
+    return subnet;
+  }
+
+  private void mockResourceListing(List<GenericResource> genericResources) {
+    PagedIterable<GenericResource> pagedGenericResourcesMock = mockPagedIterable(genericResources);
+    when(genericResourcesMock.listByResourceGroup(RESOURCE_GROUP_NAME))
+        .thenReturn(pagedGenericResourcesMock);
+  }
+
+  private static GenericResource mockGenericResource(String id, Map<String, String> tags) {
+    var genericResource = mock(GenericResource.class);
+    when(genericResource.id()).thenReturn(id);
+    when(genericResource.tags()).thenReturn(tags);
+    when(genericResource.region()).thenReturn(Region.US_EAST);
+    return genericResource;
+  }
+
+  private static List<String> idsOf(List<DeployedResource> resources) {
+    return resources.stream().map(DeployedResource::resourceId).toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> PagedIterable<T> mockPagedIterable(List<T> resources) {
+    PagedIterable<T> pagedIterableMock = mock(PagedIterable.class);
+    Answer<Stream<T>> answer = invocation -> resources.stream();
+    when(pagedIterableMock.stream()).thenAnswer(answer);
+    return pagedIterableMock;
+  }
+}
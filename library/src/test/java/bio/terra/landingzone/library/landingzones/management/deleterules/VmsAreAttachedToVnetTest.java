@@ -4,14 +4,17 @@ import static bio.terra.landingzone.library.landingzones.management.AzureResourc
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.resourcemanager.compute.models.VirtualMachine;
 import com.azure.resourcemanager.compute.models.VirtualMachines;
-import com.azure.resourcemanager.network.models.Network;
 import com.azure.resourcemanager.network.models.NetworkInterface;
 import com.azure.resourcemanager.network.models.NicIpConfiguration;
+import com.azure.resourcemanager.resources.models.GenericResource;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,10 +47,8 @@ class VmsAreAttachedToVnetTest extends BaseDependencyRuleFixture {
     when(vm.getPrimaryNetworkInterface()).thenReturn(nic);
     var nicIpConfiguration = mock(NicIpConfiguration.class);
     when(nic.primaryIPConfiguration()).thenReturn(nicIpConfiguration);
-    var network = mock(Network.class);
-    when(nicIpConfiguration.getNetwork()).thenReturn(network);
     var networkId = "LZNetworkId";
-    when(network.id()).thenReturn(networkId);
+    when(nicIpConfiguration.networkId()).thenReturn(networkId);
     // the generic resources API returns the type in lower case, so the rule must match ignoring
     // the case.
     var networkIdLowerCase = "lznetworkid";
@@ -70,10 +71,8 @@ class VmsAreAttachedToVnetTest extends BaseDependencyRuleFixture {
     when(vm.getPrimaryNetworkInterface()).thenReturn(nic);
     var nicIpConfiguration = mock(NicIpConfiguration.class);
     when(nic.primaryIPConfiguration()).thenReturn(nicIpConfiguration);
-    var network = mock(Network.class);
-    when(nicIpConfiguration.getNetwork()).thenReturn(network);
     var networkId = "Not a LZ NetworkId";
-    when(network.id()).thenReturn(networkId);
+    when(nicIpConfiguration.networkId()).thenReturn(networkId);
     // the generic resources API returns the type in lower case, so the rule must match ignoring
     // the case.
     var networkIdLowerCase = "lznetworkid";
@@ -81,4 +80,33 @@ class VmsAreAttachedToVnetTest extends BaseDependencyRuleFixture {
 
     assertThat(rule.hasDependentResources(resourceToDelete), equalTo(false));
   }
+
+  @Test
+  void hasDependentResources_sharedContext_vmsAreListedOncePerResourceGroup() {
+    var otherResource = mock(GenericResource.class);
+    var otherResourceToDelete = mock(ResourceToDelete.class);
+    when(resource.resourceGroupName()).thenReturn(RESOURCE_GROUP);
+    when(resource.id()).thenReturn("lznetworkid");
+    when(resourceToDelete.resource()).thenReturn(resource);
+    when(otherResource.resourceGroupName()).thenReturn(RESOURCE_GROUP);
+    when(otherResource.id()).thenReturn("othernetworkid");
+    when(otherResourceToDelete.resource()).thenReturn(otherResource);
+
+    var vms = mock(VirtualMachines.class);
+    when(azureResourceManager.virtualMachines()).thenReturn(vms);
+    var vm = mock(VirtualMachine.class);
+    PagedIterable<VirtualMachine> vmList = toMockPageIterable(List.of(vm));
+    when(vms.listByResourceGroup(RESOURCE_GROUP)).thenReturn(vmList);
+    var nic = mock(NetworkInterface.class);
+    when(vm.getPrimaryNetworkInterface()).thenReturn(nic);
+    var nicIpConfiguration = mock(NicIpConfiguration.class);
+    when(nic.primaryIPConfiguration()).thenReturn(nicIpConfiguration);
+    when(nicIpConfiguration.networkId()).thenReturn("LZNetworkId");
+
+    var context = new DeleteRuleContext();
+
+    assertThat(rule.hasDependentResources(resourceToDelete, context), equalTo(true));
+    assertThat(rule.hasDependentResources(otherResourceToDelete, context), equalTo(false));
+    verify(vms, times(1)).listByResourceGroup(RESOURCE_GROUP);
+  }
 }
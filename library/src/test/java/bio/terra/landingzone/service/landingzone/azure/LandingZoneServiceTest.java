@@ -8,12 +8,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import bio.terra.common.exception.BadRequestException;
@@ -24,10 +28,13 @@ import bio.terra.landingzone.db.LandingZoneDao;
 import bio.terra.landingzone.db.exception.DuplicateLandingZoneException;
 import bio.terra.landingzone.db.model.LandingZoneRecord;
 import bio.terra.landingzone.job.JobMapKeys;
+import bio.terra.landingzone.job.JobSnapshot;
 import bio.terra.landingzone.job.LandingZoneJobBuilder;
 import bio.terra.landingzone.job.LandingZoneJobService;
 import bio.terra.landingzone.job.model.OperationType;
+import bio.terra.landingzone.library.LandingZoneDeletePlanCache;
 import bio.terra.landingzone.library.LandingZoneManagerProvider;
+import bio.terra.landingzone.library.LandingZoneResourceQuotaCache;
 import bio.terra.landingzone.library.configuration.LandingZoneTestingConfiguration;
 import bio.terra.landingzone.library.landingzones.definition.DefinitionVersion;
 import bio.terra.landingzone.library.landingzones.definition.FactoryDefinitionInfo;
@@ -39,8 +46,13 @@ import bio.terra.landingzone.library.landingzones.deployment.LandingZonePurpose;
 import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
 import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
 import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import bio.terra.landingzone.library.landingzones.management.AzureResourceTypeUtils;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneDeletePlan;
 import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
+import bio.terra.landingzone.library.landingzones.management.PlannedResourceDelete;
+import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
 import bio.terra.landingzone.library.landingzones.management.ResourcesReader;
+import bio.terra.landingzone.library.landingzones.management.quotas.ResourceQuota;
 import bio.terra.landingzone.model.LandingZoneTarget;
 import bio.terra.landingzone.service.bpm.LandingZoneBillingProfileManagerService;
 import bio.terra.landingzone.service.iam.LandingZoneSamService;
@@ -55,7 +67,10 @@ import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource
 import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResourcesByPurpose;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
 import bio.terra.profile.model.ProfileModel;
+import bio.terra.stairway.FlightState;
+import bio.terra.stairway.FlightStatus;
 import com.azure.core.management.Region;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -102,8 +117,6 @@ public class LandingZoneServiceTest {
 
   @Mock private LandingZoneJobService landingZoneJobService;
 
-  @Captor ArgumentCaptor<String> jobIdCaptor;
-  @Captor ArgumentCaptor<Class<?>> classCaptor;
   @Captor ArgumentCaptor<LandingZoneTarget> landingZoneTargetCaptor;
 
   @Mock private LandingZoneManagerProvider landingZoneManagerProvider;
@@ -111,6 +124,8 @@ public class LandingZoneServiceTest {
   @Mock private LandingZoneSamService samService;
   @Mock private LandingZoneBillingProfileManagerService bpmService;
   @Mock private LandingZoneTestingConfiguration testingConfiguration;
+  @Mock private LandingZoneResourceQuotaCache resourceQuotaCache;
+  @Mock private LandingZoneDeletePlanCache deletePlanCache;
   @Captor ArgumentCaptor<UUID> captorLandingZoneId;
   @Captor ArgumentCaptor<UUID> captorBillingProfileId;
 
@@ -123,48 +138,115 @@ public class LandingZoneServiceTest {
             landingZoneDao,
             samService,
             bpmService,
-            testingConfiguration);
+            testingConfiguration,
+            resourceQuotaCache,
+            deletePlanCache);
   }
 
   @Test
   void getAsyncJobResult_success() {
     String jobId = "newJobId";
+    var job = jobWithStatus(jobId, FlightStatus.SUCCESS);
+    when(landingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.empty()))
+        .thenReturn(job);
+
     landingZoneService.getAsyncJobResult(bearerToken, jobId);
 
-    verify(landingZoneJobService, times(1))
-        .retrieveAsyncJobResult(jobIdCaptor.capture(), classCaptor.capture());
-    assertEquals(jobId, jobIdCaptor.getValue());
-    assertEquals(DeployedLandingZone.class, classCaptor.getValue());
+    verify(landingZoneJobService, times(1)).retrieveAsyncJobResult(job, DeployedLandingZone.class);
+    verify(landingZoneJobService, never()).retrieveJobSnapshot(any());
+  }
+
+  @Test
+  void getAsyncJobResult_waitsForJobStateChange() {
+    String jobId = "newJobId";
+    var runningJob = jobWithStatus(jobId, FlightStatus.RUNNING);
+    var completedJob = jobWithStatus(jobId, FlightStatus.SUCCESS);
+    when(landingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.empty()))
+        .thenReturn(runningJob);
+    when(landingZoneJobService.retrieveJobSnapshot(jobId)).thenReturn(completedJob);
+
+    landingZoneService.getAsyncJobResult(bearerToken, jobId, Duration.ofSeconds(30));
+
+    var inOrder = inOrder(landingZoneJobService);
+    inOrder.verify(landingZoneJobService).verifyUserAccess(bearerToken, jobId, Optional.empty());
+    inOrder.verify(landingZoneJobService).waitForJobStateChange(jobId, Duration.ofSeconds(30));
+    inOrder
+        .verify(landingZoneJobService)
+        .retrieveAsyncJobResult(completedJob, DeployedLandingZone.class);
+  }
+
+  @Test
+  void getAsyncJobResult_doesNotWaitByDefault() {
+    String jobId = "newJobId";
+    when(landingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.empty()))
+        .thenReturn(jobWithStatus(jobId, FlightStatus.RUNNING));
+
+    landingZoneService.getAsyncJobResult(bearerToken, jobId);
+
+    verify(landingZoneJobService, never()).waitForJobStateChange(any(), any());
+  }
+
+  @Test
+  void getAsyncJobResult_doesNotWaitForCompletedJob() {
+    String jobId = "newJobId";
+    var job = jobWithStatus(jobId, FlightStatus.ERROR);
+    when(landingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.empty()))
+        .thenReturn(job);
+
+    landingZoneService.getAsyncJobResult(bearerToken, jobId, Duration.ofSeconds(30));
+
+    verify(landingZoneJobService, never()).waitForJobStateChange(any(), any());
+    verify(landingZoneJobService, never()).retrieveJobSnapshot(any());
+    verify(landingZoneJobService).retrieveAsyncJobResult(job, DeployedLandingZone.class);
   }
 
   @Test
   void getAsyncDeletionJobResult_success() {
     String jobId = "newJobId";
     UUID landingZoneId = UUID.randomUUID();
-    landingZoneService.getAsyncDeletionJobResult(bearerToken, landingZoneId, jobId);
+    var job = jobWithStatus(jobId, FlightStatus.SUCCESS);
+    when(landingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.of(landingZoneId)))
+        .thenReturn(job);
 
-    verify(landingZoneJobService, times(1))
-        .retrieveAsyncJobResult(jobIdCaptor.capture(), classCaptor.capture());
-    verify(landingZoneJobService, times(1))
-        .verifyUserAccess(bearerToken, jobId, Optional.of(landingZoneId));
+    landingZoneService.getAsyncDeletionJobResult(bearerToken, landingZoneId, jobId);
 
-    assertEquals(jobId, jobIdCaptor.getValue());
-    assertEquals(DeletedLandingZone.class, classCaptor.getValue());
+    verify(landingZoneJobService, times(1)).retrieveAsyncJobResult(job, DeletedLandingZone.class);
+    verify(landingZoneJobService, never()).retrieveJobSnapshot(any());
   }
 
   @Test
   void getAsyncDeletionJobResult() {
     String jobId = "newJobId";
     UUID landingZoneId = UUID.randomUUID();
+    var job = jobWithStatus(jobId, FlightStatus.ERROR);
+    when(landingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.of(landingZoneId)))
+        .thenReturn(job);
+
     landingZoneService.getAsyncDeletionJobResult(bearerToken, landingZoneId, jobId);
 
-    verify(landingZoneJobService, times(1))
-        .retrieveAsyncJobResult(jobIdCaptor.capture(), classCaptor.capture());
     verify(landingZoneJobService, times(1))
         .verifyUserAccess(bearerToken, jobId, Optional.of(landingZoneId));
+    verify(landingZoneJobService, times(1)).retrieveAsyncJobResult(job, DeletedLandingZone.class);
+  }
 
-    assertEquals(jobId, jobIdCaptor.getValue());
-    assertEquals(DeletedLandingZone.class, classCaptor.getValue());
+  @Test
+  void getAsyncDeletionJobResult_waitsForJobStateChange() {
+    String jobId = "newJobId";
+    UUID landingZoneId = UUID.randomUUID();
+    var runningJob = jobWithStatus(jobId, FlightStatus.RUNNING);
+    var completedJob = jobWithStatus(jobId, FlightStatus.SUCCESS);
+    when(landingZoneJobService.verifyUserAccess(bearerToken, jobId, Optional.of(landingZoneId)))
+        .thenReturn(runningJob);
+    when(landingZoneJobService.retrieveJobSnapshot(jobId)).thenReturn(completedJob);
+
+    landingZoneService.getAsyncDeletionJobResult(
+        bearerToken, landingZoneId, jobId, Duration.ofSeconds(30));
+
+    var inOrder = inOrder(landingZoneJobService);
+    inOrder.verify(landingZoneJobService).waitForJobStateChange(jobId, Duration.ofSeconds(30));
+    inOrder
+        .verify(landingZoneJobService)
+        .retrieveAsyncJobResult(completedJob, DeletedLandingZone.class);
   }
 
   @Test
@@ -349,12 +431,32 @@ public class LandingZoneServiceTest {
     verify(mockJobBuilder, times(1)).submit();
   }
 
+  @Test
+  void startLandingZoneDeletionJob_previewedPlanIsNotPassedToJob() {
+    var landingZoneId = UUID.randomUUID();
+    String resultPath = "delete-result";
+
+    LandingZoneJobBuilder mockJobBuilder = createMockJobBuilder(OperationType.DELETE);
+    when(mockJobBuilder.addParameter(any(), any())).thenReturn(mockJobBuilder);
+    when(landingZoneJobService.newJob()).thenReturn(mockJobBuilder);
+    when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(createLandingZoneRecord());
+
+    landingZoneService.startLandingZoneDeletionJob(
+        bearerToken, "newJobId", landingZoneId, resultPath);
+
+    // the flight applies the delete rules itself, whatever a preview found
+    verify(mockJobBuilder, never()).addParameter(eq(LandingZoneFlightMapKeys.DELETE_PLAN), any());
+    verifyNoInteractions(deletePlanCache);
+    verify(mockJobBuilder, times(1)).submit();
+  }
+
   @Test
   void listResourcesByPurpose_Success() {
     LandingZoneRecord landingZoneRecord = createLandingZoneRecord();
     // Setup mocks
     when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(landingZoneRecord);
-    when(landingZoneManagerProvider.createLandingZoneManager(landingZoneTargetCaptor.capture()))
+    when(landingZoneManagerProvider.createLandingZoneManager(
+            landingZoneTargetCaptor.capture(), eq(false)))
         .thenReturn(landingZoneManager);
     var purposeTags =
         Map.of(
@@ -391,7 +493,8 @@ public class LandingZoneServiceTest {
     // Setup Mocks
     LandingZoneRecord landingZoneRecord = createLandingZoneRecord();
     when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(landingZoneRecord);
-    when(landingZoneManagerProvider.createLandingZoneManager(landingZoneTargetCaptor.capture()))
+    when(landingZoneManagerProvider.createLandingZoneManager(
+            landingZoneTargetCaptor.capture(), eq(false)))
         .thenReturn(landingZoneManager);
 
     ResourcesReader resourceReader = Mockito.mock(ResourcesReader.class);
@@ -468,7 +571,8 @@ public class LandingZoneServiceTest {
     LandingZoneRecord landingZoneRecord = createLandingZoneRecord();
 
     when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(landingZoneRecord);
-    when(landingZoneManagerProvider.createLandingZoneManager(landingZoneTargetCaptor.capture()))
+    when(landingZoneManagerProvider.createLandingZoneManager(
+            landingZoneTargetCaptor.capture(), eq(false)))
         .thenReturn(landingZoneManager);
     ResourcesReader resourceReader = Mockito.mock(ResourcesReader.class);
     when(landingZoneManager.reader()).thenReturn(resourceReader);
@@ -492,7 +596,8 @@ public class LandingZoneServiceTest {
     LandingZoneRecord landingZoneRecord = createLandingZoneRecord();
 
     when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(landingZoneRecord);
-    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+    when(landingZoneManagerProvider.createLandingZoneManager(
+            any(LandingZoneTarget.class), anyBoolean()))
         .thenReturn(landingZoneManager);
     ResourcesReader resourceReader = Mockito.mock(ResourcesReader.class);
     when(resourceReader.listResourcesWithPurpose(anyString())).thenReturn(deployedResources);
@@ -547,7 +652,8 @@ public class LandingZoneServiceTest {
     // Setup Mocks
     LandingZoneRecord landingZoneRecord = createLandingZoneRecord();
     when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(landingZoneRecord);
-    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+    when(landingZoneManagerProvider.createLandingZoneManager(
+            any(LandingZoneTarget.class), anyBoolean()))
         .thenReturn(landingZoneManager);
 
     ResourcesReader resourceReader = Mockito.mock(ResourcesReader.class);
@@ -825,7 +931,8 @@ public class LandingZoneServiceTest {
   void getResourceQuota_userIsAuthorizedAndLZManagerAndSamIsCalled() throws InterruptedException {
 
     when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(createLandingZoneRecord());
-    when(landingZoneManagerProvider.createLandingZoneManager(any())).thenReturn(landingZoneManager);
+    when(landingZoneManagerProvider.createLandingZoneManager(any(), anyBoolean()))
+        .thenReturn(landingZoneManager);
 
     landingZoneService.getResourceQuota(bearerToken, landingZoneId, STUB_BATCH_ACCOUNT_ID);
 
@@ -841,7 +948,65 @@ public class LandingZoneServiceTest {
   }
 
   @Test
-  void getLandingZoneRegion_returnsCorrectRegion() {
+  void getResourceQuotas_userIsAuthorizedAndQuotaCacheIsCalled() throws InterruptedException {
+    var quota =
+        new ResourceQuota(
+            STUB_BATCH_ACCOUNT_ID,
+            AzureResourceTypeUtils.AZURE_BATCH_TYPE,
+            Map.of("poolQuota", 10));
+    when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(createLandingZoneRecord());
+    when(landingZoneManagerProvider.createLandingZoneManager(any(), eq(false)))
+        .thenReturn(landingZoneManager);
+    when(resourceQuotaCache.getResourceQuotas(landingZoneManager, landingZoneId.toString(), false))
+        .thenReturn(List.of(quota));
+
+    var quotas = landingZoneService.getResourceQuotas(bearerToken, landingZoneId, false);
+
+    assertThat(quotas, equalTo(List.of(quota)));
+    verify(samService, times(1))
+        .checkAuthz(
+            eq(bearerToken),
+            eq(SamConstants.SamResourceType.LANDING_ZONE),
+            eq(landingZoneId.toString()),
+            eq(SamConstants.SamLandingZoneAction.LIST_RESOURCES));
+  }
+
+  @Test
+  void getDeletePlan_planIsPreviewedAndCached() {
+    var plan =
+        new LandingZoneDeletePlan(
+            List.of(new PlannedResourceDelete("resourceId", 0, null, List.of())), List.of());
+    when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(createLandingZoneRecord());
+    when(landingZoneManagerProvider.createLandingZoneManager(any())).thenReturn(landingZoneManager);
+    List<ResourceToDelete> resources = List.of(new ResourceToDelete(null, null, List.of()));
+    when(landingZoneManager.listResourcesToDelete(landingZoneId.toString())).thenReturn(resources);
+    when(landingZoneManager.previewResourcesDelete(resources)).thenReturn(plan);
+
+    var result = landingZoneService.getDeletePlan(bearerToken, landingZoneId, false);
+
+    assertThat(result, equalTo(plan));
+    verify(deletePlanCache, times(1)).put(landingZoneId, resources, plan);
+    verify(samService, times(1))
+        .checkAuthz(
+            eq(bearerToken),
+            eq(SamConstants.SamResourceType.LANDING_ZONE),
+            eq(landingZoneId.toString()),
+            eq(SamConstants.SamLandingZoneAction.LIST_RESOURCES));
+  }
+
+  @Test
+  void getDeletePlan_cachedPlanIsReturned() {
+    var plan = new LandingZoneDeletePlan(List.of(), List.of());
+    when(deletePlanCache.get(landingZoneId)).thenReturn(Optional.of(plan));
+
+    var result = landingZoneService.getDeletePlan(bearerToken, landingZoneId, false);
+
+    assertThat(result, equalTo(plan));
+    verifyNoInteractions(landingZoneManagerProvider);
+  }
+
+  @Test
+  void getLandingZoneRegion_regionMissingFromRecord_regionIsReadFromAzureAndBackfilled() {
     final Region expectedRegion = Region.ASIA_EAST;
 
     when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(createLandingZoneRecord());
@@ -850,6 +1015,31 @@ public class LandingZoneServiceTest {
 
     var actualRegionName = landingZoneService.getLandingZoneRegion(bearerToken, landingZoneId);
     assertEquals(expectedRegion.name(), actualRegionName);
+    verify(landingZoneDao, times(1))
+        .updateLandingZoneRegionIfMissing(landingZoneId, expectedRegion.name());
+  }
+
+  @Test
+  void getLandingZoneRegion_regionInRecord_azureIsNotCalled() {
+    var landingZoneRecord =
+        LandingZoneRecord.builder()
+            .landingZoneId(landingZoneId)
+            .resourceGroupId("resourceGroupId")
+            .definition("definition")
+            .version("version")
+            .subscriptionId("subscriptionId")
+            .tenantId("tenantId")
+            .billingProfileId(billingProfileId)
+            .region("eastus")
+            .createdDate(createdDate)
+            .build();
+    when(landingZoneDao.getLandingZoneRecord(landingZoneId)).thenReturn(landingZoneRecord);
+
+    var actualRegionName = landingZoneService.getLandingZoneRegion(bearerToken, landingZoneId);
+
+    assertEquals("eastus", actualRegionName);
+    verifyNoInteractions(landingZoneManagerProvider);
+    verify(landingZoneDao, never()).updateLandingZoneRegionIfMissing(any(), any());
   }
 
   private List<DeployedResource> setupDeployedResources() {
@@ -906,4 +1096,11 @@ public class LandingZoneServiceTest {
         .region(subnet.vNetRegion())
         .build();
   }
+
+  private static JobSnapshot jobWithStatus(String jobId, FlightStatus flightStatus) {
+    var flightState = new FlightState();
+    flightState.setFlightId(jobId);
+    flightState.setFlightStatus(flightStatus);
+    return JobSnapshot.fromFlightState(flightState);
+  }
 }
@@ -0,0 +1,143 @@
+package bio.terra.landingzone.stairway.flight;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import bio.terra.landingzone.stairway.flight.exception.InvalidStepDependenciesException;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.Step;
+import bio.terra.stairway.StepResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class StepDependencyPlannerTest {
+  private final Step mrg = new TestStep(Set.of("mrg"), Set.of());
+  private final Step nsg = new TestStep(Set.of("nsg"), Set.of("mrg"));
+  private final Step vnet = new TestStep(Set.of("vnet"), Set.of("mrg", "nsg"));
+  private final Step storage = new TestStep(Set.of("storage"), Set.of("mrg"));
+  private final Step aks = new TestStep(Set.of("aks"), Set.of("vnet"));
+
+  @Test
+  void plan_stepsStartOnceTheirDependenciesFinished() {
+    var plan = StepDependencyPlanner.plan(List.of(mrg, nsg, vnet, storage, aks));
+
+    assertThat(plan.dependencies().get(vnet), equalTo(Set.of(mrg, nsg)));
+    assertThat(plan.dependencies().get(mrg), empty());
+    assertThat(
+        plan.stages(), contains(List.of(mrg), List.of(nsg, storage), List.of(vnet), List.of(aks)));
+    assertThat(plan.criticalPath(), contains(mrg, nsg, vnet, aks));
+    assertThat(plan.duration(), equalTo(4L));
+  }
+
+  @Test
+  void plan_durationsDetermineTheCriticalPath() {
+    var postgres = new TestStep(Set.of(), Set.of("mrg", "storage"));
+    Map<Step, Long> durations = Map.of(mrg, 1L, nsg, 1L, vnet, 1L, storage, 10L, aks, 5L);
+
+    var plan =
+        StepDependencyPlanner.plan(
+            List.of(mrg, nsg, vnet, storage, aks, postgres),
+            step -> durations.getOrDefault(step, 1L));
+
+    assertThat(plan.earliestStarts().get(aks), equalTo(3L));
+    assertThat(plan.earliestStarts().get(postgres), equalTo(11L));
+    assertThat(plan.criticalPath(), contains(mrg, storage, postgres));
+    assertThat(plan.duration(), equalTo(12L));
+  }
+
+  @Test
+  void plan_stepsWithoutDeclarationsHaveNoDependencies() {
+    Step undeclared = mock(Step.class);
+    var plan = StepDependencyPlanner.plan(List.of(undeclared, mrg));
+
+    assertThat(plan.stages(), contains(List.of(undeclared, mrg)));
+  }
+
+  @Test
+  void plan_missingProducerIsRejected() {
+    var exception =
+        assertThrows(
+            InvalidStepDependenciesException.class,
+            () -> StepDependencyPlanner.plan(List.of(mrg, vnet)));
+
+    assertThat(exception.getMessage(), containsString("nsg"));
+  }
+
+  @Test
+  void plan_duplicateProducerIsRejected() {
+    var otherMrg = new TestStep(Set.of("mrg"), Set.of());
+
+    assertThrows(
+        InvalidStepDependenciesException.class,
+        () -> StepDependencyPlanner.plan(List.of(mrg, otherMrg)));
+  }
+
+  @Test
+  void plan_cycleIsRejected() {
+    var first = new TestStep(Set.of("first"), Set.of("second"));
+    var second = new TestStep(Set.of("second"), Set.of("first"));
+
+    assertThrows(
+        InvalidStepDependenciesException.class,
+        () -> StepDependencyPlanner.plan(List.of(mrg, first, second)));
+  }
+
+  @Test
+  void validateGroups_stepsRunningAfterTheirDependenciesAreAccepted() {
+    var plan = StepDependencyPlanner.plan(List.of(mrg, nsg, storage, vnet, aks));
+
+    assertDoesNotThrow(
+        () ->
+            plan.validateGroups(
+                List.of(List.of(mrg), List.of(nsg, storage), List.of(vnet), List.of(aks))));
+  }
+
+  @Test
+  void validateGroups_stepRunningWithItsDependencyIsRejected() {
+    var plan = StepDependencyPlanner.plan(List.of(mrg, nsg, vnet));
+
+    assertThrows(
+        InvalidStepDependenciesException.class,
+        () -> plan.validateGroups(List.of(List.of(mrg), List.of(nsg, vnet))));
+  }
+
+  private static class TestStep implements Step, WorkingMapDependencies {
+    private final Set<String> producedKeys;
+    private final Set<String> consumedKeys;
+
+    TestStep(Set<String> producedKeys, Set<String> consumedKeys) {
+      this.producedKeys = producedKeys;
+      this.consumedKeys = consumedKeys;
+    }
+
+    @Override
+    public Set<String> getProducedKeys() {
+      return producedKeys;
+    }
+
+    @Override
+    public Set<String> getConsumedKeys() {
+      return consumedKeys;
+    }
+
+    @Override
+    public StepResult doStep(FlightContext context) {
+      return StepResult.getStepResultSuccess();
+    }
+
+    @Override
+    public StepResult undoStep(FlightContext context) {
+      return StepResult.getStepResultSuccess();
+    }
+  }
+}
@@ -3,6 +3,7 @@ package bio.terra.landingzone.stairway.flight.create;
 import bio.terra.landingzone.common.utils.LandingZoneFlightBeanBag;
 import bio.terra.landingzone.common.utils.RetryRules;
 import bio.terra.landingzone.stairway.flight.delete.DeleteLandingZoneResourcesStep;
+import bio.terra.landingzone.stairway.flight.delete.PlanLandingZoneResourcesDeleteStep;
 import bio.terra.stairway.Flight;
 import bio.terra.stairway.FlightMap;
 
@@ -30,6 +31,13 @@ public class TestDeleteLandingZoneResourcesFlight extends Flight {
   }
 
   private void addDeleteSteps(LandingZoneFlightBeanBag flightBeanBag) {
+    addStep(
+        new PlanLandingZoneResourcesDeleteStep(
+            flightBeanBag.getAzureLandingZoneManagerProvider(),
+            flightBeanBag.getLandingZoneDao(),
+            flightBeanBag.getDeletePlanCache()),
+        RetryRules.shortExponential());
+
     addStep(
         new DeleteLandingZoneResourcesStep(
             flightBeanBag.getAzureLandingZoneManagerProvider(), flightBeanBag.getLandingZoneDao()),
@@ -0,0 +1,153 @@
+package bio.terra.landingzone.stairway.flight.create.resource.step;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.library.landingzones.definition.factories.ParametersResolver;
+import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
+import bio.terra.landingzone.stairway.common.model.TargetManagedResourceGroup;
+import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.landingzone.stairway.flight.exception.ResourceCreationException;
+import bio.terra.landingzone.stairway.flight.utils.ResourceProvisioningPoller;
+import bio.terra.profile.model.ProfileModel;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.management.exception.ManagementException;
+import com.azure.resourcemanager.containerservice.fluent.models.ManagedClusterInner;
+import com.azure.resourcemanager.containerservice.models.KubernetesCluster;
+import com.azure.resourcemanager.containerservice.models.KubernetesClusters;
+import com.azure.resourcemanager.containerservice.models.ManagedClusterOidcIssuerProfile;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AwaitAksStepTest extends BaseStepTest {
+  private static final String AKS_ID = "aksId";
+
+  @Mock private KubernetesClusters mockKubernetesClusters;
+  @Mock private ManagedClusterInner mockManagedClusterInner;
+
+  private AwaitAksStep testStep;
+  private TargetManagedResourceGroup mrg;
+
+  @BeforeEach
+  void setup() {
+    testStep =
+        new AwaitAksStep(
+            mockArmManagers,
+            mockResourceNameProvider,
+            new ResourceProvisioningPoller(
+                Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofSeconds(10)));
+    mrg = ResourceStepFixture.createDefaultMrg();
+  }
+
+  @Test
+  void doStepWaitsForClusterAndRecordsIt() throws InterruptedException {
+    setupFlightContext();
+    var notFound = mockNotFoundException();
+    var creatingCluster = mockCluster("Creating");
+    var readyCluster = mockReadyCluster();
+    when(mockKubernetesClusters.getById(AKS_ID))
+        .thenThrow(notFound)
+        .thenReturn(null, creatingCluster, readyCluster);
+    setupArmManagers();
+
+    var stepResult = testStep.doStep(mockFlightContext);
+
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    verify(mockKubernetesClusters, times(4)).getById(AKS_ID);
+    // the cluster is configured by its create request, it isn't updated
+    verify(readyCluster, never()).update();
+    var workingMap = mockFlightContext.getWorkingMap();
+    assertThat(workingMap.get(CreateAksStep.AKS_ID, String.class), equalTo(AKS_ID));
+    assertThat(
+        workingMap.get(CreateAksStep.AKS_OIDC_ISSUER_URL, String.class), equalTo("issuerUrl"));
+    assertThat(
+        workingMap.get(CreateAksStep.AKS_RESOURCE_KEY, LandingZoneResource.class).resourceId(),
+        equalTo(AKS_ID));
+  }
+
+  @Test
+  void doStepFailsWhenClusterProvisioningFailed() {
+    setupFlightContext();
+    var failedCluster = mockCluster("Failed");
+    when(mockKubernetesClusters.getById(AKS_ID)).thenReturn(failedCluster);
+    setupArmManagers();
+
+    assertThrows(ResourceCreationException.class, () -> testStep.doStep(mockFlightContext));
+    verify(failedCluster, never()).update();
+  }
+
+  @Test
+  void undoStepDoesNothing() throws InterruptedException {
+    var stepResult = testStep.undoStep(mockFlightContext);
+
+    assertThat(stepResult, equalTo(StepResult.getStepResultSuccess()));
+    verify(mockArmManagers, never()).azureResourceManager();
+  }
+
+  private void setupFlightContext() {
+    mockParametersResolver = new ParametersResolver(Map.of());
+    setupFlightContext(
+        mockFlightContext,
+        Map.of(
+            LandingZoneFlightMapKeys.BILLING_PROFILE,
+            new ProfileModel().id(UUID.randomUUID()),
+            LandingZoneFlightMapKeys.LANDING_ZONE_ID,
+            LANDING_ZONE_ID,
+            LandingZoneFlightMapKeys.LANDING_ZONE_CREATE_PARAMS,
+            ResourceStepFixture.createLandingZoneRequestForCromwellLandingZone()),
+        Map.of(
+            CreateAksStep.AKS_PENDING_ID,
+            AKS_ID,
+            GetManagedResourceGroupInfo.TARGET_MRG_KEY,
+            mrg,
+            LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER,
+            mockParametersResolver));
+  }
+
+  private void setupArmManagers() {
+    when(mockAzureResourceManager.kubernetesClusters()).thenReturn(mockKubernetesClusters);
+    when(mockArmManagers.azureResourceManager()).thenReturn(mockAzureResourceManager);
+  }
+
+  private KubernetesCluster mockCluster(String provisioningState) {
+    var cluster = mock(KubernetesCluster.class);
+    when(cluster.provisioningState()).thenReturn(provisioningState);
+    return cluster;
+  }
+
+  private KubernetesCluster mockReadyCluster() {
+    var cluster = mockCluster("Succeeded");
+    when(cluster.id()).thenReturn(AKS_ID);
+    var oidcIssuerProfile = mock(ManagedClusterOidcIssuerProfile.class);
+    when(oidcIssuerProfile.issuerUrl()).thenReturn("issuerUrl");
+    when(mockManagedClusterInner.oidcIssuerProfile()).thenReturn(oidcIssuerProfile);
+    when(cluster.innerModel()).thenReturn(mockManagedClusterInner);
+    return cluster;
+  }
+
+  private ManagementException mockNotFoundException() {
+    var exception = mock(ManagementException.class);
+    var httpResponse = mock(HttpResponse.class);
+    when(httpResponse.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND.value());
+    when(exception.getResponse()).thenReturn(httpResponse);
+    return exception;
+  }
+}
@@ -2,18 +2,16 @@ package bio.terra.landingzone.stairway.flight.create.resource.step;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import bio.terra.landingzone.library.landingzones.definition.factories.ParametersResolver;
@@ -25,19 +23,23 @@ import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
 import bio.terra.landingzone.stairway.flight.exception.MissingRequiredFieldsException;
 import bio.terra.profile.model.ProfileModel;
 import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import com.azure.core.http.HttpResponse;
-import com.azure.core.management.exception.ManagementError;
 import com.azure.core.management.exception.ManagementException;
+import com.azure.resourcemanager.containerservice.ContainerServiceManager;
+import com.azure.resourcemanager.containerservice.fluent.ContainerServiceManagementClient;
+import com.azure.resourcemanager.containerservice.fluent.ManagedClustersClient;
 import com.azure.resourcemanager.containerservice.fluent.models.ManagedClusterInner;
 import com.azure.resourcemanager.containerservice.models.AgentPoolMode;
 import com.azure.resourcemanager.containerservice.models.ContainerServiceVMSizeTypes;
 import com.azure.resourcemanager.containerservice.models.KubernetesCluster;
-import com.azure.resourcemanager.containerservice.models.KubernetesClusterAgentPool;
 import com.azure.resourcemanager.containerservice.models.KubernetesClusters;
-import com.azure.resourcemanager.containerservice.models.ManagedClusterOidcIssuerProfile;
-import com.azure.resourcemanager.containerservice.models.ManagedClusterSecurityProfile;
-import com.azure.resourcemanager.containerservice.models.ManagedClusterWorkloadAutoScalerProfile;
+import com.azure.resourcemanager.containerservice.models.ResourceIdentityType;
+import com.azure.resourcemanager.containerservice.models.ScaleSetEvictionPolicy;
+import com.azure.resourcemanager.containerservice.models.ScaleSetPriority;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -57,118 +59,200 @@ import org.springframework.http.HttpStatus;
 @ExtendWith(MockitoExtension.class)
 @Tag("unit")
 class CreateAksStepTest extends BaseStepTest {
-
-  private static final String RESOURCE_ID = "aksId";
+  private static final String AKS_NAME = "aksName";
+  private static final String SUBSCRIPTION_ID = "subscriptionId";
 
   @Mock private KubernetesClusters mockKubernetesClusters;
   @Mock private KubernetesCluster mockKubernetesCluster;
-  @Mock private KubernetesCluster.DefinitionStages.Blank mockK8sDefinitionStageBlank;
-  @Mock private KubernetesCluster.DefinitionStages.WithGroup mockK8sDefinitionStageWithGroup;
-  @Mock private KubernetesCluster.DefinitionStages.WithVersion mockK8sDefinitionStageWithVersion;
-
-  @Mock
-  private KubernetesCluster.DefinitionStages.WithLinuxRootUsername
-      mockK8sDefinitionStageWithLinuxRootUsername;
-
-  @Mock private KubernetesCluster.DefinitionStages.WithCreate mockK8sDefinitionStageWithCreate;
-  @Mock private KubernetesClusterAgentPool.DefinitionStages.Blank mockK8sAPDefinitionStagesBlank;
-
-  @Mock
-  private KubernetesClusterAgentPool.DefinitionStages.WithAgentPoolVirtualMachineCount
-      mockK8sAPDefinitionStagesMachineCount;
+  @Mock private ContainerServiceManager mockContainerServiceManager;
+  @Mock private ContainerServiceManagementClient mockContainerServiceManagementClient;
+  @Mock private ManagedClustersClient mockManagedClustersClient;
 
-  @Mock
-  private KubernetesClusterAgentPool.DefinitionStages.WithAttach
-      mockK8sAPDefinitionStagesWithAttach;
-
-  @Mock private KubernetesCluster.Definition mockK8sDefinition;
-
-  @Captor private ArgumentCaptor<Map<String, String>> tagsCaptor;
-  @Captor private ArgumentCaptor<String> nodeResourceGroupCaptor;
+  @Captor private ArgumentCaptor<ManagedClusterInner> managedClusterCaptor;
 
   private CreateAksStep testStep;
-  private String costSavingsSpotNodesEnabled = "false";
-  private String costSavingsVpaEnabled = "false";
+  private TargetManagedResourceGroup mrg;
+  private final Map<String, String> parameters = new HashMap<>();
 
   @BeforeEach
   void setup() {
     testStep = new CreateAksStep(mockArmManagers, mockResourceNameProvider);
-    testStep.denySleepWhilePoolingForAksStatus();
+    mrg = ResourceStepFixture.createDefaultMrg();
+    parameters.putAll(
+        Map.of(
+            LandingZoneDefaultParameters.ParametersNames.AKS_MACHINE_TYPE.name(),
+            ContainerServiceVMSizeTypes.STANDARD_A2_V2.toString(),
+            LandingZoneDefaultParameters.ParametersNames.AKS_NODE_COUNT.name(),
+            "1",
+            LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_ENABLED.name(),
+            "false",
+            LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_SPOT_NODES_ENABLED.name(),
+            "false",
+            LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_VPA_ENABLED.name(),
+            "false",
+            LandingZoneDefaultParameters.ParametersNames.AKS_AAD_PROFILE_USER_GROUP_ID.name(),
+            "00000000-0000-0000-0000-000000000000"));
   }
 
   @Test
-  void doStepSuccess() throws InterruptedException {
-    TargetManagedResourceGroup mrg = ResourceStepFixture.createDefaultMrg();
-    String aksResourceName = "aksName";
-    when(mockResourceNameProvider.getName(anyString())).thenReturn(aksResourceName);
-    setupParameterResolver();
-    setupFlightContext(
-        mockFlightContext,
-        Map.of(
-            LandingZoneFlightMapKeys.BILLING_PROFILE,
-            new ProfileModel().id(UUID.randomUUID()),
-            LandingZoneFlightMapKeys.LANDING_ZONE_ID,
-            LANDING_ZONE_ID,
-            LandingZoneFlightMapKeys.LANDING_ZONE_CREATE_PARAMS,
-            ResourceStepFixture.createLandingZoneRequestForCromwellLandingZone()),
-        Map.of(
-            CreateVnetStep.VNET_ID,
-            "vNetId",
-            GetManagedResourceGroupInfo.TARGET_MRG_KEY,
-            mrg,
-            CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID,
-            "logAnalyticsWorkspaceId",
-            LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER,
-            mockParametersResolver));
-    setupArmManagersForDoStep();
+  void doStepSubmitsClusterCreation() throws InterruptedException {
+    setupFlightContext();
+    setupArmManagers();
+    var notFound = mockManagementException(HttpStatus.NOT_FOUND);
+    when(mockKubernetesClusters.getByResourceGroup(mrg.name(), AKS_NAME)).thenThrow(notFound);
 
     var stepResult = testStep.doStep(mockFlightContext);
 
     assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
-    verifyAksNodeResourceGroupName(nodeResourceGroupCaptor.getValue(), mrg.name());
-    verify(mockK8sDefinitionStageWithCreate, times(1)).create();
-    verifyNoMoreInteractions(mockK8sDefinitionStageWithCreate);
-    verifyBasicTags(tagsCaptor.getValue(), LANDING_ZONE_ID);
-    verifyOmsAgentAddonProfileNotSet();
+    verify(mockManagedClustersClient, times(1))
+        .beginCreateOrUpdate(eq(mrg.name()), eq(AKS_NAME), managedClusterCaptor.capture());
+    var aks = managedClusterCaptor.getValue();
+    assertThat(aks.location(), equalTo(mrg.region()));
+    assertThat(aks.nodeResourceGroup(), equalTo("%s_aks".formatted(mrg.name())));
+    assertThat(aks.identity().type(), equalTo(ResourceIdentityType.SYSTEM_ASSIGNED));
+    assertThat(
+        aks.aadProfile().adminGroupObjectIDs(),
+        equalTo(List.of("00000000-0000-0000-0000-000000000000")));
+    verifyBasicTags(aks.tags(), LANDING_ZONE_ID);
+    assertThat(
+        aks.tags().get(LandingZoneTagKeys.AKS_COST_SAVING_SPOT_NODES_ENABLED.toString()),
+        equalTo("false"));
+    assertThat(
+        aks.tags().get(LandingZoneTagKeys.AKS_COST_SAVING_VPA_ENABLED.toString()),
+        equalTo("false"));
+    // the monitoring addon is enabled by a later step
+    assertThat(aks.addonProfiles(), nullValue());
+    // workload identity is part of the single create request
+    assertThat(aks.oidcIssuerProfile().enabled(), equalTo(true));
+    assertThat(aks.securityProfile().workloadIdentity().enabled(), equalTo(true));
+    assertThat(aks.workloadAutoScalerProfile(), nullValue());
+
+    assertThat(aks.agentPoolProfiles().size(), equalTo(1));
+    var systemPool = aks.agentPoolProfiles().get(0);
+    assertThat(systemPool.mode(), equalTo(AgentPoolMode.SYSTEM));
+    assertThat(systemPool.vmSize(), equalTo(ContainerServiceVMSizeTypes.STANDARD_A2_V2.toString()));
+    assertThat(systemPool.count(), equalTo(1));
+    assertThat(
+        systemPool.vnetSubnetId(),
+        equalTo(VNET_ID + "/subnets/" + LandingZoneDefaultParameters.Subnet.AKS_SUBNET.name()));
+    assertThat(systemPool.enableAutoScaling(), nullValue());
+    verifyPendingClusterId();
   }
 
   @Test
-  void testCostSavingSpotNodesInStep() throws InterruptedException {
-    costSavingsSpotNodesEnabled = "true";
-    setupCostSavingLZ();
-    setupCostSavingK8sMocks();
+  void doStepSubmitsClusterWithAutoScaling() throws InterruptedException {
+    parameters.put(
+        LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_ENABLED.name(), "true");
+    parameters.put(LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_MIN.name(), "1");
+    parameters.put(LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_MAX.name(), "5");
+    setupFlightContext();
+    setupArmManagers();
+    when(mockKubernetesClusters.getByResourceGroup(mrg.name(), AKS_NAME)).thenReturn(null);
 
     var stepResult = testStep.doStep(mockFlightContext);
 
     assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
-    // verify cost saving tag
-    assertTrue(
-        tagsCaptor
-            .getValue()
-            .containsKey(LandingZoneTagKeys.AKS_COST_SAVING_SPOT_NODES_ENABLED.toString()));
+    verify(mockManagedClustersClient, times(1))
+        .beginCreateOrUpdate(eq(mrg.name()), eq(AKS_NAME), managedClusterCaptor.capture());
+    var systemPool = managedClusterCaptor.getValue().agentPoolProfiles().get(0);
+    assertThat(systemPool.enableAutoScaling(), equalTo(true));
+    assertThat(systemPool.minCount(), equalTo(1));
+    assertThat(systemPool.maxCount(), equalTo(5));
+  }
+
+  @Test
+  void doStepSubmitsClusterWithCostSavingOptions() throws InterruptedException {
+    parameters.put(
+        LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_SPOT_NODES_ENABLED.name(),
+        "true");
+    parameters.put(
+        LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_VPA_ENABLED.name(), "true");
+    parameters.put(
+        LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_MACHINE_TYPE.name(),
+        ContainerServiceVMSizeTypes.STANDARD_D4S_V3.toString());
+    parameters.put(
+        LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_AUTOSCALING_MAX.name(), "10");
+    setupFlightContext();
+    setupArmManagers();
+    when(mockKubernetesClusters.getByResourceGroup(mrg.name(), AKS_NAME)).thenReturn(null);
+
+    var stepResult = testStep.doStep(mockFlightContext);
+
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    // vertical pod autoscaler and the spot pool don't need follow-up updates of the cluster
+    verify(mockManagedClustersClient, times(1))
+        .beginCreateOrUpdate(eq(mrg.name()), eq(AKS_NAME), managedClusterCaptor.capture());
+    var aks = managedClusterCaptor.getValue();
+    var tags = aks.tags();
     assertThat(
-        tagsCaptor.getValue().get(LandingZoneTagKeys.AKS_COST_SAVING_SPOT_NODES_ENABLED.toString()),
+        tags.get(LandingZoneTagKeys.AKS_COST_SAVING_SPOT_NODES_ENABLED.toString()),
         equalTo("true"));
+    assertThat(tags.get(LandingZoneTagKeys.AKS_COST_SAVING_VPA_ENABLED.toString()), equalTo("true"));
+    assertThat(
+        aks.workloadAutoScalerProfile().verticalPodAutoscaler().enabled(), equalTo(true));
+
+    assertThat(aks.agentPoolProfiles().size(), equalTo(2));
+    var spotPool = aks.agentPoolProfiles().get(1);
+    assertThat(spotPool.name(), equalTo(CreateAksStep.SPOT_NODE_POOL_NAME));
+    assertThat(spotPool.mode(), equalTo(AgentPoolMode.USER));
+    assertThat(spotPool.vmSize(), equalTo(ContainerServiceVMSizeTypes.STANDARD_D4S_V3.toString()));
+    assertThat(spotPool.scaleSetPriority(), equalTo(ScaleSetPriority.SPOT));
+    assertThat(spotPool.scaleSetEvictionPolicy(), equalTo(ScaleSetEvictionPolicy.DELETE));
+    assertThat(spotPool.enableAutoScaling(), equalTo(true));
+    assertThat(spotPool.minCount(), equalTo(1));
+    assertThat(spotPool.maxCount(), equalTo(10));
+    assertThat(
+        spotPool.vnetSubnetId(),
+        equalTo(VNET_ID + "/subnets/" + LandingZoneDefaultParameters.Subnet.AKS_SUBNET.name()));
   }
 
   @Test
-  void testCostSavingVpaInStep() throws InterruptedException {
-    costSavingsVpaEnabled = "true";
-    setupCostSavingLZ();
+  void doStepSpotPoolDefaultsToClusterMachineType() throws InterruptedException {
+    parameters.put(
+        LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_SPOT_NODES_ENABLED.name(),
+        "true");
+    parameters.put(
+        LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_AUTOSCALING_MAX.name(), "10");
+    setupFlightContext();
+    setupArmManagers();
+    when(mockKubernetesClusters.getByResourceGroup(mrg.name(), AKS_NAME)).thenReturn(null);
+
+    testStep.doStep(mockFlightContext);
+
+    verify(mockManagedClustersClient, times(1))
+        .beginCreateOrUpdate(eq(mrg.name()), eq(AKS_NAME), managedClusterCaptor.capture());
+    var spotPool = managedClusterCaptor.getValue().agentPoolProfiles().get(1);
+    assertThat(spotPool.vmSize(), equalTo(ContainerServiceVMSizeTypes.STANDARD_A2_V2.toString()));
+  }
 
-    setupVpaCostSavingK8sMocks(mockKubernetesCluster, mockKubernetesCluster.innerModel());
+  @Test
+  void doStepDoesNotSubmitCreationOfExistingCluster() throws InterruptedException {
+    setupFlightContext();
+    setupArmManagers();
+    when(mockKubernetesClusters.getByResourceGroup(mrg.name(), AKS_NAME))
+        .thenReturn(mockKubernetesCluster);
 
     var stepResult = testStep.doStep(mockFlightContext);
 
     assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
-    // verify cost saving tag
-    assertTrue(
-        tagsCaptor
-            .getValue()
-            .containsKey(LandingZoneTagKeys.AKS_COST_SAVING_VPA_ENABLED.toString()));
-    assertThat(
-        tagsCaptor.getValue().get(LandingZoneTagKeys.AKS_COST_SAVING_VPA_ENABLED.toString()),
-        equalTo("true"));
+    verify(mockManagedClustersClient, never())
+        .beginCreateOrUpdate(anyString(), anyString(), any());
+    verifyPendingClusterId();
+  }
+
+  @Test
+  void doStepTreatsConflictAsSubmittedCreation() throws InterruptedException {
+    setupFlightContext();
+    setupArmManagers();
+    when(mockKubernetesClusters.getByResourceGroup(mrg.name(), AKS_NAME)).thenReturn(null);
+    var conflict = mockManagementException(HttpStatus.CONFLICT);
+    when(mockManagedClustersClient.beginCreateOrUpdate(eq(mrg.name()), eq(AKS_NAME), any()))
+        .thenThrow(conflict);
+
+    var stepResult = testStep.doStep(mockFlightContext);
+
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    verifyPendingClusterId();
   }
 
   @ParameterizedTest
@@ -211,47 +295,22 @@ class CreateAksStepTest extends BaseStepTest {
   }
 
   @Test
-  void doStepRetryWhenAksIsNotProvisionedYet() throws InterruptedException {
-    TargetManagedResourceGroup mrg = ResourceStepFixture.createDefaultMrg();
-    String aksResourceName = "aksName";
-    when(mockResourceNameProvider.getName(anyString())).thenReturn(aksResourceName);
-    setupParameterResolver();
-    setupFlightContext(
-        mockFlightContext,
-        Map.of(
-            LandingZoneFlightMapKeys.BILLING_PROFILE,
-            new ProfileModel().id(UUID.randomUUID()),
-            LandingZoneFlightMapKeys.LANDING_ZONE_ID,
-            LANDING_ZONE_ID,
-            LandingZoneFlightMapKeys.LANDING_ZONE_CREATE_PARAMS,
-            ResourceStepFixture.createLandingZoneRequestForCromwellLandingZone()),
-        Map.of(
-            CreateVnetStep.VNET_ID,
-            "vNetId",
-            GetManagedResourceGroupInfo.TARGET_MRG_KEY,
-            mrg,
-            CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID,
-            "logAnalyticsWorkspaceId",
-            LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER,
-            mockParametersResolver));
-    setupArmManagersForDoStepRetryWhenAksIsNotProvisionedYet();
-    var stepResult = testStep.doStep(mockFlightContext);
+  void undoStepDeletesSubmittedCluster() throws InterruptedException {
+    var workingMap = new FlightMap();
+    workingMap.put(CreateAksStep.AKS_PENDING_ID, "aksId");
+    when(mockFlightContext.getWorkingMap()).thenReturn(workingMap);
+    when(mockAzureResourceManager.kubernetesClusters()).thenReturn(mockKubernetesClusters);
+    when(mockArmManagers.azureResourceManager()).thenReturn(mockAzureResourceManager);
 
-    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
-    verify(mockK8sDefinitionStageWithCreate, times(1)).create();
-    verifyNoMoreInteractions(mockK8sDefinitionStageWithCreate);
-    // poll for aks 2 times based on mocks - 1st attempt failed, 2nd successful;
-    // failed means that aks is not ready yet at the time of the request
-    verify(mockKubernetesClusters, times(2)).getByResourceGroup(any(), any());
-    verifyOmsAgentAddonProfileNotSet();
+    var stepResult = testStep.undoStep(mockFlightContext);
+
+    assertThat(stepResult, equalTo(StepResult.getStepResultSuccess()));
+    verify(mockKubernetesClusters, times(1)).deleteById("aksId");
   }
 
-  @Test
-  void doStepRetryWhenAksIsAlreadyProvisioned() throws InterruptedException {
-    TargetManagedResourceGroup mrg = ResourceStepFixture.createDefaultMrg();
-    String aksResourceName = "aksName";
-    when(mockResourceNameProvider.getName(anyString())).thenReturn(aksResourceName);
-    setupParameterResolver();
+  private void setupFlightContext() {
+    when(mockResourceNameProvider.getName(anyString())).thenReturn(AKS_NAME);
+    mockParametersResolver = new ParametersResolver(parameters);
     setupFlightContext(
         mockFlightContext,
         Map.of(
@@ -263,216 +322,42 @@ class CreateAksStepTest extends BaseStepTest {
             ResourceStepFixture.createLandingZoneRequestForCromwellLandingZone()),
         Map.of(
             CreateVnetStep.VNET_ID,
-            "vNetId",
+            VNET_ID,
             GetManagedResourceGroupInfo.TARGET_MRG_KEY,
             mrg,
-            CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID,
-            "logAnalyticsWorkspaceId",
             LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER,
             mockParametersResolver));
-    setupArmManagersForDoStepRetryWhenAksIsAlreadyProvisioned();
-    var stepResult = testStep.doStep(mockFlightContext);
-
-    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
-    verify(mockK8sDefinitionStageWithCreate, times(1)).create();
-    verifyNoMoreInteractions(mockK8sDefinitionStageWithCreate);
-    // aks has been already provisioned when we retry to call create
-    verify(mockKubernetesClusters, times(1)).getByResourceGroup(any(), any());
-    verifyOmsAgentAddonProfileNotSet();
-  }
-
-  private void verifyOmsAgentAddonProfileNotSet() {
-    verify(mockK8sDefinitionStageWithCreate, never()).withAddOnProfiles(any());
-  }
-
-  private void verifyAksNodeResourceGroupName(String actualValue, String managedResourceGroup) {
-    String expectedValue = "%s_aks".formatted(managedResourceGroup);
-    assertThat(actualValue, equalTo(expectedValue));
-  }
-
-  private void setupParameterResolver() {
-    mockParametersResolver =
-        new ParametersResolver(
-            Map.of(
-                LandingZoneDefaultParameters.ParametersNames.AKS_MACHINE_TYPE.name(),
-                ContainerServiceVMSizeTypes.STANDARD_A2_V2.toString(),
-                LandingZoneDefaultParameters.ParametersNames.AKS_NODE_COUNT.name(),
-                "1",
-                LandingZoneDefaultParameters.ParametersNames.AKS_AUTOSCALING_ENABLED.name(),
-                "false",
-                LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_SPOT_NODES_ENABLED
-                    .name(),
-                costSavingsSpotNodesEnabled,
-                LandingZoneDefaultParameters.ParametersNames.AKS_COST_SAVING_VPA_ENABLED.name(),
-                costSavingsVpaEnabled,
-                LandingZoneDefaultParameters.ParametersNames.AKS_AAD_PROFILE_USER_GROUP_ID.name(),
-                "00000000-0000-0000-0000-000000000000",
-                LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_AUTOSCALING_MAX.name(),
-                "10",
-                LandingZoneDefaultParameters.ParametersNames.AKS_SPOT_MACHINE_TYPE.name(),
-                ContainerServiceVMSizeTypes.STANDARD_A2_V2.toString()));
-  }
-
-  private void setupArmManagersForDoStep() {
-    setupMocksForEnablingWorkloadIdentity(mockKubernetesCluster);
-    when(mockKubernetesCluster.id()).thenReturn(RESOURCE_ID);
-    when(mockK8sDefinitionStageWithCreate.create()).thenReturn(mockKubernetesCluster);
-
-    setupK8sMocks();
   }
 
-  private void setupK8sMocks() {
-    when(mockK8sDefinitionStageWithCreate.withTags(tagsCaptor.capture()))
-        .thenReturn(mockK8sDefinitionStageWithCreate);
-    when(mockK8sDefinition.withDnsPrefix(anyString())).thenReturn(mockK8sDefinitionStageWithCreate);
-    when(mockK8sAPDefinitionStagesWithAttach.attach()).thenReturn(mockK8sDefinition);
-    when(mockK8sAPDefinitionStagesWithAttach.withVirtualNetwork(anyString(), anyString()))
-        .thenReturn(mockK8sAPDefinitionStagesWithAttach);
-    when(mockK8sDefinitionStageWithCreate.withAzureActiveDirectoryGroup(anyString()))
-        .thenReturn(mockK8sDefinitionStageWithCreate);
-    when(mockK8sAPDefinitionStagesWithAttach.withAgentPoolMode(eq(AgentPoolMode.SYSTEM)))
-        .thenReturn(mockK8sAPDefinitionStagesWithAttach);
-    when(mockK8sAPDefinitionStagesMachineCount.withAgentPoolVirtualMachineCount(anyInt()))
-        .thenReturn(mockK8sAPDefinitionStagesWithAttach);
-    when(mockK8sAPDefinitionStagesBlank.withVirtualMachineSize(
-            any(ContainerServiceVMSizeTypes.class)))
-        .thenReturn(mockK8sAPDefinitionStagesMachineCount);
-    when(mockK8sDefinitionStageWithCreate.defineAgentPool(anyString()))
-        .thenReturn(mockK8sAPDefinitionStagesBlank);
-    when(mockK8sDefinitionStageWithLinuxRootUsername.withSystemAssignedManagedServiceIdentity())
-        .thenReturn(mockK8sDefinitionStageWithCreate);
-    when(mockK8sDefinitionStageWithCreate.withAgentPoolResourceGroup(
-            nodeResourceGroupCaptor.capture()))
-        .thenReturn(mockK8sDefinitionStageWithCreate);
-    when(mockK8sDefinitionStageWithVersion.withDefaultVersion())
-        .thenReturn(mockK8sDefinitionStageWithLinuxRootUsername);
-    when(mockK8sDefinitionStageWithGroup.withExistingResourceGroup(anyString()))
-        .thenReturn(mockK8sDefinitionStageWithVersion);
-    when(mockK8sDefinitionStageBlank.withRegion(anyString()))
-        .thenReturn(mockK8sDefinitionStageWithGroup);
-    when(mockKubernetesClusters.define(anyString())).thenReturn(mockK8sDefinitionStageBlank);
+  private void setupArmManagers() {
+    // creation is only submitted when the cluster doesn't exist yet
+    lenient()
+        .when(mockContainerServiceManagementClient.getManagedClusters())
+        .thenReturn(mockManagedClustersClient);
+    lenient()
+        .when(mockContainerServiceManager.serviceClient())
+        .thenReturn(mockContainerServiceManagementClient);
+    lenient().when(mockKubernetesClusters.manager()).thenReturn(mockContainerServiceManager);
+    when(mockAzureResourceManager.subscriptionId()).thenReturn(SUBSCRIPTION_ID);
     when(mockAzureResourceManager.kubernetesClusters()).thenReturn(mockKubernetesClusters);
     when(mockArmManagers.azureResourceManager()).thenReturn(mockAzureResourceManager);
   }
 
-  private void setupCostSavingLZ() {
-    TargetManagedResourceGroup mrg = ResourceStepFixture.createDefaultMrg();
-    when(mockResourceNameProvider.getName(anyString())).thenReturn("aksName");
-
-    setupParameterResolver();
-    setupFlightContext(
-        mockFlightContext,
-        Map.of(
-            LandingZoneFlightMapKeys.BILLING_PROFILE,
-            new ProfileModel().id(UUID.randomUUID()),
-            LandingZoneFlightMapKeys.LANDING_ZONE_ID,
-            LANDING_ZONE_ID,
-            LandingZoneFlightMapKeys.LANDING_ZONE_CREATE_PARAMS,
-            ResourceStepFixture.createLandingZoneRequestForCromwellLandingZone()),
-        Map.of(
-            CreateVnetStep.VNET_ID,
-            "vNetId",
-            GetManagedResourceGroupInfo.TARGET_MRG_KEY,
-            mrg,
-            CreateLogAnalyticsWorkspaceStep.LOG_ANALYTICS_WORKSPACE_ID,
-            "logAnalyticsWorkspaceId",
-            LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER,
-            mockParametersResolver));
-    setupArmManagersForDoStep();
-  }
-
-  private void setupCostSavingK8sMocks() {
-    KubernetesCluster.Update mockK8sUpdate = mock(KubernetesCluster.Update.class);
-    when(mockKubernetesCluster.update()).thenReturn(mockK8sUpdate);
-    var mockK8sAPDefinitionStagesBlank =
-        mock(KubernetesClusterAgentPool.DefinitionStages.Blank.class);
-    when(mockK8sUpdate.defineAgentPool("spotnodepool")).thenReturn(mockK8sAPDefinitionStagesBlank);
-
-    var mockK8sAPDefinitionStagesMachineCount =
-        mock(KubernetesClusterAgentPool.DefinitionStages.WithAgentPoolVirtualMachineCount.class);
-    when(mockK8sAPDefinitionStagesBlank.withVirtualMachineSize(any()))
-        .thenReturn(mockK8sAPDefinitionStagesMachineCount);
-
-    var mockK8sAPDefinitionStagesWithAttach =
-        mock(KubernetesClusterAgentPool.DefinitionStages.WithAttach.class);
-    when(mockK8sAPDefinitionStagesMachineCount.withAgentPoolVirtualMachineCount(anyInt()))
-        .thenReturn(mockK8sAPDefinitionStagesWithAttach);
-    when(mockK8sAPDefinitionStagesWithAttach.withSpotPriorityVirtualMachine())
-        .thenReturn(mockK8sAPDefinitionStagesWithAttach);
-    when(mockK8sAPDefinitionStagesWithAttach.withAgentPoolMode(AgentPoolMode.USER))
-        .thenReturn(mockK8sAPDefinitionStagesWithAttach);
-    when(mockK8sAPDefinitionStagesWithAttach.withAutoScaling(anyInt(), anyInt()))
-        .thenReturn(mockK8sAPDefinitionStagesWithAttach);
-    when(mockK8sAPDefinitionStagesWithAttach.withVirtualNetwork(any(), any()))
-        .thenReturn(mockK8sAPDefinitionStagesWithAttach);
-    when(mockK8sAPDefinitionStagesWithAttach.attach()).thenReturn(mockK8sUpdate);
-  }
-
-  private void setupVpaCostSavingK8sMocks(
-      KubernetesCluster mockKubernetesCluster, ManagedClusterInner mockManagedClusterInner) {
-    KubernetesCluster.Update mockK8sUpdate = mock(KubernetesCluster.Update.class);
-    ManagedClusterWorkloadAutoScalerProfile mockManagedClusterWorkloadAutoScalerProfile =
-        mock(ManagedClusterWorkloadAutoScalerProfile.class);
-    when(mockKubernetesCluster.update()).thenReturn(mockK8sUpdate);
-    when(mockManagedClusterInner.workloadAutoScalerProfile())
-        .thenReturn(mockManagedClusterWorkloadAutoScalerProfile);
-    when(mockKubernetesCluster.innerModel()).thenReturn(mockManagedClusterInner);
-  }
-
-  // setup mocks for doStep retry attempt after Stairway failure
-  private void setupArmManagersForDoStepRetryWhenAksIsNotProvisionedYet() {
-    setupK8sMocks();
-
-    /*throw exception during call to create aks*/
-    mockManagementException("OperationNotAllowed");
-
-    /*setup mocks for polling aks status*/
-    var mockClusterNotReady = mock(KubernetesCluster.class);
-    when(mockClusterNotReady.provisioningState()).thenReturn("provisioning");
-    var mockClusterReady = mock(KubernetesCluster.class);
-    when(mockClusterReady.provisioningState()).thenReturn("succeeded");
-    when(mockKubernetesClusters.getByResourceGroup(any(), any()))
-        .thenReturn(mockClusterNotReady, mockClusterReady);
-
-    setupMocksForEnablingWorkloadIdentity(mockClusterReady);
-  }
-
-  private void setupArmManagersForDoStepRetryWhenAksIsAlreadyProvisioned() {
-    setupK8sMocks();
-
-    /*throw exception during call to create aks*/
-    mockManagementException("Conflict");
-
-    var mockClusterReady = mock(KubernetesCluster.class);
-    when(mockKubernetesClusters.getByResourceGroup(any(), any())).thenReturn(mockClusterReady);
-
-    setupMocksForEnablingWorkloadIdentity(mockClusterReady);
+  private void verifyPendingClusterId() {
+    assertThat(
+        mockFlightContext.getWorkingMap().get(CreateAksStep.AKS_PENDING_ID, String.class),
+        equalTo(
+            ("/subscriptions/%s/resourceGroups/%s/providers/"
+                    + "Microsoft.ContainerService/managedClusters/%s")
+                .formatted(SUBSCRIPTION_ID, mrg.name(), AKS_NAME)));
   }
 
-  private void mockManagementException(String code) {
-    var retryableConflictException = mock(ManagementException.class);
-    var managementError = mock(ManagementError.class);
-    when(managementError.getCode()).thenReturn(code);
-    when(retryableConflictException.getValue()).thenReturn(managementError);
+  private ManagementException mockManagementException(HttpStatus status) {
+    var exception = mock(ManagementException.class);
     var httpResponse = mock(HttpResponse.class);
-    when(httpResponse.getStatusCode()).thenReturn(HttpStatus.CONFLICT.value());
-    when(retryableConflictException.getResponse()).thenReturn(httpResponse);
-    doThrow(retryableConflictException).when(mockK8sDefinitionStageWithCreate).create();
-  }
-
-  private void setupMocksForEnablingWorkloadIdentity(KubernetesCluster mockKubernetesCluster) {
-    KubernetesCluster.Update mockK8sUpdate = mock(KubernetesCluster.Update.class);
-    ManagedClusterInner mockManagedClusterInner = mock(ManagedClusterInner.class);
-    ManagedClusterSecurityProfile mockManagedClusterSecurityProfile =
-        mock(ManagedClusterSecurityProfile.class);
-    ManagedClusterOidcIssuerProfile mockManagedClusterOidcIssuerProfile =
-        mock(ManagedClusterOidcIssuerProfile.class);
-    when(mockKubernetesCluster.update()).thenReturn(mockK8sUpdate);
-    when(mockManagedClusterInner.securityProfile()).thenReturn(mockManagedClusterSecurityProfile);
-    when(mockManagedClusterOidcIssuerProfile.issuerUrl()).thenReturn("issuerUrl");
-    when(mockManagedClusterInner.oidcIssuerProfile())
-        .thenReturn(mockManagedClusterOidcIssuerProfile);
-    when(mockKubernetesCluster.innerModel()).thenReturn(mockManagedClusterInner);
+    when(httpResponse.getStatusCode()).thenReturn(status.value());
+    when(exception.getResponse()).thenReturn(httpResponse);
+    return exception;
   }
 
   private static Stream<Arguments> workingParametersProvider() {
@@ -0,0 +1,200 @@
+package bio.terra.landingzone.stairway.flight.create.resource.step.postgres;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.library.landingzones.definition.factories.ParametersResolver;
+import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
+import bio.terra.landingzone.stairway.common.model.TargetManagedResourceGroup;
+import bio.terra.landingzone.stairway.flight.LandingZoneDefaultParameters;
+import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.landingzone.stairway.flight.create.resource.step.BaseStepTest;
+import bio.terra.landingzone.stairway.flight.create.resource.step.GetManagedResourceGroupInfo;
+import bio.terra.landingzone.stairway.flight.create.resource.step.ResourceStepFixture;
+import bio.terra.landingzone.stairway.flight.exception.ResourceCreationException;
+import bio.terra.landingzone.stairway.flight.utils.ResourceProvisioningPoller;
+import bio.terra.profile.model.ProfileModel;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.management.Region;
+import com.azure.core.management.exception.ManagementException;
+import com.azure.resourcemanager.postgresqlflexibleserver.PostgreSqlManager;
+import com.azure.resourcemanager.postgresqlflexibleserver.models.Configuration;
+import com.azure.resourcemanager.postgresqlflexibleserver.models.Configurations;
+import com.azure.resourcemanager.postgresqlflexibleserver.models.Server;
+import com.azure.resourcemanager.postgresqlflexibleserver.models.ServerState;
+import com.azure.resourcemanager.postgresqlflexibleserver.models.Servers;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AwaitPostgresqlDbStepTest extends BaseStepTest {
+  private static final String POSTGRESQL_NAME = "testPostgresql";
+  private static final String POSTGRESQL_ID = "postgresqlId";
+
+  @Mock private PostgreSqlManager mockPostgreSqlManager;
+  @Mock private Servers mockServers;
+  @Mock private Configurations mockConfigurations;
+  @Mock private Configuration.DefinitionStages.Blank mockConfigurationsDefinitionStagesBlank;
+
+  @Mock
+  private Configuration.DefinitionStages.WithCreate mockConfigurationDefinitionStagesWithCreate;
+
+  private AwaitPostgresqlDbStep testStep;
+  private TargetManagedResourceGroup mrg;
+
+  @BeforeEach
+  void setup() {
+    testStep =
+        new AwaitPostgresqlDbStep(
+            mockArmManagers,
+            mockResourceNameProvider,
+            new ResourceProvisioningPoller(
+                Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofSeconds(10)));
+    mrg = ResourceStepFixture.createDefaultMrg();
+  }
+
+  @Test
+  void doStepWaitsForServerAndRecordsIt() throws InterruptedException {
+    setupFlightContext("true");
+    var notFound = mockNotFoundException();
+    var startingServer = mockServer(ServerState.STARTING);
+    var readyServer = mockReadyServer();
+    when(mockServers.getById(POSTGRESQL_ID))
+        .thenThrow(notFound)
+        .thenReturn(startingServer, readyServer);
+    setupPgBouncerMocks();
+    setupArmManagers();
+
+    StepResult stepResult = testStep.doStep(mockFlightContext);
+
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    verify(mockServers, times(3)).getById(POSTGRESQL_ID);
+    // pgbouncer is enabled with 3 server parameters
+    verify(mockConfigurationDefinitionStagesWithCreate, times(3)).create();
+    var workingMap = mockFlightContext.getWorkingMap();
+    assertThat(
+        workingMap.get(CreatePostgresqlDbStep.POSTGRESQL_ID, String.class),
+        equalTo(POSTGRESQL_ID));
+    assertThat(
+        workingMap.get(CreatePostgresqlDbStep.POSTGRESQL_NAME, String.class),
+        equalTo(POSTGRESQL_NAME));
+    assertThat(
+        workingMap
+            .get(CreatePostgresqlDbStep.POSTGRESQL_RESOURCE_KEY, LandingZoneResource.class)
+            .resourceId(),
+        equalTo(POSTGRESQL_ID));
+  }
+
+  @Test
+  void doStepDoesNotEnablePgBouncerWhenItIsDisabled() throws InterruptedException {
+    setupFlightContext("false");
+    var readyServer = mockReadyServer();
+    when(mockServers.getById(POSTGRESQL_ID)).thenReturn(readyServer);
+    setupArmManagers();
+
+    StepResult stepResult = testStep.doStep(mockFlightContext);
+
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    verify(mockPostgreSqlManager, never()).configurations();
+  }
+
+  @Test
+  void doStepFailsWhenServerIsDropped() {
+    setupFlightContext("true");
+    var droppingServer = mockServer(ServerState.DROPPING);
+    when(mockServers.getById(POSTGRESQL_ID)).thenReturn(droppingServer);
+    setupArmManagers();
+
+    assertThrows(ResourceCreationException.class, () -> testStep.doStep(mockFlightContext));
+    verify(mockPostgreSqlManager, never()).configurations();
+  }
+
+  @Test
+  void undoStepDoesNothing() throws InterruptedException {
+    var stepResult = testStep.undoStep(mockFlightContext);
+
+    assertThat(stepResult, equalTo(StepResult.getStepResultSuccess()));
+    verify(mockArmManagers, never()).postgreSqlManager();
+  }
+
+  private void setupFlightContext(String pgBouncerEnabled) {
+    mockParametersResolver =
+        new ParametersResolver(
+            Map.of(
+                LandingZoneDefaultParameters.ParametersNames.ENABLE_PGBOUNCER.name(),
+                pgBouncerEnabled));
+    setupFlightContext(
+        mockFlightContext,
+        Map.of(
+            LandingZoneFlightMapKeys.BILLING_PROFILE,
+            new ProfileModel().id(UUID.randomUUID()),
+            LandingZoneFlightMapKeys.LANDING_ZONE_ID,
+            LANDING_ZONE_ID,
+            LandingZoneFlightMapKeys.LANDING_ZONE_CREATE_PARAMS,
+            ResourceStepFixture.createLandingZoneRequestForCromwellLandingZone()),
+        Map.of(
+            GetManagedResourceGroupInfo.TARGET_MRG_KEY,
+            mrg,
+            CreatePostgresqlDbStep.POSTGRESQL_PENDING_ID,
+            POSTGRESQL_ID,
+            LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER,
+            mockParametersResolver));
+  }
+
+  private void setupArmManagers() {
+    when(mockPostgreSqlManager.servers()).thenReturn(mockServers);
+    when(mockArmManagers.postgreSqlManager()).thenReturn(mockPostgreSqlManager);
+  }
+
+  private void setupPgBouncerMocks() {
+    when(mockConfigurationDefinitionStagesWithCreate.withValue(any()))
+        .thenReturn(mockConfigurationDefinitionStagesWithCreate);
+    when(mockConfigurationDefinitionStagesWithCreate.withSource(any()))
+        .thenReturn(mockConfigurationDefinitionStagesWithCreate);
+    when(mockConfigurationsDefinitionStagesBlank.withExistingFlexibleServer(
+            mrg.name(), POSTGRESQL_NAME))
+        .thenReturn(mockConfigurationDefinitionStagesWithCreate);
+    when(mockConfigurations.define(any())).thenReturn(mockConfigurationsDefinitionStagesBlank);
+    when(mockPostgreSqlManager.configurations()).thenReturn(mockConfigurations);
+  }
+
+  private Server mockServer(ServerState state) {
+    var server = mock(Server.class);
+    when(server.state()).thenReturn(state);
+    return server;
+  }
+
+  private Server mockReadyServer() {
+    var server = mockServer(ServerState.READY);
+    when(server.id()).thenReturn(POSTGRESQL_ID);
+    when(server.name()).thenReturn(POSTGRESQL_NAME);
+    when(server.region()).thenReturn(Region.US_SOUTH_CENTRAL);
+    return server;
+  }
+
+  private ManagementException mockNotFoundException() {
+    var exception = mock(ManagementException.class);
+    var httpResponse = mock(HttpResponse.class);
+    when(httpResponse.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND.value());
+    when(exception.getResponse()).thenReturn(httpResponse);
+    return exception;
+  }
+}
@@ -5,22 +5,22 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import bio.terra.landingzone.library.landingzones.definition.factories.ParametersResolver;
 import bio.terra.landingzone.library.landingzones.deployment.LandingZoneTagKeys;
-import bio.terra.landingzone.service.landingzone.azure.model.LandingZoneResource;
 import bio.terra.landingzone.stairway.common.model.TargetManagedResourceGroup;
 import bio.terra.landingzone.stairway.flight.FlightTestUtils;
 import bio.terra.landingzone.stairway.flight.LandingZoneDefaultParameters;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
 import bio.terra.landingzone.stairway.flight.create.resource.step.BaseStepTest;
-import bio.terra.landingzone.stairway.flight.create.resource.step.CreateLandingZoneIdentityStep;
+import bio.terra.landingzone.stairway.flight.create.resource.step.CreateVirtualNetworkLinkStep;
 import bio.terra.landingzone.stairway.flight.create.resource.step.CreateVnetStep;
 import bio.terra.landingzone.stairway.flight.create.resource.step.GetManagedResourceGroupInfo;
 import bio.terra.landingzone.stairway.flight.create.resource.step.ResourceStepFixture;
@@ -29,10 +29,13 @@ import bio.terra.profile.model.ProfileModel;
 import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
-import com.azure.core.management.Region;
+import com.azure.core.http.HttpResponse;
 import com.azure.core.management.exception.ManagementError;
 import com.azure.core.management.exception.ManagementException;
 import com.azure.resourcemanager.postgresqlflexibleserver.PostgreSqlManager;
+import com.azure.resourcemanager.postgresqlflexibleserver.fluent.PostgreSqlManagementClient;
+import com.azure.resourcemanager.postgresqlflexibleserver.fluent.ServersClient;
+import com.azure.resourcemanager.postgresqlflexibleserver.fluent.models.ServerInner;
 import com.azure.resourcemanager.postgresqlflexibleserver.models.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,6 +51,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
 @Tag("unit")
@@ -55,6 +59,7 @@ class CreatePostgresqlDbStepTest extends BaseStepTest {
   private static final UUID LANDING_ZONE_ID = UUID.randomUUID();
   private static final String POSTGRESQL_NAME = "testPostgresql";
   private static final String POSTGRESQL_ID = "postgresqlId";
+  private static final String SUBSCRIPTION_ID = "subscriptionId";
 
   private static final String postgresqlSku = "psqlSku";
   private static final ServerVersion serverVersion = ServerVersion.ONE_ONE;
@@ -63,95 +68,73 @@ class CreatePostgresqlDbStepTest extends BaseStepTest {
   private static final String storageSize = "100";
 
   @Mock private PostgreSqlManager mockPostgreSqlManager;
-  @Mock private Configurations mockConfigurations;
-  @Mock private Configuration.DefinitionStages.Blank mockConfigurationsDefinitionStagesBlank;
-
-  @Mock
-  private Configuration.DefinitionStages.WithCreate mockConfigurationDefinitionStagesWithCreate;
-
+  @Mock private PostgreSqlManagementClient mockPostgreSqlManagementClient;
+  @Mock private ServersClient mockServersClient;
   @Mock private Servers mockServers;
-  @Mock private Server.DefinitionStages.Blank mockServerDefinitionStagesBlank;
-
-  @Mock
-  private Server.DefinitionStages.WithResourceGroup mockServerDefinitionStagesWithResourceGroup;
-
-  @Mock private Server.DefinitionStages.WithCreate mockServerDefinitionStagesWithCreate;
   @Mock private Server mockServer;
-  @Mock private Administrators mockAdministrators;
-
-  @Captor private ArgumentCaptor<ServerVersion> versionCaptor;
-  @Captor private ArgumentCaptor<Sku> skuCaptor;
-  @Captor private ArgumentCaptor<Network> networkCaptor;
-  @Captor private ArgumentCaptor<AuthConfig> authConfigCaptor;
-  @Captor private ArgumentCaptor<String> availabilityZoneCaptor;
-  @Captor private ArgumentCaptor<Backup> backupCaptor;
-  @Captor private ArgumentCaptor<CreateMode> createModeCaptor;
-  @Captor private ArgumentCaptor<HighAvailability> highAvailabilityCaptor;
-  @Captor private ArgumentCaptor<Storage> storageCaptor;
-  @Captor private ArgumentCaptor<Map<String, String>> postgresqlTagsCaptor;
+
+  @Captor private ArgumentCaptor<ServerInner> serverCaptor;
 
   private CreatePostgresqlDbStep createPostgresqlDbStep;
-  @Mock private ActiveDirectoryAdministrator.DefinitionStages.Blank mockAdministrator;
-  @Mock private ActiveDirectoryAdministrator.DefinitionStages.WithCreate mockAdminWithCreate;
+  private TargetManagedResourceGroup mrg;
 
   @BeforeEach
   void setup() {
     createPostgresqlDbStep = new CreatePostgresqlDbStep(mockArmManagers, mockResourceNameProvider);
+    mrg = ResourceStepFixture.createDefaultMrg();
   }
 
   @Test
-  void doStepSuccess() throws InterruptedException {
-    TargetManagedResourceGroup mrg = ResourceStepFixture.createDefaultMrg();
-    when(mockResourceNameProvider.getName(createPostgresqlDbStep.getResourceType()))
-        .thenReturn(POSTGRESQL_NAME);
+  void doStepSubmitsServerCreation() throws InterruptedException {
+    setupFlightContextForDoStep();
+    setupArmManagersForDoStep();
+    var notFound = mockManagementException(HttpStatus.NOT_FOUND);
+    when(mockServers.getByResourceGroup(mrg.name(), POSTGRESQL_NAME)).thenThrow(notFound);
 
-    final String adminName = "adminName";
-    final String adminPrincipalId = "adminPrincipalId";
-    setupMocksForDefaultValues(serverVersion, postgresqlSku, skuTier, backupRetention, storageSize);
+    StepResult stepResult = createPostgresqlDbStep.doStep(mockFlightContext);
 
-    setupFlightContext(
-        mockFlightContext,
-        Map.of(
-            LandingZoneFlightMapKeys.BILLING_PROFILE,
-            new ProfileModel().id(UUID.randomUUID()),
-            LandingZoneFlightMapKeys.LANDING_ZONE_ID,
-            LANDING_ZONE_ID,
-            LandingZoneTagKeys.PGBOUNCER_ENABLED.toString(),
-            "true",
-            LandingZoneFlightMapKeys.LANDING_ZONE_CREATE_PARAMS,
-            ResourceStepFixture.createLandingZoneRequestForCromwellLandingZone()),
-        Map.of(
-            GetManagedResourceGroupInfo.TARGET_MRG_KEY,
-            mrg,
-            CreateVnetStep.VNET_ID,
-            "vnetId",
-            CreatePostgresqlDNSStep.POSTGRESQL_DNS_ID,
-            "dnsId",
-            CreateLandingZoneIdentityStep.LANDING_ZONE_IDENTITY_RESOURCE_KEY,
-            LandingZoneResource.builder().resourceName(adminName).build(),
-            CreateLandingZoneIdentityStep.LANDING_ZONE_IDENTITY_PRINCIPAL_ID,
-            adminPrincipalId,
-            LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER,
-            mockParametersResolver));
-    setupArmManagersForDoStep(
-        POSTGRESQL_ID, POSTGRESQL_NAME, mrg.region(), mrg.name(), adminPrincipalId, adminName);
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    verify(mockServersClient, times(1))
+        .beginCreate(eq(mrg.name()), eq(POSTGRESQL_NAME), serverCaptor.capture());
+    var server = serverCaptor.getValue();
+    verifyServerProperties(server);
+    assertThat(server.location(), equalTo(mrg.region()));
+    assertThat(
+        server.network().delegatedSubnetResourceId(),
+        equalTo("vnetId/subnets/" + LandingZoneDefaultParameters.Subnet.POSTGRESQL_SUBNET));
+    verifyBasicTags(server.tags(), LANDING_ZONE_ID);
+    // This assertion cannot go in verifyBasicTags as it only applies to PostgresqlDb
+    assertThat(server.tags().get(LandingZoneTagKeys.PGBOUNCER_ENABLED.toString()), equalTo("true"));
+    verifyPendingServerId();
+  }
+
+  @Test
+  void doStepDoesNotSubmitCreationOfExistingServer() throws InterruptedException {
+    setupFlightContextForDoStep();
+    setupArmManagersForDoStep();
+    when(mockServers.getByResourceGroup(mrg.name(), POSTGRESQL_NAME)).thenReturn(mockServer);
 
     StepResult stepResult = createPostgresqlDbStep.doStep(mockFlightContext);
 
     assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    verify(mockServersClient, never()).beginCreate(anyString(), anyString(), any());
+    verifyPendingServerId();
+  }
 
-    verifyServerProperties(postgresqlSku, skuTier, backupRetention, storageSize, serverVersion);
-    verifyBasicTags(postgresqlTagsCaptor.getValue(), LANDING_ZONE_ID);
-    // This assertion cannot go in verifyBasicTags as it only applies to PostgresqlDb
-    assertTrue(
-        postgresqlTagsCaptor
-            .getValue()
-            .containsKey(LandingZoneTagKeys.PGBOUNCER_ENABLED.toString()));
-    assertThat(
-        postgresqlTagsCaptor.getValue().get(LandingZoneTagKeys.PGBOUNCER_ENABLED.toString()),
-        equalTo("true"));
-    verify(mockServerDefinitionStagesWithCreate, times(1)).create();
-    verifyNoMoreInteractions(mockServerDefinitionStagesWithCreate);
+  @Test
+  void doStepTreatsConflictAsSubmittedCreation() throws InterruptedException {
+    setupFlightContextForDoStep();
+    setupArmManagersForDoStep();
+    var notFound = mockManagementException(HttpStatus.NOT_FOUND);
+    when(mockServers.getByResourceGroup(mrg.name(), POSTGRESQL_NAME)).thenThrow(notFound);
+    var conflict = mockManagementException(HttpStatus.CONFLICT);
+    when(mockServersClient.beginCreate(eq(mrg.name()), eq(POSTGRESQL_NAME), any()))
+        .thenThrow(conflict);
+
+    StepResult stepResult = createPostgresqlDbStep.doStep(mockFlightContext);
+
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    verifyPendingServerId();
   }
 
   @ParameterizedTest
@@ -169,7 +152,7 @@ class CreatePostgresqlDbStepTest extends BaseStepTest {
   @Test
   void undoStepSuccess() throws InterruptedException {
     var workingMap = new FlightMap();
-    workingMap.put(CreatePostgresqlDbStep.POSTGRESQL_ID, POSTGRESQL_ID);
+    workingMap.put(CreatePostgresqlDbStep.POSTGRESQL_PENDING_ID, POSTGRESQL_ID);
     when(mockFlightContext.getWorkingMap()).thenReturn(workingMap);
     when(mockPostgreSqlManager.servers()).thenReturn(mockServers);
     when(mockArmManagers.postgreSqlManager()).thenReturn(mockPostgreSqlManager);
@@ -181,7 +164,7 @@ class CreatePostgresqlDbStepTest extends BaseStepTest {
 
   @Test
   void undoStepSuccessWhenDoStepFailed() throws InterruptedException {
-    var workingMap = new FlightMap(); // empty, there is no POSTGRESQL_ID key
+    var workingMap = new FlightMap(); // empty, there is no POSTGRESQL_PENDING_ID key
     when(mockFlightContext.getWorkingMap()).thenReturn(workingMap);
 
     var stepResult = createPostgresqlDbStep.undoStep(mockFlightContext);
@@ -193,14 +176,26 @@ class CreatePostgresqlDbStepTest extends BaseStepTest {
   @Test
   void doStepWhenPostgresProvisioningFailedReturnFailureRetry()
       throws InterruptedException, JsonProcessingException {
-    TargetManagedResourceGroup mrg = ResourceStepFixture.createDefaultMrg();
-    when(mockResourceNameProvider.getName(createPostgresqlDbStep.getResourceType()))
-        .thenReturn(POSTGRESQL_NAME);
+    setupFlightContextForDoStep();
+    setupArmManagersForDoStep();
+    var notFound = mockManagementException(HttpStatus.NOT_FOUND);
+    when(mockServers.getByResourceGroup(mrg.name(), POSTGRESQL_NAME)).thenThrow(notFound);
+    var errorJson =
+        "{\"code\":\"ResourceOperationFailure\",\"message\":\"The resource operation completed with terminal provisioning state 'Failed'.\",\"details\":[{\"code\":\"InternalServerError\",\"message\":\"An unexpected error occured while processing the request. Tracking ID: '8a04238e-7145-42d6-a71e-8a82d6f9f819'\"}]}";
+    var exception = buildManagementException("Provisioning failure", errorJson);
+    when(mockServersClient.beginCreate(eq(mrg.name()), eq(POSTGRESQL_NAME), any()))
+        .thenThrow(exception);
 
-    final String adminName = "adminName";
-    final String adminPrincipalId = "adminPrincipalId";
-    setupMocksForDefaultValues(serverVersion, postgresqlSku, skuTier, backupRetention, storageSize);
+    var stepResult = createPostgresqlDbStep.doStep(mockFlightContext);
 
+    verify(mockServers, never()).deleteById(anyString());
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_FAILURE_RETRY));
+  }
+
+  private void setupFlightContextForDoStep() {
+    when(mockResourceNameProvider.getName(createPostgresqlDbStep.getResourceType()))
+        .thenReturn(POSTGRESQL_NAME);
+    setupMocksForDefaultValues();
     setupFlightContext(
         mockFlightContext,
         Map.of(
@@ -208,8 +203,6 @@ class CreatePostgresqlDbStepTest extends BaseStepTest {
             new ProfileModel().id(UUID.randomUUID()),
             LandingZoneFlightMapKeys.LANDING_ZONE_ID,
             LANDING_ZONE_ID,
-            LandingZoneTagKeys.PGBOUNCER_ENABLED.toString(),
-            "true",
             LandingZoneFlightMapKeys.LANDING_ZONE_CREATE_PARAMS,
             ResourceStepFixture.createLandingZoneRequestForCromwellLandingZone()),
         Map.of(
@@ -219,115 +212,25 @@ class CreatePostgresqlDbStepTest extends BaseStepTest {
             "vnetId",
             CreatePostgresqlDNSStep.POSTGRESQL_DNS_ID,
             "dnsId",
-            CreateLandingZoneIdentityStep.LANDING_ZONE_IDENTITY_RESOURCE_KEY,
-            LandingZoneResource.builder().resourceName(adminName).build(),
-            CreateLandingZoneIdentityStep.LANDING_ZONE_IDENTITY_PRINCIPAL_ID,
-            adminPrincipalId,
+            CreateVirtualNetworkLinkStep.VNET_LINK_ID,
+            "vnetLinkId",
             LandingZoneFlightMapKeys.CREATE_LANDING_ZONE_PARAMETERS_RESOLVER,
             mockParametersResolver));
-
-    var errorJson =
-        "{\"code\":\"ResourceOperationFailure\",\"message\":\"The resource operation completed with terminal provisioning state 'Failed'.\",\"details\":[{\"code\":\"InternalServerError\",\"message\":\"An unexpected error occured while processing the request. Tracking ID: '8a04238e-7145-42d6-a71e-8a82d6f9f819'\"}]}";
-    var exception = buildManagementException("Provisioning failure", errorJson);
-    setupArmManagersForFailedPostgresProvisioning(
-        POSTGRESQL_NAME, mrg.region(), mrg.name(), exception);
-
-    var stepResult = createPostgresqlDbStep.doStep(mockFlightContext);
-
-    verify(mockServers, never()).deleteById(anyString());
-    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_FAILURE_RETRY));
   }
 
-  private void setupArmManagersForDoStep(
-      String postgresqlId,
-      String name,
-      String region,
-      String resourceGroup,
-      String adminPrincipalId,
-      String adminName) {
-    when(mockServer.id()).thenReturn(postgresqlId);
-    when(mockServer.region()).thenReturn(Region.US_SOUTH_CENTRAL);
-    when(mockServerDefinitionStagesWithCreate.create()).thenReturn(mockServer);
-    when(mockServerDefinitionStagesWithCreate.withTags(postgresqlTagsCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withSku(skuCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withVersion(versionCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithResourceGroup.withExistingResourceGroup(resourceGroup))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-
-    when(mockServerDefinitionStagesWithCreate.withNetwork(networkCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withAuthConfig(authConfigCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withBackup(backupCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withCreateMode(createModeCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withHighAvailability(
-            highAvailabilityCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withStorage(storageCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-
-    when(mockServerDefinitionStagesBlank.withRegion(region))
-        .thenReturn(mockServerDefinitionStagesWithResourceGroup);
-    when(mockServers.define(name)).thenReturn(mockServerDefinitionStagesBlank);
+  private void setupArmManagersForDoStep() {
+    when(mockAzureResourceManager.subscriptionId()).thenReturn(SUBSCRIPTION_ID);
+    when(mockArmManagers.azureResourceManager()).thenReturn(mockAzureResourceManager);
+    // creation is only submitted when the server doesn't exist yet
+    lenient().when(mockPostgreSqlManagementClient.getServers()).thenReturn(mockServersClient);
+    lenient()
+        .when(mockPostgreSqlManager.serviceClient())
+        .thenReturn(mockPostgreSqlManagementClient);
     when(mockPostgreSqlManager.servers()).thenReturn(mockServers);
-    when(mockConfigurationDefinitionStagesWithCreate.withValue(any()))
-        .thenReturn(mockConfigurationDefinitionStagesWithCreate);
-    when(mockConfigurationDefinitionStagesWithCreate.withSource(any()))
-        .thenReturn(mockConfigurationDefinitionStagesWithCreate);
-    when(mockConfigurationsDefinitionStagesBlank.withExistingFlexibleServer(resourceGroup, name))
-        .thenReturn(mockConfigurationDefinitionStagesWithCreate);
-    when(mockConfigurations.define(any())).thenReturn(mockConfigurationsDefinitionStagesBlank);
-    when(mockPostgreSqlManager.configurations()).thenReturn(mockConfigurations);
     when(mockArmManagers.postgreSqlManager()).thenReturn(mockPostgreSqlManager);
   }
 
-  private void setupArmManagersForFailedPostgresProvisioning(
-      String name,
-      String region,
-      String resourceGroup,
-      ManagementException throwExceptionDuringCreation) {
-    doThrow(throwExceptionDuringCreation).when(mockServerDefinitionStagesWithCreate).create();
-    when(mockServerDefinitionStagesWithCreate.withTags(postgresqlTagsCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withSku(skuCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withVersion(versionCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithResourceGroup.withExistingResourceGroup(resourceGroup))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-
-    when(mockServerDefinitionStagesWithCreate.withNetwork(networkCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withAuthConfig(authConfigCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withBackup(backupCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withCreateMode(createModeCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withHighAvailability(
-            highAvailabilityCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-    when(mockServerDefinitionStagesWithCreate.withStorage(storageCaptor.capture()))
-        .thenReturn(mockServerDefinitionStagesWithCreate);
-
-    when(mockServerDefinitionStagesBlank.withRegion(region))
-        .thenReturn(mockServerDefinitionStagesWithResourceGroup);
-    when(mockServers.define(name)).thenReturn(mockServerDefinitionStagesBlank);
-    when(mockPostgreSqlManager.servers()).thenReturn(mockServers);
-    when(mockArmManagers.postgreSqlManager()).thenReturn(mockPostgreSqlManager);
-  }
-
-  private void setupMocksForDefaultValues(
-      ServerVersion serverVersion,
-      String postgresqlSku,
-      SkuTier skuTier,
-      String backupRetention,
-      String storageSize) {
+  private void setupMocksForDefaultValues() {
     mockParametersResolver =
         new ParametersResolver(
             Map.of(
@@ -346,23 +249,34 @@ class CreatePostgresqlDbStepTest extends BaseStepTest {
                 "true"));
   }
 
-  private void verifyServerProperties(
-      String sku,
-      SkuTier skuTier,
-      String backupRetention,
-      String storageSize,
-      ServerVersion serverVersion) {
-    assertThat(versionCaptor.getValue(), equalTo(serverVersion));
-    assertNotNull(skuCaptor.getValue());
-    assertThat(skuCaptor.getValue().name(), equalTo(sku));
-    assertThat(skuCaptor.getValue().tier(), equalTo(skuTier));
-    assertThat(
-        backupCaptor.getValue().backupRetentionDays(), equalTo(Integer.parseInt(backupRetention)));
-    assertThat(storageCaptor.getValue().storageSizeGB(), equalTo(Integer.parseInt(storageSize)));
-    assertThat(authConfigCaptor.getValue().passwordAuth(), equalTo(PasswordAuthEnum.DISABLED));
+  private void verifyServerProperties(ServerInner server) {
+    assertThat(server.version(), equalTo(serverVersion));
+    assertNotNull(server.sku());
+    assertThat(server.sku().name(), equalTo(postgresqlSku));
+    assertThat(server.sku().tier(), equalTo(skuTier));
+    assertThat(server.backup().backupRetentionDays(), equalTo(Integer.parseInt(backupRetention)));
+    assertThat(server.storage().storageSizeGB(), equalTo(Integer.parseInt(storageSize)));
+    assertThat(server.authConfig().passwordAuth(), equalTo(PasswordAuthEnum.DISABLED));
+    assertThat(server.authConfig().activeDirectoryAuth(), equalTo(ActiveDirectoryAuthEnum.ENABLED));
+  }
+
+  private void verifyPendingServerId() {
     assertThat(
-        authConfigCaptor.getValue().activeDirectoryAuth(),
-        equalTo(ActiveDirectoryAuthEnum.ENABLED));
+        mockFlightContext
+            .getWorkingMap()
+            .get(CreatePostgresqlDbStep.POSTGRESQL_PENDING_ID, String.class),
+        equalTo(
+            ("/subscriptions/%s/resourceGroups/%s/providers/"
+                    + "Microsoft.DBforPostgreSQL/flexibleServers/%s")
+                .formatted(SUBSCRIPTION_ID, mrg.name(), POSTGRESQL_NAME)));
+  }
+
+  private ManagementException mockManagementException(HttpStatus status) {
+    var exception = mock(ManagementException.class);
+    var httpResponse = mock(HttpResponse.class);
+    when(httpResponse.getStatusCode()).thenReturn(status.value());
+    when(exception.getResponse()).thenReturn(httpResponse);
+    return exception;
   }
 
   private ManagementException buildManagementException(String message, String managementErrorJson)
@@ -2,10 +2,10 @@ package bio.terra.landingzone.stairway.flight.delete;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,20 +14,23 @@ import bio.terra.landingzone.db.model.LandingZoneRecord;
 import bio.terra.landingzone.job.JobMapKeys;
 import bio.terra.landingzone.library.LandingZoneManagerProvider;
 import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
-import bio.terra.landingzone.library.landingzones.management.deleterules.LandingZoneRuleDeleteException;
+import bio.terra.landingzone.library.landingzones.management.PlannedResourceDelete;
 import bio.terra.landingzone.model.LandingZoneTarget;
 import bio.terra.landingzone.service.landingzone.azure.model.DeletedLandingZone;
 import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.landingzone.stairway.flight.exception.MissingRequiredFieldsException;
 import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.StepStatus;
 import com.azure.core.management.exception.ManagementError;
 import com.azure.core.management.exception.ManagementException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,20 +58,58 @@ public class DeleteLandingZoneResourcesStepTest {
   }
 
   @Test
-  void doStep_deletesLandingZoneResources()
-      throws LandingZoneRuleDeleteException, InterruptedException {
+  void doStep_deletesFirstTierAndReruns() throws InterruptedException {
     var landingZoneRecord = buildLandingZoneRecord(Collections.emptyMap());
     var deleteStep = new DeleteLandingZoneResourcesStep(landingZoneManagerProvider, landingZoneDao);
-    var deletedResources = List.of("deletedResource1", "deletedResource2");
-    when(flightContext.getInputParameters()).thenReturn(inputMap);
-    when(flightContext.getWorkingMap()).thenReturn(workingMap);
-    inputMap.put(LandingZoneFlightMapKeys.LANDING_ZONE_ID, landingZoneRecord.landingZoneId());
+    var firstTier = List.of(plannedDelete("deletedResource1", 0));
+    var plan = List.of(firstTier.get(0), plannedDelete("deletedResource2", 1));
+    setupPlan(landingZoneRecord, plan);
     when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
         .thenReturn(landingZoneManager);
-    when(landingZoneDao.getLandingZoneIfExists(eq(landingZoneRecord.landingZoneId())))
-        .thenReturn(Optional.of(landingZoneRecord));
-    when(landingZoneManager.deleteResources(eq(landingZoneRecord.landingZoneId().toString())))
-        .thenReturn(deletedResources);
+    when(landingZoneManager.deletePlannedResources(eq(firstTier), any()))
+        .thenAnswer(
+            invocation -> {
+              Set<String> deletedResourceIds = invocation.getArgument(1);
+              deletedResourceIds.add("deletedResource1");
+              return List.of("deletedResource1");
+            });
+
+    var result = deleteStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_RERUN));
+    assertThat(readCheckpoint(), equalTo(List.of("deletedResource1")));
+    assertThat(workingMap.getRaw(JobMapKeys.RESPONSE.getKeyName()), nullValue());
+  }
+
+  @Test
+  void doStep_resumesFromCheckpoint() throws InterruptedException {
+    var landingZoneRecord = buildLandingZoneRecord(Collections.emptyMap());
+    var deleteStep = new DeleteLandingZoneResourcesStep(landingZoneManagerProvider, landingZoneDao);
+    var secondTier = List.of(plannedDelete("deletedResource2", 1));
+    var plan = List.of(plannedDelete("deletedResource1", 0), secondTier.get(0));
+    setupPlan(landingZoneRecord, plan);
+    workingMap.put(LandingZoneFlightMapKeys.DELETED_RESOURCE_IDS, List.of("deletedResource1"));
+    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+        .thenReturn(landingZoneManager);
+    when(landingZoneManager.deletePlannedResources(eq(secondTier), eq(Set.of("deletedResource1"))))
+        .thenReturn(List.of("deletedResource2"));
+
+    var result = deleteStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_RERUN));
+    verify(landingZoneManager, never()).deletePlannedResources(eq(plan), any());
+  }
+
+  @Test
+  void doStep_allTiersDeleted_persistsResponse() throws InterruptedException {
+    var landingZoneRecord = buildLandingZoneRecord(Collections.emptyMap());
+    var deleteStep = new DeleteLandingZoneResourcesStep(landingZoneManagerProvider, landingZoneDao);
+    var plan =
+        List.of(plannedDelete("deletedResource2", 1), plannedDelete("deletedResource1", 0));
+    setupPlan(landingZoneRecord, plan);
+    workingMap.put(
+        LandingZoneFlightMapKeys.DELETED_RESOURCE_IDS,
+        List.of("deletedResource1", "deletedResource2"));
 
     var result = deleteStep.doStep(flightContext);
 
@@ -78,23 +119,59 @@ public class DeleteLandingZoneResourcesStepTest {
         equalTo(
             new DeletedLandingZone(
                 landingZoneRecord.landingZoneId(),
-                deletedResources,
+                List.of("deletedResource1", "deletedResource2"),
                 landingZoneRecord.billingProfileId())));
-    verify(landingZoneManager, times(1))
-        .deleteResources(landingZoneRecord.landingZoneId().toString());
+    verify(landingZoneManagerProvider, never()).createLandingZoneManager(any());
   }
 
   @Test
-  void doStep_handlesInterrupted() throws LandingZoneRuleDeleteException, InterruptedException {
+  void doStep_failedDelete_deletedResourcesAreCheckpointed() throws InterruptedException {
     var landingZoneRecord = buildLandingZoneRecord(Collections.emptyMap());
     var deleteStep = new DeleteLandingZoneResourcesStep(landingZoneManagerProvider, landingZoneDao);
-    when(flightContext.getInputParameters()).thenReturn(inputMap);
-    inputMap.put(LandingZoneFlightMapKeys.LANDING_ZONE_ID, landingZoneRecord.landingZoneId());
+    var plan = List.of(plannedDelete("deletedResource1", 0), plannedDelete("deletedResource2", 0));
+    setupPlan(landingZoneRecord, plan);
     when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
         .thenReturn(landingZoneManager);
+    when(landingZoneManager.deletePlannedResources(eq(plan), any()))
+        .thenAnswer(
+            invocation -> {
+              Set<String> deletedResourceIds = invocation.getArgument(1);
+              deletedResourceIds.add("deletedResource1");
+              throw new ManagementException(
+                  "associations",
+                  null,
+                  new ManagementError("ExistingAssociationsPreventDelete", "associations"));
+            });
+
+    var result = deleteStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_FAILURE_RETRY));
+    assertThat(readCheckpoint(), equalTo(List.of("deletedResource1")));
+  }
+
+  @Test
+  void doStep_withoutPlan_fails() {
+    var landingZoneRecord = buildLandingZoneRecord(Collections.emptyMap());
+    var deleteStep = new DeleteLandingZoneResourcesStep(landingZoneManagerProvider, landingZoneDao);
+    when(flightContext.getInputParameters()).thenReturn(inputMap);
+    when(flightContext.getWorkingMap()).thenReturn(workingMap);
+    inputMap.put(LandingZoneFlightMapKeys.LANDING_ZONE_ID, landingZoneRecord.landingZoneId());
     when(landingZoneDao.getLandingZoneIfExists(eq(landingZoneRecord.landingZoneId())))
         .thenReturn(Optional.of(landingZoneRecord));
-    when(landingZoneManager.deleteResources(eq(landingZoneRecord.landingZoneId().toString())))
+
+    Assertions.assertThrows(
+        MissingRequiredFieldsException.class, () -> deleteStep.doStep(flightContext));
+  }
+
+  @Test
+  void doStep_handlesInterrupted() throws InterruptedException {
+    var landingZoneRecord = buildLandingZoneRecord(Collections.emptyMap());
+    var deleteStep = new DeleteLandingZoneResourcesStep(landingZoneManagerProvider, landingZoneDao);
+    var plan = List.of(plannedDelete("deletedResource1", 0));
+    setupPlan(landingZoneRecord, plan);
+    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+        .thenReturn(landingZoneManager);
+    when(landingZoneManager.deletePlannedResources(eq(plan), any()))
         .thenThrow(new RuntimeException("Interrupted", new InterruptedException()));
 
     Assertions.assertThrows(InterruptedException.class, () -> deleteStep.doStep(flightContext));
@@ -102,19 +179,14 @@ public class DeleteLandingZoneResourcesStepTest {
   }
 
   @Test
-  void doStep_deletesDbRecordWhenCloudResourcesAreInaccessible()
-      throws LandingZoneRuleDeleteException, InterruptedException {
+  void doStep_deletesDbRecordWhenCloudResourcesAreInaccessible() throws InterruptedException {
     var landingZoneRecord = buildLandingZoneRecord(Collections.emptyMap());
     var deleteStep = new DeleteLandingZoneResourcesStep(landingZoneManagerProvider, landingZoneDao);
-    when(flightContext.getInputParameters()).thenReturn(inputMap);
-    when(flightContext.getWorkingMap()).thenReturn(workingMap);
-    inputMap.put(LandingZoneFlightMapKeys.LANDING_ZONE_ID, landingZoneRecord.landingZoneId());
+    setupPlan(landingZoneRecord, List.of(plannedDelete("deletedResource1", 0)));
     when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
         .thenThrow(
             new ManagementException(
                 "unauthed", null, new ManagementError("AuthorizationFailed", "unauthed")));
-    when(landingZoneDao.getLandingZoneIfExists(landingZoneRecord.landingZoneId()))
-        .thenReturn(Optional.of(landingZoneRecord));
 
     var result = deleteStep.doStep(flightContext);
 
@@ -126,20 +198,16 @@ public class DeleteLandingZoneResourcesStepTest {
                 landingZoneRecord.landingZoneId(),
                 Collections.emptyList(),
                 landingZoneRecord.billingProfileId())));
-    verify(landingZoneManager, times(0))
-        .deleteResources(landingZoneRecord.landingZoneId().toString());
+    verify(landingZoneManager, never()).deletePlannedResources(any(), any());
   }
 
   @Test
-  void doStep_doesNotDeleteResourcesForAttachedLandingZone()
-      throws LandingZoneRuleDeleteException, InterruptedException {
+  void doStep_doesNotDeleteResourcesForAttachedLandingZone() throws InterruptedException {
     var landingZoneRecord = buildLandingZoneRecord(Map.of(LandingZoneFlightMapKeys.ATTACH, "true"));
     var deleteStep = new DeleteLandingZoneResourcesStep(landingZoneManagerProvider, landingZoneDao);
     when(flightContext.getInputParameters()).thenReturn(inputMap);
     when(flightContext.getWorkingMap()).thenReturn(workingMap);
     inputMap.put(LandingZoneFlightMapKeys.LANDING_ZONE_ID, landingZoneRecord.landingZoneId());
-    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
-        .thenReturn(landingZoneManager);
     when(landingZoneDao.getLandingZoneIfExists(eq(landingZoneRecord.landingZoneId())))
         .thenReturn(Optional.of(landingZoneRecord));
 
@@ -153,7 +221,7 @@ public class DeleteLandingZoneResourcesStepTest {
                 landingZoneRecord.landingZoneId(),
                 Collections.emptyList(),
                 landingZoneRecord.billingProfileId())));
-    verify(landingZoneManager, times(0)).deleteResources(anyString());
+    verify(landingZoneManagerProvider, never()).createLandingZoneManager(any());
   }
 
   @Test
@@ -169,6 +237,24 @@ public class DeleteLandingZoneResourcesStepTest {
     assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
   }
 
+  private void setupPlan(LandingZoneRecord landingZoneRecord, List<PlannedResourceDelete> plan) {
+    when(flightContext.getInputParameters()).thenReturn(inputMap);
+    when(flightContext.getWorkingMap()).thenReturn(workingMap);
+    inputMap.put(LandingZoneFlightMapKeys.LANDING_ZONE_ID, landingZoneRecord.landingZoneId());
+    workingMap.put(LandingZoneFlightMapKeys.DELETE_PLAN, plan);
+    when(landingZoneDao.getLandingZoneIfExists(eq(landingZoneRecord.landingZoneId())))
+        .thenReturn(Optional.of(landingZoneRecord));
+  }
+
+  private List<String> readCheckpoint() {
+    return workingMap.get(
+        LandingZoneFlightMapKeys.DELETED_RESOURCE_IDS, new TypeReference<List<String>>() {});
+  }
+
+  private static PlannedResourceDelete plannedDelete(String resourceId, int deleteOrder) {
+    return new PlannedResourceDelete(resourceId, deleteOrder, null, List.of());
+  }
+
   private LandingZoneRecord buildLandingZoneRecord(Map<String, String> properties) {
     return new LandingZoneRecord(
         UUID.randomUUID(),
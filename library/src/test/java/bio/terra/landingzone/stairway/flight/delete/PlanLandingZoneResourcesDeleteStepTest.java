@@ -0,0 +1,200 @@
+package bio.terra.landingzone.stairway.flight.delete;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.landingzone.db.LandingZoneDao;
+import bio.terra.landingzone.db.model.LandingZoneRecord;
+import bio.terra.landingzone.library.LandingZoneDeletePlanCache;
+import bio.terra.landingzone.library.LandingZoneManagerProvider;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneManager;
+import bio.terra.landingzone.library.landingzones.management.PlannedResourceDelete;
+import bio.terra.landingzone.library.landingzones.management.ResourceToDelete;
+import bio.terra.landingzone.library.landingzones.management.deleterules.LandingZoneRuleDeleteException;
+import bio.terra.landingzone.model.LandingZoneTarget;
+import bio.terra.landingzone.stairway.flight.LandingZoneFlightMapKeys;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.StepStatus;
+import com.azure.core.management.exception.ManagementError;
+import com.azure.core.management.exception.ManagementException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class PlanLandingZoneResourcesDeleteStepTest {
+
+  @Mock private LandingZoneManagerProvider landingZoneManagerProvider;
+  @Mock private LandingZoneDao landingZoneDao;
+  @Mock private LandingZoneDeletePlanCache deletePlanCache;
+  @Mock private LandingZoneManager landingZoneManager;
+  @Mock private FlightContext flightContext;
+  private FlightMap workingMap;
+  private FlightMap inputMap;
+  private PlanLandingZoneResourcesDeleteStep planStep;
+
+  @BeforeEach
+  void setup() {
+    workingMap = new FlightMap();
+    inputMap = new FlightMap();
+    planStep =
+        new PlanLandingZoneResourcesDeleteStep(
+            landingZoneManagerProvider, landingZoneDao, deletePlanCache);
+    when(flightContext.getInputParameters()).thenReturn(inputMap);
+    when(flightContext.getWorkingMap()).thenReturn(workingMap);
+  }
+
+  @Test
+  void doStep_storesPlan() throws LandingZoneRuleDeleteException, InterruptedException {
+    var landingZoneRecord = setupLandingZoneRecord(Collections.emptyMap());
+    var plan = List.of(plannedDelete("resource1"), plannedDelete("resource2"));
+    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+        .thenReturn(landingZoneManager);
+    when(landingZoneManager.planResourcesDelete(landingZoneRecord.landingZoneId().toString()))
+        .thenReturn(plan);
+
+    var result = planStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    assertThat(readPlan(), equalTo(plan));
+  }
+
+  @Test
+  void doStep_previewedResourcesAreVerifiedAgain()
+      throws LandingZoneRuleDeleteException, InterruptedException {
+    var landingZoneRecord = setupLandingZoneRecord(Collections.emptyMap());
+    List<ResourceToDelete> resources = List.of(new ResourceToDelete(null, null, List.of()));
+    var plan = List.of(plannedDelete("resource1"));
+    when(deletePlanCache.takeResources(landingZoneRecord.landingZoneId()))
+        .thenReturn(Optional.of(resources));
+    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+        .thenReturn(landingZoneManager);
+    when(landingZoneManager.planResourcesDelete(resources)).thenReturn(plan);
+
+    var result = planStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    assertThat(readPlan(), equalTo(plan));
+    verify(landingZoneManager, never()).planResourcesDelete(anyString());
+  }
+
+  @Test
+  void doStep_previewedResourcesNoLongerDeletable()
+      throws LandingZoneRuleDeleteException, InterruptedException {
+    var landingZoneRecord = setupLandingZoneRecord(Collections.emptyMap());
+    List<ResourceToDelete> resources = List.of(new ResourceToDelete(null, null, List.of()));
+    when(deletePlanCache.takeResources(landingZoneRecord.landingZoneId()))
+        .thenReturn(Optional.of(resources));
+    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+        .thenReturn(landingZoneManager);
+    when(landingZoneManager.planResourcesDelete(resources))
+        .thenThrow(new LandingZoneRuleDeleteException("VMs are attached"));
+
+    var result = planStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_FAILURE_FATAL));
+    assertThat(readPlan(), nullValue());
+  }
+
+  @Test
+  void doStep_keepsStoredPlan() throws LandingZoneRuleDeleteException, InterruptedException {
+    var plan = List.of(plannedDelete("resource1"));
+    inputMap.put(LandingZoneFlightMapKeys.LANDING_ZONE_ID, UUID.randomUUID());
+    workingMap.put(LandingZoneFlightMapKeys.DELETE_PLAN, plan);
+
+    var result = planStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    assertThat(readPlan(), equalTo(plan));
+    verify(landingZoneManagerProvider, never()).createLandingZoneManager(any());
+  }
+
+  @Test
+  void doStep_deleteRulesFail() throws LandingZoneRuleDeleteException, InterruptedException {
+    var landingZoneRecord = setupLandingZoneRecord(Collections.emptyMap());
+    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+        .thenReturn(landingZoneManager);
+    when(landingZoneManager.planResourcesDelete(landingZoneRecord.landingZoneId().toString()))
+        .thenThrow(new LandingZoneRuleDeleteException("VMs are attached"));
+
+    var result = planStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_FAILURE_FATAL));
+    assertThat(readPlan(), nullValue());
+  }
+
+  @Test
+  void doStep_inaccessibleResourceGroup_storesEmptyPlan() throws InterruptedException {
+    setupLandingZoneRecord(Collections.emptyMap());
+    when(landingZoneManagerProvider.createLandingZoneManager(any(LandingZoneTarget.class)))
+        .thenThrow(
+            new ManagementException(
+                "unauthed", null, new ManagementError("AuthorizationFailed", "unauthed")));
+
+    var result = planStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    assertThat(readPlan(), equalTo(List.of()));
+  }
+
+  @Test
+  void doStep_attachedLandingZone_isNotPlanned()
+      throws LandingZoneRuleDeleteException, InterruptedException {
+    setupLandingZoneRecord(Map.of(LandingZoneFlightMapKeys.ATTACH, "true"));
+
+    var result = planStep.doStep(flightContext);
+
+    assertThat(result.getStepStatus(), equalTo(StepStatus.STEP_RESULT_SUCCESS));
+    assertThat(readPlan(), nullValue());
+    verify(landingZoneManager, never()).planResourcesDelete(anyString());
+  }
+
+  private LandingZoneRecord setupLandingZoneRecord(Map<String, String> properties) {
+    var landingZoneRecord =
+        new LandingZoneRecord(
+            UUID.randomUUID(),
+            "fake",
+            "fake",
+            "fake",
+            "fake",
+            "fake",
+            UUID.randomUUID(),
+            null,
+            OffsetDateTime.now(),
+            Optional.empty(),
+            Optional.empty(),
+            properties);
+    inputMap.put(LandingZoneFlightMapKeys.LANDING_ZONE_ID, landingZoneRecord.landingZoneId());
+    when(landingZoneDao.getLandingZoneIfExists(eq(landingZoneRecord.landingZoneId())))
+        .thenReturn(Optional.of(landingZoneRecord));
+    return landingZoneRecord;
+  }
+
+  private List<PlannedResourceDelete> readPlan() {
+    return workingMap.get(
+        LandingZoneFlightMapKeys.DELETE_PLAN, new TypeReference<List<PlannedResourceDelete>>() {});
+  }
+
+  private static PlannedResourceDelete plannedDelete(String resourceId) {
+    return new PlannedResourceDelete(resourceId, 0, null, List.of());
+  }
+}
@@ -0,0 +1,65 @@
+package bio.terra.landingzone.stairway.flight.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import bio.terra.landingzone.stairway.flight.exception.ResourceCreationException;
+import bio.terra.landingzone.stairway.flight.utils.ResourceProvisioningPoller.ProvisioningStatus;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class ResourceProvisioningPollerTest {
+  private final ResourceProvisioningPoller poller =
+      new ResourceProvisioningPoller(
+          Duration.ofMillis(1), Duration.ofMillis(4), Duration.ofSeconds(10));
+
+  @Test
+  void waitForProvisioning_returnsResourceOnceProvisioned() {
+    Queue<Optional<ProvisioningStatus>> reads =
+        new ArrayDeque<>(
+            List.of(
+                Optional.empty(),
+                Optional.of(ProvisioningStatus.IN_PROGRESS),
+                Optional.of(ProvisioningStatus.SUCCEEDED)));
+
+    var resource = poller.waitForProvisioning("resourceId", reads::poll, status -> status);
+
+    assertThat(resource, equalTo(ProvisioningStatus.SUCCEEDED));
+    assertThat(reads.isEmpty(), equalTo(true));
+  }
+
+  @Test
+  void waitForProvisioning_failedProvisioningThrows() {
+    var exception =
+        assertThrows(
+            ResourceCreationException.class,
+            () ->
+                poller.waitForProvisioning(
+                    "resourceId",
+                    () -> Optional.of(ProvisioningStatus.FAILED),
+                    status -> status));
+
+    assertThat(exception.getMessage(), containsString("resourceId"));
+  }
+
+  @Test
+  void waitForProvisioning_timesOutWhenResourceIsNeverProvisioned() {
+    var shortPoller =
+        new ResourceProvisioningPoller(
+            Duration.ofMillis(1), Duration.ofMillis(4), Duration.ofMillis(20));
+
+    assertThrows(
+        ResourceCreationException.class,
+        () ->
+            shortPoller.waitForProvisioning(
+                "resourceId", () -> Optional.of(ProvisioningStatus.IN_PROGRESS), status -> status));
+  }
+}
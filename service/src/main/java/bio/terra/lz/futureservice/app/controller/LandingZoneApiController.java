@@ -4,6 +4,7 @@ import static bio.terra.lz.futureservice.app.controller.common.ResponseUtils.get
 
 import bio.terra.common.exception.BadRequestException;
 import bio.terra.common.iam.BearerTokenFactory;
+import bio.terra.landingzone.job.model.JobStateChange;
 import bio.terra.lz.futureservice.app.service.LandingZoneAppService;
 import bio.terra.lz.futureservice.common.utils.RequestQueryParamUtils;
 import bio.terra.lz.futureservice.generated.api.LandingZonesApi;
@@ -17,17 +18,30 @@ import bio.terra.lz.futureservice.generated.model.ApiCreateLandingZoneResult;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneJobResult;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneRequestBody;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneResult;
+import bio.terra.lz.futureservice.generated.model.ApiDeletePlan;
 import bio.terra.lz.futureservice.generated.model.ApiResourceQuota;
+import bio.terra.lz.futureservice.generated.model.ApiResourceQuotaList;
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Controller
 public class LandingZoneApiController implements LandingZonesApi {
+  // landing zone creation takes about half an hour
+  private static final Duration JOB_EVENTS_TIMEOUT = Duration.ofHours(1);
+  private static final int MAX_WAIT_SECONDS = 60;
+
   private final HttpServletRequest request;
   private final BearerTokenFactory bearerTokenFactory;
   private final LandingZoneAppService landingZoneAppService;
@@ -56,13 +70,30 @@ public class LandingZoneApiController implements LandingZonesApi {
   }
 
   @Override
-  public ResponseEntity<ApiAzureLandingZoneResult> getCreateAzureLandingZoneResult(String jobId) {
+  public ResponseEntity<ApiAzureLandingZoneResult> getCreateAzureLandingZoneResult(
+      String jobId, Integer wait) {
     ApiAzureLandingZoneResult result =
         landingZoneAppService.getCreateAzureLandingZoneResult(
-            bearerTokenFactory.from(request), jobId);
+            bearerTokenFactory.from(request), jobId, toWaitDuration(wait));
     return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
   }
 
+  // Server-sent events can't be described by the generated API, see the 'wait' parameter docs
+  @GetMapping(
+      value = "/api/landingzones/v1/azure/create-result/{jobId}/events",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamCreateAzureLandingZoneResult(@PathVariable("jobId") String jobId) {
+    var emitter = new SseEmitter(JOB_EVENTS_TIMEOUT.toMillis());
+    var unsubscribe =
+        landingZoneAppService.subscribeToCreateAzureLandingZoneResult(
+            bearerTokenFactory.from(request),
+            jobId,
+            stateChange -> sendJobProgress(emitter, stateChange),
+            result -> sendJobResult(emitter, result));
+    unsubscribeOnClose(emitter, unsubscribe);
+    return emitter;
+  }
+
   @Override
   public ResponseEntity<ApiAzureLandingZoneList> listAzureLandingZones(UUID billingProfileId) {
     /*
@@ -89,13 +120,30 @@ public class LandingZoneApiController implements LandingZonesApi {
 
   @Override
   public ResponseEntity<ApiDeleteAzureLandingZoneJobResult> getDeleteAzureLandingZoneResult(
-      UUID landingZoneId, String jobId) {
+      UUID landingZoneId, String jobId, Integer wait) {
     ApiDeleteAzureLandingZoneJobResult response =
         landingZoneAppService.getDeleteAzureLandingZoneResult(
-            bearerTokenFactory.from(request), landingZoneId, jobId);
+            bearerTokenFactory.from(request), landingZoneId, jobId, toWaitDuration(wait));
     return new ResponseEntity<>(response, getAsyncResponseCode(response.getJobReport()));
   }
 
+  @GetMapping(
+      value = "/api/landingzones/v1/azure/{landingZoneId}/delete-result/{jobId}/events",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamDeleteAzureLandingZoneResult(
+      @PathVariable("landingZoneId") UUID landingZoneId, @PathVariable("jobId") String jobId) {
+    var emitter = new SseEmitter(JOB_EVENTS_TIMEOUT.toMillis());
+    var unsubscribe =
+        landingZoneAppService.subscribeToDeleteAzureLandingZoneResult(
+            bearerTokenFactory.from(request),
+            landingZoneId,
+            jobId,
+            stateChange -> sendJobProgress(emitter, stateChange),
+            result -> sendJobResult(emitter, result));
+    unsubscribeOnClose(emitter, unsubscribe);
+    return emitter;
+  }
+
   @Override
   public ResponseEntity<ApiAzureLandingZoneDefinitionList> listAzureLandingZonesDefinitions() {
     ApiAzureLandingZoneDefinitionList result =
@@ -127,7 +175,7 @@ public class LandingZoneApiController implements LandingZonesApi {
       UUID landingZoneId) {
     ApiAzureLandingZoneResourcesList result =
         landingZoneAppService.listAzureLandingZoneResources(
-            bearerTokenFactory.from(request), landingZoneId);
+            bearerTokenFactory.from(request), landingZoneId, isNoCacheRequested());
     return new ResponseEntity<>(result, HttpStatus.OK);
   }
 
@@ -136,8 +184,64 @@ public class LandingZoneApiController implements LandingZonesApi {
       UUID landingZoneId, String azureResourceId) {
     ApiResourceQuota result =
         landingZoneAppService.getResourceQuota(
-            bearerTokenFactory.from(request), landingZoneId, azureResourceId);
+            bearerTokenFactory.from(request),
+            landingZoneId,
+            azureResourceId,
+            isNoCacheRequested());
 
     return new ResponseEntity<>(result, HttpStatus.OK);
   }
+
+  @Override
+  public ResponseEntity<ApiResourceQuotaList> getResourceQuotas(UUID landingZoneId) {
+    ApiResourceQuotaList result =
+        landingZoneAppService.getResourceQuotas(
+            bearerTokenFactory.from(request), landingZoneId, isNoCacheRequested());
+    return new ResponseEntity<>(result, HttpStatus.OK);
+  }
+
+  @Override
+  public ResponseEntity<ApiDeletePlan> getDeletePlan(UUID landingZoneId) {
+    ApiDeletePlan result =
+        landingZoneAppService.getDeletePlan(
+            bearerTokenFactory.from(request), landingZoneId, isNoCacheRequested());
+    return new ResponseEntity<>(result, HttpStatus.OK);
+  }
+
+  // the wait is capped so that a long-poll doesn't hold a request thread indefinitely
+  private static Duration toWaitDuration(Integer wait) {
+    if (wait == null) {
+      return Duration.ZERO;
+    }
+    return Duration.ofSeconds(Math.min(Math.max(wait, 0), MAX_WAIT_SECONDS));
+  }
+
+  private static void sendJobProgress(SseEmitter emitter, JobStateChange stateChange) {
+    try {
+      emitter.send(SseEmitter.event().name("progress").data(stateChange));
+    } catch (IOException e) {
+      emitter.completeWithError(e);
+    }
+  }
+
+  private static void sendJobResult(SseEmitter emitter, Object result) {
+    try {
+      emitter.send(SseEmitter.event().name("result").data(result));
+      emitter.complete();
+    } catch (IOException e) {
+      emitter.completeWithError(e);
+    }
+  }
+
+  private static void unsubscribeOnClose(SseEmitter emitter, Runnable unsubscribe) {
+    emitter.onCompletion(unsubscribe);
+    emitter.onTimeout(unsubscribe);
+    emitter.onError(e -> unsubscribe.run());
+  }
+
+  // Clients can force a fresh read of landing zone resources with 'Cache-Control: no-cache'
+  private boolean isNoCacheRequested() {
+    String cacheControl = request.getHeader(HttpHeaders.CACHE_CONTROL);
+    return cacheControl != null && cacheControl.toLowerCase().contains("no-cache");
+  }
 }
@@ -2,11 +2,15 @@ package bio.terra.lz.futureservice.app.service;
 
 import bio.terra.common.exception.ConflictException;
 import bio.terra.common.iam.BearerToken;
+import bio.terra.landingzone.job.JobStateListener;
 import bio.terra.landingzone.job.LandingZoneJobService;
 import bio.terra.landingzone.job.model.JobReport;
+import bio.terra.landingzone.job.model.JobStateChange;
 import bio.terra.landingzone.library.landingzones.deployment.LandingZonePurpose;
 import bio.terra.landingzone.library.landingzones.deployment.ResourcePurpose;
 import bio.terra.landingzone.library.landingzones.deployment.SubnetResourcePurpose;
+import bio.terra.landingzone.library.landingzones.management.LandingZoneDeletePlan;
+import bio.terra.landingzone.library.landingzones.management.PlannedResourceDelete;
 import bio.terra.landingzone.library.landingzones.management.quotas.ResourceQuota;
 import bio.terra.landingzone.service.landingzone.azure.LandingZoneService;
 import bio.terra.landingzone.service.landingzone.azure.model.DeletedLandingZone;
@@ -34,10 +38,19 @@ import bio.terra.lz.futureservice.generated.model.ApiCreateLandingZoneResult;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneJobResult;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneRequestBody;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneResult;
+import bio.terra.lz.futureservice.generated.model.ApiDeletePlan;
+import bio.terra.lz.futureservice.generated.model.ApiDeletePlanResource;
+import bio.terra.lz.futureservice.generated.model.ApiDeletePlanTier;
+import bio.terra.lz.futureservice.generated.model.ApiDeleteRuleViolation;
 import bio.terra.lz.futureservice.generated.model.ApiResourceQuota;
+import bio.terra.lz.futureservice.generated.model.ApiResourceQuotaList;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,8 +94,21 @@ public class LandingZoneAppService {
   }
 
   public ApiAzureLandingZoneResult getCreateAzureLandingZoneResult(
-      BearerToken bearerToken, String jobId) {
-    return toApiAzureLandingZoneResult(landingZoneService.getAsyncJobResult(bearerToken, jobId));
+      BearerToken bearerToken, String jobId, Duration wait) {
+    return toApiAzureLandingZoneResult(
+        landingZoneService.getAsyncJobResult(bearerToken, jobId, wait));
+  }
+
+  public Runnable subscribeToCreateAzureLandingZoneResult(
+      BearerToken bearerToken,
+      String jobId,
+      Consumer<JobStateChange> onStateChange,
+      Consumer<ApiAzureLandingZoneResult> onResult) {
+    return landingZoneService.subscribeToCreationJob(
+        bearerToken,
+        jobId,
+        toJobStateListener(
+            onStateChange, jobResult -> onResult.accept(toApiAzureLandingZoneResult(jobResult))));
   }
 
   public ApiAzureLandingZoneList listAzureLandingZones(
@@ -97,9 +123,24 @@ public class LandingZoneAppService {
   }
 
   public ApiDeleteAzureLandingZoneJobResult getDeleteAzureLandingZoneResult(
-      BearerToken token, UUID landingZoneId, String jobId) {
+      BearerToken token, UUID landingZoneId, String jobId, Duration wait) {
     return toApiDeleteAzureLandingZoneJobResult(
-        landingZoneService.getAsyncDeletionJobResult(token, landingZoneId, jobId));
+        landingZoneService.getAsyncDeletionJobResult(token, landingZoneId, jobId, wait));
+  }
+
+  public Runnable subscribeToDeleteAzureLandingZoneResult(
+      BearerToken token,
+      UUID landingZoneId,
+      String jobId,
+      Consumer<JobStateChange> onStateChange,
+      Consumer<ApiDeleteAzureLandingZoneJobResult> onResult) {
+    return landingZoneService.subscribeToDeletionJob(
+        token,
+        landingZoneId,
+        jobId,
+        toJobStateListener(
+            onStateChange,
+            jobResult -> onResult.accept(toApiDeleteAzureLandingZoneJobResult(jobResult))));
   }
 
   public ApiAzureLandingZoneDefinitionList listAzureLandingZonesDefinitions(
@@ -136,10 +177,10 @@ public class LandingZoneAppService {
   }
 
   public ApiAzureLandingZoneResourcesList listAzureLandingZoneResources(
-      BearerToken bearerToken, UUID landingZoneId) {
+      BearerToken bearerToken, UUID landingZoneId, boolean bypassResourcesCache) {
     var result = new ApiAzureLandingZoneResourcesList().id(landingZoneId);
     landingZoneService
-        .listResourcesWithPurposes(bearerToken, landingZoneId)
+        .listResourcesWithPurposes(bearerToken, landingZoneId, bypassResourcesCache)
         .deployedResources()
         .forEach(
             (p, dp) ->
@@ -154,10 +195,57 @@ public class LandingZoneAppService {
   }
 
   public ApiResourceQuota getResourceQuota(
-      BearerToken bearerToken, UUID landingZoneId, String azureResourceId) {
+      BearerToken bearerToken,
+      UUID landingZoneId,
+      String azureResourceId,
+      boolean bypassResourcesCache) {
     return toApiResourceQuota(
         landingZoneId,
-        landingZoneService.getResourceQuota(bearerToken, landingZoneId, azureResourceId));
+        landingZoneService.getResourceQuota(
+            bearerToken, landingZoneId, azureResourceId, bypassResourcesCache));
+  }
+
+  public ApiResourceQuotaList getResourceQuotas(
+      BearerToken bearerToken, UUID landingZoneId, boolean bypassCache) {
+    return new ApiResourceQuotaList()
+        .landingZoneId(landingZoneId)
+        .quotas(
+            landingZoneService.getResourceQuotas(bearerToken, landingZoneId, bypassCache).stream()
+                .map(q -> toApiResourceQuota(landingZoneId, q))
+                .toList());
+  }
+
+  public ApiDeletePlan getDeletePlan(
+      BearerToken bearerToken, UUID landingZoneId, boolean bypassCache) {
+    LandingZoneDeletePlan plan =
+        landingZoneService.getDeletePlan(bearerToken, landingZoneId, bypassCache);
+    Map<Integer, List<PlannedResourceDelete>> tiers =
+        plan.resources().stream()
+            .collect(
+                Collectors.groupingBy(
+                    PlannedResourceDelete::deleteOrder, TreeMap::new, Collectors.toList()));
+    return new ApiDeletePlan()
+        .landingZoneId(landingZoneId)
+        .deletable(plan.isDeletable())
+        .tiers(
+            tiers.entrySet().stream()
+                .map(
+                    t ->
+                        new ApiDeletePlanTier()
+                            .order(t.getKey())
+                            .resources(
+                                t.getValue().stream().map(this::toApiDeletePlanResource).toList()))
+                .toList())
+        .blockingRules(
+            plan.violations().stream()
+                .map(
+                    v ->
+                        new ApiDeleteRuleViolation()
+                            .resourceId(v.resourceId())
+                            .ruleName(v.ruleName())
+                            .reason(v.reason())
+                            .resourceType(v.resourceType()))
+                .toList());
   }
 
   private void verifyLandingZoneDoesNotExistForBillingProfile(
@@ -179,6 +267,22 @@ public class LandingZoneAppService {
     }
   }
 
+  private static <T> JobStateListener<T> toJobStateListener(
+      Consumer<JobStateChange> onStateChange,
+      Consumer<LandingZoneJobService.AsyncJobResult<T>> onCompleted) {
+    return new JobStateListener<>() {
+      @Override
+      public void onStateChange(JobStateChange stateChange) {
+        onStateChange.accept(stateChange);
+      }
+
+      @Override
+      public void onCompleted(LandingZoneJobService.AsyncJobResult<T> result) {
+        onCompleted.accept(result);
+      }
+    };
+  }
+
   private ApiCreateLandingZoneResult toApiCreateLandingZoneResult(
       LandingZoneJobService.AsyncJobResult<StartLandingZoneCreation> jobResult) {
 
@@ -294,6 +398,13 @@ public class LandingZoneAppService {
             "Support for purpose type %s is not implemented.", purpose.getClass().getSimpleName()));
   }
 
+  private ApiDeletePlanResource toApiDeletePlanResource(PlannedResourceDelete resource) {
+    return new ApiDeletePlanResource()
+        .resourceId(resource.resourceId())
+        .privateEndpointId(resource.privateEndpointId())
+        .solutionIds(resource.solutionIds());
+  }
+
   private ApiResourceQuota toApiResourceQuota(UUID landingZoneId, ResourceQuota resourceQuota) {
     return new ApiResourceQuota()
         .landingZoneId(landingZoneId)
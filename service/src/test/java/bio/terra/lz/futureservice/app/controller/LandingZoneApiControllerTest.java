@@ -4,18 +4,23 @@ import static bio.terra.lz.futureservice.common.TestEndpoints.AZURE_LANDING_ZONE
 import static bio.terra.lz.futureservice.common.TestEndpoints.GET_CREATE_AZURE_LANDING_ZONE_RESULT;
 import static bio.terra.lz.futureservice.common.TestEndpoints.LIST_AZURE_LANDING_ZONES_DEFINITIONS_PATH;
 import static bio.terra.lz.futureservice.common.utils.MockMvcUtils.USER_REQUEST;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import bio.terra.common.exception.ConflictException;
 import bio.terra.common.exception.ForbiddenException;
+import bio.terra.landingzone.job.model.JobStateChange;
 import bio.terra.lz.futureservice.app.service.LandingZoneAppService;
 import bio.terra.lz.futureservice.common.BaseSpringUnitTest;
 import bio.terra.lz.futureservice.common.fixture.AzureLandingZoneFixtures;
@@ -31,13 +36,21 @@ import bio.terra.lz.futureservice.generated.model.ApiCreateLandingZoneResult;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneJobResult;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneRequestBody;
 import bio.terra.lz.futureservice.generated.model.ApiDeleteAzureLandingZoneResult;
+import bio.terra.lz.futureservice.generated.model.ApiDeletePlan;
+import bio.terra.lz.futureservice.generated.model.ApiDeletePlanResource;
+import bio.terra.lz.futureservice.generated.model.ApiDeletePlanTier;
 import bio.terra.lz.futureservice.generated.model.ApiJobReport;
+import bio.terra.lz.futureservice.generated.model.ApiResourceQuota;
+import bio.terra.lz.futureservice.generated.model.ApiResourceQuotaList;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -46,6 +59,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -139,7 +153,7 @@ public class LandingZoneApiControllerTest extends BaseSpringUnitTest {
         AzureLandingZoneFixtures.buildApiAzureLandingZoneResult(
             JOB_ID, ApiJobReport.StatusEnum.RUNNING);
 
-    when(mockLandingZoneAppService.getCreateAzureLandingZoneResult(any(), any()))
+    when(mockLandingZoneAppService.getCreateAzureLandingZoneResult(any(), any(), any()))
         .thenReturn(asyncJobResult);
 
     mockMvc
@@ -159,7 +173,7 @@ public class LandingZoneApiControllerTest extends BaseSpringUnitTest {
         AzureLandingZoneFixtures.buildApiAzureLandingZoneResult(
             JOB_ID, LANDING_ZONE_ID, ApiJobReport.StatusEnum.SUCCEEDED);
 
-    when(mockLandingZoneAppService.getCreateAzureLandingZoneResult(any(), any()))
+    when(mockLandingZoneAppService.getCreateAzureLandingZoneResult(any(), any(), any()))
         .thenReturn(asyncJobResult);
 
     mockMvc
@@ -238,6 +252,96 @@ public class LandingZoneApiControllerTest extends BaseSpringUnitTest {
             MockMvcResultMatchers.jsonPath("$.landingZoneId", equalTo(LANDING_ZONE_ID.toString())));
   }
 
+  @Test
+  public void getCreateAzureLandingZoneResultWaitsForStateChange() throws Exception {
+    ApiAzureLandingZoneResult asyncJobResult =
+        AzureLandingZoneFixtures.buildApiAzureLandingZoneResult(
+            JOB_ID, ApiJobReport.StatusEnum.RUNNING);
+
+    when(mockLandingZoneAppService.getCreateAzureLandingZoneResult(
+            any(), eq(JOB_ID), eq(Duration.ofSeconds(30))))
+        .thenReturn(asyncJobResult);
+
+    mockMvc
+        .perform(
+            MockMvcUtils.addAuth(
+                get(GET_CREATE_AZURE_LANDING_ZONE_RESULT + "/{jobId}", JOB_ID)
+                    .queryParam("wait", "30"),
+                USER_REQUEST))
+        .andExpect(status().isAccepted())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.jobReport.id", Matchers.is(JOB_ID)));
+  }
+
+  @Test
+  public void getCreateAzureLandingZoneResultWaitIsCapped() throws Exception {
+    ApiAzureLandingZoneResult asyncJobResult =
+        AzureLandingZoneFixtures.buildApiAzureLandingZoneResult(
+            JOB_ID, ApiJobReport.StatusEnum.RUNNING);
+
+    when(mockLandingZoneAppService.getCreateAzureLandingZoneResult(
+            any(), eq(JOB_ID), eq(Duration.ofSeconds(60))))
+        .thenReturn(asyncJobResult);
+
+    mockMvc
+        .perform(
+            MockMvcUtils.addAuth(
+                get(GET_CREATE_AZURE_LANDING_ZONE_RESULT + "/{jobId}", JOB_ID)
+                    .queryParam("wait", "3600"),
+                USER_REQUEST))
+        .andExpect(status().isAccepted());
+  }
+
+  @Test
+  public void streamCreateAzureLandingZoneResultSendsProgressAndResult() throws Exception {
+    ApiAzureLandingZoneResult asyncJobResult =
+        AzureLandingZoneFixtures.buildApiAzureLandingZoneResult(
+            JOB_ID, LANDING_ZONE_ID, ApiJobReport.StatusEnum.SUCCEEDED);
+    when(mockLandingZoneAppService.subscribeToCreateAzureLandingZoneResult(
+            any(), eq(JOB_ID), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<JobStateChange> onStateChange = invocation.getArgument(2);
+              Consumer<ApiAzureLandingZoneResult> onResult = invocation.getArgument(3);
+              onStateChange.accept(new JobStateChange(JOB_ID, 1, "CreateVnetStep", false));
+              onResult.accept(asyncJobResult);
+              return (Runnable) () -> {};
+            });
+
+    var mvcResult =
+        mockMvc
+            .perform(
+                MockMvcUtils.addAuth(
+                    get(GET_CREATE_AZURE_LANDING_ZONE_RESULT + "/{jobId}/events", JOB_ID)
+                        .accept(MediaType.TEXT_EVENT_STREAM),
+                    USER_REQUEST))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    var events = mvcResult.getResponse().getContentAsString();
+    assertThat(events, containsString("event:progress"));
+    assertThat(events, containsString("CreateVnetStep"));
+    assertThat(events, containsString("event:result"));
+    assertThat(events, containsString(LANDING_ZONE_ID.toString()));
+  }
+
+  @Test
+  public void streamDeleteAzureLandingZoneResultForbidden() throws Exception {
+    when(mockLandingZoneAppService.subscribeToDeleteAzureLandingZoneResult(
+            any(), eq(LANDING_ZONE_ID), eq(JOB_ID), any(), any()))
+        .thenThrow(new ForbiddenException("forbidden"));
+
+    mockMvc
+        .perform(
+            MockMvcUtils.addAuth(
+                get(
+                        AZURE_LANDING_ZONE_PATH + "/{landingZoneId}/delete-result/{jobId}/events",
+                        LANDING_ZONE_ID,
+                        JOB_ID)
+                    .accept(MediaType.TEXT_EVENT_STREAM),
+                USER_REQUEST))
+        .andExpect(status().isForbidden());
+  }
+
   @ParameterizedTest
   @MethodSource("getDeleteAzureLandingZoneResultScenario")
   public void getDeleteAzureLandingZoneResultSuccess(
@@ -249,7 +353,7 @@ public class LandingZoneApiControllerTest extends BaseSpringUnitTest {
     ApiDeleteAzureLandingZoneJobResult asyncJobResult =
         AzureLandingZoneFixtures.buildApiDeleteAzureLandingZoneJobResult(
             JOB_ID, LANDING_ZONE_ID, jobStatus);
-    when(mockLandingZoneAppService.getDeleteAzureLandingZoneResult(any(), any(), any()))
+    when(mockLandingZoneAppService.getDeleteAzureLandingZoneResult(any(), any(), any(), any()))
         .thenReturn(asyncJobResult);
 
     mockMvc
@@ -273,7 +377,7 @@ public class LandingZoneApiControllerTest extends BaseSpringUnitTest {
   void listAzureLandingZoneResourcesSuccess() throws Exception {
     ApiAzureLandingZoneResourcesList groupedResources =
         AzureLandingZoneFixtures.buildListLandingZoneResourcesByPurposeResult(LANDING_ZONE_ID);
-    when(mockLandingZoneAppService.listAzureLandingZoneResources(any(), any()))
+    when(mockLandingZoneAppService.listAzureLandingZoneResources(any(), any(), anyBoolean()))
         .thenReturn(groupedResources);
     mockMvc
         .perform(
@@ -297,7 +401,7 @@ public class LandingZoneApiControllerTest extends BaseSpringUnitTest {
     ApiAzureLandingZoneResourcesList groupedResources =
         AzureLandingZoneFixtures.buildEmptyListLandingZoneResourcesByPurposeResult(LANDING_ZONE_ID);
 
-    when(mockLandingZoneAppService.listAzureLandingZoneResources(any(), any()))
+    when(mockLandingZoneAppService.listAzureLandingZoneResources(any(), any(), anyBoolean()))
         .thenReturn(groupedResources);
     mockMvc
         .perform(
@@ -310,6 +414,85 @@ public class LandingZoneApiControllerTest extends BaseSpringUnitTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$.resources").isArray());
   }
 
+  @Test
+  void listAzureLandingZoneResourcesNoCacheBypassesResourcesCache() throws Exception {
+    ApiAzureLandingZoneResourcesList groupedResources =
+        AzureLandingZoneFixtures.buildEmptyListLandingZoneResourcesByPurposeResult(LANDING_ZONE_ID);
+
+    when(mockLandingZoneAppService.listAzureLandingZoneResources(any(), any(), eq(true)))
+        .thenReturn(groupedResources);
+    mockMvc
+        .perform(
+            MockMvcUtils.addAuth(
+                get(AZURE_LANDING_ZONE_PATH + "/{landingZoneId}/resources", LANDING_ZONE_ID)
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache"),
+                USER_REQUEST))
+        .andExpect(status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.is(LANDING_ZONE_ID.toString())));
+  }
+
+  @Test
+  void getResourceQuotasSuccess() throws Exception {
+    var quotas =
+        new ApiResourceQuotaList()
+            .landingZoneId(LANDING_ZONE_ID)
+            .quotas(
+                List.of(
+                    new ApiResourceQuota()
+                        .landingZoneId(LANDING_ZONE_ID)
+                        .azureResourceId("batchAccountId")
+                        .resourceType("Microsoft.Batch/batchAccounts")
+                        .quotaValues(Map.of("poolQuota", 100))));
+    when(mockLandingZoneAppService.getResourceQuotas(any(), eq(LANDING_ZONE_ID), eq(false)))
+        .thenReturn(quotas);
+
+    mockMvc
+        .perform(
+            MockMvcUtils.addAuth(
+                get(AZURE_LANDING_ZONE_PATH + "/{landingZoneId}/resource-quotas", LANDING_ZONE_ID),
+                USER_REQUEST))
+        .andExpect(status().isOk())
+        .andExpect(
+            MockMvcResultMatchers.jsonPath(
+                "$.landingZoneId", Matchers.is(LANDING_ZONE_ID.toString())))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.quotas", hasSize(1)))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath(
+                "$.quotas[0].azureResourceId", equalTo("batchAccountId")))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.quotas[0].quotaValues.poolQuota", equalTo(100)));
+  }
+
+  @Test
+  void getDeletePlanSuccess() throws Exception {
+    var deletePlan =
+        new ApiDeletePlan()
+            .landingZoneId(LANDING_ZONE_ID)
+            .deletable(true)
+            .tiers(
+                List.of(
+                    new ApiDeletePlanTier()
+                        .order(0)
+                        .resources(
+                            List.of(new ApiDeletePlanResource().resourceId("storageAccountId")))))
+            .blockingRules(List.of());
+    when(mockLandingZoneAppService.getDeletePlan(any(), eq(LANDING_ZONE_ID), eq(false)))
+        .thenReturn(deletePlan);
+
+    mockMvc
+        .perform(
+            MockMvcUtils.addAuth(
+                get(AZURE_LANDING_ZONE_PATH + "/{landingZoneId}/delete-plan", LANDING_ZONE_ID),
+                USER_REQUEST))
+        .andExpect(status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.deletable", equalTo(true)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.tiers", hasSize(1)))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath(
+                "$.tiers[0].resources[0].resourceId", equalTo("storageAccountId")))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.blockingRules", hasSize(0)));
+  }
+
   @Test
   void getAzureLandingZoneByLandingZoneIdSuccess() throws Exception {
     // Defining a fixed Instant to 3 decimal places (no trailing zeros).
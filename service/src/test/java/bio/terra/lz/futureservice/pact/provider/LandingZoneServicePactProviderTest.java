@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.when;
 
 import au.com.dius.pact.provider.junit5.PactVerificationContext;
@@ -133,9 +134,9 @@ public class LandingZoneServicePactProviderTest extends BaseSpringUnitTest {
 
   @State("an unauthorized user")
   void unauthed(Map pactState) {
-    when(landingZoneAppService.getCreateAzureLandingZoneResult(any(), any()))
+    when(landingZoneAppService.getCreateAzureLandingZoneResult(any(), any(), any()))
         .thenThrow(new UnauthorizedException("unauthorized"));
-    when(landingZoneAppService.getDeleteAzureLandingZoneResult(any(), any(), any()))
+    when(landingZoneAppService.getDeleteAzureLandingZoneResult(any(), any(), any(), any()))
         .thenThrow(new UnauthorizedException("unauthorized"));
   }
 
@@ -144,7 +145,7 @@ public class LandingZoneServicePactProviderTest extends BaseSpringUnitTest {
     assertThat(pactState, hasEntry(is("asyncJobId"), notNullValue()));
     var creationJobId = pactState.get("asyncJobId");
 
-    when(landingZoneAppService.getCreateAzureLandingZoneResult(any(), any()))
+    when(landingZoneAppService.getCreateAzureLandingZoneResult(any(), any(), any()))
         .thenReturn(
             new ApiAzureLandingZoneResult()
                 .landingZone(
@@ -195,7 +196,7 @@ public class LandingZoneServicePactProviderTest extends BaseSpringUnitTest {
     if (jobState.equals(ApiJobReport.StatusEnum.FAILED.toString())) {
       result.setErrorReport(new ApiErrorReport().message("fake").statusCode(500));
     }
-    when(landingZoneAppService.getDeleteAzureLandingZoneResult(any(), any(), any()))
+    when(landingZoneAppService.getDeleteAzureLandingZoneResult(any(), any(), any(), any()))
         .thenReturn(result);
 
     return Map.of("asyncJobId", deletionJobId, "landingZoneId", UUID.randomUUID().toString());
@@ -239,7 +240,7 @@ public class LandingZoneServicePactProviderTest extends BaseSpringUnitTest {
                         .submitted("2024-05-28T14:29:00")
                         .resultURL("fake")
                         .status(ApiJobReport.StatusEnum.RUNNING)));
-    when(landingZoneAppService.listAzureLandingZoneResources(any(), any()))
+    when(landingZoneAppService.listAzureLandingZoneResources(any(), any(), anyBoolean()))
         .thenReturn(
             new ApiAzureLandingZoneResourcesList()
                 .id(UUID.randomUUID())
@@ -256,7 +257,7 @@ public class LandingZoneServicePactProviderTest extends BaseSpringUnitTest {
                                         .resourceId("resourceIdTesting")
                                         .resourceName("fakeName"))))));
 
-    when(landingZoneAppService.getResourceQuota(any(), any(), any()))
+    when(landingZoneAppService.getResourceQuota(any(), any(), any(), anyBoolean()))
         .thenReturn(
             new ApiResourceQuota()
                 .azureResourceId("fake")